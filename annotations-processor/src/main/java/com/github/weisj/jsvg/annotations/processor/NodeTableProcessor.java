@@ -0,0 +1,209 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.annotations.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.*;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Generates the table the parser uses to create nodes from tag names. Every concrete node annotated with
+ * {@code @ElementCategories} which declares a {@code TAG} constant and a public no-argument constructor is created
+ * for its lower-cased tag. The table also records the {@code @PermittedContent} metadata of the nodes, such that it
+ * doesn't have to be looked up reflectively for every parsed element.
+ */
+@SupportedAnnotationTypes(NodeTableProcessor.ELEMENT_CATEGORIES)
+@SupportedSourceVersion(SourceVersion.RELEASE_8)
+public class NodeTableProcessor extends AbstractProcessor {
+    static final String ELEMENT_CATEGORIES = "com.github.weisj.jsvg.nodes.prototype.spec.ElementCategories";
+    private static final String PERMITTED_CONTENT = "com.github.weisj.jsvg.nodes.prototype.spec.PermittedContent";
+    private static final String TABLE_PACKAGE = "com.github.weisj.jsvg.parser.impl";
+    private static final String TABLE_NAME = "NodeTable";
+    private static final String TAG_FIELD = "TAG";
+
+    private boolean generated;
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (generated || annotations.isEmpty()) return false;
+        Elements elementUtils = processingEnv.getElementUtils();
+        TypeElement elementCategories = elementUtils.getTypeElement(ELEMENT_CATEGORIES);
+        if (elementCategories == null) return false;
+
+        Map<String, TypeElement> nodesByTag = new TreeMap<>();
+        List<TypeElement> nodeTypes = new ArrayList<>();
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(elementCategories))) {
+            if (type.getModifiers().contains(Modifier.ABSTRACT)) continue;
+            if (getAnnotationMirror(type, PERMITTED_CONTENT) == null) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        type.getSimpleName() + " doesn't specify permitted content", type);
+                continue;
+            }
+            nodeTypes.add(type);
+
+            String tag = tagName(type);
+            if (tag == null || !isPubliclyConstructible(type)) continue;
+            TypeElement previous = nodesByTag.put(tag, type);
+            if (previous != null) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Tag <" + tag + "> is already used by " + previous.getQualifiedName(), type);
+            }
+        }
+        nodeTypes.sort(Comparator.comparing(t -> t.getQualifiedName().toString()));
+
+        generated = true;
+        try {
+            writeTable(nodesByTag, nodeTypes);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Couldn't generate " + TABLE_NAME + ": " + e.getMessage());
+        }
+        return false;
+    }
+
+    private void writeTable(@NotNull Map<String, TypeElement> nodesByTag, @NotNull List<TypeElement> nodeTypes)
+            throws IOException {
+        Elements elementUtils = processingEnv.getElementUtils();
+        Filer filer = processingEnv.getFiler();
+        Element[] originatingElements = nodeTypes.toArray(new Element[0]);
+        try (Writer writer = filer.createSourceFile(TABLE_PACKAGE + "." + TABLE_NAME, originatingElements)
+                .openWriter();
+                PrintWriter out = new PrintWriter(writer)) {
+            out.println("package " + TABLE_PACKAGE + ";");
+            out.println();
+            out.println("import org.jetbrains.annotations.NotNull;");
+            out.println("import org.jetbrains.annotations.Nullable;");
+            out.println();
+            out.println("import com.github.weisj.jsvg.nodes.SVGNode;");
+            out.println();
+            out.println("/**");
+            out.println(" * Generated by {@code " + getClass().getName() + "}. Do not edit.");
+            out.println(" */");
+            out.println("final class " + TABLE_NAME + " {");
+            out.println();
+            out.println("    private " + TABLE_NAME + "() {}");
+            out.println();
+            out.println("    /**");
+            out.println("     * Creates the node for a lower-cased tag name.");
+            out.println("     */");
+            out.println("    static @Nullable SVGNode create(@NotNull String tagName) {");
+            out.println("        switch (tagName) {");
+            for (Map.Entry<String, TypeElement> entry : nodesByTag.entrySet()) {
+                out.println("            case \"" + entry.getKey() + "\":");
+                out.println("                return new " + entry.getValue().getQualifiedName() + "();");
+            }
+            out.println("            default:");
+            out.println("                return null;");
+            out.println("        }");
+            out.println("    }");
+            out.println();
+            out.println("    /**");
+            out.println("     * Whether the permitted content of the node type is recorded in this table.");
+            out.println("     */");
+            out.println("    static boolean hasPermittedContent(@NotNull Class<?> nodeType) {");
+            out.println("        switch (nodeType.getName()) {");
+            for (TypeElement type : nodeTypes) {
+                out.println("            case \"" + elementUtils.getBinaryName(type) + "\":");
+            }
+            out.println("                return true;");
+            out.println("            default:");
+            out.println("                return false;");
+            out.println("        }");
+            out.println("    }");
+            out.println();
+            out.println("    /**");
+            out.println("     * Whether the node type permits character data as content.");
+            out.println("     */");
+            out.println("    static boolean permitsCharData(@NotNull Class<?> nodeType) {");
+            out.println("        switch (nodeType.getName()) {");
+            for (TypeElement type : nodeTypes) {
+                if (permitsCharData(type)) {
+                    out.println("            case \"" + elementUtils.getBinaryName(type) + "\":");
+                }
+            }
+            out.println("                return true;");
+            out.println("            default:");
+            out.println("                return false;");
+            out.println("        }");
+            out.println("    }");
+            out.println("}");
+        }
+    }
+
+    private @Nullable String tagName(@NotNull TypeElement type) {
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (!field.getSimpleName().contentEquals(TAG_FIELD)) continue;
+            Set<Modifier> modifiers = field.getModifiers();
+            if (!modifiers.contains(Modifier.STATIC) || !modifiers.contains(Modifier.FINAL)) continue;
+            Object value = field.getConstantValue();
+            if (value instanceof String) return ((String) value).toLowerCase(Locale.ROOT);
+        }
+        return null;
+    }
+
+    private boolean isPubliclyConstructible(@NotNull TypeElement type) {
+        for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            if (!e.getModifiers().contains(Modifier.PUBLIC)) return false;
+            boolean nested = e.getEnclosingElement() instanceof TypeElement;
+            if (nested && !e.getModifiers().contains(Modifier.STATIC)) return false;
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty()) {
+                return constructor.getModifiers().contains(Modifier.PUBLIC);
+            }
+        }
+        return false;
+    }
+
+    private boolean permitsCharData(@NotNull TypeElement type) {
+        AnnotationMirror permittedContent = getAnnotationMirror(type, PERMITTED_CONTENT);
+        if (permittedContent == null) return false;
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : permittedContent
+                .getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals("charData")) {
+                return Boolean.TRUE.equals(entry.getValue().getValue());
+            }
+        }
+        return false;
+    }
+
+    private @Nullable AnnotationMirror getAnnotationMirror(@NotNull TypeElement typeElement,
+            @NotNull String annotationName) {
+        for (AnnotationMirror m : typeElement.getAnnotationMirrors()) {
+            if (m.getAnnotationType().toString().equals(annotationName)) {
+                return m;
+            }
+        }
+        return null;
+    }
+}
@@ -4,6 +4,13 @@ plugins {
     `java-library`
     jacoco
     id("biz.aQute.bnd.builder")
+    id("me.champeau.jmh")
+}
+
+// Vectorized pixel kernels, which are shipped in the versioned part of the jar. See PixelKernels.
+val java21: SourceSet by sourceSets.creating {
+    java.setSrcDirs(listOf("src/main/java21"))
+    compileClasspath += sourceSets.main.get().output + sourceSets.main.get().compileClasspath
 }
 
 dependencies {
@@ -24,17 +31,46 @@ dependencies {
     testImplementation(gradleApi())
 
     testRuntimeOnly(testLibs.junit.engine)
+    testRuntimeOnly(java21.output)
 
     testCompileOnly(libs.nullabilityAnnotations)
     testCompileOnly(toolLibs.errorprone.annotations)
+
+    jmhCompileOnly(libs.nullabilityAnnotations)
+    jmhRuntimeOnly(java21.output)
+}
+
+jmh {
+    // Select benchmarks using e.g. -PjmhInclude=RenderBenchmark
+    providers.gradleProperty("jmhInclude").orNull?.let { includes.add(it) }
+    profilers.add("gc")
+    resultFormat.set("JSON")
+    jvmArgsAppend.add(
+        "-Djsvg.benchmark.resvgTestSuitePath=" + File(project.rootDir, "resvg-test-suite/tests").absolutePath,
+    )
+    jvmArgsAppend.add("--add-modules=jdk.incubator.vector")
 }
 tasks {
 
+    named<JavaCompile>(java21.compileJavaTaskName) {
+        // Incubator modules can't be used with --release, hence only source and target are set.
+        options.release.set(null as Int?)
+        sourceCompatibility = "21"
+        targetCompatibility = "21"
+        options.compilerArgs.addAll(listOf("--add-modules", "jdk.incubator.vector"))
+    }
+
     compileTestJava {
         options.release.set(21)
     }
 
     jar {
+        into("META-INF/versions/21") {
+            from(java21.output)
+        }
+        manifest {
+            attributes["Multi-Release"] = "true"
+        }
         bundle {
             bnd(
                 bndFile(
@@ -46,6 +82,7 @@ tasks {
                             Requires("com.github.weisj.jsvg.annotations", static = true),
                             Requires("org.osgi.annotation.bundle", static = true),
                             Requires("biz.aQute.bndlib", static = true),
+                            Requires("jdk.incubator.vector", static = true),
                         ),
                 ),
             )
@@ -59,6 +96,7 @@ tasks {
         }
         environment("RESVG_TEST_SUITE_PATH" to File(project.rootDir, "resvg-test-suite/tests").absolutePath)
         useJUnitPlatform()
+        jvmArgs("--add-modules", "jdk.incubator.vector")
         testLogging {
             showStandardStreams = true
             showExceptions = true
@@ -0,0 +1,189 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.SVGDocument;
+import com.github.weisj.jsvg.parser.DocumentLimits;
+import com.github.weisj.jsvg.parser.LoaderContext;
+import com.github.weisj.jsvg.parser.SVGLoader;
+
+/**
+ * The documents used by the benchmarks. The resvg based corpora require the resvg-test-suite submodule to be
+ * checked out. Its location is passed to the benchmark vm through the {@code jsvg.benchmark.resvgTestSuitePath}
+ * system property.
+ */
+public enum BenchmarkCorpus {
+    ResvgShapes {
+        @Override
+        @NotNull
+        List<byte @NotNull []> createSources() {
+            return resvgDirectory("shapes");
+        }
+    },
+    ResvgStructure {
+        @Override
+        @NotNull
+        List<byte @NotNull []> createSources() {
+            return resvgDirectory("structure");
+        }
+    },
+    ResvgPainting {
+        @Override
+        @NotNull
+        List<byte @NotNull []> createSources() {
+            return resvgDirectory("painting");
+        }
+    },
+    ResvgPaintServers {
+        @Override
+        @NotNull
+        List<byte @NotNull []> createSources() {
+            return resvgDirectory("paint-servers");
+        }
+    },
+    ResvgMasking {
+        @Override
+        @NotNull
+        List<byte @NotNull []> createSources() {
+            return resvgDirectory("masking");
+        }
+    },
+    ResvgFilters {
+        @Override
+        @NotNull
+        List<byte @NotNull []> createSources() {
+            return resvgDirectory("filters");
+        }
+    },
+    DeepNesting {
+        @Override
+        @NotNull
+        List<byte @NotNull []> createSources() {
+            return synthetic(SyntheticDocuments.deepNesting(500));
+        }
+    },
+    ManyPaths {
+        @Override
+        @NotNull
+        List<byte @NotNull []> createSources() {
+            return synthetic(SyntheticDocuments.manyPaths(1000));
+        }
+    },
+    HeavyFilters {
+        @Override
+        @NotNull
+        List<byte @NotNull []> createSources() {
+            return synthetic(SyntheticDocuments.heavyFilters(64));
+        }
+    };
+
+    public static final String RESVG_TEST_SUITE_PATH_PROPERTY = "jsvg.benchmark.resvgTestSuitePath";
+
+    /*
+     * The synthetic documents intentionally exceed the default limits.
+     */
+    private static final @NotNull LoaderContext LOADER_CONTEXT = LoaderContext.builder()
+            .documentLimits(new DocumentLimits(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE))
+            .build();
+
+    abstract @NotNull List<byte @NotNull []> createSources();
+
+    public static @NotNull LoaderContext loaderContext() {
+        return LOADER_CONTEXT;
+    }
+
+    /**
+     * The raw sources of all documents in this corpus. Documents which jsvg isn't able to load are excluded,
+     * such that all benchmark phases operate on the same set of documents.
+     *
+     * @return the document sources.
+     */
+    public @NotNull List<byte @NotNull []> sources() {
+        SVGLoader loader = new SVGLoader();
+        List<byte[]> sources = createSources().stream()
+                .filter(source -> load(loader, source) != null)
+                .collect(Collectors.toList());
+        if (sources.isEmpty()) {
+            throw new IllegalStateException("Corpus " + this + " doesn't contain any loadable documents");
+        }
+        return sources;
+    }
+
+    public @NotNull List<@NotNull SVGDocument> documents() {
+        SVGLoader loader = new SVGLoader();
+        List<SVGDocument> documents = new ArrayList<>();
+        for (byte[] source : sources()) {
+            documents.add(load(loader, source));
+        }
+        return documents;
+    }
+
+    public static @Nullable SVGDocument load(@NotNull SVGLoader loader, byte @NotNull [] source) {
+        return loader.load(new ByteArrayInputStream(source), null, LOADER_CONTEXT);
+    }
+
+    private static @NotNull List<byte @NotNull []> synthetic(@NotNull String document) {
+        return Collections.singletonList(document.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static @NotNull List<byte @NotNull []> resvgDirectory(@NotNull String name) {
+        String basePath = System.getProperty(RESVG_TEST_SUITE_PATH_PROPERTY);
+        Path directory = basePath != null ? Paths.get(basePath, name) : null;
+        if (directory == null || !Files.isDirectory(directory)) {
+            throw new IllegalStateException("The resvg submodule was not found at " + directory + ".\n"
+                    + "Please run `git submodule update --init --recursive` to fetch the submodule.");
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files
+                    .filter(p -> p.toString().endsWith(".svg"))
+                    .sorted()
+                    .map(BenchmarkCorpus::readAllBytes)
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte @NotNull [] readAllBytes(@NotNull Path path) {
+        try {
+            return Files.readAllBytes(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
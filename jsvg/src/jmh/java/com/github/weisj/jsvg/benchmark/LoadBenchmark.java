@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.weisj.jsvg.parser.SVGLoader;
+
+/**
+ * Measures {@link SVGLoader#load} i.e. parsing and building of all documents in a corpus. For comparison
+ * {@link #loadCompiled(Blackhole)} loads the same documents from their precompiled binary form.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoadBenchmark {
+
+    @Param
+    public BenchmarkCorpus corpus;
+
+    private List<byte[]> sources;
+    private List<ByteBuffer> compiledSources;
+    private SVGLoader loader;
+
+    @Setup
+    public void setup() throws IOException {
+        sources = corpus.sources();
+        loader = new SVGLoader();
+        compiledSources = new ArrayList<>();
+        for (byte[] source : sources) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            loader.compile(new ByteArrayInputStream(source), null, BenchmarkCorpus.loaderContext(), out);
+            compiledSources.add(ByteBuffer.wrap(out.toByteArray()));
+        }
+    }
+
+    @Benchmark
+    public void load(Blackhole blackhole) {
+        for (byte[] source : sources) {
+            blackhole.consume(BenchmarkCorpus.load(loader, source));
+        }
+    }
+
+    @Benchmark
+    public void loadCompiled(Blackhole blackhole) {
+        for (ByteBuffer source : compiledSources) {
+            blackhole.consume(loader.loadCompiled(source, null, BenchmarkCorpus.loaderContext()));
+        }
+    }
+}
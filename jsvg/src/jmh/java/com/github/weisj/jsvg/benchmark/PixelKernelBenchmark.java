@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.github.weisj.jsvg.attributes.filter.BlendMode;
+import com.github.weisj.jsvg.util.ColorUtil;
+import com.github.weisj.jsvg.util.PixelKernels;
+
+/**
+ * Compares the scalar and the vectorized {@link PixelKernels} on rows of random pixels. If the vector module isn't
+ * available both variants measure the scalar kernels.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PixelKernelBenchmark {
+    private static final int WIDTH = 512;
+    private static final int HEIGHT = 512;
+
+    @Param({"scalar", "vector"})
+    public String kernels;
+
+    private PixelKernels pixelKernels;
+    private int[] source;
+    private int[] pixels;
+    private byte[] mask;
+    private double[] matrix;
+
+    @Setup
+    public void setup() {
+        pixelKernels = "scalar".equals(kernels) ? PixelKernels.scalar() : PixelKernels.get();
+        Random random = new Random(0);
+        source = new int[WIDTH * HEIGHT];
+        for (int i = 0; i < source.length; i++) {
+            source[i] = ColorUtil.premultiply(random.nextInt());
+        }
+        pixels = source.clone();
+        mask = new byte[WIDTH];
+        random.nextBytes(mask);
+        matrix = new double[] {
+                0.393, 0.769, 0.189, 0, 0,
+                0.349, 0.686, 0.168, 0, 0,
+                0.272, 0.534, 0.131, 0, 0,
+                0, 0, 0, 1, 0};
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        System.arraycopy(source, 0, pixels, 0, source.length);
+    }
+
+    @Benchmark
+    public int[] colorMatrix() {
+        for (int y = 0; y < HEIGHT; y++) {
+            pixelKernels.colorMatrix(pixels, y * WIDTH, WIDTH, matrix);
+        }
+        return pixels;
+    }
+
+    @Benchmark
+    public int[] sRGBtoLinearRGB() {
+        for (int y = 0; y < HEIGHT; y++) {
+            pixelKernels.sRGBtoLinearRGBPre(pixels, y * WIDTH, WIDTH);
+        }
+        return pixels;
+    }
+
+    @Benchmark
+    public int[] blendMultiply() {
+        for (int y = 0; y < HEIGHT; y++) {
+            pixelKernels.blend(BlendMode.Multiply, source, pixels, y * WIDTH, WIDTH);
+        }
+        return pixels;
+    }
+
+    @Benchmark
+    public int[] multiplyAlpha() {
+        for (int y = 0; y < HEIGHT; y++) {
+            pixelKernels.multiplyAlpha(pixels, y * WIDTH, mask, 0, WIDTH);
+        }
+        return pixels;
+    }
+
+    @Benchmark
+    public int[] boxBlurColumns() {
+        pixelKernels.boxBlurColumns(source, 0, WIDTH, pixels, 0, WIDTH, HEIGHT, 0, 9, 4, 0, WIDTH);
+        return pixels;
+    }
+}
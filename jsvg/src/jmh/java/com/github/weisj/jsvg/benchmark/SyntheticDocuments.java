@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.benchmark;
+
+import java.util.Locale;
+import java.util.Random;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Generators for stress test documents. All generators are deterministic.
+ */
+final class SyntheticDocuments {
+    private static final int SIZE = 1000;
+    private static final int PATH_SIZE = 10;
+
+    private SyntheticDocuments() {}
+
+    static @NotNull String deepNesting(int depth) {
+        StringBuilder sb = new StringBuilder();
+        openSvg(sb);
+        for (int i = 0; i < depth; i++) {
+            sb.append("<g transform='translate(1 1) rotate(0.5)' fill-opacity='0.99'>");
+            sb.append("<rect x='0' y='0' width='20' height='20' fill='")
+                    .append(color(i))
+                    .append("'/>");
+        }
+        for (int i = 0; i < depth; i++) {
+            sb.append("</g>");
+        }
+        return closeSvg(sb);
+    }
+
+    static @NotNull String manyPaths(int count) {
+        Random r = new Random(count);
+        StringBuilder sb = new StringBuilder();
+        openSvg(sb);
+        for (int i = 0; i < count; i++) {
+            sb.append("<path fill='").append(color(i)).append("' ");
+            if (i % 3 == 0) sb.append("stroke='black' stroke-width='0.5' ");
+            // Star shaped outlines local to a small cell, similar to the glyphs of an icon font.
+            float cx = r.nextFloat() * SIZE;
+            float cy = r.nextFloat() * SIZE;
+            int vertices = 4 + r.nextInt(12);
+            double step = 2 * Math.PI / vertices;
+            sb.append("d='M").append(polar(cx, cy, PATH_SIZE, 0));
+            for (int v = 1; v <= vertices; v++) {
+                double angle = v * step;
+                float radius = PATH_SIZE * (0.5f + r.nextFloat() / 2);
+                switch (v % 3) {
+                    case 0:
+                        sb.append(" L").append(polar(cx, cy, radius, angle));
+                        break;
+                    case 1:
+                        sb.append(" Q").append(polar(cx, cy, radius, angle - step / 2))
+                                .append(' ').append(polar(cx, cy, radius, angle));
+                        break;
+                    default:
+                        sb.append(" C").append(polar(cx, cy, radius, angle - 2 * step / 3))
+                                .append(' ').append(polar(cx, cy, radius, angle - step / 3))
+                                .append(' ').append(polar(cx, cy, radius, angle));
+                        break;
+                }
+            }
+            sb.append(" Z'/>");
+        }
+        return closeSvg(sb);
+    }
+
+    static @NotNull String heavyFilters(int count) {
+        StringBuilder sb = new StringBuilder();
+        openSvg(sb);
+        sb.append("<defs>")
+                .append("<filter id='shadow'><feDropShadow dx='4' dy='4' stdDeviation='6'/></filter>")
+                .append("<filter id='glow'>")
+                .append("<feGaussianBlur in='SourceAlpha' stdDeviation='8' result='blur'/>")
+                .append("<feFlood flood-color='gold'/>")
+                .append("<feComposite in2='blur' operator='in' result='coloredBlur'/>")
+                .append("<feMerge><feMergeNode in='coloredBlur'/><feMergeNode in='SourceGraphic'/></feMerge>")
+                .append("</filter>")
+                .append("<filter id='colors'>")
+                .append("<feColorMatrix type='hueRotate' values='90'/>")
+                .append("<feComponentTransfer><feFuncR type='gamma' exponent='2'/>")
+                .append("<feFuncB type='table' tableValues='0 0.5 1'/></feComponentTransfer>")
+                .append("<feBlend in2='SourceGraphic' mode='multiply'/>")
+                .append("</filter>")
+                .append("<filter id='noise'>")
+                .append("<feTurbulence baseFrequency='0.05' numOctaves='3' result='turbulence'/>")
+                .append("<feDisplacementMap in='SourceGraphic' in2='turbulence' scale='10'")
+                .append(" xChannelSelector='R' yChannelSelector='G'/>")
+                .append("</filter>")
+                .append("</defs>");
+        String[] filters = {"shadow", "glow", "colors", "noise"};
+        int columns = (int) Math.ceil(Math.sqrt(count));
+        float cellSize = (float) SIZE / columns;
+        for (int i = 0; i < count; i++) {
+            float x = (i % columns) * cellSize;
+            float y = (i / columns) * cellSize;
+            sb.append(String.format(Locale.ENGLISH,
+                    "<circle cx='%.2f' cy='%.2f' r='%.2f' fill='%s' filter='url(#%s)'/>",
+                    x + cellSize / 2, y + cellSize / 2, cellSize / 3, color(i), filters[i % filters.length]));
+        }
+        return closeSvg(sb);
+    }
+
+    private static void openSvg(@NotNull StringBuilder sb) {
+        sb.append("<svg xmlns='http://www.w3.org/2000/svg' width='").append(SIZE)
+                .append("' height='").append(SIZE)
+                .append("' viewBox='0 0 ").append(SIZE).append(' ').append(SIZE).append("'>");
+    }
+
+    private static @NotNull String closeSvg(@NotNull StringBuilder sb) {
+        return sb.append("</svg>").toString();
+    }
+
+    private static @NotNull String polar(float cx, float cy, float radius, double angle) {
+        return String.format(Locale.ENGLISH, "%.3f %.3f",
+                cx + radius * Math.cos(angle), cy + radius * Math.sin(angle));
+    }
+
+    private static @NotNull String color(int i) {
+        return String.format("#%06x", (i * 0x9E3779) & 0xFFFFFF);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.parser.impl;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.github.weisj.jsvg.benchmark.BenchmarkCorpus;
+
+/**
+ * Measures the two phases of loading a document separately. Parsing the xml into an {@link SVGDocumentBuilder}
+ * and building the {@link com.github.weisj.jsvg.SVGDocument} using {@link SVGDocumentBuilder#build()}.
+ * <p>
+ * This benchmark lives in the parser package as the parsing step isn't part of the public api.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BuildBenchmark {
+
+    @Param
+    public BenchmarkCorpus corpus;
+
+    private List<byte[]> sources;
+    private StaxSVGLoader loader;
+
+    @Setup
+    public void setup() {
+        sources = corpus.sources();
+        loader = new StaxSVGLoader();
+    }
+
+    @State(Scope.Thread)
+    public static class ParsedBuilders {
+        private List<SVGDocumentBuilder> builders;
+
+        /*
+         * A builder can only be built once. Level.Invocation is acceptable here as a single invocation processes
+         * the whole corpus and hence takes long enough for the setup overhead to not matter.
+         */
+        @Setup(Level.Invocation)
+        public void parse(BuildBenchmark benchmark) throws XMLStreamException {
+            builders = benchmark.parseAll();
+        }
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) throws XMLStreamException {
+        blackhole.consume(parseAll());
+    }
+
+    @Benchmark
+    public void build(ParsedBuilders parsedBuilders, Blackhole blackhole) {
+        for (SVGDocumentBuilder builder : parsedBuilders.builders) {
+            blackhole.consume(builder.build());
+        }
+    }
+
+    private List<SVGDocumentBuilder> parseAll() throws XMLStreamException {
+        List<SVGDocumentBuilder> result = new ArrayList<>(sources.size());
+        for (byte[] source : sources) {
+            result.add(loader.parse(new ByteArrayInputStream(source), null, BenchmarkCorpus.loaderContext()));
+        }
+        return result;
+    }
+}
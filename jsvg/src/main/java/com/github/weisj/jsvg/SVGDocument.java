@@ -23,8 +23,8 @@ package com.github.weisj.jsvg;
 
 import java.awt.*;
 import java.awt.geom.AffineTransform;
-import java.awt.geom.Area;
 import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
 
 import javax.swing.*;
 
@@ -45,10 +45,15 @@ import com.github.weisj.jsvg.renderer.awt.AwtComponentPlatformSupport;
 import com.github.weisj.jsvg.renderer.impl.*;
 import com.github.weisj.jsvg.renderer.impl.context.RenderContextAccessor;
 import com.github.weisj.jsvg.renderer.output.Output;
+import com.github.weisj.jsvg.renderer.output.impl.ShapeAccumulator;
 import com.github.weisj.jsvg.renderer.output.impl.ShapeOutput;
 import com.github.weisj.jsvg.view.FloatSize;
 import com.github.weisj.jsvg.view.ViewBox;
 
+/**
+ * A loaded svg document. Documents don't change once loaded, hence a single instance can be rendered from
+ * multiple threads at the same time e.g. to rasterize it at different sizes in parallel.
+ */
 public final class SVGDocument {
     private static final boolean DEBUG = false;
     private final @NotNull SVG root;
@@ -77,7 +82,27 @@ public final class SVGDocument {
     }
 
     public @NotNull Shape computeShape(@Nullable ViewBox viewBox) {
-        Area accumulator = new Area(new Path2D.Float());
+        return collectShapes(viewBox).union();
+    }
+
+    public @NotNull Path2D computeOutline() {
+        return computeOutline(null);
+    }
+
+    /**
+     * Computes the outline of the document without merging overlapping shapes. This is considerably cheaper than
+     * {@link #computeShape(ViewBox)} for documents with many shapes, e.g. to create shapes for hit testing.
+     *
+     * @param viewBox the view box to compute the outline for.
+     * @return the outline, which covers the same area as the result of {@link #computeShape(ViewBox)} when filled
+     *         using the non-zero winding rule.
+     */
+    public @NotNull Path2D computeOutline(@Nullable ViewBox viewBox) {
+        return collectShapes(viewBox).outline();
+    }
+
+    private @NotNull ShapeAccumulator collectShapes(@Nullable ViewBox viewBox) {
+        ShapeAccumulator accumulator = new ShapeAccumulator();
         renderWithPlatform(NullPlatformSupport.INSTANCE, new ShapeOutput(accumulator), viewBox);
         return accumulator;
     }
@@ -112,6 +137,45 @@ public final class SVGDocument {
         output.dispose();
     }
 
+    /**
+     * Render the document into the whole image using the default {@link TileConfiguration}.
+     *
+     * @param image the image to render into.
+     * @param renderingHints the rendering hints used for each tile.
+     * @see #renderTiled(PlatformSupport, BufferedImage, ViewBox, AnimationState, RenderingHints, TileConfiguration)
+     */
+    public void renderTiled(@NotNull BufferedImage image, @Nullable RenderingHints renderingHints) {
+        renderTiled(NullPlatformSupport.INSTANCE, image, new ViewBox(image.getWidth(), image.getHeight()), null,
+                renderingHints, TileConfiguration.DEFAULT);
+    }
+
+    /**
+     * Render the document into the given image by splitting it into tiles, which are rendered in parallel. The
+     * document is drawn on top of the current content of the image. This produces the same result as rendering the
+     * document with a graphics object of the image, which has the given rendering hints set, except for Java2D
+     * splitting curves at the clip bounds. Hence, the anti-aliasing of curved outlines, which cross a tile border,
+     * may differ slightly.
+     * <p>
+     * Filters which read pixels further away than {@link TileConfiguration#overlap()} cause the tiles to be rendered
+     * again with a sufficient overlap, or the document to be rendered without tiles if their reach isn't bounded.
+     * <p>
+     * Note that the platform support is accessed from multiple threads.
+     *
+     * @param platformSupport the platform support.
+     * @param image the image to render into.
+     * @param bounds the bounds to render the document in, as in {@link #renderWithPlatform(PlatformSupport,
+     *        Output, ViewBox, AnimationState)}.
+     * @param animationState the animation state.
+     * @param renderingHints the rendering hints used for each tile.
+     * @param tileConfiguration the configuration of the tiles.
+     */
+    public void renderTiled(@NotNull PlatformSupport platformSupport, @NotNull BufferedImage image,
+            @Nullable ViewBox bounds, @Nullable AnimationState animationState,
+            @Nullable RenderingHints renderingHints, @NotNull TileConfiguration tileConfiguration) {
+        TileRenderer.render(image, renderingHints, tileConfiguration,
+                output -> renderWithPlatform(platformSupport, output, bounds, animationState));
+    }
+
     public void renderWithPlatform(@NotNull PlatformSupport platformSupport, @NotNull Output output,
             @Nullable ViewBox bounds) {
         renderWithPlatform(platformSupport, output, bounds, null);
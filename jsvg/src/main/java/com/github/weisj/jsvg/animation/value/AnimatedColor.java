@@ -43,8 +43,7 @@ public final class AnimatedColor implements SVGPaint, ColorValue {
     private final @NotNull ColorValue initial;
     private final @NotNull RGBColor @NotNull [] values;
 
-    private Color current;
-    private long currentTimestamp = -1;
+    private volatile @Nullable TimestampedValue<Color> current;
 
     public AnimatedColor(@NotNull Track track, @NotNull ColorValue initial, @NotNull RGBColor @NotNull [] values) {
         this.track = track;
@@ -78,10 +77,12 @@ public final class AnimatedColor implements SVGPaint, ColorValue {
 
     private @NotNull Color current(@NotNull MeasureContext context) {
         long timestamp = context.timestamp();
-        if (currentTimestamp == timestamp) return current;
-        currentTimestamp = timestamp;
-        current = computeCurrent(context, timestamp);
-        return current;
+        TimestampedValue<Color> value = current;
+        if (value == null || value.timestamp != timestamp) {
+            value = new TimestampedValue<>(timestamp, computeCurrent(context, timestamp));
+            current = value;
+        }
+        return value.value;
     }
 
     private @NotNull Color computeCurrent(@NotNull MeasureContext context, long timestamp) {
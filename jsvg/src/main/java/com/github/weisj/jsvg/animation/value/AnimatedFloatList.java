@@ -23,6 +23,7 @@ package com.github.weisj.jsvg.animation.value;
 
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import com.github.weisj.jsvg.animation.Track;
 import com.github.weisj.jsvg.attributes.value.FloatListValue;
@@ -34,10 +35,8 @@ public final class AnimatedFloatList implements FloatListValue {
 
     private final @NotNull FloatListValue initial;
     private final float @NotNull [] @NotNull [] values;
-    private float[] cache;
 
-    private long timestamp = 0;
-    private Track.InterpolationProgress progressCacheKey = null;
+    private volatile @Nullable TimestampedValue<Interpolation> current;
 
     public AnimatedFloatList(@NotNull Track track, @NotNull FloatListValue initial,
             float @NotNull [] @NotNull [] values) {
@@ -51,33 +50,45 @@ public final class AnimatedFloatList implements FloatListValue {
     }
 
     public boolean isDirty(long timestamp) {
-        return this.timestamp != timestamp;
+        TimestampedValue<Interpolation> value = current;
+        return value == null || value.timestamp != timestamp;
     }
 
     @Override
     public float @NotNull [] get(@NotNull MeasureContext context) {
         long ts = context.timestamp();
-        if (ts != this.timestamp) {
-            this.timestamp = ts;
+        TimestampedValue<Interpolation> value = current;
+        if (value == null || value.timestamp != ts) {
             Track.InterpolationProgress progress = track.interpolationProgress(ts, values.length);
+            Interpolation interpolation = value != null && progress.equals(value.value.progress)
+                    ? value.value
+                    : new Interpolation(progress, interpolate(context, progress));
+            value = new TimestampedValue<>(ts, interpolation);
+            current = value;
+        }
+        return value.value.values;
+    }
 
-            if (progress.equals(progressCacheKey)) {
-                return cache;
-            }
-            progressCacheKey = progress;
+    private float @NotNull [] interpolate(@NotNull MeasureContext context,
+            Track.@NotNull InterpolationProgress progress) {
+        if (progress.isInitial()) return initial.get(context);
 
-            if (progress.isInitial()) {
-                cache = initial.get(context);
-                return cache;
-            }
+        int index = progress.iterationIndex();
+        float[] start = values[index];
+        float[] end = index == values.length - 1 ? null : values[index + 1];
+
+        float fraction = progress.indexProgress();
+        // Note: The result may be shared with concurrent renders, hence it must not be interpolated in place.
+        return track.floatListInterpolator().interpolate(initial.get(context), start, end, fraction, null);
+    }
 
-            int index = progress.iterationIndex();
-            float[] start = values[index];
-            float[] end = index == values.length - 1 ? null : values[index + 1];
+    private static final class Interpolation {
+        private final Track.@NotNull InterpolationProgress progress;
+        private final float @NotNull [] values;
 
-            float fraction = progress.indexProgress();
-            cache = track.floatListInterpolator().interpolate(initial.get(context), start, end, fraction, cache);
+        private Interpolation(Track.@NotNull InterpolationProgress progress, float @NotNull [] values) {
+            this.progress = progress;
+            this.values = values;
         }
-        return cache;
     }
 }
@@ -40,8 +40,7 @@ public class AnimatedPaint implements SVGPaint {
     private final @NotNull SVGPaint initial;
     private final @NotNull SVGPaint @NotNull [] values;
 
-    private SVGPaint current;
-    private long currentTimestamp = -1;
+    private volatile @Nullable TimestampedValue<SVGPaint> current;
 
     public AnimatedPaint(@NotNull Track track, @NotNull SVGPaint initial, @NotNull SVGPaint @NotNull [] values) {
         this.track = track;
@@ -56,10 +55,12 @@ public class AnimatedPaint implements SVGPaint {
 
     private @NotNull SVGPaint current(@NotNull MeasureContext context) {
         long timestamp = context.timestamp();
-        if (currentTimestamp == timestamp) return current;
-        currentTimestamp = timestamp;
-        current = computeCurrent(timestamp);
-        return current;
+        TimestampedValue<SVGPaint> value = current;
+        if (value == null || value.timestamp != timestamp) {
+            value = new TimestampedValue<>(timestamp, computeCurrent(timestamp));
+            current = value;
+        }
+        return value.value;
     }
 
     private @NotNull SVGPaint computeCurrent(long timestamp) {
@@ -33,7 +33,7 @@ import com.github.weisj.jsvg.util.PathUtil;
 public final class AnimatedPath implements Value<@NotNull Path2D> {
 
     private final @NotNull AnimatedFloatList list;
-    private @Nullable Path2D cache;
+    private volatile @Nullable TimestampedValue<Path2D> current;
     private final boolean closed;
 
     public AnimatedPath(@NotNull AnimatedFloatList list, boolean closed) {
@@ -43,9 +43,12 @@ public final class AnimatedPath implements Value<@NotNull Path2D> {
 
     @Override
     public @NotNull Path2D get(@NotNull MeasureContext context) {
-        if (cache == null || list.isDirty(context.timestamp())) {
-            cache = PathUtil.setPolyLine(cache, list.get(context), closed);
+        long timestamp = context.timestamp();
+        TimestampedValue<Path2D> value = current;
+        if (value == null || value.timestamp != timestamp) {
+            value = new TimestampedValue<>(timestamp, PathUtil.setPolyLine(null, list.get(context), closed));
+            current = value;
         }
-        return cache;
+        return value.value;
     }
 }
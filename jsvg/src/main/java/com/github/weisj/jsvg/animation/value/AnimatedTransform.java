@@ -25,6 +25,7 @@ import java.awt.geom.AffineTransform;
 import java.util.Objects;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import com.github.weisj.jsvg.animation.Track;
 import com.github.weisj.jsvg.attributes.transform.TransformPart;
@@ -38,8 +39,7 @@ public final class AnimatedTransform implements TransformValue {
     private final @NotNull TransformValue initial;
     private final @NotNull TransformPart @NotNull [] values;
 
-    private AffineTransform current;
-    private long currentTimestamp = -1;
+    private volatile @Nullable TimestampedValue<AffineTransform> current;
 
     public AnimatedTransform(@NotNull Track track, @NotNull TransformValue initial,
             @NotNull TransformPart @NotNull [] values) {
@@ -59,10 +59,12 @@ public final class AnimatedTransform implements TransformValue {
 
     private @NotNull AffineTransform current(@NotNull MeasureContext context) {
         long timestamp = context.timestamp();
-        if (currentTimestamp == timestamp) return current;
-        currentTimestamp = timestamp;
-        current = computeCurrent(context, timestamp);
-        return current;
+        TimestampedValue<AffineTransform> value = current;
+        if (value == null || value.timestamp != timestamp) {
+            value = new TimestampedValue<>(timestamp, computeCurrent(context, timestamp));
+            current = value;
+        }
+        return value.value;
     }
 
     private @NotNull AffineTransform computeCurrent(@NotNull MeasureContext context, long timestamp) {
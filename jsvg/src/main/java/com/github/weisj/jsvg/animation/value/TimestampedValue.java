@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2021 Jannis Weis
+ * Copyright (c) 2025 Jannis Weis
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
  * associated documentation files (the "Software"), to deal in the Software without restriction,
@@ -19,16 +19,20 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
  *
  */
-package com.github.weisj.jsvg.geometry.mesh;
-
-import java.awt.geom.Point2D;
+package com.github.weisj.jsvg.animation.value;
 
 import org.jetbrains.annotations.NotNull;
 
-final class MeshUtil {
-    private MeshUtil() {}
+/**
+ * The value of an animated attribute at a given timestamp. Animated values may be evaluated by several renders at
+ * once, hence their last result is published as a single immutable object.
+ */
+final class TimestampedValue<T> {
+    final long timestamp;
+    final @NotNull T value;
 
-    static @NotNull Point2D.Float p(float x, float y) {
-        return new Point2D.Float(x, y);
+    TimestampedValue(long timestamp, @NotNull T value) {
+        this.timestamp = timestamp;
+        this.value = value;
     }
 }
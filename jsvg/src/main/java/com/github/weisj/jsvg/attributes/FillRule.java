@@ -25,6 +25,7 @@ import java.awt.geom.Path2D;
 
 import org.jetbrains.annotations.NotNull;
 
+import com.github.weisj.jsvg.parser.impl.AttributeKey;
 import com.github.weisj.jsvg.parser.impl.AttributeNode;
 
 public enum FillRule {
@@ -54,6 +55,6 @@ public enum FillRule {
     }
 
     public static @NotNull FillRule parse(@NotNull AttributeNode attributeNode) {
-        return attributeNode.getEnum("fill-rule", FillRule.Inherit);
+        return attributeNode.getEnum(AttributeKey.FILL_RULE, FillRule.Inherit);
     }
 }
@@ -26,6 +26,7 @@ import java.util.Arrays;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import com.github.weisj.jsvg.parser.impl.AttributeKey;
 import com.github.weisj.jsvg.parser.impl.AttributeNode;
 import com.github.weisj.jsvg.parser.impl.AttributeParser;
 import com.github.weisj.jsvg.parser.impl.SeparatorMode;
@@ -52,7 +53,7 @@ public final class PaintOrder {
     }
 
     public static @Nullable PaintOrder parse(@NotNull AttributeNode attributeNode) {
-        @Nullable String value = attributeNode.getValue("paint-order");
+        @Nullable String value = attributeNode.getValue(AttributeKey.PAINT_ORDER);
         @NotNull AttributeParser parser = attributeNode.parser();
 
         if (value == null) return null;
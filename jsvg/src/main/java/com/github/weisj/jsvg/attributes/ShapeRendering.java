@@ -0,0 +1,55 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.attributes;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.github.weisj.jsvg.parser.impl.AttributeKey;
+import com.github.weisj.jsvg.parser.impl.AttributeNode;
+import com.github.weisj.jsvg.parser.impl.ParsedElement;
+
+public enum ShapeRendering {
+    @Default
+    Auto,
+    OptimizeSpeed,
+    /**
+     * Edges are aligned to the pixel grid instead of being antialiased.
+     */
+    CrispEdges,
+    GeometricPrecision;
+
+    /**
+     * Parses the shape rendering of an element. The property is inherited, hence it is looked up on the ancestors
+     * of the element in the document if not specified.
+     *
+     * @param attributeNode the attributes of the element.
+     * @return the shape rendering.
+     */
+    public static @NotNull ShapeRendering parse(@NotNull AttributeNode attributeNode) {
+        for (ParsedElement element = attributeNode.element(); element != null; element = element.parent()) {
+            ShapeRendering value =
+                    element.attributeNode().getEnumNullable(AttributeKey.SHAPE_RENDERING, ShapeRendering.class);
+            if (value != null) return value;
+        }
+        return Auto;
+    }
+}
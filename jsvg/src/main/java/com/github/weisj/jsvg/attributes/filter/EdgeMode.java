@@ -28,45 +28,63 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import com.github.weisj.jsvg.nodes.filter.FilterContext;
-import com.github.weisj.jsvg.renderer.RenderContext;
 import com.github.weisj.jsvg.renderer.output.impl.GraphicsUtil;
-import com.github.weisj.jsvg.util.ImageUtil;
 
 public enum EdgeMode {
     Duplicate {
         @Override
-        public ImageProducer convolve(@NotNull RenderContext context, @NotNull FilterContext filterContext,
-                @NotNull ImageProducer producer, @NotNull ConvolveOperation convolveOperation) {
-            return convolveDuplicate(context, filterContext, producer, convolveOperation);
+        public @NotNull BufferedImage convolve(@NotNull FilterContext filterContext, @NotNull BufferedImage image,
+                @NotNull ConvolveOperation convolveOperation) {
+            return convolveDuplicate(filterContext, image, convolveOperation);
         }
     },
     Wrap {
         @Override
-        public ImageProducer convolve(@NotNull RenderContext context, @NotNull FilterContext filterContext,
-                @NotNull ImageProducer producer, @NotNull ConvolveOperation convolveOperation) {
-            return convolveWrap(context, filterContext, producer, convolveOperation);
+        public @NotNull BufferedImage convolve(@NotNull FilterContext filterContext, @NotNull BufferedImage image,
+                @NotNull ConvolveOperation convolveOperation) {
+            return convolveWrap(filterContext, image, convolveOperation);
         }
     },
     None {
         @Override
-        public ImageProducer convolve(@NotNull RenderContext context, @NotNull FilterContext filterContext,
-                @NotNull ImageProducer producer, @NotNull ConvolveOperation convolveOperation) {
-            return applyConvolutions(filterContext.renderingHints(),
-                    ImageUtil.copy(context, producer, ImageUtil.Premultiplied.Yes),
-                    convolveOperation, ConvolveOp.EDGE_ZERO_FILL);
+        public @NotNull BufferedImage convolve(@NotNull FilterContext filterContext, @NotNull BufferedImage image,
+                @NotNull ConvolveOperation convolveOperation) {
+            BufferedImage copy = filterContext.surfaces().acquire(
+                    image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB_PRE);
+            Graphics2D g = GraphicsUtil.createGraphics(copy);
+            g.drawImage(image, null, null);
+            g.dispose();
+            return applyConvolutions(filterContext.renderingHints(), copy, convolveOperation,
+                    ConvolveOp.EDGE_ZERO_FILL);
         }
     };
 
-    public abstract ImageProducer convolve(@NotNull RenderContext context, @NotNull FilterContext filterContext,
-            @NotNull ImageProducer producer, @NotNull ConvolveOperation convolveOperation);
+    /**
+     * Convolves the given image. The image isn't modified.
+     *
+     * @param filterContext the filter context.
+     * @param image the image to convolve.
+     * @param convolveOperation the convolution.
+     * @return the premultiplied result, which has the same size as the input image.
+     */
+    public abstract @NotNull BufferedImage convolve(@NotNull FilterContext filterContext,
+            @NotNull BufferedImage image, @NotNull ConvolveOperation convolveOperation);
 
     public interface ConvolveOperation {
 
         @NotNull
         Dimension maximumKernelSize();
 
+        /**
+         * Convolves the given premultiplied image, which may be modified in the process.
+         *
+         * @param image the image owned by the operation.
+         * @param hints the rendering hints.
+         * @param awtEdgeMode the {@link ConvolveOp} edge mode.
+         * @return the premultiplied result.
+         */
         @NotNull
-        ImageProducer convolve(@NotNull BufferedImage image, @Nullable RenderingHints hints, int awtEdgeMode);
+        BufferedImage convolve(@NotNull BufferedImage image, @Nullable RenderingHints hints, int awtEdgeMode);
     }
 
     private static final class EdgeModeImage {
@@ -85,18 +103,17 @@ public enum EdgeMode {
         }
     }
 
-    private static EdgeModeImage prepareEdgeModeImage(@NotNull RenderContext context,
-            @NotNull ImageProducer producer, @NotNull ConvolveOperation convolveOperation) {
-        Image img = context.platformSupport().createImage(producer);
-        int width = img.getWidth(null);
-        int height = img.getHeight(null);
+    private static EdgeModeImage prepareEdgeModeImage(@NotNull FilterContext filterContext,
+            @NotNull BufferedImage img, @NotNull ConvolveOperation convolveOperation) {
+        int width = img.getWidth();
+        int height = img.getHeight();
 
         Dimension kernelSize = convolveOperation.maximumKernelSize();
         int xSize = kernelSize.width;
         int ySize = kernelSize.height;
 
-        BufferedImage bufferedImage = ImageUtil.createCompatibleTransparentImage(width + xSize, height + ySize,
-                ImageUtil.Premultiplied.Yes);
+        BufferedImage bufferedImage = filterContext.surfaces().acquire(width + xSize, height + ySize,
+                BufferedImage.TYPE_INT_ARGB_PRE);
         Graphics2D g = GraphicsUtil.createGraphics(bufferedImage);
 
         int xOff = xSize / 2;
@@ -109,10 +126,9 @@ public enum EdgeMode {
         return new EdgeModeImage(bufferedImage, xOff, yOff, width, height);
     }
 
-    private static @NotNull ImageProducer convolveDuplicate(@NotNull RenderContext context,
-            @NotNull FilterContext filterContext, @NotNull ImageProducer producer,
-            @NotNull ConvolveOperation convolveOperation) {
-        EdgeModeImage edgeModeImage = prepareEdgeModeImage(context, producer, convolveOperation);
+    private static @NotNull BufferedImage convolveDuplicate(@NotNull FilterContext filterContext,
+            @NotNull BufferedImage image, @NotNull ConvolveOperation convolveOperation) {
+        EdgeModeImage edgeModeImage = prepareEdgeModeImage(filterContext, image, convolveOperation);
         int xOff = edgeModeImage.xOff;
         int yOff = edgeModeImage.yOff;
         int width = edgeModeImage.width;
@@ -128,7 +144,7 @@ public enum EdgeMode {
         g.drawImage(top, xOff, 0, width, yOff, null);
         g.drawImage(bottom, xOff, yOff + height, width, yOff, null);
         g.drawImage(left, 0, yOff, xOff, height, null);
-        g.drawImage(right, xOff + height, yOff, xOff, height, null);
+        g.drawImage(right, xOff + width, yOff, xOff, height, null);
 
         Color topLeft = new Color(top.getRGB(0, 0), true);
         Color topRight = new Color(top.getRGB(top.getWidth() - 1, 0), true);
@@ -149,16 +165,15 @@ public enum EdgeMode {
 
         g.dispose();
 
-        ImageProducer output =
+        BufferedImage output =
                 applyConvolutions(filterContext.renderingHints(), edgeModeImage.img, convolveOperation,
                         ConvolveOp.EDGE_NO_OP);
-        CropImageFilter cropImageFilter = new CropImageFilter(xOff, yOff, width, height);
-        return new FilteredImageSource(output, cropImageFilter);
+        return output.getSubimage(xOff, yOff, width, height);
     }
 
-    private static ImageProducer convolveWrap(@NotNull RenderContext context, @NotNull FilterContext filterContext,
-            @NotNull ImageProducer producer, @NotNull ConvolveOperation convolveOperation) {
-        EdgeModeImage edgeModeImage = prepareEdgeModeImage(context, producer, convolveOperation);
+    private static @NotNull BufferedImage convolveWrap(@NotNull FilterContext filterContext,
+            @NotNull BufferedImage image, @NotNull ConvolveOperation convolveOperation) {
+        EdgeModeImage edgeModeImage = prepareEdgeModeImage(filterContext, image, convolveOperation);
         int xOff = edgeModeImage.xOff;
         int yOff = edgeModeImage.yOff;
         int width = edgeModeImage.width;
@@ -186,13 +201,12 @@ public enum EdgeMode {
         g.drawImage(topRight, 0, yOff + height, null);
         g.drawImage(topLeft, xOff + width, yOff + height, null);
 
-        ImageProducer output = applyConvolutions(filterContext.renderingHints(), edgeModeImage.img, convolveOperation,
+        BufferedImage output = applyConvolutions(filterContext.renderingHints(), edgeModeImage.img, convolveOperation,
                 ConvolveOp.EDGE_NO_OP);
-        CropImageFilter cropImageFilter = new CropImageFilter(xOff, yOff, width, height);
-        return new FilteredImageSource(output, cropImageFilter);
+        return output.getSubimage(xOff, yOff, width, height);
     }
 
-    private static ImageProducer applyConvolutions(@Nullable RenderingHints hints, @NotNull BufferedImage image,
+    private static @NotNull BufferedImage applyConvolutions(@Nullable RenderingHints hints, @NotNull BufferedImage image,
             @NotNull ConvolveOperation convolveOperation, int awtEdgeMode) {
         return convolveOperation.convolve(image, hints, awtEdgeMode);
     }
@@ -26,7 +26,8 @@ import java.awt.font.FontRenderContext;
 import java.awt.font.GlyphMetrics;
 import java.awt.font.GlyphVector;
 import java.awt.font.LineMetrics;
-import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -39,16 +40,16 @@ public final class AWTSVGFont implements SVGFont {
 
     private final @NotNull Font font;
     private final FontRenderContext frc = new FontRenderContext(null, true, true);
-    private final HashMap<String, Glyph> glyphCache;
+    private final Map<String, Glyph> glyphCache;
 
-    private @Nullable LineMetrics lineMetrics;
-    private float[] baselineOffsets;
+    private volatile @Nullable LineMetrics lineMetrics;
+    private volatile float[] baselineOffsets;
     private float exHeight = Length.UNSPECIFIED_RAW;
     private float mathBaseline = Length.UNSPECIFIED_RAW;
 
     public AWTSVGFont(@NotNull Font font) {
         this.font = font;
-        this.glyphCache = new HashMap<>();
+        this.glyphCache = new ConcurrentHashMap<>();
     }
 
     public @NotNull Font font() {
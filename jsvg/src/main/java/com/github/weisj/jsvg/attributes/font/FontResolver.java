@@ -27,6 +27,7 @@ import java.awt.geom.AffineTransform;
 import java.text.AttributedCharacterIterator;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -127,7 +128,7 @@ public final class FontResolver {
     private enum FontCache {
         INSTANCE;
 
-        private final HashMap<CacheKey, SVGFont> cache = new HashMap<>();
+        private final Map<CacheKey, SVGFont> cache = new ConcurrentHashMap<>();
 
         private static final class CacheKey {
             private final @NotNull MeasurableFontSpec spec;
@@ -102,6 +102,14 @@ public final class TransformPart {
         this.values = values;
     }
 
+    public @NotNull TransformType type() {
+        return type;
+    }
+
+    public @NotNull Length @NotNull [] values() {
+        return values.clone();
+    }
+
     public static @NotNull TransformPart identityOfType(@NotNull TransformType type) {
         switch (type) {
             case MATRIX:
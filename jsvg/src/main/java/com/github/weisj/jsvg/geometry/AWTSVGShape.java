@@ -25,6 +25,7 @@ import java.awt.*;
 import java.awt.geom.*;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import com.github.weisj.jsvg.attributes.value.ConstantValue;
 import com.github.weisj.jsvg.attributes.value.Value;
@@ -34,10 +35,13 @@ import com.github.weisj.jsvg.renderer.RenderContext;
 public class AWTSVGShape<T extends Shape> implements SVGShape {
     public static final Rectangle2D EMPTY_SHAPE = new Rectangle();
     protected final @NotNull Value<@NotNull T> shapeValue;
-    private Rectangle2D boundsCache;
-    private T shapeCache;
+    /*
+     * Shapes are shared between all concurrent renders of a document. Hence, the bounds are cached together with
+     * the shape instance they belong to, such that a render never observes the bounds of another shape.
+     */
+    private volatile @Nullable ShapeBounds<T> boundsCache;
 
-    private double pathLength;
+    private volatile double pathLength;
 
     public AWTSVGShape(@NotNull T shape) {
         this(new ConstantValue<>(shape));
@@ -54,19 +58,19 @@ public class AWTSVGShape<T extends Shape> implements SVGShape {
 
     @Override
     public @NotNull T shape(@NotNull RenderContext context, boolean validate) {
-        if (shapeCache == null || validate) {
-            shapeCache = shapeValue.get(context.measureContext());
-        }
-        return shapeCache;
+        return shapeValue.get(context.measureContext());
     }
 
     @Override
     public @NotNull Rectangle2D bounds(@NotNull RenderContext context, boolean validate) {
-        if (boundsCache == null || validate) {
-            Shape shape = shape(context, validate);
-            boundsCache = shape.getBounds2D();
+        T shape = shape(context, validate);
+        ShapeBounds<T> cache = boundsCache;
+        if (cache == null || cache.shape != shape) {
+            cache = new ShapeBounds<>(shape, shape.getBounds2D());
+            boundsCache = cache;
         }
-        return boundsCache;
+        // Callers may modify the returned rectangle.
+        return cache.bounds.getBounds2D();
     }
 
     @Override
@@ -106,4 +110,14 @@ public class AWTSVGShape<T extends Shape> implements SVGShape {
             return GeometryUtil.isSingleClosedPath(shape);
         }
     }
+
+    private static final class ShapeBounds<T extends Shape> {
+        private final @NotNull T shape;
+        private final @NotNull Rectangle2D bounds;
+
+        private ShapeBounds(@NotNull T shape, @NotNull Rectangle2D bounds) {
+            this.shape = shape;
+            this.bounds = bounds;
+        }
+    }
 }
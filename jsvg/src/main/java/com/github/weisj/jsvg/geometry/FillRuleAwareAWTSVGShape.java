@@ -24,6 +24,7 @@ package com.github.weisj.jsvg.geometry;
 import java.awt.geom.Path2D;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import com.github.weisj.jsvg.attributes.value.Value;
 import com.github.weisj.jsvg.renderer.RenderContext;
@@ -31,6 +32,12 @@ import com.github.weisj.jsvg.renderer.impl.context.RenderContextAccessor;
 
 public final class FillRuleAwareAWTSVGShape extends AWTSVGShape<Path2D> {
 
+    /*
+     * The path may be shared between concurrent renders. Instead of changing its winding rule in place we keep a
+     * copy with the other winding rule around.
+     */
+    private volatile @Nullable WindingRuleVariant windingRuleVariant;
+
     public FillRuleAwareAWTSVGShape(@NotNull Value<Path2D> shape) {
         super(shape);
     }
@@ -38,7 +45,26 @@ public final class FillRuleAwareAWTSVGShape extends AWTSVGShape<Path2D> {
     @Override
     public @NotNull Path2D shape(@NotNull RenderContext context, boolean validate) {
         Path2D shape = super.shape(context, validate);
-        shape.setWindingRule(RenderContextAccessor.instance().fillRule(context).awtWindingRule);
-        return shape;
+        int windingRule = RenderContextAccessor.instance().fillRule(context).awtWindingRule;
+        if (shape.getWindingRule() == windingRule) return shape;
+
+        WindingRuleVariant variant = windingRuleVariant;
+        if (variant == null || variant.source != shape || variant.path.getWindingRule() != windingRule) {
+            Path2D path = new Path2D.Float(shape);
+            path.setWindingRule(windingRule);
+            variant = new WindingRuleVariant(shape, path);
+            windingRuleVariant = variant;
+        }
+        return variant.path;
+    }
+
+    private static final class WindingRuleVariant {
+        private final @NotNull Path2D source;
+        private final @NotNull Path2D path;
+
+        private WindingRuleVariant(@NotNull Path2D source, @NotNull Path2D path) {
+            this.source = source;
+            this.path = path;
+        }
     }
 }
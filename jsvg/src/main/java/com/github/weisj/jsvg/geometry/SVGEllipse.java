@@ -33,7 +33,6 @@ import com.github.weisj.jsvg.renderer.RenderContext;
 
 public final class SVGEllipse implements SVGShape {
 
-    private final @NotNull Ellipse2D.Float ellipse = new Ellipse2D.Float();
     private final @NotNull LengthValue cx;
     private final @NotNull LengthValue cy;
     private final @NotNull LengthValue rx;
@@ -47,24 +46,22 @@ public final class SVGEllipse implements SVGShape {
         this.ry = ry;
     }
 
-    private void validateShape(@NotNull MeasureContext measureContext) {
+    private @NotNull Ellipse2D.Float createShape(@NotNull MeasureContext measureContext) {
         float x = cx.resolve(measureContext);
         float y = cy.resolve(measureContext);
         float rrx = rx.resolve(measureContext);
         float rry = ry.resolve(measureContext);
-        ellipse.setFrame(x - rrx, y - rry, 2 * rrx, 2 * rry);
+        return new Ellipse2D.Float(x - rrx, y - rry, 2 * rrx, 2 * rry);
     }
 
     @Override
     public @NotNull Shape shape(@NotNull RenderContext context, boolean validate) {
-        if (validate) validateShape(context.measureContext());
-        return ellipse;
+        return createShape(context.measureContext());
     }
 
     @Override
     public @NotNull Rectangle2D bounds(@NotNull RenderContext context, boolean validate) {
-        if (validate) validateShape(context.measureContext());
-        return ellipse.getBounds2D();
+        return createShape(context.measureContext()).getBounds2D();
     }
 
     @Override
@@ -32,7 +32,6 @@ import com.github.weisj.jsvg.renderer.RenderContext;
 
 public final class SVGRectangle implements SVGShape {
 
-    private final @NotNull Rectangle2D.Float rect = new Rectangle2D.Float();
     private final @NotNull LengthValue x;
     private final @NotNull LengthValue y;
     private final @NotNull LengthValue w;
@@ -46,8 +45,8 @@ public final class SVGRectangle implements SVGShape {
         this.h = h;
     }
 
-    private void validateShape(@NotNull MeasureContext measureContext) {
-        rect.setRect(
+    private @NotNull Rectangle2D.Float createShape(@NotNull MeasureContext measureContext) {
+        return new Rectangle2D.Float(
                 x.resolve(measureContext),
                 y.resolve(measureContext),
                 w.resolve(measureContext),
@@ -56,14 +55,12 @@ public final class SVGRectangle implements SVGShape {
 
     @Override
     public @NotNull Shape shape(@NotNull RenderContext context, boolean validate) {
-        if (validate) validateShape(context.measureContext());
-        return rect;
+        return createShape(context.measureContext());
     }
 
     @Override
     public @NotNull Rectangle2D bounds(@NotNull RenderContext context, boolean validate) {
-        if (validate) validateShape(context.measureContext());
-        return rect;
+        return createShape(context.measureContext());
     }
 
     @Override
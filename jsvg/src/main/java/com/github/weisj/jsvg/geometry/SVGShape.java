@@ -28,6 +28,10 @@ import org.jetbrains.annotations.NotNull;
 
 import com.github.weisj.jsvg.renderer.RenderContext;
 
+/**
+ * The geometry of a shape element. Instances are shared between all renders of a document, which may happen
+ * concurrently. Implementations therefore must not store state derived from a {@link RenderContext}.
+ */
 public interface SVGShape {
 
     default boolean canBeFilled() {
@@ -21,10 +21,6 @@
  */
 package com.github.weisj.jsvg.geometry.mesh;
 
-import static com.github.weisj.jsvg.geometry.mesh.MeshUtil.p;
-import static com.github.weisj.jsvg.geometry.util.GeometryUtil.distanceSquared;
-import static com.github.weisj.jsvg.geometry.util.GeometryUtil.midPoint;
-
 import java.awt.geom.Path2D;
 import java.awt.geom.Point2D;
 
@@ -52,40 +48,10 @@ public class Bezier {
         return new Bezier(d, c, b, a);
     }
 
-    public @NotNull Split<Bezier> split() {
-        Point2D.Float ab = midPoint(a, b);
-        Point2D.Float bc = midPoint(b, c);
-        Point2D.Float cd = midPoint(c, d);
-        Point2D.Float abbc = midPoint(ab, bc);
-        Point2D.Float bccd = midPoint(bc, cd);
-        Point2D.Float abbcbccd = midPoint(abbc, bccd);
-        return new Split<>(
-                new Bezier(a, ab, abbc, abbcbccd),
-                new Bezier(abbcbccd, bccd, cd, d));
-    }
-
     public static @NotNull Bezier straightLine(Point2D.Float a, Point2D.Float b) {
         return new LineBezier(a, b);
     }
 
-    public static @NotNull Bezier combine(@NotNull Bezier b1, @NotNull Bezier b2, @NotNull Bezier b3) {
-        return new Bezier(
-                p(b1.a.x + b2.a.x - b3.a.x, b1.a.y + b2.a.y - b3.a.y),
-                p(b1.b.x + b2.b.x - b3.b.x, b1.b.y + b2.b.y - b3.b.y),
-                p(b1.c.x + b2.c.x - b3.c.x, b1.c.y + b2.c.y - b3.c.y),
-                p(b1.d.x + b2.d.x - b3.d.x, b1.d.y + b2.d.y - b3.d.y));
-    }
-
-    public int estimateStepCount(float scaleX, float scaleY) {
-        double steps = Math.max(
-                Math.max(distanceSquared(a, b, scaleX, scaleY), distanceSquared(c, d, scaleX, scaleY)),
-                Math.max(distanceSquared(a, c, scaleX, scaleY) / 4, distanceSquared(b, d, scaleX, scaleY) / 4));
-        steps *= 18;
-        steps = Math.max(1, steps);
-        return (Math.getExponent(steps) + 1) / 2;
-    }
-
-
     @Override
     public String toString() {
         return "Bezier{" +
@@ -1,48 +0,0 @@
-/*
- * MIT License
- *
- * Copyright (c) 2021-2023 Jannis Weis
- *
- * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
- * associated documentation files (the "Software"), to deal in the Software without restriction,
- * including without limitation the rights to use, copy, modify, merge, publish, distribute,
- * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
- * furnished to do so, subject to the following conditions:
- *
- * The above copyright notice and this permission notice shall be included in all copies or
- * substantial portions of the Software.
- *
- * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
- * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
- * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
- * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
- * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
- *
- */
-package com.github.weisj.jsvg.geometry.mesh;
-
-import java.awt.geom.Point2D;
-
-public final class CoonValues {
-    public final Point2D.Float north;
-    public final Point2D.Float east;
-    public final Point2D.Float south;
-    public final Point2D.Float west;
-
-    public CoonValues(Point2D.Float north, Point2D.Float east, Point2D.Float south, Point2D.Float west) {
-        this.north = north;
-        this.east = east;
-        this.south = south;
-        this.west = west;
-    }
-
-    @Override
-    public String toString() {
-        return "CoonValues{" +
-                "north=" + north +
-                ", east=" + east +
-                ", south=" + south +
-                ", west=" + west +
-                '}';
-    }
-}
@@ -28,8 +28,6 @@ import java.awt.geom.Point2D;
 
 import org.jetbrains.annotations.NotNull;
 
-import com.github.weisj.jsvg.geometry.util.GeometryUtil;
-
 final class LineBezier extends Bezier {
 
     LineBezier(@NotNull Point2D.Float a, @NotNull Point2D.Float b) {
@@ -40,10 +38,4 @@ final class LineBezier extends Bezier {
     public void appendTo(@NotNull Path2D p) {
         p.lineTo(d.x, d.y);
     }
-
-    @Override
-    public @NotNull Split<Bezier> split() {
-        Point2D.Float mid = GeometryUtil.midPoint(a, d);
-        return new Split<>(new LineBezier(a, mid), new LineBezier(mid, d));
-    }
 }
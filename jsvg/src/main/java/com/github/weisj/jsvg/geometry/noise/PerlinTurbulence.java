@@ -22,7 +22,11 @@
 package com.github.weisj.jsvg.geometry.noise;
 
 import java.awt.geom.Rectangle2D;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /*
@@ -49,8 +53,18 @@ public final class PerlinTurbulence {
     private static final int BM = 0xff;
     private static final double PerlinN = 0x1000;
 
+    private static final int MAX_CACHED_INSTANCES = 16;
+    private static final Map<Key, PerlinTurbulence> CACHE =
+            new LinkedHashMap<Key, PerlinTurbulence>(MAX_CACHED_INSTANCES, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, PerlinTurbulence> eldest) {
+                    return size() > MAX_CACHED_INSTANCES;
+                }
+            };
+
     private final int[] uLatticeSelector = new int[BSize + 1];
     private final double[] fGradient = new double[(BSize + 1) * 8];
+    private final float[] fGradientFloat = new float[(BSize + 1) * 8];
     private final int numOctaves;
     private final double xFrequency;
     private final double yFrequency;
@@ -60,9 +74,38 @@ public final class PerlinTurbulence {
         this.xFrequency = xFrequency;
         this.yFrequency = yFrequency;
         init(seed);
+        for (int i = 0; i < fGradient.length; i++) {
+            fGradientFloat[i] = (float) fGradient[i];
+        }
+    }
+
+    /**
+     * Returns a shared instance for the given parameters. Initializing the lattice is costly compared to evaluating
+     * the noise for small images, hence instances are cached. Instances are immutable and can be used from multiple
+     * threads as long as every thread passes its own channel arrays and {@link StitchInfo}.
+     *
+     * @param seed the seed of the random number generator.
+     * @param numOctaves the number of octaves.
+     * @param xFrequency the base frequency in x direction.
+     * @param yFrequency the base frequency in y direction.
+     * @return the turbulence.
+     */
+    public static @NotNull PerlinTurbulence cached(int seed, int numOctaves, double xFrequency, double yFrequency) {
+        Key key = new Key(seed, numOctaves, xFrequency, yFrequency);
+        synchronized (CACHE) {
+            PerlinTurbulence turbulence = CACHE.get(key);
+            if (turbulence != null) return turbulence;
+        }
+        PerlinTurbulence turbulence = new PerlinTurbulence(seed, numOctaves, xFrequency, yFrequency);
+        synchronized (CACHE) {
+            CACHE.put(key, turbulence);
+        }
+        return turbulence;
     }
 
     public static final class StitchInfo {
+        private double frequencyX;
+        private double frequencyY;
         private int width;
         private int height;
         private int wrapX;
@@ -133,20 +176,13 @@ public final class PerlinTurbulence {
         return a + t * (b - a);
     }
 
-    private void noise2(double[] noiseChannels, double vec0, double vec1, @Nullable StitchInfo stitchInfo) {
-        double t = vec0 + PerlinN;
-        int bx0 = (int) t;
+    /*
+     * Selects the gradients at the corners of the lattice cell, whose lower corner is given. The gradient offsets of
+     * the corners (x0, y0), (x1, y0), (x0, y1) and (x1, y1) are packed into the bytes of the result in this order.
+     */
+    private int latticeCell(int bx0, int by0, @Nullable StitchInfo stitchInfo) {
         int bx1 = bx0 + 1;
-        final double rx0 = t - bx0;
-        final double rx1 = rx0 - 1.0f;
-        final double sx = curve(rx0);
-
-        t = vec1 + PerlinN;
-        int by0 = (int) t;
         int by1 = by0 + 1;
-        final double ry0 = t - (int) t;
-        final double ry1 = ry0 - 1.0f;
-        final double sy = curve(ry0);
 
         // If stitching, adjust lattice points accordingly.
         if (stitchInfo != null) {
@@ -169,10 +205,30 @@ public final class PerlinTurbulence {
         final int i = uLatticeSelector[bx0];
         final int j = uLatticeSelector[bx1];
 
-        final int b00 = ((i + by0) & BM) << 3;
-        final int b10 = ((j + by0) & BM) << 3;
-        final int b01 = ((i + by1) & BM) << 3;
-        final int b11 = ((j + by1) & BM) << 3;
+        return ((i + by0) & BM)
+                | (((j + by0) & BM) << 8)
+                | (((i + by1) & BM) << 16)
+                | (((j + by1) & BM) << 24);
+    }
+
+    private void noise2(double[] noiseChannels, double vec0, double vec1, @Nullable StitchInfo stitchInfo) {
+        double t = vec0 + PerlinN;
+        int bx0 = (int) t;
+        final double rx0 = t - bx0;
+        final double rx1 = rx0 - 1.0f;
+        final double sx = curve(rx0);
+
+        t = vec1 + PerlinN;
+        int by0 = (int) t;
+        final double ry0 = t - by0;
+        final double ry1 = ry0 - 1.0f;
+        final double sy = curve(ry0);
+
+        final int cell = latticeCell(bx0, by0, stitchInfo);
+        final int b00 = (cell & BM) << 3;
+        final int b10 = ((cell >>> 8) & BM) << 3;
+        final int b01 = ((cell >>> 16) & BM) << 3;
+        final int b11 = (cell >>> 24) << 3;
 
         for (int channelIndex = 0; channelIndex < noiseChannels.length; channelIndex++) {
             int offset = 2 * channelIndex;
@@ -187,29 +243,64 @@ public final class PerlinTurbulence {
         }
     }
 
+    private void noise2(float[] noiseChannels, double vec0, double vec1, @Nullable StitchInfo stitchInfo) {
+        // The lattice coordinates are split off in double precision, such that large coordinates don't lose the
+        // precision of the fractional part.
+        double t = vec0 + PerlinN;
+        int bx0 = (int) t;
+        final float rx0 = (float) (t - bx0);
+        final float rx1 = rx0 - 1.0f;
+        final float sx = rx0 * rx0 * (3f - 2f * rx0);
+
+        t = vec1 + PerlinN;
+        int by0 = (int) t;
+        final float ry0 = (float) (t - by0);
+        final float ry1 = ry0 - 1.0f;
+        final float sy = ry0 * ry0 * (3f - 2f * ry0);
+
+        final int cell = latticeCell(bx0, by0, stitchInfo);
+        final int b00 = (cell & BM) << 3;
+        final int b10 = ((cell >>> 8) & BM) << 3;
+        final int b01 = ((cell >>> 16) & BM) << 3;
+        final int b11 = (cell >>> 24) << 3;
+
+        final float[] g = fGradientFloat;
+        for (int channelIndex = 0; channelIndex < noiseChannels.length; channelIndex++) {
+            int offset = 2 * channelIndex;
+            float u0 = rx0 * g[b00 + offset] + ry0 * g[b00 + offset + 1];
+            float v0 = rx1 * g[b10 + offset] + ry0 * g[b10 + offset + 1];
+            float u1 = rx0 * g[b01 + offset] + ry1 * g[b01 + offset + 1];
+            float v1 = rx1 * g[b11 + offset] + ry1 * g[b11 + offset + 1];
+            float a = u0 + sx * (v0 - u0);
+            float b = u1 + sx * (v1 - u1);
+            noiseChannels[channelIndex] = a + sy * (b - a);
+        }
+    }
+
+    /**
+     * Computes the turbulence at the given point.
+     *
+     * @param turbulenceChannels the array of length 4 the rgba values in the range [0, 255] are written to.
+     * @param pointX the x coordinate.
+     * @param pointY the y coordinate.
+     * @param fractalSum whether to compute fractal noise instead of turbulence.
+     * @param stitchInfo scratch space for stitching. Must be non-null if the tile is non-null.
+     * @param tile the tile to stitch or null if tiles shouldn't be stitched.
+     */
     public void turbulence(double[] turbulenceChannels, double pointX, double pointY,
             boolean fractalSum, @Nullable StitchInfo stitchInfo, @Nullable Rectangle2D.Double tile) {
         double baseFrequencyX = xFrequency;
         double baseFrequencyY = yFrequency;
         if (stitchInfo != null) {
-            assert tile != null;
-            if (baseFrequencyX != 0) {
-                baseFrequencyX = adjustFrequency(baseFrequencyX, tile.width);
-            }
-            if (baseFrequencyY != 0) {
-                baseFrequencyY = adjustFrequency(baseFrequencyY, tile.height);
-            }
-
-            stitchInfo.width = (int) (tile.width * baseFrequencyX + 0.5f);
-            stitchInfo.wrapX = (int) (tile.x * baseFrequencyX + PerlinN + stitchInfo.width);
-
-            stitchInfo.height = (int) (tile.height * baseFrequencyY + 0.5f);
-            stitchInfo.wrapY = (int) (tile.y * baseFrequencyY + PerlinN + stitchInfo.height);
+            setupStitchInfo(stitchInfo, Objects.requireNonNull(tile));
+            baseFrequencyX = stitchInfo.frequencyX;
+            baseFrequencyY = stitchInfo.frequencyY;
         }
 
-        final double[] fSum = fractalSum
-                ? new double[] {127.5, 127.5, 127.5, 127.5}
-                : new double[] {0, 0, 0, 0};
+        double sum0 = fractalSum ? 127.5 : 0;
+        double sum1 = sum0;
+        double sum2 = sum0;
+        double sum3 = sum0;
 
         double vec0 = pointX * baseFrequencyX;
         double vec1 = pointY * baseFrequencyY;
@@ -219,31 +310,115 @@ public final class PerlinTurbulence {
         for (int nOctave = 0; nOctave < numOctaves; nOctave++) {
             noise2(turbulenceChannels, vec0, vec1, stitchInfo);
             if (fractalSum) {
-                for (int i = 0; i < turbulenceChannels.length; i++) {
-                    fSum[i] += turbulenceChannels[i] * ratio;
-                }
+                sum0 += turbulenceChannels[0] * ratio;
+                sum1 += turbulenceChannels[1] * ratio;
+                sum2 += turbulenceChannels[2] * ratio;
+                sum3 += turbulenceChannels[3] * ratio;
             } else {
-                for (int i = 0; i < turbulenceChannels.length; i++) {
-                    fSum[i] += Math.abs(turbulenceChannels[i]) * ratio;
-                }
+                sum0 += Math.abs(turbulenceChannels[0]) * ratio;
+                sum1 += Math.abs(turbulenceChannels[1]) * ratio;
+                sum2 += Math.abs(turbulenceChannels[2]) * ratio;
+                sum3 += Math.abs(turbulenceChannels[3]) * ratio;
             }
             vec0 *= 2;
             vec1 *= 2;
             ratio *= 0.5;
-            if (stitchInfo != null) {
-                // Update stitch values. Subtracting PerlinN before the multiplication and
-                // adding it afterward simplifies to subtracting it once.
-                stitchInfo.width *= 2;
-                stitchInfo.wrapX *= 2;
-                stitchInfo.wrapX += (int) PerlinN;
-
-                stitchInfo.height *= 2;
-                stitchInfo.wrapY *= 2;
-                stitchInfo.wrapY += (int) PerlinN;
+            if (stitchInfo != null) advanceStitchInfo(stitchInfo);
+        }
+
+        turbulenceChannels[0] = sum0;
+        turbulenceChannels[1] = sum1;
+        turbulenceChannels[2] = sum2;
+        turbulenceChannels[3] = sum3;
+    }
+
+    /**
+     * Computes the turbulence at the given point in single precision, which is faster to compute and sufficient for
+     * display purposes. The channel values differ from the double precision variant by less than 0.002, hence they
+     * differ by at most one code value after truncation.
+     *
+     * @param turbulenceChannels the array of length 4 the rgba values in the range [0, 255] are written to.
+     * @param pointX the x coordinate.
+     * @param pointY the y coordinate.
+     * @param fractalSum whether to compute fractal noise instead of turbulence.
+     * @param stitchInfo scratch space for stitching. Must be non-null if the tile is non-null.
+     * @param tile the tile to stitch or null if tiles shouldn't be stitched.
+     * @see #turbulence(double[], double, double, boolean, StitchInfo, Rectangle2D.Double)
+     */
+    public void turbulence(float[] turbulenceChannels, double pointX, double pointY,
+            boolean fractalSum, @Nullable StitchInfo stitchInfo, @Nullable Rectangle2D.Double tile) {
+        double baseFrequencyX = xFrequency;
+        double baseFrequencyY = yFrequency;
+        if (stitchInfo != null) {
+            setupStitchInfo(stitchInfo, Objects.requireNonNull(tile));
+            baseFrequencyX = stitchInfo.frequencyX;
+            baseFrequencyY = stitchInfo.frequencyY;
+        }
+
+        float sum0 = fractalSum ? 127.5f : 0;
+        float sum1 = sum0;
+        float sum2 = sum0;
+        float sum3 = sum0;
+
+        double vec0 = pointX * baseFrequencyX;
+        double vec1 = pointY * baseFrequencyY;
+
+        float ratio = fractalSum ? 127.5f : 255;
+
+        for (int nOctave = 0; nOctave < numOctaves; nOctave++) {
+            noise2(turbulenceChannels, vec0, vec1, stitchInfo);
+            if (fractalSum) {
+                sum0 += turbulenceChannels[0] * ratio;
+                sum1 += turbulenceChannels[1] * ratio;
+                sum2 += turbulenceChannels[2] * ratio;
+                sum3 += turbulenceChannels[3] * ratio;
+            } else {
+                sum0 += Math.abs(turbulenceChannels[0]) * ratio;
+                sum1 += Math.abs(turbulenceChannels[1]) * ratio;
+                sum2 += Math.abs(turbulenceChannels[2]) * ratio;
+                sum3 += Math.abs(turbulenceChannels[3]) * ratio;
             }
+            vec0 *= 2;
+            vec1 *= 2;
+            ratio *= 0.5f;
+            if (stitchInfo != null) advanceStitchInfo(stitchInfo);
+        }
+
+        turbulenceChannels[0] = sum0;
+        turbulenceChannels[1] = sum1;
+        turbulenceChannels[2] = sum2;
+        turbulenceChannels[3] = sum3;
+    }
+
+    private void setupStitchInfo(@NotNull StitchInfo stitchInfo, @NotNull Rectangle2D.Double tile) {
+        double baseFrequencyX = xFrequency;
+        double baseFrequencyY = yFrequency;
+        if (baseFrequencyX != 0) {
+            baseFrequencyX = adjustFrequency(baseFrequencyX, tile.width);
+        }
+        if (baseFrequencyY != 0) {
+            baseFrequencyY = adjustFrequency(baseFrequencyY, tile.height);
         }
+        stitchInfo.frequencyX = baseFrequencyX;
+        stitchInfo.frequencyY = baseFrequencyY;
 
-        System.arraycopy(fSum, 0, turbulenceChannels, 0, fSum.length);
+        stitchInfo.width = (int) (tile.width * baseFrequencyX + 0.5f);
+        stitchInfo.wrapX = (int) (tile.x * baseFrequencyX + PerlinN + stitchInfo.width);
+
+        stitchInfo.height = (int) (tile.height * baseFrequencyY + 0.5f);
+        stitchInfo.wrapY = (int) (tile.y * baseFrequencyY + PerlinN + stitchInfo.height);
+    }
+
+    private static void advanceStitchInfo(@NotNull StitchInfo stitchInfo) {
+        // Update stitch values. Subtracting PerlinN before the multiplication and
+        // adding it afterward simplifies to subtracting it once.
+        stitchInfo.width *= 2;
+        stitchInfo.wrapX *= 2;
+        stitchInfo.wrapX -= (int) PerlinN;
+
+        stitchInfo.height *= 2;
+        stitchInfo.wrapY *= 2;
+        stitchInfo.wrapY -= (int) PerlinN;
     }
 
     private double adjustFrequency(double frequency, double tileSize) {
@@ -255,4 +430,34 @@ public final class PerlinTurbulence {
             return fHiFreq;
         }
     }
+
+    private static final class Key {
+        private final int seed;
+        private final int numOctaves;
+        private final double xFrequency;
+        private final double yFrequency;
+
+        private Key(int seed, int numOctaves, double xFrequency, double yFrequency) {
+            this.seed = seed;
+            this.numOctaves = numOctaves;
+            this.xFrequency = xFrequency;
+            this.yFrequency = yFrequency;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return seed == key.seed
+                    && numOctaves == key.numOctaves
+                    && Double.compare(xFrequency, key.xFrequency) == 0
+                    && Double.compare(yFrequency, key.yFrequency) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(seed, numOctaves, xFrequency, yFrequency);
+        }
+    }
 }
@@ -21,6 +21,8 @@
  */
 package com.github.weisj.jsvg.geometry.path;
 
+import java.awt.geom.Path2D;
+import java.awt.geom.Point2D;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -32,7 +34,8 @@ import com.github.weisj.jsvg.logging.impl.LogFactory;
 import com.github.weisj.jsvg.util.ParserBase;
 
 /**
- * A helper for parsing {@link PathCommand}s.
+ * A helper for parsing {@link PathCommand}s. Use {@link #parsePathInto(Path2D)} if only the resulting path is needed,
+ * which doesn't create any intermediate command objects.
  *
  * @author Jannis Weis
  */
@@ -68,6 +71,14 @@ public final class PathParser extends ParserBase {
         }
     }
 
+    private void checkImplicitCommand() {
+        // A close path command doesn't take any arguments and hence can't be repeated implicitly.
+        // Otherwise, we would never make progress.
+        if (currentCommand == 'Z' || currentCommand == 'z') {
+            throw new IllegalArgumentException("Unexpected arguments after close path " + currentLocation());
+        }
+    }
+
     public @NotNull BezierPathCommand parseMeshCommand() {
         char peekChar = peek();
         currentCommand = 'z';
@@ -103,6 +114,171 @@ public final class PathParser extends ParserBase {
         return commands.toArray(new PathCommand[0]);
     }
 
+    /**
+     * Parses the path data and appends the segments directly to the given path. The resulting path is identical to
+     * the one obtained by appending all commands returned by {@link #parsePathCommand()}.
+     *
+     * @param path the path to append the segments to.
+     */
+    public void parsePathInto(@NotNull Path2D path) {
+        if ("none".equals(input)) return;
+        try {
+            parseSegmentsInto(path);
+        } catch (Exception e) {
+            LOGGER.log(Level.INFO, "Error parsing path command: " + e.getMessage());
+        }
+    }
+
+    private void parseSegmentsInto(@NotNull Path2D path) {
+        currentCommand = 'Z';
+        boolean isEmpty = true;
+        // Mirrors the state kept in BuildHistory.
+        float startX = 0;
+        float startY = 0;
+        float lastX = 0;
+        float lastY = 0;
+        float cubicKnotX = 0;
+        float cubicKnotY = 0;
+        float quadraticKnotX = 0;
+        float quadraticKnotY = 0;
+        while (hasNext()) {
+            char peekChar = peek();
+            if (isCommandChar(peekChar)) {
+                consume();
+                currentCommand = peekChar;
+            } else if (!isEmpty) {
+                checkImplicitCommand();
+            }
+            consumeWhiteSpaceOrSeparator();
+
+            if (currentCommand != 'M' && currentCommand != 'm' && isEmpty) {
+                throw new IllegalArgumentException("Path must start with a move command " + currentLocation());
+            }
+            isEmpty = false;
+
+            boolean relative = Character.isLowerCase(currentCommand);
+            float offsetX = relative ? lastX : 0;
+            float offsetY = relative ? lastY : 0;
+            switch (currentCommand) {
+                case 'M':
+                case 'm': {
+                    float x = nextFloat() + offsetX;
+                    float y = nextFloat() + offsetY;
+                    path.moveTo(x, y);
+                    startX = lastX = cubicKnotX = quadraticKnotX = x;
+                    startY = lastY = cubicKnotY = quadraticKnotY = y;
+                    currentCommand = relative ? 'l' : 'L';
+                    break;
+                }
+                case 'L':
+                case 'l': {
+                    float x = nextFloat() + offsetX;
+                    float y = nextFloat() + offsetY;
+                    path.lineTo(x, y);
+                    lastX = cubicKnotX = quadraticKnotX = x;
+                    lastY = cubicKnotY = quadraticKnotY = y;
+                    break;
+                }
+                case 'H':
+                case 'h': {
+                    float x = nextFloat() + offsetX;
+                    path.lineTo(x, lastY);
+                    lastX = cubicKnotX = quadraticKnotX = x;
+                    cubicKnotY = quadraticKnotY = lastY;
+                    break;
+                }
+                case 'V':
+                case 'v': {
+                    float y = nextFloat() + offsetY;
+                    path.lineTo(lastX, y);
+                    lastY = cubicKnotY = quadraticKnotY = y;
+                    cubicKnotX = quadraticKnotX = lastX;
+                    break;
+                }
+                case 'A':
+                case 'a': {
+                    float rx = nextFloat();
+                    float ry = nextFloat();
+                    float xAxisRot = nextFloat();
+                    boolean largeArc = nextFlag();
+                    boolean sweep = nextFlag();
+                    float x = nextFloat() + offsetX;
+                    float y = nextFloat() + offsetY;
+                    Arc.arcTo(path, rx, ry, xAxisRot, largeArc, sweep, x, y, lastX, lastY);
+                    // The end point of the appended curves may differ slightly from the requested one.
+                    Point2D current = path.getCurrentPoint();
+                    lastX = cubicKnotX = quadraticKnotX = (float) current.getX();
+                    lastY = cubicKnotY = quadraticKnotY = (float) current.getY();
+                    break;
+                }
+                case 'Q':
+                case 'q': {
+                    float kx = nextFloat() + offsetX;
+                    float ky = nextFloat() + offsetY;
+                    float x = nextFloat() + offsetX;
+                    float y = nextFloat() + offsetY;
+                    path.quadTo(kx, ky, x, y);
+                    lastX = cubicKnotX = x;
+                    lastY = cubicKnotY = y;
+                    quadraticKnotX = kx;
+                    quadraticKnotY = ky;
+                    break;
+                }
+                case 'T':
+                case 't': {
+                    float kx = lastX * 2f - quadraticKnotX;
+                    float ky = lastY * 2f - quadraticKnotY;
+                    float x = nextFloat() + offsetX;
+                    float y = nextFloat() + offsetY;
+                    path.quadTo(kx, ky, x, y);
+                    lastX = cubicKnotX = x;
+                    lastY = cubicKnotY = y;
+                    quadraticKnotX = kx;
+                    quadraticKnotY = ky;
+                    break;
+                }
+                case 'C':
+                case 'c': {
+                    float k1x = nextFloat() + offsetX;
+                    float k1y = nextFloat() + offsetY;
+                    float k2x = nextFloat() + offsetX;
+                    float k2y = nextFloat() + offsetY;
+                    float x = nextFloat() + offsetX;
+                    float y = nextFloat() + offsetY;
+                    path.curveTo(k1x, k1y, k2x, k2y, x, y);
+                    lastX = quadraticKnotX = x;
+                    lastY = quadraticKnotY = y;
+                    cubicKnotX = k2x;
+                    cubicKnotY = k2y;
+                    break;
+                }
+                case 'S':
+                case 's': {
+                    float k1x = lastX * 2f - cubicKnotX;
+                    float k1y = lastY * 2f - cubicKnotY;
+                    float k2x = nextFloat() + offsetX;
+                    float k2y = nextFloat() + offsetY;
+                    float x = nextFloat() + offsetX;
+                    float y = nextFloat() + offsetY;
+                    path.curveTo(k1x, k1y, k2x, k2y, x, y);
+                    lastX = quadraticKnotX = x;
+                    lastY = quadraticKnotY = y;
+                    cubicKnotX = k2x;
+                    cubicKnotY = k2y;
+                    break;
+                }
+                case 'Z':
+                case 'z':
+                    path.closePath();
+                    lastX = cubicKnotX = quadraticKnotX = startX;
+                    lastY = cubicKnotY = quadraticKnotY = startY;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Invalid path element " + currentCommand + currentLocation());
+            }
+        }
+    }
+
     private void parsePathCommandInto(List<PathCommand> commands) {
         currentCommand = 'Z';
         while (hasNext()) {
@@ -110,6 +286,8 @@ public final class PathParser extends ParserBase {
             if (isCommandChar(peekChar)) {
                 consume();
                 currentCommand = peekChar;
+            } else if (!commands.isEmpty()) {
+                checkImplicitCommand();
             }
             consumeWhiteSpaceOrSeparator();
 
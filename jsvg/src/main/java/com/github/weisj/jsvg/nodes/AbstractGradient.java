@@ -53,7 +53,7 @@ abstract class AbstractGradient<Self extends AbstractGradient<Self>> extends Con
     private @NotNull Color[] colors;
     private Percentage[] offsets;
 
-    private float[] tmpFractions;
+    private volatile float[] tmpFractions;
 
     public final Percentage[] offsets() {
         return offsets;
@@ -205,13 +205,16 @@ abstract class AbstractGradient<Self extends AbstractGradient<Self>> extends Con
 
     protected float[] offsetsToFractions(Percentage[] gradOffsets) {
         // NOTE: We need to recompute the fractions if a stop is animated.
-        if (tmpFractions == null || tmpFractions.length != gradOffsets.length) {
-            tmpFractions = new float[gradOffsets.length];
-            for (int i = 0; i < tmpFractions.length; i++) {
-                tmpFractions[i] = gradOffsets[i].value();
+        float[] fractions = tmpFractions;
+        if (fractions == null || fractions.length != gradOffsets.length) {
+            // Only publish the array once it is fully initialized, as gradients may be painted concurrently.
+            fractions = new float[gradOffsets.length];
+            for (int i = 0; i < fractions.length; i++) {
+                fractions[i] = gradOffsets[i].value();
             }
+            tmpFractions = fractions;
         }
-        return tmpFractions;
+        return fractions;
     }
 
     protected abstract @NotNull Paint gradientForBounds(@NotNull MeasureContext measure, @NotNull Rectangle2D bounds,
@@ -33,6 +33,7 @@ import com.github.weisj.jsvg.attributes.value.ConstantFloatList;
 import com.github.weisj.jsvg.attributes.value.ConstantValue;
 import com.github.weisj.jsvg.attributes.value.FloatListValue;
 import com.github.weisj.jsvg.geometry.*;
+import com.github.weisj.jsvg.parser.impl.AttributeKey;
 import com.github.weisj.jsvg.parser.impl.AttributeNode;
 import com.github.weisj.jsvg.util.PathUtil;
 
@@ -40,7 +41,7 @@ public abstract class AbstractPolyShape extends ShapeNode {
 
     @Override
     protected final @NotNull SVGShape buildShape(@NotNull AttributeNode attributeNode) {
-        FloatListValue points = attributeNode.getFloatList("points", Inherited.NO, Animatable.YES);
+        FloatListValue points = attributeNode.getFloatList(AttributeKey.POINTS, Inherited.NO, Animatable.YES);
         if (points instanceof AnimatedFloatList) {
             return new FillRuleAwareAWTSVGShape(new AnimatedPath((AnimatedFloatList) points, doClose()));
         }
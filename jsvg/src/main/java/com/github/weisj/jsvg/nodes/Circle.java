@@ -32,6 +32,7 @@ import com.github.weisj.jsvg.geometry.size.Length;
 import com.github.weisj.jsvg.nodes.prototype.spec.Category;
 import com.github.weisj.jsvg.nodes.prototype.spec.ElementCategories;
 import com.github.weisj.jsvg.nodes.prototype.spec.PermittedContent;
+import com.github.weisj.jsvg.parser.impl.AttributeKey;
 import com.github.weisj.jsvg.parser.impl.AttributeNode;
 
 @ElementCategories({Category.BasicShape, Category.Graphic, Category.Shape})
@@ -47,11 +48,11 @@ public final class Circle extends ShapeNode {
     @Override
     protected @NotNull SVGShape buildShape(@NotNull AttributeNode attributeNode) {
         return new SVGCircle(
-                attributeNode.getLength("cx", PercentageDimension.WIDTH, Length.ZERO,
+                attributeNode.getLength(AttributeKey.CX, PercentageDimension.WIDTH, Length.ZERO,
                         Inherited.NO, Animatable.YES),
-                attributeNode.getLength("cy", PercentageDimension.HEIGHT, Length.ZERO,
+                attributeNode.getLength(AttributeKey.CY, PercentageDimension.HEIGHT, Length.ZERO,
                         Inherited.NO, Animatable.YES),
-                attributeNode.getLength("r", PercentageDimension.LENGTH, Length.ZERO,
+                attributeNode.getLength(AttributeKey.R, PercentageDimension.LENGTH, Length.ZERO,
                         Inherited.NO, Animatable.YES));
     }
 }
@@ -23,6 +23,7 @@ package com.github.weisj.jsvg.nodes;
 
 import java.awt.*;
 import java.awt.geom.*;
+import java.awt.image.BufferedImage;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -55,7 +56,7 @@ public final class ClipPath extends ContainerNode implements ShapedContainer<SVG
     public static final String TAG = "clippath";
 
     private final CachedSurfaceSupplier surfaceSupplier =
-            new CachedSurfaceSupplier(ImageUtil::createLuminosityBuffer);
+            new CachedSurfaceSupplier(ImageUtil::createLuminosityBuffer, BufferedImage.TYPE_BYTE_GRAY);
     private boolean isValid;
 
     private UnitType clipPathUnits;
@@ -108,7 +109,7 @@ public final class ClipPath extends ContainerNode implements ShapedContainer<SVG
 
         boolean useCache = surfaceSupplier.useCache(output, context);
         BlittableImage blitImage = BlittableImage.create(
-                surfaceSupplier.surfaceSupplier(useCache), context, output.clipBounds(),
+                surfaceSupplier.surfaceSupplier(output, useCache), context, output.clipBounds(),
                 transformedClipBounds.createIntersection(elementBounds.geometryBox()),
                 elementBounds.boundingBox(), clipPathUnits);
 
@@ -126,7 +127,7 @@ public final class ClipPath extends ContainerNode implements ShapedContainer<SVG
 
         Point2D offset = GeometryUtil.getLocation(blitImage.imageBoundsInDeviceSpace());
         return new MaskedPaint(PaintParser.DEFAULT_COLOR, blitImage.image().getRaster(), offset,
-                surfaceSupplier.resourceCleaner(output, useCache));
+                surfaceSupplier.resourceCleaner(output, blitImage.image()));
     }
 
     public void applyClip(@NotNull Output output, @NotNull RenderContext context,
@@ -33,6 +33,7 @@ import com.github.weisj.jsvg.geometry.size.Length;
 import com.github.weisj.jsvg.nodes.prototype.spec.Category;
 import com.github.weisj.jsvg.nodes.prototype.spec.ElementCategories;
 import com.github.weisj.jsvg.nodes.prototype.spec.PermittedContent;
+import com.github.weisj.jsvg.parser.impl.AttributeKey;
 import com.github.weisj.jsvg.parser.impl.AttributeNode;
 import com.github.weisj.jsvg.util.AttributeUtil;
 
@@ -48,7 +49,7 @@ public final class Ellipse extends ShapeNode {
 
     @Override
     protected @NotNull SVGShape buildShape(@NotNull AttributeNode node) {
-        AttributeUtil.AxisPair radius = AttributeUtil.parseAxisPair(node, "rx", "ry",
+        AttributeUtil.AxisPair radius = AttributeUtil.parseAxisPair(node, AttributeKey.RX, AttributeKey.RY,
                 Length.ZERO, Inherited.NO,
                 v -> {
                     if (!v.isConstantlyNonNegative()) return null;
@@ -58,8 +59,8 @@ public final class Ellipse extends ShapeNode {
         LengthValue ry = radius.yAxis();
 
         return new SVGEllipse(
-                node.getLength("cx", PercentageDimension.WIDTH, Length.ZERO, Inherited.NO, Animatable.YES),
-                node.getLength("cy", PercentageDimension.HEIGHT, Length.ZERO, Inherited.NO, Animatable.YES),
+                node.getLength(AttributeKey.CX, PercentageDimension.WIDTH, Length.ZERO, Inherited.NO, Animatable.YES),
+                node.getLength(AttributeKey.CY, PercentageDimension.HEIGHT, Length.ZERO, Inherited.NO, Animatable.YES),
                 rx,
                 ry);
     }
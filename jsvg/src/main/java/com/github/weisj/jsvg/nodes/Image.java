@@ -65,7 +65,7 @@ public final class Image extends RenderableSVGNode {
     private PreserveAspectRatio preserveAspectRatio;
     private Overflow overflow;
 
-    private ResourceSupplier<RenderableResource> imgResource;
+    private volatile ResourceSupplier<RenderableResource> imgResource;
 
 
     @Override
@@ -103,11 +103,12 @@ public final class Image extends RenderableSVGNode {
     }
 
     private @Nullable RenderableResource fetchImage(@NotNull RenderContext context) {
-        if (imgResource == null) return null;
-        if (imgResource instanceof ValueResourceSupplier) {
-            return ((ValueResourceSupplier<RenderableResource>) imgResource).get();
+        ResourceSupplier<RenderableResource> supplier = imgResource;
+        if (supplier == null) return null;
+        if (supplier instanceof ValueResourceSupplier) {
+            return ((ValueResourceSupplier<RenderableResource>) supplier).get();
         }
-        Optional<@Nullable RenderableResource> optionalResource = imgResource.get(context.platformSupport());
+        Optional<@Nullable RenderableResource> optionalResource = supplier.get(context.platformSupport());
         if (!optionalResource.isPresent()) return null;
         RenderableResource resource = optionalResource.get();
         imgResource = new ValueResourceSupplier<>(resource);
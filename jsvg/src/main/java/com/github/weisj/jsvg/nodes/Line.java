@@ -29,6 +29,7 @@ import com.github.weisj.jsvg.geometry.SVGShape;
 import com.github.weisj.jsvg.nodes.prototype.spec.Category;
 import com.github.weisj.jsvg.nodes.prototype.spec.ElementCategories;
 import com.github.weisj.jsvg.nodes.prototype.spec.PermittedContent;
+import com.github.weisj.jsvg.parser.impl.AttributeKey;
 import com.github.weisj.jsvg.parser.impl.AttributeNode;
 
 @ElementCategories({Category.BasicShape, Category.Graphic, Category.Shape})
@@ -44,9 +45,9 @@ public final class Line extends ShapeNode {
     @Override
     protected @NotNull SVGShape buildShape(@NotNull AttributeNode attributeNode) {
         return new SVGLine(
-                attributeNode.getLength("x1", PercentageDimension.WIDTH, 0),
-                attributeNode.getLength("y1", PercentageDimension.HEIGHT, 0),
-                attributeNode.getLength("x2", PercentageDimension.WIDTH, 0),
-                attributeNode.getLength("y2", PercentageDimension.HEIGHT, 0));
+                attributeNode.getLength(AttributeKey.X1, PercentageDimension.WIDTH, 0),
+                attributeNode.getLength(AttributeKey.Y1, PercentageDimension.HEIGHT, 0),
+                attributeNode.getLength(AttributeKey.X2, PercentageDimension.WIDTH, 0),
+                attributeNode.getLength(AttributeKey.Y2, PercentageDimension.HEIGHT, 0));
     }
 }
@@ -24,6 +24,7 @@ package com.github.weisj.jsvg.nodes;
 import java.awt.*;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -64,7 +65,7 @@ public final class Mask extends CommonRenderableContainerNode implements Instant
     public static final String TAG = "mask";
 
     private final CachedSurfaceSupplier surfaceSupplier =
-            new CachedSurfaceSupplier(ImageUtil::createLuminosityBuffer);
+            new CachedSurfaceSupplier(ImageUtil::createLuminosityBuffer, BufferedImage.TYPE_BYTE_GRAY);
     private Length x;
     private Length y;
     private Length width;
@@ -101,7 +102,7 @@ public final class Mask extends CommonRenderableContainerNode implements Instant
 
         boolean useCache = surfaceSupplier.useCache(output, context);
         BlittableImage blitImage = BlittableImage.create(
-                surfaceSupplier.surfaceSupplier(useCache), context, output.clipBounds(),
+                surfaceSupplier.surfaceSupplier(output, useCache), context, output.clipBounds(),
                 maskBounds.createIntersection(elementBounds.geometryBox()), elementBounds.boundingBox(),
                 maskContentUnits);
 
@@ -116,7 +117,7 @@ public final class Mask extends CommonRenderableContainerNode implements Instant
 
         Point2D offset = GeometryUtil.getLocation(blitImage.imageBoundsInDeviceSpace());
         return new MaskedPaint(PaintParser.DEFAULT_COLOR, blitImage.image().getRaster(), offset,
-                surfaceSupplier.resourceCleaner(output, useCache));
+                surfaceSupplier.resourceCleaner(output, blitImage.image()));
     }
 
     @Override
@@ -31,8 +31,8 @@ import com.github.weisj.jsvg.geometry.SVGShape;
 import com.github.weisj.jsvg.nodes.prototype.spec.Category;
 import com.github.weisj.jsvg.nodes.prototype.spec.ElementCategories;
 import com.github.weisj.jsvg.nodes.prototype.spec.PermittedContent;
+import com.github.weisj.jsvg.parser.impl.AttributeKey;
 import com.github.weisj.jsvg.parser.impl.AttributeNode;
-import com.github.weisj.jsvg.util.PathUtil;
 
 @ElementCategories({Category.Graphic, Category.Shape})
 @PermittedContent(categories = {Category.Animation, Category.Descriptive})
@@ -46,9 +46,8 @@ public final class Path extends ShapeNode {
 
     @Override
     protected @NotNull SVGShape buildShape(@NotNull AttributeNode attributeNode) {
-        String pathValue = attributeNode.getValue("d");
-        if (pathValue == null) return new AWTSVGShape<>(new Rectangle());
-        return PathUtil.parseFromPathData(pathValue, FillRule.Nonzero);
+        SVGShape shape = attributeNode.getPath(AttributeKey.D, FillRule.Nonzero);
+        return shape != null ? shape : new AWTSVGShape<>(new Rectangle());
     }
 
     @Override
@@ -34,6 +34,7 @@ import com.github.weisj.jsvg.geometry.size.Length;
 import com.github.weisj.jsvg.nodes.prototype.spec.Category;
 import com.github.weisj.jsvg.nodes.prototype.spec.ElementCategories;
 import com.github.weisj.jsvg.nodes.prototype.spec.PermittedContent;
+import com.github.weisj.jsvg.parser.impl.AttributeKey;
 import com.github.weisj.jsvg.parser.impl.AttributeNode;
 import com.github.weisj.jsvg.util.AttributeUtil;
 
@@ -49,16 +50,16 @@ public final class Rect extends ShapeNode {
 
     @Override
     protected @NotNull SVGShape buildShape(@NotNull AttributeNode node) {
-        LengthValue x = node.getLength("x", PercentageDimension.WIDTH, Length.ZERO,
+        LengthValue x = node.getLength(AttributeKey.X, PercentageDimension.WIDTH, Length.ZERO,
                 Inherited.NO, Animatable.YES);
-        LengthValue y = node.getLength("y", PercentageDimension.HEIGHT, Length.ZERO,
+        LengthValue y = node.getLength(AttributeKey.Y, PercentageDimension.HEIGHT, Length.ZERO,
                 Inherited.NO, Animatable.YES);
-        LengthValue width = node.getLength("width", PercentageDimension.WIDTH, Length.ZERO,
+        LengthValue width = node.getLength(AttributeKey.WIDTH, PercentageDimension.WIDTH, Length.ZERO,
                 Inherited.NO, Animatable.YES);
-        LengthValue height = node.getLength("height", PercentageDimension.HEIGHT, Length.ZERO,
+        LengthValue height = node.getLength(AttributeKey.HEIGHT, PercentageDimension.HEIGHT, Length.ZERO,
                 Inherited.NO, Animatable.YES);
 
-        AttributeUtil.AxisPair radius = AttributeUtil.parseAxisPair(node, "rx", "ry",
+        AttributeUtil.AxisPair radius = AttributeUtil.parseAxisPair(node, AttributeKey.RX, AttributeKey.RY,
                 Length.ZERO, Inherited.NO,
                 v -> {
                     if (!v.isConstantlyNonNegative()) return null;
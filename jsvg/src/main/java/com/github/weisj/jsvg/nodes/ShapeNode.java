@@ -29,6 +29,7 @@ import java.util.Set;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import com.github.weisj.jsvg.attributes.ShapeRendering;
 import com.github.weisj.jsvg.attributes.VectorEffect;
 import com.github.weisj.jsvg.attributes.font.FontParser;
 import com.github.weisj.jsvg.attributes.font.FontSize;
@@ -39,6 +40,7 @@ import com.github.weisj.jsvg.geometry.SVGShape;
 import com.github.weisj.jsvg.geometry.size.Length;
 import com.github.weisj.jsvg.geometry.util.GeometryUtil;
 import com.github.weisj.jsvg.nodes.prototype.*;
+import com.github.weisj.jsvg.parser.impl.AttributeKey;
 import com.github.weisj.jsvg.parser.impl.AttributeNode;
 import com.github.weisj.jsvg.parser.impl.AttributeNode.ElementRelation;
 import com.github.weisj.jsvg.renderer.MeasureContext;
@@ -63,6 +65,7 @@ public abstract class ShapeNode extends RenderableSVGNode
     private Marker markerEnd;
 
     private Set<VectorEffect> vectorEffects;
+    private ShapeRendering shapeRendering;
 
     @Override
     public @NotNull PaintContext paintContext() {
@@ -78,11 +81,19 @@ public abstract class ShapeNode extends RenderableSVGNode
         return shape;
     }
 
+    public boolean hasMarkers() {
+        return markerStart != null || markerMid != null || markerEnd != null;
+    }
+
     @Override
     public @NotNull Set<VectorEffect> vectorEffects() {
         return vectorEffects;
     }
 
+    public @NotNull ShapeRendering shapeRendering() {
+        return shapeRendering;
+    }
+
     @Override
     public final void build(@NotNull AttributeNode attributeNode) {
         super.build(attributeNode);
@@ -92,26 +103,27 @@ public abstract class ShapeNode extends RenderableSVGNode
         fontSizeAdjust = FontParser.parseSizeAdjust(attributeNode);
 
         shape = buildShape(attributeNode);
-        pathLength = attributeNode.getLength("pathLength", PercentageDimension.NONE, Length.UNSPECIFIED);
+        pathLength = attributeNode.getLength(AttributeKey.PATH_LENGTH, PercentageDimension.NONE, Length.UNSPECIFIED);
 
         // Todo: These are actually inheritable and hence have to go into the RenderContext
         // Todo: The marker shorthand is a bit more complicated than just being a template.
         // https://www.w3.org/TR/svg-markers/#MarkerShorthand
-        Marker template = attributeNode.getElementByHref(Marker.class, attributeNode.getValue("marker"),
+        Marker template = attributeNode.getElementByHref(Marker.class, attributeNode.getValue(AttributeKey.MARKER),
                 ElementRelation.TEMPLATE);
-        markerStart = attributeNode.getElementByHref(Marker.class, attributeNode.getValue("marker-start"),
+        markerStart = attributeNode.getElementByHref(Marker.class, attributeNode.getValue(AttributeKey.MARKER_START),
                 ElementRelation.TEMPLATE);
         if (markerStart == null) markerStart = template;
 
-        markerMid = attributeNode.getElementByHref(Marker.class, attributeNode.getValue("marker-mid"),
+        markerMid = attributeNode.getElementByHref(Marker.class, attributeNode.getValue(AttributeKey.MARKER_MID),
                 ElementRelation.TEMPLATE);
         if (markerMid == null) markerMid = template;
 
-        markerEnd = attributeNode.getElementByHref(Marker.class, attributeNode.getValue("marker-end"),
+        markerEnd = attributeNode.getElementByHref(Marker.class, attributeNode.getValue(AttributeKey.MARKER_END),
                 ElementRelation.TEMPLATE);
         if (markerEnd == null) markerEnd = template;
 
         vectorEffects = VectorEffect.parse(attributeNode);
+        shapeRendering = ShapeRendering.parse(attributeNode);
     }
 
     protected abstract @NotNull SVGShape buildShape(@NotNull AttributeNode attributeNode);
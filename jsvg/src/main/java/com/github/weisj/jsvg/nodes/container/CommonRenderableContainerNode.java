@@ -36,11 +36,13 @@ import com.github.weisj.jsvg.nodes.prototype.impl.HasGeometryContextImpl;
 import com.github.weisj.jsvg.parser.impl.AttributeNode;
 import com.github.weisj.jsvg.renderer.RenderContext;
 import com.github.weisj.jsvg.renderer.impl.NodeRenderer;
+import com.github.weisj.jsvg.renderer.impl.SubtreeBounds;
 import com.github.weisj.jsvg.renderer.output.Output;
 
 public abstract class CommonRenderableContainerNode extends BaseContainerNode<SVGNode>
         implements Renderable, HasGeometryContext.ByDelegate, HasContext.ByDelegate {
     private final List<@NotNull SVGNode> children = new ArrayList<>();
+    private final SubtreeBounds.Cache subtreeBoundsCache = new SubtreeBounds.Cache();
 
     private boolean isVisible;
     private HasGeometryContext geometryContext;
@@ -65,6 +67,10 @@ public abstract class CommonRenderableContainerNode extends BaseContainerNode<SV
         return context;
     }
 
+    public @NotNull SubtreeBounds.Cache subtreeBoundsCache() {
+        return subtreeBoundsCache;
+    }
+
     @Override
     protected void doAdd(@NotNull SVGNode node) {
         children.add(node);
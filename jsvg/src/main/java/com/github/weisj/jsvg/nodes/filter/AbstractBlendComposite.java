@@ -53,9 +53,12 @@ import java.awt.*;
 import java.awt.image.*;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import com.github.weisj.jsvg.attributes.filter.BlendMode;
 import com.github.weisj.jsvg.util.ColorUtil;
 import com.github.weisj.jsvg.util.ImageUtil;
+import com.github.weisj.jsvg.util.PixelKernels;
 
 /**
  * <p>A blend composite defines the rule according to which a drawing primitive
@@ -85,6 +88,16 @@ public abstract class AbstractBlendComposite implements Composite {
 
     protected abstract @NotNull Blender blender();
 
+    /**
+     * The blend mode implemented by {@link #blender()}, if any. Rows of pixels are blended using the
+     * {@link PixelKernels} if they support the mode.
+     *
+     * @return the blend mode or null.
+     */
+    protected @Nullable BlendMode blendMode() {
+        return null;
+    }
+
     private boolean convertToLinearRGB;
 
     private static boolean isColorModelInvalid(ColorModel cm) {
@@ -108,19 +121,23 @@ public abstract class AbstractBlendComposite implements Composite {
         if (isColorModelInvalid(srcColorModel) || isColorModelInvalid(dstColorModel)) {
             throw new RasterFormatException("Incompatible color models");
         }
-        return new BlendingContext(blender(), srcColorModel, dstColorModel, convertToLinearRGB);
+        BlendMode mode = blendMode();
+        if (mode != null && !PixelKernels.get().supportsBlend(mode)) mode = null;
+        return new BlendingContext(blender(), mode, srcColorModel, dstColorModel, convertToLinearRGB);
     }
 
     private static final class BlendingContext implements CompositeContext {
         private final @NotNull Blender blender;
+        private final @Nullable BlendMode blendMode;
         private final @NotNull ColorModel sourceColorModel;
         private final @NotNull ColorModel destinationColorModel;
         private final boolean convertToLinearRGB;
 
-        private BlendingContext(@NotNull Blender blender, @NotNull ColorModel sourceColorModel,
-                @NotNull ColorModel destinationColorModel,
+        private BlendingContext(@NotNull Blender blender, @Nullable BlendMode blendMode,
+                @NotNull ColorModel sourceColorModel, @NotNull ColorModel destinationColorModel,
                 boolean convertToLinearRGB) {
             this.blender = blender;
+            this.blendMode = blendMode;
             this.convertToLinearRGB = convertToLinearRGB;
             this.sourceColorModel = sourceColorModel;
             this.destinationColorModel = destinationColorModel;
@@ -153,11 +170,25 @@ public abstract class AbstractBlendComposite implements Composite {
 
             int minY = dstOut.getMinY();
             int maxY = minY + height;
+            PixelKernels kernels = PixelKernels.get();
 
             for (int y = minY; y < maxY; y++) {
                 src.getDataElements(dstOut.getMinX(), y, width, 1, srcPixels);
                 dstIn.getDataElements(dstOut.getMinX(), y, width, 1, dstPixels);
 
+                if (blendMode != null) {
+                    if (convertToLinearRGB) {
+                        kernels.sRGBtoLinearRGBPre(srcPixels, 0, width);
+                        kernels.sRGBtoLinearRGBPre(dstPixels, 0, width);
+                        kernels.blend(blendMode, srcPixels, dstPixels, 0, width);
+                        kernels.linearRGBtoSRGBPre(dstPixels, 0, width);
+                    } else {
+                        kernels.blend(blendMode, srcPixels, dstPixels, 0, width);
+                    }
+                    dstOut.setDataElements(0, y, width, 1, dstPixels);
+                    continue;
+                }
+
                 for (int x = 0; x < width; x++) {
                     // pixels are stored as INT_ARGB
                     // our arrays are [R, G, B, A]
@@ -22,7 +22,6 @@
 package com.github.weisj.jsvg.nodes.filter;
 
 import java.awt.*;
-import java.awt.image.BufferedImage;
 
 import org.jetbrains.annotations.MustBeInvokedByOverriders;
 import org.jetbrains.annotations.NotNull;
@@ -34,6 +33,7 @@ import com.github.weisj.jsvg.attributes.filter.LayoutBounds;
 import com.github.weisj.jsvg.parser.impl.AttributeNode;
 import com.github.weisj.jsvg.renderer.RenderContext;
 import com.github.weisj.jsvg.renderer.output.impl.GraphicsUtil;
+import com.github.weisj.jsvg.util.ImageUtil;
 
 abstract class AbstractCompositeFilterPrimitive extends AbstractFilterPrimitive {
     private FilterChannelKey inputChannel2;
@@ -47,6 +47,11 @@ abstract class AbstractCompositeFilterPrimitive extends AbstractFilterPrimitive
 
     protected abstract @NotNull Composite composite();
 
+    @Override
+    public @NotNull FilterChannelKey @NotNull [] inputKeys() {
+        return new FilterChannelKey[] {impl().inputKey(), inputChannel2};
+    }
+
     private @NotNull Channel sourceChannel(@NotNull FilterPrimitiveBase impl, @NotNull FilterContext filterContext) {
         return impl.inputChannel(filterContext);
     }
@@ -63,26 +68,43 @@ abstract class AbstractCompositeFilterPrimitive extends AbstractFilterPrimitive
         impl().saveLayoutResult(in.union(in2), filterLayoutContext);
     }
 
+    @Override
+    public @NotNull Rectangle @NotNull [] inputRegionsOfInterest(@NotNull FilterContext filterContext,
+            @NotNull Rectangle resultRegion) {
+        return new Rectangle[] {resultRegion, resultRegion};
+    }
+
     @Override
     public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
         FilterPrimitiveBase impl = impl();
-        BufferedImage dst = destinationChannel(impl, filterContext).toBufferedImageNonAliased(context);
+        Channel destination = destinationChannel(impl, filterContext);
+        Channel source = sourceChannel(impl, filterContext);
 
-        Image other = context.platformSupport().createImage(sourceChannel(impl, filterContext).producer());
-        Graphics2D imgGraphics = GraphicsUtil.createGraphics(dst);
-        imgGraphics.setComposite(computeComposite(filterContext));
-        imgGraphics.drawImage(other, null, context.platformSupport().imageObserver());
-        imgGraphics.dispose();
-
-        impl.saveResult(new ImageProducerChannel(dst.getSource()), filterContext);
-    }
+        Composite composite = composite();
+        ColorInterpolation colorSpace = ColorInterpolation.S_RGB;
+        if (composite instanceof AbstractBlendComposite) {
+            // If either input already is in linear RGB, blend the linear content directly instead of converting
+            // from sRGB for every pixel.
+            boolean linearRGB = colorInterpolation(filterContext) == ColorInterpolation.LinearRGB;
+            boolean linearInput = destination.colorSpace() == ColorInterpolation.LinearRGB
+                    || source.colorSpace() == ColorInterpolation.LinearRGB;
+            if (linearRGB && linearInput) colorSpace = ColorInterpolation.LinearRGB;
+            ((AbstractBlendComposite) composite).setConvertToLinearRGB(
+                    linearRGB && colorSpace != ColorInterpolation.LinearRGB);
+        }
 
-    private @NotNull Composite computeComposite(@NotNull FilterContext filterContext) {
-        Composite comp = composite();
-        if (comp instanceof AbstractBlendComposite) {
-            ColorInterpolation colorInterpolation = colorInterpolation(filterContext);
-            ((AbstractBlendComposite) comp).setConvertToLinearRGB(colorInterpolation == ColorInterpolation.LinearRGB);
+        RasterChannel dst = destination.rasterChannel(context, colorSpace).copy(ImageUtil.Premultiplied.Yes);
+        RasterChannel other = source.rasterChannel(context, colorSpace);
+        if (composite instanceof AbstractBlendComposite) {
+            // Blend composites premultiply non-premultiplied source rasters in place, which we don't own.
+            other = other.coerce(ImageUtil.Premultiplied.Yes);
         }
-        return comp;
+        Graphics2D imgGraphics = GraphicsUtil.createGraphics(dst.image());
+        imgGraphics.clip(filterContext.regionOfInterest());
+        imgGraphics.setComposite(composite);
+        imgGraphics.drawImage(other.image(), 0, 0, null);
+        imgGraphics.dispose();
+
+        impl.saveResult(dst, filterContext);
     }
 }
@@ -26,6 +26,7 @@ import org.jetbrains.annotations.MustBeInvokedByOverriders;
 import org.jetbrains.annotations.NotNull;
 
 import com.github.weisj.jsvg.attributes.ColorInterpolation;
+import com.github.weisj.jsvg.attributes.filter.FilterChannelKey;
 import com.github.weisj.jsvg.geometry.size.Length;
 import com.github.weisj.jsvg.nodes.AbstractSVGNode;
 import com.github.weisj.jsvg.parser.impl.AttributeNode;
@@ -65,6 +66,16 @@ public abstract class AbstractFilterPrimitive extends AbstractSVGNode implements
         return impl().height;
     }
 
+    @Override
+    public @NotNull FilterChannelKey @NotNull [] inputKeys() {
+        return new FilterChannelKey[] {impl().inputKey()};
+    }
+
+    @Override
+    public @NotNull FilterChannelKey resultKey() {
+        return impl().resultKey();
+    }
+
     @Override
     public ColorInterpolation colorInterpolation(@NotNull FilterContext filterContext) {
         return impl().colorInterpolation(filterContext);
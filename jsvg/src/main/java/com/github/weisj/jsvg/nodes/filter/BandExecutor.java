@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import java.awt.*;
+import java.util.concurrent.RecursiveAction;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.renderer.FilterParallelism;
+import com.github.weisj.jsvg.renderer.SVGRenderingHints;
+
+/**
+ * Splits a range of independent rows or columns into bands which are processed on the pool of a
+ * {@link FilterParallelism}.
+ */
+final class BandExecutor {
+    /*
+     * More bands than threads, so a thread which finishes early can steal work from the others.
+     */
+    private static final int BANDS_PER_THREAD = 4;
+
+    private BandExecutor() {}
+
+    interface Band {
+        void process(int from, int to);
+    }
+
+    static @Nullable FilterParallelism parallelism(@Nullable RenderingHints hints) {
+        if (hints == null) return null;
+        Object value = hints.get(SVGRenderingHints.KEY_FILTER_PARALLELISM);
+        return value instanceof FilterParallelism ? (FilterParallelism) value : null;
+    }
+
+    static boolean isParallel(@Nullable FilterParallelism parallelism, long pixelCount) {
+        return parallelism != null
+                && pixelCount >= parallelism.threshold()
+                && parallelism.pool().getParallelism() > 1;
+    }
+
+    static void forEachBand(@Nullable FilterParallelism parallelism, long pixelCount, int from, int to,
+            @NotNull Band band) {
+        int length = to - from;
+        if (length < 2 || !isParallel(parallelism, pixelCount)) {
+            if (length > 0) band.process(from, to);
+            return;
+        }
+        int bandCount = Math.min(length, parallelism.pool().getParallelism() * BANDS_PER_THREAD);
+        int grain = (length + bandCount - 1) / bandCount;
+        parallelism.pool().invoke(new BandAction(band, from, to, grain));
+    }
+
+    private static final class BandAction extends RecursiveAction {
+        private final @NotNull Band band;
+        private final int from;
+        private final int to;
+        private final int grain;
+
+        private BandAction(@NotNull Band band, int from, int to, int grain) {
+            this.band = band;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                band.process(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new BandAction(band, from, mid, grain), new BandAction(band, mid, to, grain));
+        }
+    }
+}
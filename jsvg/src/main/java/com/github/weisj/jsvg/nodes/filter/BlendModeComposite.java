@@ -32,9 +32,11 @@ import com.github.weisj.jsvg.util.ColorUtil;
 
 public final class BlendModeComposite extends AbstractBlendComposite {
 
+    private final @NotNull BlendMode blendMode;
     private final @NotNull Blender blender;
 
-    private BlendModeComposite(BlendMode blendMode) {
+    private BlendModeComposite(@NotNull BlendMode blendMode) {
+        this.blendMode = blendMode;
         this.blender = createBlender(blendMode);
     }
 
@@ -48,6 +50,11 @@ public final class BlendModeComposite extends AbstractBlendComposite {
         return blender;
     }
 
+    @Override
+    protected @NotNull BlendMode blendMode() {
+        return blendMode;
+    }
+
     /**
      * <pre>
      * Small letters: Premultiplied values
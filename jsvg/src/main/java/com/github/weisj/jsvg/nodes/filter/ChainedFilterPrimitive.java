@@ -21,6 +21,8 @@
  */
 package com.github.weisj.jsvg.nodes.filter;
 
+import java.awt.*;
+
 import org.jetbrains.annotations.NotNull;
 
 import com.github.weisj.jsvg.attributes.filter.FilterChannelKey;
@@ -43,8 +45,15 @@ abstract class ChainedFilterPrimitive extends AbstractFilterPrimitive implements
     @Override
     public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
         filterContext.resultChannels().addResult(outerLastResult, impl().inputChannel(filterContext));
-        for (FilterPrimitive primitive : primitives()) {
-            primitive.applyFilter(context, filterContext);
+        // Regions of interest aren't propagated through the chain, hence every member computes its whole result.
+        Rectangle regionOfInterest = filterContext.regionOfInterest();
+        filterContext.setRegionOfInterest(FilterContext.unboundedRegion());
+        try {
+            for (FilterPrimitive primitive : primitives()) {
+                primitive.applyFilter(context, filterContext);
+            }
+        } finally {
+            filterContext.setRegionOfInterest(regionOfInterest);
         }
     }
 
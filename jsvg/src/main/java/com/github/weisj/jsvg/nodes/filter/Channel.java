@@ -28,6 +28,7 @@ import java.awt.image.ImageProducer;
 
 import org.jetbrains.annotations.NotNull;
 
+import com.github.weisj.jsvg.attributes.ColorInterpolation;
 import com.github.weisj.jsvg.renderer.RenderContext;
 import com.github.weisj.jsvg.util.ImageUtil;
 
@@ -53,6 +54,41 @@ public interface Channel {
         return bufferedImage;
     }
 
+    /**
+     * The color space the content of this channel is natively stored in. Either {@link ColorInterpolation#S_RGB} or
+     * {@link ColorInterpolation#LinearRGB}. All other accessors of the channel content provide sRGB values unless
+     * stated otherwise.
+     *
+     * @return the color space.
+     */
+    default @NotNull ColorInterpolation colorSpace() {
+        return ColorInterpolation.S_RGB;
+    }
+
+    /**
+     * The content of this channel as a raster backed channel in sRGB. Filter primitives operate on the returned
+     * channel and therefore must not modify it.
+     *
+     * @param context the render context.
+     * @return the raster channel.
+     */
+    default @NotNull RasterChannel rasterChannel(@NotNull RenderContext context) {
+        return new RasterChannel(makeNonAliased(toImage(context)));
+    }
+
+    /**
+     * The content of this channel as a raster backed channel in the given color space. Filter primitives operate on
+     * the returned channel and therefore must not modify it.
+     *
+     * @param context the render context.
+     * @param colorSpace the color space.
+     * @return the raster channel.
+     */
+    default @NotNull RasterChannel rasterChannel(@NotNull RenderContext context,
+            @NotNull ColorInterpolation colorSpace) {
+        return rasterChannel(context).convert(colorSpace);
+    }
+
     @NotNull
     Channel applyFilter(@NotNull ImageFilter filter);
 
@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.attributes.ColorInterpolation;
+import com.github.weisj.jsvg.util.ColorUtil;
+import com.github.weisj.jsvg.util.PixelKernels;
+
+/**
+ * Conversions of non-premultiplied pixels between the color spaces a {@link Channel} can be stored in.
+ */
+enum ColorSpaceConversion implements PixelRowOperation {
+    SRGB_TO_LINEAR_RGB {
+        @Override
+        public int applyAsInt(int argb) {
+            return ColorUtil.sRGBtoLinearRGB(argb);
+        }
+
+        @Override
+        public void applyToRow(int @NotNull [] pixels, int offset, int length) {
+            PixelKernels.get().sRGBtoLinearRGB(pixels, offset, length);
+        }
+    },
+    LINEAR_RGB_TO_SRGB {
+        @Override
+        public int applyAsInt(int argb) {
+            return ColorUtil.linearRGBtoSRGB(argb);
+        }
+
+        @Override
+        public void applyToRow(int @NotNull [] pixels, int offset, int length) {
+            PixelKernels.get().linearRGBtoSRGB(pixels, offset, length);
+        }
+    };
+
+    /**
+     * The color space pixels are stored in for the given color interpolation. Only {@link ColorInterpolation#LinearRGB}
+     * is stored as linear RGB, every other value is treated as sRGB.
+     *
+     * @param colorInterpolation the color interpolation.
+     * @return either {@link ColorInterpolation#S_RGB} or {@link ColorInterpolation#LinearRGB}.
+     */
+    static @NotNull ColorInterpolation storageSpace(@Nullable ColorInterpolation colorInterpolation) {
+        return colorInterpolation == ColorInterpolation.LinearRGB
+                ? ColorInterpolation.LinearRGB
+                : ColorInterpolation.S_RGB;
+    }
+
+    /**
+     * The conversion between two color spaces.
+     *
+     * @param from the color space to convert from.
+     * @param to the color space to convert to.
+     * @return the conversion or null if both color spaces are stored identically.
+     */
+    static @Nullable ColorSpaceConversion between(@Nullable ColorInterpolation from,
+            @Nullable ColorInterpolation to) {
+        ColorInterpolation source = storageSpace(from);
+        ColorInterpolation target = storageSpace(to);
+        if (source == target) return null;
+        return target == ColorInterpolation.LinearRGB ? SRGB_TO_LINEAR_RGB : LINEAR_RGB_TO_SRGB;
+    }
+}
@@ -23,13 +23,14 @@ package com.github.weisj.jsvg.nodes.filter;
 
 import static com.github.weisj.jsvg.util.ColorUtil.toRgbRange;
 
+import java.awt.*;
 import java.util.Arrays;
 import java.util.Locale;
+import java.util.function.IntUnaryOperator;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import com.github.weisj.jsvg.attributes.ColorInterpolation;
 import com.github.weisj.jsvg.attributes.filter.LayoutBounds;
 import com.github.weisj.jsvg.nodes.animation.Animate;
 import com.github.weisj.jsvg.nodes.animation.Set;
@@ -38,18 +39,18 @@ import com.github.weisj.jsvg.nodes.prototype.spec.ElementCategories;
 import com.github.weisj.jsvg.nodes.prototype.spec.PermittedContent;
 import com.github.weisj.jsvg.parser.impl.AttributeNode;
 import com.github.weisj.jsvg.renderer.RenderContext;
-import com.github.weisj.jsvg.util.ColorSpaceAwareRGBImageFilter;
 import com.github.weisj.jsvg.util.ColorUtil;
+import com.github.weisj.jsvg.util.PixelKernels;
 
 @ElementCategories(Category.FilterPrimitive)
 @PermittedContent(
     anyOf = {Animate.class, Set.class}
 )
-public final class FeColorMatrix extends AbstractFilterPrimitive {
+public final class FeColorMatrix extends AbstractFilterPrimitive implements PerPixelFilterPrimitive {
     public static final String TAG = "fecolormatrix";
     private static final String KEY_VALUES = "values";
 
-    private @Nullable AffineRGBImageFilter filter;
+    private @Nullable ColorTransform filter;
 
     @Override
     public @NotNull String tagName() {
@@ -117,23 +118,68 @@ public final class FeColorMatrix extends AbstractFilterPrimitive {
         impl().saveLayoutResult(bounds, filterLayoutContext);
     }
 
+    @Override
+    public @NotNull Rectangle @NotNull [] inputRegionsOfInterest(@NotNull FilterContext filterContext,
+            @NotNull Rectangle resultRegion) {
+        return new Rectangle[] {resultRegion};
+    }
+
+    @Override
+    public @Nullable IntUnaryOperator pixelOperation(@NotNull FilterContext filterContext) {
+        @Nullable ColorTransform f = filter;
+        if (f == null) return null;
+        return new ColorTransformOperation(f);
+    }
+
     @Override
     public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
-        @Nullable AffineRGBImageFilter f = filter;
-        if (f == null) {
+        IntUnaryOperator operation = pixelOperation(filterContext);
+        if (operation == null) {
             impl().noop(filterContext);
             return;
         }
-        f.setConvertToLinear(colorInterpolation(filterContext) == ColorInterpolation.LinearRGB);
-        impl().saveResult(impl().inputChannel(filterContext).applyFilter(f), filterContext);
+        RasterChannel input = impl().inputChannel(filterContext)
+                .rasterChannel(context, colorInterpolation(filterContext));
+        impl().saveResult(input.map(operation, input.colorSpace(), filterContext.regionOfInterest()), filterContext);
+    }
+
+    private static final class ColorTransformOperation implements PixelRowOperation {
+        private final @NotNull ColorTransform transform;
+        private final double @NotNull [] matrix;
+
+        private ColorTransformOperation(@NotNull ColorTransform transform) {
+            this.transform = transform;
+            this.matrix = transform.matrix();
+        }
+
+        @Override
+        public int applyAsInt(int argb) {
+            return transform.filterRGB(argb);
+        }
+
+        @Override
+        public void applyToRow(int @NotNull [] pixels, int offset, int length) {
+            PixelKernels.get().colorMatrix(pixels, offset, length, matrix);
+        }
     }
 
-    private static abstract class AffineRGBImageFilter extends ColorSpaceAwareRGBImageFilter {
+    private abstract static class ColorTransform {
 
         abstract boolean isLinear();
+
+        abstract int filterRGB(int argb);
+
+        /**
+         * The transform as 4x5 matrix, which produces the same results as {@link #filterRGB(int)}.
+         */
+        abstract double @NotNull [] matrix();
+    }
+
+    private static int pack(int a, int r, int g, int b) {
+        return (a << 24) | (r << 16) | (g << 8) | b;
     }
 
-    private static final class MatrixRGBFilter extends AffineRGBImageFilter {
+    private static final class MatrixRGBFilter extends ColorTransform {
 
         private final double r1, r2, r3, r4, r5;
         private final double g1, g2, g3, g4, g5;
@@ -172,24 +218,30 @@ public final class FeColorMatrix extends AbstractFilterPrimitive {
         }
 
         @Override
-        public int filterRGB(int x, int y, int rgb) {
-            int[] argb = getRGB(rgb);
-
-            int a = argb[3];
-            int r = argb[2];
-            int g = argb[1];
-            int b = argb[0];
-
-            argb[3] = toRgbRange(a1 * r + a2 * g + a3 * b + a4 * a + a5 * 255);
-            argb[2] = toRgbRange(r1 * r + r2 * g + r3 * b + r4 * a + r5 * 255);
-            argb[1] = toRgbRange(g1 * r + g2 * g + g3 * b + g4 * a + g5 * 255);
-            argb[0] = toRgbRange(b1 * r + b2 * g + b3 * b + b4 * a + b5 * 255);
+        double @NotNull [] matrix() {
+            return new double[] {
+                    r1, r2, r3, r4, r5,
+                    g1, g2, g3, g4, g5,
+                    b1, b2, b3, b4, b5,
+                    a1, a2, a3, a4, a5};
+        }
 
-            return pack(argb);
+        @Override
+        int filterRGB(int argb) {
+            int a = argb >>> 24;
+            int r = (argb >> 16) & 0xFF;
+            int g = (argb >> 8) & 0xFF;
+            int b = argb & 0xFF;
+
+            return pack(
+                    toRgbRange(a1 * r + a2 * g + a3 * b + a4 * a + a5 * 255),
+                    toRgbRange(r1 * r + r2 * g + r3 * b + r4 * a + r5 * 255),
+                    toRgbRange(g1 * r + g2 * g + g3 * b + g4 * a + g5 * 255),
+                    toRgbRange(b1 * r + b2 * g + b3 * b + b4 * a + b5 * 255));
         }
     }
 
-    private static final class NoAlphaMatrixRGBFilter extends AffineRGBImageFilter {
+    private static final class NoAlphaMatrixRGBFilter extends ColorTransform {
         private final double r1, r2, r3;
         private final double g1, g2, g3;
         private final double b1, b2, b3;
@@ -215,22 +267,28 @@ public final class FeColorMatrix extends AbstractFilterPrimitive {
         }
 
         @Override
-        public int filterRGB(int x, int y, int rgb) {
-            int[] argb = getRGB(rgb);
-
-            int r = argb[2];
-            int g = argb[1];
-            int b = argb[0];
-
-            argb[2] = toRgbRange(r1 * r + r2 * g + r3 * b);
-            argb[1] = toRgbRange(g1 * r + g2 * g + g3 * b);
-            argb[0] = toRgbRange(b1 * r + b2 * g + b3 * b);
+        double @NotNull [] matrix() {
+            return new double[] {
+                    r1, r2, r3, 0, 0,
+                    g1, g2, g3, 0, 0,
+                    b1, b2, b3, 0, 0,
+                    0, 0, 0, 1, 0};
+        }
 
-            return pack(argb);
+        @Override
+        int filterRGB(int argb) {
+            int r = (argb >> 16) & 0xFF;
+            int g = (argb >> 8) & 0xFF;
+            int b = argb & 0xFF;
+
+            return pack(argb >>> 24,
+                    toRgbRange(r1 * r + r2 * g + r3 * b),
+                    toRgbRange(g1 * r + g2 * g + g3 * b),
+                    toRgbRange(b1 * r + b2 * g + b3 * b));
         }
     }
 
-    public static final class LuminanceToAlphaFilter extends AffineRGBImageFilter {
+    public static final class LuminanceToAlphaFilter extends ColorTransform {
 
         @Override
         boolean isLinear() {
@@ -238,9 +296,17 @@ public final class FeColorMatrix extends AbstractFilterPrimitive {
         }
 
         @Override
-        public int filterRGB(int x, int y, int rgb) {
-            int[] argb = getRGB(rgb);
-            int na = ColorUtil.computeLuminance(argb[2], argb[1], argb[0]);
+        double @NotNull [] matrix() {
+            return new double[] {
+                    0, 0, 0, 0, 0,
+                    0, 0, 0, 0, 0,
+                    0, 0, 0, 0, 0,
+                    0.2125, 0.7164, 0.0712, 0, 0};
+        }
+
+        @Override
+        int filterRGB(int argb) {
+            int na = ColorUtil.computeLuminance((argb >> 16) & 0xFF, (argb >> 8) & 0xFF, argb & 0xFF);
             return (na & 0xFF) << 24;
         }
     }
@@ -21,13 +21,15 @@
  */
 package com.github.weisj.jsvg.nodes.filter;
 
-import java.awt.image.*;
+import java.awt.*;
 import java.util.List;
+import java.util.function.IntUnaryOperator;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import com.github.weisj.jsvg.attributes.ColorInterpolation;
+import com.github.weisj.jsvg.attributes.filter.FilterChannelKey;
 import com.github.weisj.jsvg.attributes.filter.LayoutBounds;
 import com.github.weisj.jsvg.attributes.filter.TransferFunctionType;
 import com.github.weisj.jsvg.geometry.size.Length;
@@ -39,19 +41,17 @@ import com.github.weisj.jsvg.nodes.prototype.spec.ElementCategories;
 import com.github.weisj.jsvg.nodes.prototype.spec.PermittedContent;
 import com.github.weisj.jsvg.parser.impl.AttributeNode;
 import com.github.weisj.jsvg.renderer.RenderContext;
-import com.github.weisj.jsvg.util.ColorUtil;
 
 @ElementCategories(Category.FilterPrimitive)
 @PermittedContent(
     categories = {Category.TransferFunctionElement},
     anyOf = {Animate.class, Set.class}
 )
-public class FeComponentTransfer extends ContainerNode implements FilterPrimitive {
+public class FeComponentTransfer extends ContainerNode implements PerPixelFilterPrimitive {
     public static final String TAG = "fecomponenttransfer";
 
     private FilterPrimitiveBase filterPrimitiveBase;
-    private ByteLookupTable sRGBlookupTable;
-    private ByteLookupTable linearRGBlookupTable;
+    private byte[][] lookupTables;
 
     @Override
     public @NotNull String tagName() {
@@ -98,7 +98,7 @@ public class FeComponentTransfer extends ContainerNode implements FilterPrimitiv
         }
 
         if (redValid || greenValid || blueValid || alphaValid) {
-            sRGBlookupTable = new ByteLookupTable(0, tables);
+            lookupTables = tables;
         }
         children().clear();
     }
@@ -128,6 +128,16 @@ public class FeComponentTransfer extends ContainerNode implements FilterPrimitiv
         return filterPrimitiveBase.colorInterpolation(filterContext);
     }
 
+    @Override
+    public @NotNull FilterChannelKey @NotNull [] inputKeys() {
+        return new FilterChannelKey[] {filterPrimitiveBase.inputKey()};
+    }
+
+    @Override
+    public @NotNull FilterChannelKey resultKey() {
+        return filterPrimitiveBase.resultKey();
+    }
+
     @Override
     public void layoutFilter(@NotNull RenderContext context, @NotNull FilterLayoutContext filterLayoutContext) {
         LayoutBounds bounds = filterPrimitiveBase
@@ -136,35 +146,36 @@ public class FeComponentTransfer extends ContainerNode implements FilterPrimitiv
         filterPrimitiveBase.saveLayoutResult(bounds, filterLayoutContext);
     }
 
-    private @Nullable LookupTable lookupTable(@NotNull FilterContext filterContext) {
-        if (sRGBlookupTable == null) return null;
-        if (filterPrimitiveBase.colorInterpolation(filterContext) != ColorInterpolation.LinearRGB) {
-            return sRGBlookupTable;
-        }
-        if (linearRGBlookupTable == null) {
-            byte[][] tables = sRGBlookupTable.getTable();
-            for (int j = 0; j < tables.length; j++) {
-                byte[] table = tables[j];
-                if (table == TransferFunctionElement.IDENTITY_LOOKUP_TABLE) continue;
-                byte[] lRGBtable = new byte[table.length];
-                for (int i = 0; i < table.length; i++) {
-                    lRGBtable[i] = (byte) ColorUtil.linearRGBtoSRGBBand(table[ColorUtil.sRGBtoLinearRGBBand(i)] & 0xff);
-                }
-                tables[j] = lRGBtable;
-            }
-            linearRGBlookupTable = new ByteLookupTable(0, tables);
-        }
-        return linearRGBlookupTable;
+    @Override
+    public @NotNull Rectangle @NotNull [] inputRegionsOfInterest(@NotNull FilterContext filterContext,
+            @NotNull Rectangle resultRegion) {
+        return new Rectangle[] {resultRegion};
+    }
+
+    @Override
+    public @Nullable IntUnaryOperator pixelOperation(@NotNull FilterContext filterContext) {
+        byte[][] tables = lookupTables;
+        if (tables == null) return null;
+        byte[] red = tables[0];
+        byte[] green = tables[1];
+        byte[] blue = tables[2];
+        byte[] alpha = tables[3];
+        return argb -> ((alpha[argb >>> 24] & 0xFF) << 24)
+                | ((red[(argb >> 16) & 0xFF] & 0xFF) << 16)
+                | ((green[(argb >> 8) & 0xFF] & 0xFF) << 8)
+                | (blue[argb & 0xFF] & 0xFF);
     }
 
     @Override
     public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
-        LookupTable lookup = lookupTable(filterContext);
-        if (lookup == null) {
+        IntUnaryOperator operation = pixelOperation(filterContext);
+        if (operation == null) {
             filterPrimitiveBase.noop(filterContext);
             return;
         }
-        ImageFilter f = new BufferedImageFilter(new LookupOp(lookup, filterContext.renderingHints()));
-        filterPrimitiveBase.saveResult(filterPrimitiveBase.inputChannel(filterContext).applyFilter(f), filterContext);
+        RasterChannel input = filterPrimitiveBase.inputChannel(filterContext)
+                .rasterChannel(context, colorInterpolation(filterContext));
+        filterPrimitiveBase.saveResult(input.map(operation, input.colorSpace(), filterContext.regionOfInterest()),
+                filterContext);
     }
 }
@@ -22,10 +22,8 @@
 package com.github.weisj.jsvg.nodes.filter;
 
 import java.awt.*;
-import java.awt.color.ColorSpace;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
-import java.awt.image.*;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -74,6 +72,11 @@ public final class FeDisplacementMap extends AbstractFilterPrimitive {
         inputChannel2 = attributeNode.getFilterChannelKey("in2", DefaultFilterChannel.LastResult);
     }
 
+    @Override
+    public @NotNull FilterChannelKey @NotNull [] inputKeys() {
+        return new FilterChannelKey[] {impl().inputKey(), inputChannel2};
+    }
+
     @Override
     public void layoutFilter(@NotNull RenderContext context, @NotNull FilterLayoutContext filterLayoutContext) {
         LayoutBounds layoutBounds = new LayoutBounds(
@@ -82,6 +85,21 @@ public final class FeDisplacementMap extends AbstractFilterPrimitive {
         impl().saveLayoutResult(layoutBounds, filterLayoutContext);
     }
 
+    @Override
+    public @NotNull Rectangle @NotNull [] inputRegionsOfInterest(@NotNull FilterContext filterContext,
+            @NotNull Rectangle resultRegion) {
+        Point2D.Double displacementScale = displacementScale(filterContext);
+        Rectangle2D tile = filterContext.info().tile();
+        // Channel values are offset by one half, hence pixels are moved by at most half the scale.
+        int reachX = (int) Math.ceil(Math.abs(displacementScale.x) * filterContext.info().imageWidth
+                / (2 * tile.getWidth()));
+        int reachY = (int) Math.ceil(Math.abs(displacementScale.y) * filterContext.info().imageHeight
+                / (2 * tile.getHeight()));
+        Rectangle region = new Rectangle(resultRegion);
+        region.grow(reachX + 1, reachY + 1);
+        return new Rectangle[] {region, new Rectangle(resultRegion)};
+    }
+
     @Override
     public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
         if (scale == 0) {
@@ -91,6 +109,13 @@ public final class FeDisplacementMap extends AbstractFilterPrimitive {
         Channel input = impl().inputChannel(filterContext);
         Channel displacementInput = filterContext.getChannel(inputChannel2);
 
+        Point2D.Double displacementScale = displacementScale(filterContext);
+        RasterChannel result = displace(input.rasterChannel(context), displacementInput.pixels(context),
+                filterContext.info().tile(), displacementScale.x, displacementScale.y);
+        impl().saveResult(result, filterContext);
+    }
+
+    private @NotNull Point2D.Double displacementScale(@NotNull FilterContext filterContext) {
         double displacementScaleX = scale;
         double displacementScaleY = scale;
         if (filterContext.primitiveUnits() == UnitType.ObjectBoundingBox) {
@@ -98,112 +123,44 @@ public final class FeDisplacementMap extends AbstractFilterPrimitive {
             displacementScaleX *= elementBounds.getWidth();
             displacementScaleY *= elementBounds.getHeight();
         }
-
-        ImageFilter displacementFilter = new BufferedImageFilter(
-                new DisplacementOp(displacementInput.pixels(context), filterContext.info().tile(),
-                        displacementScaleX, displacementScaleY));
-        impl().saveResult(input.applyFilter(displacementFilter), filterContext);
+        return new Point2D.Double(displacementScaleX, displacementScaleY);
     }
 
-    private final class DisplacementOp implements BufferedImageOp {
-
-        private final @NotNull PixelProvider displacementChannel;
-        private final @NotNull Rectangle2D sourceBounds;
-        private final double displacementScaleX;
-        private final double displacementScaleY;
-
-        public DisplacementOp(@NotNull PixelProvider displacementChannel, @NotNull Rectangle2D sourceBounds,
-                double displacementScaleX, double displacementScaleY) {
-            this.displacementChannel = displacementChannel;
-            this.sourceBounds = sourceBounds;
-            this.displacementScaleX = displacementScaleX;
-            this.displacementScaleY = displacementScaleY;
-        }
-
-        @Override
-        public BufferedImage createCompatibleDestImage(BufferedImage src, ColorModel dstCM) {
-            if (dstCM == null) dstCM = src.getColorModel();
-            return new BufferedImage(dstCM, dstCM.createCompatibleWritableRaster(src.getWidth(), src.getHeight()),
-                    dstCM.isAlphaPremultiplied(), null);
-        }
-
-        @Override
-        public Rectangle2D getBounds2D(@NotNull BufferedImage src) {
-            return new Rectangle(0, 0, src.getWidth(), src.getHeight());
-        }
-
-        @Override
-        public Point2D getPoint2D(Point2D srcPt, Point2D dstPt) {
-            return (Point2D) srcPt.clone();
-        }
-
-        @Override
-        public BufferedImage filter(BufferedImage src, BufferedImage dest) {
-            if (src == null) {
-                throw new NullPointerException("src image is null");
-            }
-            if (src == dest) {
-                throw new IllegalArgumentException("src image cannot be the " +
-                        "same as the dst image");
-            }
-
-            BufferedImage result = dest;
-
-            if (result == null) {
-                ColorSpace cs = ColorSpace.getInstance(ColorSpace.CS_sRGB);
-                ColorModel cm = new DirectColorModel(cs, 32, 0x00FF0000, 0x0000FF00, 0x000000FF, 0xFF000000,
-                        false, DataBuffer.TYPE_INT);
-                result = createCompatibleDestImage(src, cm);
-            }
-
-            WritableRaster raster = result.getRaster();
-
-            final int w = raster.getWidth();
-            final int h = raster.getHeight();
-
-            final double scaleX = sourceBounds.getWidth() / w;
-            final double scaleY = sourceBounds.getHeight() / h;
-
-            final double startX = sourceBounds.getX();
-            final double startY = sourceBounds.getY();
-
-            Raster sourceRaster = src.getRaster();
-            Rectangle sourceRasterBounds = sourceRaster.getBounds();
-
-            final int[] destPixels = ImageUtil.getINT_RGBA_DataBank(raster);
-            final int dstAdjust = ImageUtil.getINT_RGBA_DataAdjust(raster);
-            int dp = ImageUtil.getINT_RGBA_DataOffset(raster);
-
-            double point_0, point_1 = startY;
-            int x, y = 0;
-            for (int i = 0; i < h; i++) {
-                x = 0;
-                point_0 = startX;
-                for (int end = dp + w; dp < end; dp++) {
-                    int displacementRGB = displacementChannel.pixelAt(point_0, point_1);
-                    double xDisplacement = xChannelSelector.value(displacementRGB) / 255.0 - 0.5f;
-                    double yDisplacement = yChannelSelector.value(displacementRGB) / 255.0 - 0.5f;
-                    int xDest = (int) (x + displacementScaleX * xDisplacement / scaleX);
-                    int yDest = (int) (y + displacementScaleY * yDisplacement / scaleY);
-                    if (sourceRasterBounds.contains(xDest, yDest)) {
-                        destPixels[dp] = src.getRGB(xDest, yDest);
-                    } else {
-                        destPixels[dp] = 0;
-                    }
-                    point_0 += scaleX;
-                    x++;
-                }
-                point_1 += scaleY;
-                dp += dstAdjust;
-                y++;
+    private @NotNull RasterChannel displace(@NotNull RasterChannel src, @NotNull PixelProvider displacementChannel,
+            @NotNull Rectangle2D sourceBounds, double displacementScaleX, double displacementScaleY) {
+        final int w = src.width();
+        final int h = src.height();
+        RasterChannel result = src.createCompatible(w, h, ImageUtil.Premultiplied.No);
+
+        final double scaleX = sourceBounds.getWidth() / w;
+        final double scaleY = sourceBounds.getHeight() / h;
+
+        final double startX = sourceBounds.getX();
+        final double startY = sourceBounds.getY();
+
+        final int[] destPixels = result.data();
+        final int dstAdjust = result.scanlineStride() - w;
+        int dp = result.offset();
+
+        double point_0, point_1 = startY;
+        int x, y = 0;
+        for (int i = 0; i < h; i++) {
+            x = 0;
+            point_0 = startX;
+            for (int end = dp + w; dp < end; dp++) {
+                int displacementRGB = displacementChannel.pixelAt(point_0, point_1);
+                double xDisplacement = xChannelSelector.value(displacementRGB) / 255.0 - 0.5f;
+                double yDisplacement = yChannelSelector.value(displacementRGB) / 255.0 - 0.5f;
+                int xDest = (int) (x + displacementScaleX * xDisplacement / scaleX);
+                int yDest = (int) (y + displacementScaleY * yDisplacement / scaleY);
+                destPixels[dp] = src.argbAt(xDest, yDest);
+                point_0 += scaleX;
+                x++;
             }
-
-            return result;
-        }
-
-        @Override
-        public RenderingHints getRenderingHints() {
-            return null;
+            point_1 += scaleY;
+            dp += dstAdjust;
+            y++;
         }
+        return result;
     }
 }
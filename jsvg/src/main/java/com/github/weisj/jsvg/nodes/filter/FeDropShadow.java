@@ -21,10 +21,18 @@
  */
 package com.github.weisj.jsvg.nodes.filter;
 
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import java.awt.image.AffineTransformOp;
 import java.util.Map;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import com.github.weisj.jsvg.attributes.ColorInterpolation;
+import com.github.weisj.jsvg.attributes.filter.DefaultFilterChannel;
+import com.github.weisj.jsvg.attributes.filter.EdgeMode;
 import com.github.weisj.jsvg.attributes.filter.FilterChannelKey;
 import com.github.weisj.jsvg.nodes.animation.Animate;
 import com.github.weisj.jsvg.nodes.animation.Set;
@@ -32,6 +40,7 @@ import com.github.weisj.jsvg.nodes.prototype.spec.Category;
 import com.github.weisj.jsvg.nodes.prototype.spec.ElementCategories;
 import com.github.weisj.jsvg.nodes.prototype.spec.PermittedContent;
 import com.github.weisj.jsvg.parser.impl.AttributeNode;
+import com.github.weisj.jsvg.renderer.RenderContext;
 
 @ElementCategories(Category.FilterPrimitive)
 @PermittedContent(
@@ -41,6 +50,9 @@ public final class FeDropShadow extends ChainedFilterPrimitive {
     public static final String TAG = "fedropshadow";
 
     private FilterPrimitive[] primitives;
+    private FeGaussianBlur blur;
+    private FeOffset offset;
+    private FeFlood flood;
 
     @Override
     public @NotNull String tagName() {
@@ -63,7 +75,7 @@ public final class FeDropShadow extends ChainedFilterPrimitive {
         }
         attributes.put(resultKey, resultId);
 
-        FeGaussianBlur blur = new FeGaussianBlur();
+        blur = new FeGaussianBlur();
         blur.build(child);
         blur.setOnlyAlpha(true);
 
@@ -71,11 +83,11 @@ public final class FeDropShadow extends ChainedFilterPrimitive {
 
         String offsetResultId = resultId + "-offset-" + resultId.hashCode();
         attributes.put(resultKey, offsetResultId);
-        FeOffset offset = new FeOffset();
+        offset = new FeOffset();
         offset.build(child);
 
         attributes.put(resultKey, resultId);
-        FeFlood flood = new FeFlood();
+        flood = new FeFlood();
         flood.build(child);
 
         attributes.put("in2", offsetResultId);
@@ -108,4 +120,64 @@ public final class FeDropShadow extends ChainedFilterPrimitive {
     protected @NotNull FilterPrimitive @NotNull [] primitives() {
         return primitives;
     }
+
+    @Override
+    public @NotNull Rectangle @NotNull [] inputRegionsOfInterest(@NotNull FilterContext filterContext,
+            @NotNull Rectangle resultRegion) {
+        Rectangle shadowRegion = blur.inputRegionsOfInterest(filterContext,
+                offset.inputRegionsOfInterest(filterContext, resultRegion)[0])[0];
+        Rectangle region = resultRegion.union(shadowRegion);
+        Filter.FilterInfo info = filterContext.info();
+        ShadowRenderer renderer = shadowRenderer(filterContext, Color.BLACK);
+        return new Rectangle[] {region.union(renderer.sourceRegion(resultRegion, info.imageWidth, info.imageHeight))};
+    }
+
+    @Override
+    public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
+        Color color = flood.floodColor(context);
+        if (color == null) {
+            super.applyFilter(context, filterContext);
+            return;
+        }
+        // Blurring, tinting, offsetting and merging the shadow is done in a single pass over the source.
+        Channel input = impl().inputChannel(filterContext);
+        RasterChannel source = input.rasterChannel(context, ColorInterpolation.S_RGB);
+        RasterChannel result = shadowRenderer(filterContext, color).render(source,
+                sourceShape(filterContext, input), filterContext.regionOfInterest(), filterContext.surfaces(),
+                BandExecutor.parallelism(filterContext.renderingHints()));
+        impl().saveResult(result, filterContext);
+    }
+
+    /*
+     * The shadow of a rectangular source graphic is computed from its geometry. This requires the edges of the source
+     * to be antialiased like the analytic shadow. The transparent margin around the shape makes duplicated edges
+     * transparent, but wrapped edges would need the shape to be repeated.
+     */
+    private @Nullable SourceShape sourceShape(@NotNull FilterContext filterContext, @NotNull Channel input) {
+        if (blur.edgeMode() == EdgeMode.Wrap) return null;
+        RenderingHints hints = filterContext.renderingHints();
+        if (hints == null || hints.get(RenderingHints.KEY_ANTIALIASING) != RenderingHints.VALUE_ANTIALIAS_ON) {
+            return null;
+        }
+        boolean readsSource = DefaultFilterChannel.SourceAlpha.key().equals(impl().inputKey().key())
+                || input == filterContext.getChannel(DefaultFilterChannel.SourceGraphic);
+        return readsSource ? filterContext.info().sourceShape() : null;
+    }
+
+    private @NotNull ShadowRenderer shadowRenderer(@NotNull FilterContext filterContext, @NotNull Color color) {
+        double[] stdDeviation = blur.deviceStdDeviation(filterContext);
+        double xStdDeviation = Math.max(0, stdDeviation[0]);
+        double yStdDeviation = Math.max(0, stdDeviation[1]);
+        Point2D.Double off = offset.deviceOffset(filterContext);
+        RenderingHints hints = filterContext.renderingHints();
+        if (new AffineTransformOp(new AffineTransform(), hints).getInterpolationType()
+                == AffineTransformOp.TYPE_NEAREST_NEIGHBOR) {
+            // Like FeOffset, which doesn't interpolate fractional offsets unless requested by the hints.
+            off.setLocation(Math.ceil(off.x - 0.5), Math.ceil(off.y - 0.5));
+        }
+        boolean renderSpeed = hints != null
+                && hints.get(RenderingHints.KEY_RENDERING) == RenderingHints.VALUE_RENDER_SPEED;
+        return new ShadowRenderer(xStdDeviation, yStdDeviation, blur.edgeMode(), off.x, off.y, color,
+                ShadowRenderer.downsampling(renderSpeed, xStdDeviation, yStdDeviation));
+    }
 }
@@ -25,9 +25,11 @@ import java.awt.*;
 import java.awt.image.BufferedImage;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import com.github.weisj.jsvg.attributes.Animatable;
 import com.github.weisj.jsvg.attributes.Inherited;
+import com.github.weisj.jsvg.attributes.filter.FilterChannelKey;
 import com.github.weisj.jsvg.attributes.filter.LayoutBounds;
 import com.github.weisj.jsvg.attributes.value.PercentageValue;
 import com.github.weisj.jsvg.geometry.size.FloatInsets;
@@ -38,11 +40,13 @@ import com.github.weisj.jsvg.nodes.prototype.spec.Category;
 import com.github.weisj.jsvg.nodes.prototype.spec.ElementCategories;
 import com.github.weisj.jsvg.nodes.prototype.spec.PermittedContent;
 import com.github.weisj.jsvg.paint.SVGPaint;
+import com.github.weisj.jsvg.paint.SimplePaintSVGPaint;
 import com.github.weisj.jsvg.paint.impl.AwtSVGPaint;
 import com.github.weisj.jsvg.parser.impl.AttributeNode;
 import com.github.weisj.jsvg.renderer.RenderContext;
 import com.github.weisj.jsvg.renderer.output.impl.Graphics2DOutput;
 import com.github.weisj.jsvg.renderer.output.impl.GraphicsUtil;
+import com.github.weisj.jsvg.util.ImageUtil;
 
 @ElementCategories(Category.FilterPrimitive)
 @PermittedContent(
@@ -68,6 +72,28 @@ public final class FeFlood extends AbstractFilterPrimitive {
                 Inherited.NO, Animatable.YES);
     }
 
+    /**
+     * The flood color including the flood opacity if it is a plain color.
+     *
+     * @param context the render context.
+     * @return the color or null if the flood has to be painted.
+     */
+    @Nullable
+    Color floodColor(@NotNull RenderContext context) {
+        if (!(floodColor instanceof SimplePaintSVGPaint)) return null;
+        Paint paint = ((SimplePaintSVGPaint) floodColor).paint();
+        if (!(paint instanceof Color)) return null;
+        Color color = (Color) paint;
+        float opacity = floodOpacity.get(context.measureContext());
+        return new Color(color.getRed(), color.getGreen(), color.getBlue(),
+                Math.round(color.getAlpha() * Math.max(0, Math.min(1, opacity))));
+    }
+
+    @Override
+    public @NotNull FilterChannelKey @NotNull [] inputKeys() {
+        return new FilterChannelKey[0];
+    }
+
     @Override
     public void layoutFilter(@NotNull RenderContext context, @NotNull FilterLayoutContext filterLayoutContext) {
         LayoutBounds layoutBounds = new LayoutBounds(
@@ -78,10 +104,11 @@ public final class FeFlood extends AbstractFilterPrimitive {
 
     @Override
     public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
-        // Todo: We should be able to optimize this heavily by implementing a custom image producer.
-        // and even then filters like feBlend could benefit from knowing that this is a constant color.
+        // Todo: Filters like feBlend could benefit from knowing that this is a constant color.
         Filter.FilterInfo info = filterContext.info();
-        BufferedImage img = new BufferedImage(info.imageWidth, info.imageHeight, BufferedImage.TYPE_INT_ARGB);
+        RasterChannel result = RasterChannel.create(filterContext.surfaces(),
+                info.imageWidth, info.imageHeight, ImageUtil.Premultiplied.No);
+        BufferedImage img = result.image();
         float opacity = floodOpacity.get(context.measureContext());
         if (opacity != 0) {
             Graphics2D graphics = GraphicsUtil.createGraphics(img);
@@ -90,7 +117,7 @@ public final class FeFlood extends AbstractFilterPrimitive {
             floodColor.fillShape(new Graphics2DOutput(graphics), context, rect, rect);
             graphics.dispose();
         }
-        impl().saveResult(new ImageProducerChannel(img.getSource()), filterContext);
+        impl().saveResult(result, filterContext);
     }
 
 }
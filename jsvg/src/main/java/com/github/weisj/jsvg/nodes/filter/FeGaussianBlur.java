@@ -39,6 +39,7 @@ import com.github.weisj.jsvg.nodes.prototype.spec.Category;
 import com.github.weisj.jsvg.nodes.prototype.spec.ElementCategories;
 import com.github.weisj.jsvg.nodes.prototype.spec.PermittedContent;
 import com.github.weisj.jsvg.parser.impl.AttributeNode;
+import com.github.weisj.jsvg.renderer.FilterParallelism;
 import com.github.weisj.jsvg.renderer.RenderContext;
 
 @ElementCategories(Category.FilterPrimitive)
@@ -51,15 +52,17 @@ public final class FeGaussianBlur extends AbstractFilterPrimitive {
     private static final double THREE_QUARTER_SQRT_2_PI = SQRT_2_PI * 3f / 4f;
     private static final float KERNEL_PRECISION = 0.001f;
 
-    private static final double BOX_BLUR_APPROXIMATION_THRESHOLD = 2;
+    static final double BOX_BLUR_APPROXIMATION_THRESHOLD = 2;
 
     private float[] stdDeviation;
     private EdgeMode edgeMode;
 
-    private double xCurrent;
-    private double yCurrent;
-    private Kernel xBlur;
-    private Kernel yBlur;
+    /*
+     * Filters may be applied by concurrent renders. The kernels are cached together with their standard deviation
+     * as immutable pairs.
+     */
+    private volatile @Nullable CachedKernel xBlur;
+    private volatile @Nullable CachedKernel yBlur;
     private boolean onlyAlpha;
 
     @Override
@@ -79,6 +82,21 @@ public final class FeGaussianBlur extends AbstractFilterPrimitive {
         this.onlyAlpha = onlyAlpha;
     }
 
+    @NotNull
+    EdgeMode edgeMode() {
+        return edgeMode;
+    }
+
+    /**
+     * The standard deviation in pixels of the filter image.
+     *
+     * @param filterContext the filter context.
+     * @return the horizontal and vertical standard deviation.
+     */
+    double @NotNull [] deviceStdDeviation(@NotNull FilterContext filterContext) {
+        return computeAbsoluteStdDeviation(filterContext.info().output().transform());
+    }
+
     private double[] computeAbsoluteStdDeviation(@Nullable AffineTransform at) {
         if (stdDeviation.length == 0) return new double[] {0, 0};
         double xSigma = stdDeviation[0];
@@ -99,6 +117,19 @@ public final class FeGaussianBlur extends AbstractFilterPrimitive {
         impl().saveLayoutResult(input.grow(hExtend, vExtend, filterLayoutContext), filterLayoutContext);
     }
 
+    @Override
+    public @NotNull Rectangle @NotNull [] inputRegionsOfInterest(@NotNull FilterContext filterContext,
+            @NotNull Rectangle resultRegion) {
+        Rectangle region = new Rectangle(resultRegion);
+        if (stdDeviation.length != 0) {
+            double[] sigma = computeAbsoluteStdDeviation(filterContext.info().output().transform());
+            // The box blur approximation consists of three passes, each reaching half the kernel diameter.
+            if (sigma[0] > 0) region.grow(2 * kernelDiameterForStandardDeviation(sigma[0]) + 2, 0);
+            if (sigma[1] > 0) region.grow(0, 2 * kernelDiameterForStandardDeviation(sigma[1]) + 2);
+        }
+        return new Rectangle[] {region};
+    }
+
     @Override
     public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
         if (stdDeviation.length == 0) {
@@ -119,7 +150,21 @@ public final class FeGaussianBlur extends AbstractFilterPrimitive {
         if (onlyAlpha) {
             inputChannel = inputChannel.alphaChannel();
         }
-        ImageProducer input = inputChannel.producer();
+        BufferedImage input = inputChannel.rasterChannel(context).image();
+
+        // Only blur the part of the input the region of interest depends on. Wrapping edges depend on the opposite
+        // side of the image, hence they only allow cropping if no edge of the input is part of the cropped area.
+        Rectangle inputRegion = new Rectangle(0, 0, input.getWidth(), input.getHeight());
+        Rectangle crop = inputRegionsOfInterest(filterContext, filterContext.regionOfInterest())[0]
+                .intersection(inputRegion);
+        boolean cropped = !crop.isEmpty() && !crop.equals(inputRegion)
+                && (edgeMode != EdgeMode.Wrap
+                        || (crop.x > 0 && crop.y > 0
+                                && crop.x + crop.width < inputRegion.width
+                                && crop.y + crop.height < inputRegion.height));
+        if (cropped) {
+            input = input.getSubimage(crop.x, crop.y, crop.width, crop.height);
+        }
 
         Kernel xBlurKernel = null;
         Kernel yBlurKernel = null;
@@ -133,31 +178,34 @@ public final class FeGaussianBlur extends AbstractFilterPrimitive {
             yBlurKernel = createConvolveKernel(dX, ySigma, false);
         }
 
-        ImageProducer output = edgeMode.convolve(context, filterContext, input,
+        BufferedImage output = edgeMode.convolve(filterContext, input,
                 new MixedQualityConvolveOperation(xBlurKernel, yBlurKernel, dX, dY));
-        impl().saveResult(new ImageProducerChannel(output), filterContext);
+        if (cropped) {
+            BufferedImage fullOutput = filterContext.surfaces().acquire(
+                    inputRegion.width, inputRegion.height, BufferedImage.TYPE_INT_ARGB_PRE);
+            fullOutput.getRaster().setDataElements(crop.x, crop.y, output.getRaster());
+            output = fullOutput;
+        }
+        impl().saveResult(new RasterChannel(output, filterContext.surfaces()), filterContext);
     }
 
 
     private @NotNull Kernel createConvolveKernel(int diameter, double sigma, boolean horizontal) {
-        if (horizontal && xBlur != null && xCurrent == sigma) return xBlur;
-        if (!horizontal && yBlur != null && yCurrent == sigma) return yBlur;
-
-        if (horizontal) {
-            xCurrent = sigma;
-        } else {
-            yCurrent = sigma;
-        }
+        CachedKernel cached = horizontal ? xBlur : yBlur;
+        if (cached != null && cached.sigma == sigma && cached.diameter == diameter) return cached.kernel;
 
         float[] data = computeGaussianKernelData(diameter, sigma);
+        Kernel kernel = horizontal
+                ? new Kernel(diameter, 1, data)
+                : new Kernel(1, diameter, data);
 
+        cached = new CachedKernel(sigma, diameter, kernel);
         if (horizontal) {
-            xBlur = new Kernel(diameter, 1, data);
+            xBlur = cached;
         } else {
-            yBlur = new Kernel(1, diameter, data);
+            yBlur = cached;
         }
-
-        return horizontal ? xBlur : yBlur;
+        return kernel;
     }
 
     private static float normalConvolve(float x, double standardDeviation) {
@@ -165,7 +213,7 @@ public final class FeGaussianBlur extends AbstractFilterPrimitive {
                 / (standardDeviation * SQRT_2_PI));
     }
 
-    private static float[] computeGaussianKernelData(int diameter, double standardDeviation) {
+    static float[] computeGaussianKernelData(int diameter, double standardDeviation) {
         final float[] data = new float[diameter];
 
         int mid = diameter / 2;
@@ -224,56 +272,69 @@ public final class FeGaussianBlur extends AbstractFilterPrimitive {
         }
 
         @Override
-        public @NotNull ImageProducer convolve(@NotNull BufferedImage image, @Nullable RenderingHints hints,
+        public @NotNull BufferedImage convolve(@NotNull BufferedImage image, @Nullable RenderingHints hints,
                 int awtEdgeMode) {
             WritableRaster raster = image.getRaster();
             if (!image.getColorModel().isAlphaPremultiplied()) {
                 throw new IllegalStateException("Image should be premultiplied");
             }
+            FilterParallelism parallelism = BandExecutor.parallelism(hints);
 
             if (xKernel != null && yKernel != null) {
                 BufferedImageOp op = new MultiConvolveOp(new ConvolveOp[] {
                         new ConvolveOp(xKernel, awtEdgeMode, hints),
                         new ConvolveOp(yKernel, awtEdgeMode, hints)
-                });
-                return new FilteredImageSource(image.getSource(), new BufferedImageFilter(op));
+                }, parallelism);
+                return op.filter(image, null);
             } else if (xKernel != null) {
-                verticalBoxBlur(raster);
-                return new FilteredImageSource(image.getSource(), new BufferedImageFilter(
-                        new ConvolveOp(xKernel, awtEdgeMode, hints)));
+                verticalBoxBlur(raster, parallelism);
+                return new MultiConvolveOp(new ConvolveOp[] {new ConvolveOp(xKernel, awtEdgeMode, hints)},
+                        parallelism).filter(image, null);
             } else if (yKernel != null) {
-                horizontalBoxBlur(raster);
-                return new FilteredImageSource(image.getSource(), new BufferedImageFilter(
-                        new ConvolveOp(yKernel, awtEdgeMode, hints)));
+                horizontalBoxBlur(raster, parallelism);
+                return new MultiConvolveOp(new ConvolveOp[] {new ConvolveOp(yKernel, awtEdgeMode, hints)},
+                        parallelism).filter(image, null);
             } else {
-                horizontalBoxBlur(raster);
-                verticalBoxBlur(raster);
-                return image.getSource();
+                horizontalBoxBlur(raster, parallelism);
+                verticalBoxBlur(raster, parallelism);
+                return image;
             }
         }
 
-        private void horizontalBoxBlur(@NotNull WritableRaster raster) {
+        private void horizontalBoxBlur(@NotNull WritableRaster raster, @Nullable FilterParallelism parallelism) {
             if ((dX & 0x01) == 0) {
-                InplaceBoxBlurFilter.horizontalPass(raster, raster, 0, 0, dX, dX / 2);
-                InplaceBoxBlurFilter.horizontalPass(raster, raster, 0, 0, dX, dX / 2 - 1);
-                InplaceBoxBlurFilter.horizontalPass(raster, raster, 0, 0, dX + 1, dX / 2);
+                InplaceBoxBlurFilter.horizontalPass(raster, raster, 0, 0, dX, dX / 2, parallelism);
+                InplaceBoxBlurFilter.horizontalPass(raster, raster, 0, 0, dX, dX / 2 - 1, parallelism);
+                InplaceBoxBlurFilter.horizontalPass(raster, raster, 0, 0, dX + 1, dX / 2, parallelism);
             } else {
-                InplaceBoxBlurFilter.horizontalPass(raster, raster, 0, 0, dX, dX / 2);
-                InplaceBoxBlurFilter.horizontalPass(raster, raster, 0, 0, dX, dX / 2);
-                InplaceBoxBlurFilter.horizontalPass(raster, raster, 0, 0, dX, dX / 2);
+                InplaceBoxBlurFilter.horizontalPass(raster, raster, 0, 0, dX, dX / 2, parallelism);
+                InplaceBoxBlurFilter.horizontalPass(raster, raster, 0, 0, dX, dX / 2, parallelism);
+                InplaceBoxBlurFilter.horizontalPass(raster, raster, 0, 0, dX, dX / 2, parallelism);
             }
         }
 
-        private void verticalBoxBlur(@NotNull WritableRaster raster) {
+        private void verticalBoxBlur(@NotNull WritableRaster raster, @Nullable FilterParallelism parallelism) {
             if ((dY & 0x01) == 0) {
-                InplaceBoxBlurFilter.verticalPass(raster, raster, 0, 0, dY, dY / 2);
-                InplaceBoxBlurFilter.verticalPass(raster, raster, 0, 0, dY, dY / 2 - 1);
-                InplaceBoxBlurFilter.verticalPass(raster, raster, 0, 0, dY + 1, dY / 2);
+                InplaceBoxBlurFilter.verticalPass(raster, raster, 0, 0, dY, dY / 2, parallelism);
+                InplaceBoxBlurFilter.verticalPass(raster, raster, 0, 0, dY, dY / 2 - 1, parallelism);
+                InplaceBoxBlurFilter.verticalPass(raster, raster, 0, 0, dY + 1, dY / 2, parallelism);
             } else {
-                InplaceBoxBlurFilter.verticalPass(raster, raster, 0, 0, dY, dY / 2);
-                InplaceBoxBlurFilter.verticalPass(raster, raster, 0, 0, dY, dY / 2);
-                InplaceBoxBlurFilter.verticalPass(raster, raster, 0, 0, dY, dY / 2);
+                InplaceBoxBlurFilter.verticalPass(raster, raster, 0, 0, dY, dY / 2, parallelism);
+                InplaceBoxBlurFilter.verticalPass(raster, raster, 0, 0, dY, dY / 2, parallelism);
+                InplaceBoxBlurFilter.verticalPass(raster, raster, 0, 0, dY, dY / 2, parallelism);
             }
         }
     }
+
+    private static final class CachedKernel {
+        private final double sigma;
+        private final int diameter;
+        private final @NotNull Kernel kernel;
+
+        private CachedKernel(double sigma, int diameter, @NotNull Kernel kernel) {
+            this.sigma = sigma;
+            this.diameter = diameter;
+            this.kernel = kernel;
+        }
+    }
 }
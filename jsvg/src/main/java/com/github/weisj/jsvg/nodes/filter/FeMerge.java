@@ -22,7 +22,7 @@
 package com.github.weisj.jsvg.nodes.filter;
 
 import java.awt.*;
-import java.awt.image.BufferedImage;
+import java.util.Arrays;
 import java.util.List;
 
 import org.jetbrains.annotations.NotNull;
@@ -39,6 +39,7 @@ import com.github.weisj.jsvg.nodes.prototype.spec.PermittedContent;
 import com.github.weisj.jsvg.parser.impl.AttributeNode;
 import com.github.weisj.jsvg.renderer.RenderContext;
 import com.github.weisj.jsvg.renderer.output.impl.GraphicsUtil;
+import com.github.weisj.jsvg.util.ImageUtil;
 
 @ElementCategories(Category.FilterPrimitive)
 @PermittedContent(
@@ -94,6 +95,25 @@ public final class FeMerge extends ContainerNode implements FilterPrimitive {
         return filterPrimitiveBase.height;
     }
 
+    @Override
+    public @NotNull FilterChannelKey @NotNull [] inputKeys() {
+        if (inputChannels.length == 0) return new FilterChannelKey[] {DefaultFilterChannel.SourceGraphic};
+        return inputChannels.clone();
+    }
+
+    @Override
+    public @NotNull Rectangle @NotNull [] inputRegionsOfInterest(@NotNull FilterContext filterContext,
+            @NotNull Rectangle resultRegion) {
+        Rectangle[] regions = new Rectangle[inputKeys().length];
+        Arrays.fill(regions, resultRegion);
+        return regions;
+    }
+
+    @Override
+    public @NotNull FilterChannelKey resultKey() {
+        return filterPrimitiveBase.resultKey();
+    }
+
     @Override
     public void layoutFilter(@NotNull RenderContext context, @NotNull FilterLayoutContext filterLayoutContext) {
         if (inputChannels.length == 0) {
@@ -121,14 +141,15 @@ public final class FeMerge extends ContainerNode implements FilterPrimitive {
         Channel in = filterPrimitiveBase.channel(inputChannels[0], filterContext);
         Channel result = in;
         if (inputChannels.length > 1) {
-            BufferedImage dst = in.toBufferedImageNonAliased(context);
-            Graphics2D imgGraphics = GraphicsUtil.createGraphics(dst);
+            RasterChannel dst = in.rasterChannel(context).copy(ImageUtil.Premultiplied.No);
+            Graphics2D imgGraphics = GraphicsUtil.createGraphics(dst.image());
+            imgGraphics.clip(filterContext.regionOfInterest());
             for (int i = 1; i < inputChannels.length; i++) {
                 Channel channel = filterPrimitiveBase.channel(inputChannels[i], filterContext);
-                imgGraphics.drawImage(context.platformSupport().createImage(channel.producer()),
-                        null, context.platformSupport().imageObserver());
+                imgGraphics.drawImage(channel.rasterChannel(context).image(), 0, 0, null);
             }
-            result = new ImageProducerChannel(dst.getSource());
+            imgGraphics.dispose();
+            result = dst;
         }
         filterPrimitiveBase.saveResult(result, filterContext);
     }
@@ -21,11 +21,11 @@
  */
 package com.github.weisj.jsvg.nodes.filter;
 
+import java.awt.*;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.AffineTransformOp;
-import java.awt.image.BufferedImageFilter;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -79,6 +79,18 @@ public final class FeOffset extends AbstractFilterPrimitive {
         return off;
     }
 
+    /**
+     * The offset in pixels of the filter image.
+     *
+     * @param filterContext the filter context.
+     * @return the offset.
+     */
+    @NotNull
+    Point2D.Double deviceOffset(@NotNull FilterContext filterContext) {
+        return offset(filterContext.info().output().transform(), filterContext.primitiveUnits(),
+                filterContext.info().elementBounds());
+    }
+
     @Override
     public void layoutFilter(@NotNull RenderContext context, @NotNull FilterLayoutContext filterLayoutContext) {
         LayoutBounds input = impl().layoutInput(filterLayoutContext);
@@ -87,19 +99,60 @@ public final class FeOffset extends AbstractFilterPrimitive {
         impl().saveLayoutResult(result, filterLayoutContext);
     }
 
+    @Override
+    public @NotNull Rectangle @NotNull [] inputRegionsOfInterest(@NotNull FilterContext filterContext,
+            @NotNull Rectangle resultRegion) {
+        Point2D.Double off = deviceOffset(filterContext);
+        // Fractional offsets are interpolated from the neighbouring pixels.
+        int x = (int) Math.floor(resultRegion.x - off.x);
+        int y = (int) Math.floor(resultRegion.y - off.y);
+        int maxX = (int) Math.ceil(resultRegion.x + resultRegion.width - off.x);
+        int maxY = (int) Math.ceil(resultRegion.y + resultRegion.height - off.y);
+        Rectangle region = new Rectangle(x, y, maxX - x, maxY - y);
+        if (off.x != Math.rint(off.x) || off.y != Math.rint(off.y)) region.grow(1, 1);
+        return new Rectangle[] {region};
+    }
+
     @Override
     public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
         Channel in = impl().inputChannel(filterContext);
         Channel result = in;
         if (dx != 0 || dy != 0) {
-            AffineTransform at = filterContext.info().output().transform();
-            Point2D.Double off = offset(at, filterContext.primitiveUnits(), filterContext.info().elementBounds());
-            AffineTransform transform = AffineTransform.getTranslateInstance(off.x, off.y);
-
-            AffineTransformOp op = new AffineTransformOp(transform, filterContext.renderingHints());
-            result = in.applyFilter(new BufferedImageFilter(op));
+            Point2D.Double off = deviceOffset(filterContext);
+            // Moving pixels doesn't depend on the color space, hence the input is kept in its color space.
+            RasterChannel input = in.rasterChannel(context, in.colorSpace());
+            if (off.x == Math.rint(off.x) && off.y == Math.rint(off.y)) {
+                result = translate(input, (int) off.x, (int) off.y);
+            } else {
+                AffineTransform transform = AffineTransform.getTranslateInstance(off.x, off.y);
+                AffineTransformOp op = new AffineTransformOp(transform, filterContext.renderingHints());
+                result = new RasterChannel(op.filter(input.image(), null), filterContext.surfaces(),
+                        input.colorSpace());
+            }
         }
 
         impl().saveResult(result, filterContext);
     }
+
+    /*
+     * Like AffineTransformOp the result grows by the offset, such that content moved past the bottom right corner of
+     * the source is retained.
+     */
+    private static @NotNull RasterChannel translate(@NotNull RasterChannel input, int dx, int dy) {
+        int width = Math.max(1, input.width() + dx);
+        int height = Math.max(1, input.height() + dy);
+        RasterChannel output = input.createCompatible(width, height, input.format());
+        int srcX = Math.max(0, -dx);
+        int dstX = Math.max(0, dx);
+        int rowLength = input.width() - srcX;
+        if (rowLength <= 0) return output;
+
+        int[] src = input.data();
+        int[] dst = output.data();
+        for (int dstY = Math.max(0, dy), end = input.height() + dy; dstY < end; dstY++) {
+            System.arraycopy(src, input.offset() + (dstY - dy) * input.scanlineStride() + srcX,
+                    dst, output.offset() + dstY * output.scanlineStride() + dstX, rowLength);
+        }
+        return output;
+    }
 }
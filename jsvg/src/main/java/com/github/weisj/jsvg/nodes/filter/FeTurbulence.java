@@ -21,12 +21,16 @@
  */
 package com.github.weisj.jsvg.nodes.filter;
 
+import java.awt.*;
 import java.awt.color.ColorSpace;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.*;
+import java.util.Objects;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import com.github.weisj.jsvg.attributes.filter.FilterChannelKey;
 import com.github.weisj.jsvg.attributes.filter.LayoutBounds;
 import com.github.weisj.jsvg.geometry.noise.PerlinTurbulence;
 import com.github.weisj.jsvg.geometry.size.FloatInsets;
@@ -36,6 +40,7 @@ import com.github.weisj.jsvg.nodes.prototype.spec.Category;
 import com.github.weisj.jsvg.nodes.prototype.spec.ElementCategories;
 import com.github.weisj.jsvg.nodes.prototype.spec.PermittedContent;
 import com.github.weisj.jsvg.parser.impl.AttributeNode;
+import com.github.weisj.jsvg.renderer.FilterParallelism;
 import com.github.weisj.jsvg.renderer.RenderContext;
 import com.github.weisj.jsvg.util.ImageUtil;
 
@@ -51,11 +56,23 @@ public final class FeTurbulence extends AbstractFilterPrimitive {
         Turbulence
     }
 
+    public enum StitchTiles {
+        stitch,
+        noStitch
+    }
+
     private float seed;
     private float[] baseFrequency;
     private int numOctaves;
 
     private Type type;
+    private StitchTiles stitchTiles;
+
+    /*
+     * Stitched noise is typically used for texture backgrounds, which are repainted with the same geometry. Hence
+     * the last generated tile is retained.
+     */
+    private volatile @Nullable TurbulenceChannel stitchedChannel;
 
     @Override
     public @NotNull String tagName() {
@@ -78,6 +95,12 @@ public final class FeTurbulence extends AbstractFilterPrimitive {
         numOctaves = Math.min(numOctaves, 8);
 
         type = attributeNode.getEnum("type", Type.fractalNoise);
+        stitchTiles = attributeNode.getEnum("stitchTiles", StitchTiles.noStitch);
+    }
+
+    @Override
+    public @NotNull FilterChannelKey @NotNull [] inputKeys() {
+        return new FilterChannelKey[0];
     }
 
     @Override
@@ -92,38 +115,107 @@ public final class FeTurbulence extends AbstractFilterPrimitive {
     @Override
     public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
         Filter.FilterInfo info = filterContext.info();
-        Channel turbulenceChannel =
-                new TurbulenceChannel(info.imageBounds(), info.imageWidth, info.imageHeight, seed, numOctaves,
-                        baseFrequency[0], baseFrequency.length > 1 ? baseFrequency[1] : baseFrequency[0], type);
+        RenderingHints hints = filterContext.renderingHints();
+        boolean singlePrecision = hints != null
+                && hints.get(RenderingHints.KEY_RENDERING) == RenderingHints.VALUE_RENDER_SPEED;
+        FilterParallelism parallelism = BandExecutor.parallelism(hints);
+        float xFrequency = baseFrequency[0];
+        float yFrequency = baseFrequency.length > 1 ? baseFrequency[1] : baseFrequency[0];
+
+        Rectangle regionOfInterest = filterContext.regionOfInterest();
+        TurbulenceChannel turbulenceChannel;
+        if (stitchTiles == StitchTiles.stitch) {
+            Rectangle2D region = filterContext.filterPrimitiveRegion(context.measureContext(), this);
+            Rectangle2D.Double tile = new Rectangle2D.Double(
+                    region.getX(), region.getY(), region.getWidth(), region.getHeight());
+            turbulenceChannel = stitchedChannel;
+            if (turbulenceChannel == null
+                    || !turbulenceChannel.generates(info.imageBounds(), info.imageWidth, info.imageHeight, tile,
+                            singlePrecision, regionOfInterest)) {
+                turbulenceChannel = new TurbulenceChannel(info.imageBounds(), info.imageWidth, info.imageHeight,
+                        seed, numOctaves, xFrequency, yFrequency, type, tile, singlePrecision, parallelism,
+                        regionOfInterest);
+                stitchedChannel = turbulenceChannel;
+            }
+        } else {
+            turbulenceChannel = new TurbulenceChannel(info.imageBounds(), info.imageWidth, info.imageHeight,
+                    seed, numOctaves, xFrequency, yFrequency, type, null, singlePrecision, parallelism,
+                    regionOfInterest);
+        }
         impl().saveResult(turbulenceChannel, filterContext);
     }
 
     public static final class TurbulenceChannel implements Channel, PixelProvider {
 
         private final PerlinTurbulence perlinTurbulence;
-        private final double[] channels = new double[4];
         private final int imageWidth;
         private final int imageHeight;
         private final Type type;
         private final Rectangle2D tileBounds;
+        private final @Nullable Rectangle2D.Double stitchTile;
+        private final boolean singlePrecision;
+        private final @Nullable FilterParallelism parallelism;
+        private final @NotNull Rectangle region;
         private BufferedImage bufferedImage;
 
         public TurbulenceChannel(@NotNull Rectangle2D tileBounds, int imageWidth, int imageHeight,
                 float seed, int octaves, double xFrequency, double yFrequency, Type type) {
+            this(tileBounds, imageWidth, imageHeight, seed, octaves, xFrequency, yFrequency, type, null, false,
+                    null);
+        }
+
+        /**
+         * Creates a new turbulence channel.
+         *
+         * @param tileBounds the area covered by the image in user space.
+         * @param imageWidth the width of the image.
+         * @param imageHeight the height of the image.
+         * @param seed the seed of the noise.
+         * @param octaves the number of octaves.
+         * @param xFrequency the base frequency in x direction.
+         * @param yFrequency the base frequency in y direction.
+         * @param type the type of noise.
+         * @param stitchTile the tile to stitch in user space or null if tiles shouldn't be stitched.
+         * @param singlePrecision whether to compute the noise in single precision.
+         * @param parallelism the parallelism to generate rows with.
+         */
+        public TurbulenceChannel(@NotNull Rectangle2D tileBounds, int imageWidth, int imageHeight,
+                float seed, int octaves, double xFrequency, double yFrequency, Type type,
+                @Nullable Rectangle2D.Double stitchTile, boolean singlePrecision,
+                @Nullable FilterParallelism parallelism) {
+            this(tileBounds, imageWidth, imageHeight, seed, octaves, xFrequency, yFrequency, type, stitchTile,
+                    singlePrecision, parallelism, new Rectangle(0, 0, imageWidth, imageHeight));
+        }
+
+        TurbulenceChannel(@NotNull Rectangle2D tileBounds, int imageWidth, int imageHeight,
+                float seed, int octaves, double xFrequency, double yFrequency, Type type,
+                @Nullable Rectangle2D.Double stitchTile, boolean singlePrecision,
+                @Nullable FilterParallelism parallelism, @NotNull Rectangle region) {
             this.tileBounds = tileBounds;
+            this.region = region.intersection(new Rectangle(0, 0, imageWidth, imageHeight));
             this.imageWidth = imageWidth;
             this.imageHeight = imageHeight;
             this.type = type;
-            this.perlinTurbulence = new PerlinTurbulence((int) seed, octaves, xFrequency, yFrequency);
+            this.stitchTile = stitchTile;
+            this.singlePrecision = singlePrecision;
+            this.parallelism = parallelism;
+            this.perlinTurbulence = PerlinTurbulence.cached((int) seed, octaves, xFrequency, yFrequency);
+        }
+
+        boolean generates(@NotNull Rectangle2D tileBounds, int imageWidth, int imageHeight,
+                @Nullable Rectangle2D.Double stitchTile, boolean singlePrecision, @NotNull Rectangle region) {
+            return this.imageWidth == imageWidth
+                    && (region.isEmpty() || this.region.contains(region))
+                    && this.imageHeight == imageHeight
+                    && this.singlePrecision == singlePrecision
+                    && this.tileBounds.equals(tileBounds)
+                    && Objects.equals(this.stitchTile, stitchTile);
         }
 
-        private @NotNull BufferedImage ensureImageBackingStore() {
+        private synchronized @NotNull BufferedImage ensureImageBackingStore() {
             if (bufferedImage == null) {
-                ColorSpace cs = ColorSpace.getInstance(ColorSpace.CS_LINEAR_RGB);
-                ColorModel cm = new DirectColorModel(cs, 32, 0x00FF0000, 0x0000FF00, 0x000000FF, 0xFF000000,
-                        false, DataBuffer.TYPE_INT);
-                WritableRaster dest = cm.createCompatibleWritableRaster(imageWidth, imageHeight);
-                bufferedImage = new BufferedImage(cm, dest, false, null);
+                BufferedImage image = new BufferedImage(imageWidth, imageHeight, BufferedImage.TYPE_INT_ARGB);
+                WritableRaster dest = image.getRaster();
 
                 final int w = dest.getWidth();
                 final int h = dest.getHeight();
@@ -131,26 +223,58 @@ public final class FeTurbulence extends AbstractFilterPrimitive {
                 final double scaleX = tileBounds.getWidth() / (double) w;
                 final double scaleY = tileBounds.getHeight() / (double) h;
 
-                final double startX = tileBounds.getX();
-                final double startY = tileBounds.getY();
+                // The sample positions are accumulated rather than multiplied, such that every row sees
+                // exactly the same coordinates independent of how rows are split between threads.
+                final double[] pointsX = new double[w];
+                double point = tileBounds.getX();
+                for (int i = 0; i < w; i++) {
+                    pointsX[i] = point;
+                    point += scaleX;
+                }
+                final double[] pointsY = new double[h];
+                point = tileBounds.getY();
+                for (int i = 0; i < h; i++) {
+                    pointsY[i] = point;
+                    point += scaleY;
+                }
 
-                boolean fractalNoise = type == Type.fractalNoise;
+                final boolean fractalNoise = type == Type.fractalNoise;
 
                 final int[] destPixels = ImageUtil.getINT_RGBA_DataBank(dest);
-                final int dstAdjust = ImageUtil.getINT_RGBA_DataAdjust(dest);
-                int dp = ImageUtil.getINT_RGBA_DataOffset(dest);
-
-                double point_1 = startY;
-                for (int i = 0; i < h; i++) {
-                    double point_0 = startX;
-                    for (int end = dp + w; dp < end; dp++) {
-                        perlinTurbulence.turbulence(channels, point_0, point_1, fractalNoise, null, null);
-                        destPixels[dp] = cm.getRGB(channelsToRGB(channels));
-                        point_0 += scaleX;
+                final int scanlineStride = ImageUtil.getINT_RGBA_ScanlineStride(dest);
+                final int offset = ImageUtil.getINT_RGBA_DataOffset(dest);
+                final int[] table = LinearRGBConversion.TABLE;
+                // Pixels outside the region of interest are never read and stay transparent.
+                final int minX = region.x;
+                final int maxX = region.x + region.width;
+
+                BandExecutor.forEachBand(parallelism, (long) region.width * region.height,
+                        region.y, region.y + region.height, (from, to) -> {
+                    double[] doubleChannels = new double[4];
+                    float[] floatChannels = new float[4];
+                    PerlinTurbulence.StitchInfo stitchInfo = stitchTile != null
+                            ? new PerlinTurbulence.StitchInfo()
+                            : null;
+                    for (int y = from; y < to; y++) {
+                        int dp = offset + y * scanlineStride;
+                        double pointY = pointsY[y];
+                        for (int x = minX; x < maxX; x++) {
+                            int rgb;
+                            if (singlePrecision) {
+                                perlinTurbulence.turbulence(floatChannels, pointsX[x], pointY, fractalNoise,
+                                        stitchInfo, stitchTile);
+                                rgb = channelsToRGB(floatChannels[0], floatChannels[1], floatChannels[2],
+                                        floatChannels[3]);
+                            } else {
+                                perlinTurbulence.turbulence(doubleChannels, pointsX[x], pointY, fractalNoise,
+                                        stitchInfo, stitchTile);
+                                rgb = channelsToRGB(doubleChannels);
+                            }
+                            destPixels[dp + x] = LinearRGBConversion.convert(table, rgb);
+                        }
                     }
-                    point_1 += scaleY;
-                    dp += dstAdjust;
-                }
+                });
+                bufferedImage = image;
             }
             return bufferedImage;
         }
@@ -160,6 +284,11 @@ public final class FeTurbulence extends AbstractFilterPrimitive {
             return ensureImageBackingStore().getSource();
         }
 
+        @Override
+        public @NotNull Image toImage(@NotNull RenderContext context) {
+            return ensureImageBackingStore();
+        }
+
         @Override
         public @NotNull BufferedImage toBufferedImageNonAliased(@NotNull RenderContext context) {
             BufferedImage img = ensureImageBackingStore();
@@ -168,6 +297,11 @@ public final class FeTurbulence extends AbstractFilterPrimitive {
             return new BufferedImage(cm, raster, cm.isAlphaPremultiplied(), null);
         }
 
+        @Override
+        public @NotNull RasterChannel rasterChannel(@NotNull RenderContext context) {
+            return new RasterChannel(ensureImageBackingStore());
+        }
+
         @Override
         public @NotNull Channel applyFilter(@NotNull ImageFilter filter) {
             return new ImageProducerChannel(new FilteredImageSource(producer(), filter));
@@ -180,10 +314,23 @@ public final class FeTurbulence extends AbstractFilterPrimitive {
 
         @Override
         public int pixelAt(double x, double y) {
-            perlinTurbulence.turbulence(channels, x, y, type == Type.fractalNoise, null, null);
+            // Stitched channels are shared between renders, hence this may be called concurrently.
+            double[] channels = new double[4];
+            perlinTurbulence.turbulence(channels, x, y, type == Type.fractalNoise,
+                    stitchTile != null ? new PerlinTurbulence.StitchInfo() : null, stitchTile);
             return channelsToRGB(channels);
         }
 
+        private static int channelsToRGB(float r, float g, float b, float a) {
+            return (clampChannel((int) a) << 24) | (clampChannel((int) r) << 16)
+                    | (clampChannel((int) g) << 8) | clampChannel((int) b);
+        }
+
+        private static int clampChannel(int value) {
+            if ((value & 0xFFFFFF00) == 0) return value;
+            return (value & 0x80000000) != 0 ? 0 : 0xFF;
+        }
+
         private static int channelsToRGB(double[] channels) {
             int j;
             int i = (int) channels[0];
@@ -217,4 +364,40 @@ public final class FeTurbulence extends AbstractFilterPrimitive {
             return j;
         }
     }
+
+    /**
+     * The noise is generated as linear RGB colors. Historically the noise was stored in an image with a linear RGB
+     * color model, which was converted to sRGB when the image was drawn onto an sRGB surface. This table records
+     * the result of exactly that conversion for every pair of alpha and color component, such that the noise can be
+     * written directly to an sRGB image.
+     */
+    private static final class LinearRGBConversion {
+        private static final int[] TABLE = createTable();
+
+        private static int @NotNull [] createTable() {
+            ColorSpace cs = ColorSpace.getInstance(ColorSpace.CS_LINEAR_RGB);
+            ColorModel cm = new DirectColorModel(cs, 32, 0x00FF0000, 0x0000FF00, 0x000000FF, 0xFF000000,
+                    false, DataBuffer.TYPE_INT);
+            WritableRaster raster = cm.createCompatibleWritableRaster(256, 256);
+            int[] pixels = ImageUtil.getINT_RGBA_DataBank(raster);
+            for (int alpha = 0; alpha < 256; alpha++) {
+                for (int value = 0; value < 256; value++) {
+                    pixels[alpha * 256 + value] = cm.getRGB((alpha << 24) | (value << 16) | (value << 8) | value);
+                }
+            }
+            BufferedImage probe = new BufferedImage(cm, raster, false, null);
+            BufferedImage converted = new BufferedImage(256, 256, BufferedImage.TYPE_INT_ARGB);
+            Graphics g = converted.getGraphics();
+            g.drawImage(probe, 0, 0, null);
+            g.dispose();
+            return converted.getRGB(0, 0, 256, 256, null, 0, 256);
+        }
+
+        private static int convert(int @NotNull [] table, int argb) {
+            int row = (argb >>> 24) << 8;
+            return (table[row + ((argb >> 16) & 0xFF)] & 0xFFFF0000)
+                    | (table[row + ((argb >> 8) & 0xFF)] & 0xFF00)
+                    | (table[row + (argb & 0xFF)] & 0xFF);
+        }
+    }
 }
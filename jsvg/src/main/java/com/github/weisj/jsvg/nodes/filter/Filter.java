@@ -21,8 +21,11 @@
  */
 package com.github.weisj.jsvg.nodes.filter;
 
+import java.awt.Rectangle;
 import java.awt.geom.Rectangle2D;
-import java.awt.image.*;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import org.jetbrains.annotations.NotNull;
@@ -44,12 +47,15 @@ import com.github.weisj.jsvg.nodes.SVGNode;
 import com.github.weisj.jsvg.nodes.animation.Animate;
 import com.github.weisj.jsvg.nodes.animation.Set;
 import com.github.weisj.jsvg.nodes.container.ContainerNode;
+import com.github.weisj.jsvg.nodes.prototype.Renderable;
 import com.github.weisj.jsvg.nodes.prototype.spec.Category;
 import com.github.weisj.jsvg.nodes.prototype.spec.ElementCategories;
 import com.github.weisj.jsvg.nodes.prototype.spec.PermittedContent;
 import com.github.weisj.jsvg.parser.impl.AttributeNode;
 import com.github.weisj.jsvg.renderer.RenderContext;
 import com.github.weisj.jsvg.renderer.impl.ElementBounds;
+import com.github.weisj.jsvg.renderer.impl.FilterReach;
+import com.github.weisj.jsvg.renderer.impl.SurfaceScope;
 import com.github.weisj.jsvg.renderer.output.Output;
 import com.github.weisj.jsvg.util.BlittableImage;
 
@@ -80,6 +86,7 @@ public final class Filter extends ContainerNode {
     private ColorInterpolation colorInterpolation;
 
     private boolean isValid;
+    private FilterGraph graph;
 
     @Override
     public @NotNull String tagName() {
@@ -95,13 +102,16 @@ public final class Filter extends ContainerNode {
         super.build(attributeNode);
 
         isValid = true;
+        List<FilterPrimitive> primitives = new ArrayList<>(children().size());
         for (SVGNode child : children()) {
             FilterPrimitive filterPrimitive = (FilterPrimitive) child;
             if (!filterPrimitive.isValid()) {
                 isValid = false;
-                break;
             }
+            primitives.add(filterPrimitive);
         }
+        // An invalid filter is never applied, but still takes part in layout.
+        graph = isValid ? FilterGraph.compile(primitives) : FilterGraph.uncompiled(primitives);
 
         filterUnits = attributeNode.getEnum("filterUnits", UnitType.ObjectBoundingBox);
         filterPrimitiveUnits = attributeNode.getEnum("primitiveUnits", UnitType.UserSpaceOnUse);
@@ -117,10 +127,21 @@ public final class Filter extends ContainerNode {
                 .coercePercentageToCorrectUnit(filterUnits, PercentageDimension.HEIGHT);
     }
 
+    /**
+     * The region the filter result is clipped to.
+     *
+     * @param context the render context of the filtered element.
+     * @param elementBounds the bounds of the filtered element.
+     * @return the filter region in user space.
+     */
+    public @NotNull Rectangle2D filterRegion(@NotNull RenderContext context, @NotNull ElementBounds elementBounds) {
+        return filterUnits.computeViewBounds(
+                context.measureContext(), elementBounds.boundingBox(), x, y, width, height);
+    }
+
     public @Nullable FilterBounds createFilterBounds(@Nullable Output output, @NotNull RenderContext context,
             @NotNull ElementBounds elementBounds) {
-        Rectangle2D.Double filterRegion = filterUnits.computeViewBounds(
-                context.measureContext(), elementBounds.boundingBox(), x, y, width, height);
+        Rectangle2D filterRegion = filterRegion(context, elementBounds);
         Rectangle2D graphicsClipBounds = output != null
                 ? output.clipBounds()
                 : NO_CLIP_BOUNDS.getBounds2D();
@@ -144,9 +165,8 @@ public final class Filter extends ContainerNode {
         filterLayoutContext.resultChannels().addResult(DefaultFilterChannel.SourceGraphic, sourceDependentBounds);
         filterLayoutContext.resultChannels().addResult(DefaultFilterChannel.SourceAlpha, sourceDependentBounds);
 
-        for (SVGNode child : children()) {
+        for (FilterPrimitive filterPrimitive : graph.primitives()) {
             try {
-                FilterPrimitive filterPrimitive = (FilterPrimitive) child;
                 filterPrimitive.layoutFilter(context, filterLayoutContext);
             } catch (IllegalFilterStateException ignored) {
                 // Just carry on doing layout
@@ -167,20 +187,27 @@ public final class Filter extends ContainerNode {
 
     public @NotNull BufferedImage applyFilter(@NotNull Output output, @NotNull RenderContext context,
             @NotNull FilterInfo filterInfo) {
-        ImageProducer producer = filterInfo.blittableImage.image().getSource();
-
         FilterContext filterContext =
                 new FilterContext(filterInfo, filterPrimitiveUnits, colorInterpolation, output.renderingHints());
 
-        Channel sourceChannel = new ImageProducerChannel(producer);
+        Channel sourceChannel = new RasterChannel(filterInfo.blittableImage.image(), filterInfo.surfaces);
         filterContext.resultChannels().addResult(DefaultFilterChannel.SourceGraphic, sourceChannel);
         filterContext.resultChannels().addResult(DefaultFilterChannel.LastResult, sourceChannel);
         filterContext.resultChannels().addResult(DefaultFilterChannel.SourceAlpha,
-                () -> new SourceAlphaChannel(sourceChannel.alphaChannel().producer()));
-
-        for (SVGNode child : children()) {
+                sourceChannel::alphaChannel);
+
+        FilterPrimitive[] primitives = graph.primitives();
+        Rectangle visibleRegion = visibleImageRegion(output, context, filterInfo);
+        Rectangle[] regionsOfInterest = graph.regionsOfInterest(filterContext, visibleRegion);
+        FilterReach filterReach = FilterReach.of(output);
+        if (filterReach != null) {
+            reportReach(filterReach, context, filterInfo, visibleRegion,
+                    graph.sourceRegionOfInterest(filterContext, visibleRegion, regionsOfInterest));
+        }
+        for (int i = 0; i < primitives.length; i++) {
+            FilterPrimitive filterPrimitive = primitives[i];
+            filterContext.setRegionOfInterest(regionsOfInterest[i]);
             try {
-                FilterPrimitive filterPrimitive = (FilterPrimitive) child;
                 filterPrimitive.applyFilter(context, filterContext);
             } catch (IllegalFilterStateException e) {
                 // Just carry on applying filters
@@ -190,7 +217,54 @@ public final class Filter extends ContainerNode {
         }
 
         Channel result = Objects.requireNonNull(filterContext.getChannel(DefaultFilterChannel.LastResult));
-        return result.toBufferedImageNonAliased(context);
+        return result.rasterChannel(context).image();
+    }
+
+    /*
+     * The part of the filter image which ends up on screen i.e. the filter region intersected with the clip of the
+     * output the result is blitted to. Pixels outside of it don't need to be computed.
+     */
+    private static @NotNull Rectangle visibleImageRegion(@NotNull Output output, @NotNull RenderContext context,
+            @NotNull FilterInfo filterInfo) {
+        Rectangle2D clipBounds = output.clipBounds();
+        Rectangle2D visibleRegion = clipBounds != null
+                ? filterInfo.filterRegion().createIntersection(clipBounds)
+                : filterInfo.filterRegion();
+        Rectangle2D visibleInDeviceSpace = GeometryUtil.userBoundsToDeviceBounds(context, visibleRegion);
+        Rectangle2D imageBounds = filterInfo.blittableImage.imageBoundsInDeviceSpace();
+        int x = (int) Math.floor(visibleInDeviceSpace.getX() - imageBounds.getX());
+        int y = (int) Math.floor(visibleInDeviceSpace.getY() - imageBounds.getY());
+        int maxX = (int) Math.ceil(visibleInDeviceSpace.getMaxX() - imageBounds.getX());
+        int maxY = (int) Math.ceil(visibleInDeviceSpace.getMaxY() - imageBounds.getY());
+        // Grow by one pixel for pixels touched by anti-aliasing.
+        return new Rectangle(x - 1, y - 1, maxX - x + 2, maxY - y + 2);
+    }
+
+    /*
+     * The source graphic is only rendered inside the clip (grown by the escape insets of the layout). If the filter
+     * needs pixels of the filter region beyond that, report how far it reads past the visible region.
+     */
+    private static void reportReach(@NotNull FilterReach filterReach, @NotNull RenderContext context,
+            @NotNull FilterInfo filterInfo, @NotNull Rectangle visibleRegion, @NotNull Rectangle sourceRegion) {
+        Rectangle2D filterRegion = GeometryUtil.userBoundsToDeviceBounds(context, filterInfo.filterRegion());
+        Rectangle2D imageBounds = filterInfo.blittableImage.imageBoundsInDeviceSpace();
+        Rectangle2D filterRegionInImage = new Rectangle2D.Double(
+                filterRegion.getX() - imageBounds.getX(), filterRegion.getY() - imageBounds.getY(),
+                filterRegion.getWidth(), filterRegion.getHeight());
+        Rectangle2D neededRegion = filterRegionInImage.createIntersection(sourceRegion);
+        if (neededRegion.isEmpty()
+                || new Rectangle(0, 0, filterInfo.imageWidth, filterInfo.imageHeight).contains(neededRegion)) {
+            return;
+        }
+        if (FilterContext.isUnbounded(sourceRegion)) {
+            filterReach.report(FilterReach.UNBOUNDED);
+            return;
+        }
+        int reach = Math.max(
+                Math.max(visibleRegion.x - sourceRegion.x, visibleRegion.y - sourceRegion.y),
+                Math.max((sourceRegion.x + sourceRegion.width) - (visibleRegion.x + visibleRegion.width),
+                        (sourceRegion.y + sourceRegion.height) - (visibleRegion.y + visibleRegion.height)));
+        filterReach.report(reach);
     }
 
     @Override
@@ -230,15 +304,31 @@ public final class Filter extends ContainerNode {
         private final @NotNull FilterBounds filterBounds;
         private final @NotNull BlittableImage blittableImage;
         private final @NotNull Output imageOutput;
+        private final @NotNull SurfaceScope surfaces;
+        private final @Nullable Renderable source;
+        private @Nullable SourceShape sourceShape;
+        private boolean sourceShapeResolved;
 
         public FilterInfo(@NotNull BlittableImage blittableImage, @NotNull Output imageOutput,
                 @NotNull FilterBounds filterBounds) {
+            this(blittableImage, imageOutput, filterBounds, SurfaceScope.unpooled());
+        }
+
+        public FilterInfo(@NotNull BlittableImage blittableImage, @NotNull Output imageOutput,
+                @NotNull FilterBounds filterBounds, @NotNull SurfaceScope surfaces) {
+            this(blittableImage, imageOutput, filterBounds, surfaces, null);
+        }
+
+        public FilterInfo(@NotNull BlittableImage blittableImage, @NotNull Output imageOutput,
+                @NotNull FilterBounds filterBounds, @NotNull SurfaceScope surfaces, @Nullable Renderable source) {
             BufferedImage image = blittableImage.image();
             this.imageWidth = image.getWidth();
             this.imageHeight = image.getHeight();
             this.blittableImage = blittableImage;
             this.filterBounds = filterBounds;
             this.imageOutput = imageOutput;
+            this.surfaces = surfaces;
+            this.source = source;
         }
 
         public @NotNull Rectangle2D imageBounds() {
@@ -257,6 +347,30 @@ public final class Filter extends ContainerNode {
             return imageOutput;
         }
 
+        /**
+         * The scope intermediate images of the filter are allocated from. They stay valid until the filter result
+         * has been drawn.
+         *
+         * @return the surface scope.
+         */
+        public @NotNull SurfaceScope surfaces() {
+            return surfaces;
+        }
+
+        /**
+         * The geometry of the source graphic if it is simple enough to derive filter results from it directly.
+         *
+         * @return the source shape or null.
+         */
+        @Nullable
+        SourceShape sourceShape() {
+            if (!sourceShapeResolved) {
+                sourceShape = SourceShape.of(source, blittableImage.context(), filterBounds.filterRegion());
+                sourceShapeResolved = true;
+            }
+            return sourceShape;
+        }
+
         public @NotNull Rectangle2D tile() {
             Rectangle2D elementBounds = elementBounds();
             Rectangle2D imageBounds = imageBounds();
@@ -267,11 +381,4 @@ public final class Filter extends ContainerNode {
                     imageBounds.getHeight());
         }
     }
-
-    private static final class SourceAlphaChannel extends ImageProducerChannel {
-        public SourceAlphaChannel(@NotNull ImageProducer producer) {
-            super(producer);
-        }
-
-    }
 }
@@ -22,6 +22,7 @@
 package com.github.weisj.jsvg.nodes.filter;
 
 import java.awt.*;
+import java.awt.geom.Rectangle2D;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -29,6 +30,8 @@ import org.jetbrains.annotations.Nullable;
 import com.github.weisj.jsvg.attributes.ColorInterpolation;
 import com.github.weisj.jsvg.attributes.UnitType;
 import com.github.weisj.jsvg.attributes.filter.FilterChannelKey;
+import com.github.weisj.jsvg.renderer.MeasureContext;
+import com.github.weisj.jsvg.renderer.impl.SurfaceScope;
 
 public final class FilterContext {
 
@@ -37,6 +40,7 @@ public final class FilterContext {
     private final @NotNull UnitType primitiveUnits;
     private final @Nullable ColorInterpolation colorInterpolation;
     private final @Nullable RenderingHints renderingHints;
+    private @NotNull Rectangle regionOfInterest;
 
     public FilterContext(@NotNull Filter.FilterInfo info, @NotNull UnitType primitiveUnits,
             @Nullable ColorInterpolation colorInterpolation, @Nullable RenderingHints renderingHints) {
@@ -44,6 +48,7 @@ public final class FilterContext {
         this.primitiveUnits = primitiveUnits;
         this.colorInterpolation = colorInterpolation;
         this.renderingHints = renderingHints;
+        this.regionOfInterest = unboundedRegion();
     }
 
     public @NotNull Filter.FilterInfo info() {
@@ -58,6 +63,45 @@ public final class FilterContext {
         return renderingHints;
     }
 
+    public @NotNull Rectangle2D filterPrimitiveRegion(@NotNull MeasureContext context,
+            @NotNull FilterPrimitive filterPrimitive) {
+        return primitiveUnits.computeViewBounds(context, info.elementBounds(),
+                filterPrimitive.x(), filterPrimitive.y(), filterPrimitive.width(), filterPrimitive.height());
+    }
+
+    /**
+     * The area of the filter image in pixels the result of the current primitive is needed for. Pixels outside of
+     * it are never read and may be left transparent.
+     *
+     * @return the region of interest.
+     */
+    public @NotNull Rectangle regionOfInterest() {
+        return new Rectangle(regionOfInterest);
+    }
+
+    /**
+     * A region containing every pixel of a channel, including those which extend past the image.
+     *
+     * @return the unbounded region.
+     */
+    static @NotNull Rectangle unboundedRegion() {
+        return new Rectangle(Integer.MIN_VALUE / 2, Integer.MIN_VALUE / 2, Integer.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    static boolean isUnbounded(@NotNull Rectangle region) {
+        return region.x <= Integer.MIN_VALUE / 4 || region.y <= Integer.MIN_VALUE / 4
+                || (long) region.x + region.width >= Integer.MAX_VALUE / 4
+                || (long) region.y + region.height >= Integer.MAX_VALUE / 4;
+    }
+
+    void setRegionOfInterest(@NotNull Rectangle regionOfInterest) {
+        this.regionOfInterest = regionOfInterest;
+    }
+
+    public @NotNull SurfaceScope surfaces() {
+        return info.surfaces();
+    }
+
     public @NotNull ChannelStorage<Channel> resultChannels() {
         return resultChannels;
     }
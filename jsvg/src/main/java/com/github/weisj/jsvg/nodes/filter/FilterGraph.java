@@ -0,0 +1,341 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import java.awt.*;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntUnaryOperator;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.attributes.ColorInterpolation;
+import com.github.weisj.jsvg.attributes.filter.DefaultFilterChannel;
+import com.github.weisj.jsvg.attributes.filter.FilterChannelKey;
+import com.github.weisj.jsvg.geometry.size.Length;
+import com.github.weisj.jsvg.renderer.RenderContext;
+
+/**
+ * The compiled form of the primitives of a filter. Primitives are connected through the channels they read and
+ * write, which allows dropping primitives whose result never reaches the output of the filter. Chains of
+ * {@link PerPixelFilterPrimitive}s, where each intermediate result is only read by the next primitive, are fused
+ * into a single pass over the raster.
+ */
+final class FilterGraph {
+    private static final int SOURCE = -1;
+
+    private final @NotNull FilterPrimitive @NotNull [] primitives;
+    /*
+     * The producers of the inputs of each primitive as indices into primitives, or null if the graph isn't compiled.
+     */
+    private final int @Nullable [][] dependencies;
+    private final int output;
+
+    private FilterGraph(@NotNull FilterPrimitive @NotNull [] primitives, int @Nullable [][] dependencies,
+            int output) {
+        this.primitives = primitives;
+        this.dependencies = dependencies;
+        this.output = output;
+    }
+
+    /**
+     * The primitives to evaluate in order.
+     *
+     * @return the primitives.
+     */
+    @NotNull
+    FilterPrimitive @NotNull [] primitives() {
+        return primitives;
+    }
+
+    static @NotNull FilterGraph uncompiled(@NotNull List<? extends FilterPrimitive> primitives) {
+        return new FilterGraph(primitives.toArray(new FilterPrimitive[0]), null, SOURCE);
+    }
+
+    static @NotNull FilterGraph compile(@NotNull List<? extends FilterPrimitive> primitives) {
+        int count = primitives.size();
+        Map<Object, Integer> producers = new HashMap<>();
+        producers.put(DefaultFilterChannel.SourceGraphic.key(), SOURCE);
+        producers.put(DefaultFilterChannel.SourceAlpha.key(), SOURCE);
+        producers.put(DefaultFilterChannel.LastResult.key(), SOURCE);
+
+        int[][] dependencies = new int[count][];
+        for (int i = 0; i < count; i++) {
+            FilterPrimitive primitive = primitives.get(i);
+            FilterChannelKey[] inputs = primitive.inputKeys();
+            dependencies[i] = new int[inputs.length];
+            for (int j = 0; j < inputs.length; j++) {
+                Integer producer = producers.get(inputs[j].key());
+                if (producer == null) {
+                    // The primitive will fail, and later primitives then read an older LastResult.
+                    // Keep the filter as is instead of trying to model this.
+                    return uncompiled(primitives);
+                }
+                dependencies[i][j] = producer;
+            }
+            producers.put(primitive.resultKey().key(), i);
+            producers.put(DefaultFilterChannel.LastResult.key(), i);
+        }
+
+        int output = producers.get(DefaultFilterChannel.LastResult.key());
+        boolean[] live = new boolean[count];
+        int[] consumerCount = new int[count];
+        ArrayDeque<Integer> pending = new ArrayDeque<>();
+        if (output != SOURCE) {
+            consumerCount[output]++;
+            live[output] = true;
+            pending.push(output);
+        }
+        while (!pending.isEmpty()) {
+            for (int dependency : dependencies[pending.pop()]) {
+                if (dependency == SOURCE) continue;
+                consumerCount[dependency]++;
+                if (!live[dependency]) {
+                    live[dependency] = true;
+                    pending.push(dependency);
+                }
+            }
+        }
+
+        Compilation compilation = new Compilation(dependencies);
+        for (int i = 0; i < count; i++) {
+            if (!live[i]) continue;
+            FilterPrimitive primitive = primitives.get(i);
+            boolean extendsChain = !compilation.chain.isEmpty()
+                    && primitive instanceof PerPixelFilterPrimitive
+                    && dependencies[i].length == 1 && dependencies[i][0] == compilation.chainEnd
+                    && consumerCount[compilation.chainEnd] == 1;
+            if (!extendsChain) {
+                compilation.flushChain();
+            }
+            if (primitive instanceof PerPixelFilterPrimitive && dependencies[i].length == 1) {
+                compilation.chain.add((PerPixelFilterPrimitive) primitive);
+                if (compilation.chain.size() == 1) compilation.chainStart = i;
+                compilation.chainEnd = i;
+            } else {
+                compilation.add(primitive, i, i);
+            }
+        }
+        compilation.flushChain();
+        return new FilterGraph(
+                compilation.result.toArray(new FilterPrimitive[0]),
+                compilation.resultDependencies.toArray(new int[0][]),
+                output == SOURCE ? SOURCE : compilation.compiledIndex[output]);
+    }
+
+    /**
+     * Computes the region of the filter image each primitive has to produce, such that the given region of the
+     * filter output is correct.
+     *
+     * @param filterContext the filter context.
+     * @param outputRegion the needed region of the output.
+     * @return the region of interest for each of the {@link #primitives()}.
+     */
+    @NotNull
+    Rectangle @NotNull [] regionsOfInterest(@NotNull FilterContext filterContext, @NotNull Rectangle outputRegion) {
+        Rectangle[] regions = new Rectangle[primitives.length];
+        if (dependencies == null) {
+            for (int i = 0; i < regions.length; i++) {
+                regions[i] = FilterContext.unboundedRegion();
+            }
+            return regions;
+        }
+        if (output != SOURCE) regions[output] = outputRegion;
+        // Producers always precede their consumers, hence all consumers have been visited once a primitive is reached.
+        for (int i = primitives.length - 1; i >= 0; i--) {
+            if (regions[i] == null) {
+                regions[i] = new Rectangle();
+                continue;
+            }
+            Rectangle[] inputRegions = primitives[i].inputRegionsOfInterest(filterContext, regions[i]);
+            for (int j = 0; j < dependencies[i].length; j++) {
+                int producer = dependencies[i][j];
+                if (producer == SOURCE) continue;
+                // Channels may extend past the image (e.g. after an offset), hence the region isn't clipped to it.
+                Rectangle region = inputRegions[j];
+                if (region.isEmpty()) continue;
+                regions[producer] = regions[producer] != null
+                        ? regions[producer].union(region)
+                        : new Rectangle(region);
+            }
+        }
+        return regions;
+    }
+
+    /**
+     * Computes the region of the source graphic, which is read to produce the given regions of interest.
+     *
+     * @param filterContext the filter context.
+     * @param outputRegion the needed region of the output.
+     * @param regions the regions of interest as computed by {@link #regionsOfInterest}.
+     * @return the needed region of the source graphic.
+     */
+    @NotNull
+    Rectangle sourceRegionOfInterest(@NotNull FilterContext filterContext, @NotNull Rectangle outputRegion,
+            @NotNull Rectangle @NotNull [] regions) {
+        if (dependencies == null) return FilterContext.unboundedRegion();
+        Rectangle sourceRegion = output == SOURCE ? new Rectangle(outputRegion) : new Rectangle();
+        for (int i = 0; i < primitives.length; i++) {
+            if (regions[i].isEmpty()) continue;
+            Rectangle[] inputRegions = null;
+            for (int j = 0; j < dependencies[i].length; j++) {
+                if (dependencies[i][j] != SOURCE) continue;
+                if (inputRegions == null) {
+                    inputRegions = primitives[i].inputRegionsOfInterest(filterContext, regions[i]);
+                }
+                Rectangle region = inputRegions[j];
+                if (region.isEmpty()) continue;
+                sourceRegion = sourceRegion.isEmpty() ? new Rectangle(region) : sourceRegion.union(region);
+            }
+        }
+        return sourceRegion;
+    }
+
+    private static final class Compilation {
+        private final int @NotNull [][] dependencies;
+        private final int @NotNull [] compiledIndex;
+        private final @NotNull List<FilterPrimitive> result = new ArrayList<>();
+        private final @NotNull List<int[]> resultDependencies = new ArrayList<>();
+        private final @NotNull List<PerPixelFilterPrimitive> chain = new ArrayList<>();
+        private int chainStart = SOURCE;
+        private int chainEnd = SOURCE;
+
+        private Compilation(int @NotNull [][] dependencies) {
+            this.dependencies = dependencies;
+            this.compiledIndex = new int[dependencies.length];
+        }
+
+        private void add(@NotNull FilterPrimitive primitive, int first, int last) {
+            int index = result.size();
+            result.add(primitive);
+            int[] inputs = dependencies[first].clone();
+            for (int j = 0; j < inputs.length; j++) {
+                if (inputs[j] != SOURCE) inputs[j] = compiledIndex[inputs[j]];
+            }
+            resultDependencies.add(inputs);
+            for (int i = first; i <= last; i++) {
+                compiledIndex[i] = index;
+            }
+        }
+
+        private void flushChain() {
+            if (chain.size() == 1) {
+                add(chain.get(0), chainStart, chainEnd);
+            } else if (chain.size() > 1) {
+                add(new FusedPixelPrimitive(chain.toArray(new PerPixelFilterPrimitive[0])), chainStart, chainEnd);
+            }
+            chain.clear();
+        }
+    }
+
+    private static final class FusedPixelPrimitive implements FilterPrimitive {
+        private final @NotNull PerPixelFilterPrimitive @NotNull [] members;
+        private final @NotNull PerPixelFilterPrimitive last;
+
+        private FusedPixelPrimitive(@NotNull PerPixelFilterPrimitive @NotNull [] members) {
+            this.members = members;
+            this.last = members[members.length - 1];
+        }
+
+        @Override
+        public @NotNull Length x() {
+            return last.x();
+        }
+
+        @Override
+        public @NotNull Length y() {
+            return last.y();
+        }
+
+        @Override
+        public @NotNull Length width() {
+            return last.width();
+        }
+
+        @Override
+        public @NotNull Length height() {
+            return last.height();
+        }
+
+        @Override
+        public @NotNull FilterChannelKey @NotNull [] inputKeys() {
+            return members[0].inputKeys();
+        }
+
+        @Override
+        public @NotNull FilterChannelKey resultKey() {
+            return last.resultKey();
+        }
+
+        @Override
+        public @NotNull Rectangle @NotNull [] inputRegionsOfInterest(@NotNull FilterContext filterContext,
+                @NotNull Rectangle resultRegion) {
+            return new Rectangle[] {resultRegion};
+        }
+
+        @Override
+        public void layoutFilter(@NotNull RenderContext context, @NotNull FilterLayoutContext filterLayoutContext) {
+            for (PerPixelFilterPrimitive member : members) {
+                member.layoutFilter(context, filterLayoutContext);
+            }
+        }
+
+        @Override
+        public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
+            // Members may operate in different color spaces. Conversions are only inserted where the
+            // color space changes between two consecutive operations.
+            List<IntUnaryOperator> operations = new ArrayList<>(members.length);
+            ColorInterpolation inputSpace = null;
+            ColorInterpolation currentSpace = null;
+            for (PerPixelFilterPrimitive member : members) {
+                IntUnaryOperator operation = member.pixelOperation(filterContext);
+                if (operation == null) continue;
+                ColorInterpolation space = ColorSpaceConversion.storageSpace(
+                        member.colorInterpolation(filterContext));
+                if (inputSpace == null) {
+                    inputSpace = space;
+                } else {
+                    ColorSpaceConversion conversion = ColorSpaceConversion.between(currentSpace, space);
+                    if (conversion != null) operations.add(conversion);
+                }
+                operations.add(operation);
+                currentSpace = space;
+            }
+            Channel result = filterContext.getChannel(members[0].inputKeys()[0]);
+            if (inputSpace != null) {
+                result = result.rasterChannel(context, inputSpace)
+                        .map(PixelRowOperation.compose(operations.toArray(new IntUnaryOperator[0])), currentSpace,
+                                filterContext.regionOfInterest());
+            }
+            FilterPrimitiveBase.saveResultImpl(last.resultKey(), result, filterContext.resultChannels());
+        }
+
+        @Override
+        public ColorInterpolation colorInterpolation(@NotNull FilterContext filterContext) {
+            return last.colorInterpolation(filterContext);
+        }
+    }
+}
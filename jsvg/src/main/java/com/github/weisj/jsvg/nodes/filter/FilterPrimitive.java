@@ -22,9 +22,12 @@
 package com.github.weisj.jsvg.nodes.filter;
 
 
+import java.awt.*;
+
 import org.jetbrains.annotations.NotNull;
 
 import com.github.weisj.jsvg.attributes.ColorInterpolation;
+import com.github.weisj.jsvg.attributes.filter.FilterChannelKey;
 import com.github.weisj.jsvg.geometry.size.Length;
 import com.github.weisj.jsvg.renderer.RenderContext;
 
@@ -46,9 +49,43 @@ public interface FilterPrimitive {
         return true;
     }
 
+    /**
+     * The channels read by {@link #applyFilter(RenderContext, FilterContext)}.
+     *
+     * @return the input channels.
+     */
+    @NotNull
+    FilterChannelKey @NotNull [] inputKeys();
+
+    /**
+     * The channel the result is saved to in addition to {@link
+     * com.github.weisj.jsvg.attributes.filter.DefaultFilterChannel#LastResult}.
+     *
+     * @return the result channel.
+     */
+    @NotNull
+    FilterChannelKey resultKey();
+
     void layoutFilter(@NotNull RenderContext context, @NotNull FilterLayoutContext filterLayoutContext);
 
     void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext);
 
+    /**
+     * The regions of the inputs needed to compute the given region of the result. Regions are given in pixels of
+     * the filter image. By default, every pixel of the inputs is needed.
+     *
+     * @param filterContext the filter context.
+     * @param resultRegion the region of the result, which is needed.
+     * @return the needed region for each of the {@link #inputKeys()}.
+     */
+    default @NotNull Rectangle @NotNull [] inputRegionsOfInterest(@NotNull FilterContext filterContext,
+            @NotNull Rectangle resultRegion) {
+        Rectangle[] regions = new Rectangle[inputKeys().length];
+        for (int i = 0; i < regions.length; i++) {
+            regions[i] = FilterContext.unboundedRegion();
+        }
+        return regions;
+    }
+
     ColorInterpolation colorInterpolation(@NotNull FilterContext filterContext);
 }
@@ -60,6 +60,14 @@ public final class FilterPrimitiveBase {
         return filterContext.colorInterpolation(colorInterpolation);
     }
 
+    public @NotNull FilterChannelKey inputKey() {
+        return inputChannel;
+    }
+
+    public @NotNull FilterChannelKey resultKey() {
+        return resultChannel;
+    }
+
     public @NotNull Channel channel(@NotNull FilterChannelKey key, @NotNull FilterContext context) {
         return context.getChannel(key);
     }
@@ -77,14 +85,15 @@ public final class FilterPrimitiveBase {
     }
 
     public void saveLayoutResult(@NotNull LayoutBounds outputBounds, @NotNull FilterLayoutContext filterLayoutContext) {
-        saveResultImpl(outputBounds, filterLayoutContext.resultChannels());
+        saveResultImpl(resultChannel, outputBounds, filterLayoutContext.resultChannels());
     }
 
     public void saveResult(@NotNull Channel output, @NotNull FilterContext filterContext) {
-        saveResultImpl(output, filterContext.resultChannels());
+        saveResultImpl(resultChannel, output, filterContext.resultChannels());
     }
 
-    private <T> void saveResultImpl(@NotNull T value, @NotNull ChannelStorage<T> storage) {
+    static <T> void saveResultImpl(@NotNull FilterChannelKey resultChannel, @NotNull T value,
+            @NotNull ChannelStorage<T> storage) {
         storage.addResult(resultChannel, value);
         if (resultChannel != DefaultFilterChannel.LastResult) {
             storage.addResult(DefaultFilterChannel.LastResult, value);
@@ -61,6 +61,11 @@ public class ImageProducerChannel implements Channel, PixelProvider {
         return rasterBuffer;
     }
 
+    @Override
+    public @NotNull RasterChannel rasterChannel(@NotNull RenderContext context) {
+        return new RasterChannel(rasterBuffer(context));
+    }
+
     @Override
     public @NotNull PixelProvider pixels(@NotNull RenderContext context) {
         if (raster == null) {
@@ -25,8 +25,11 @@ import java.awt.image.Raster;
 import java.awt.image.WritableRaster;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import com.github.weisj.jsvg.renderer.FilterParallelism;
 import com.github.weisj.jsvg.util.ImageUtil;
+import com.github.weisj.jsvg.util.PixelKernels;
 
 /*
  * NOTICE: This file contains adapted code from the Batik project:
@@ -38,7 +41,7 @@ final class InplaceBoxBlurFilter {
     private InplaceBoxBlurFilter() {}
 
     public static void horizontalPass(@NotNull Raster src, @NotNull WritableRaster dst,
-            int skipX, int skipY, int boxSize, int loc) {
+            int skipX, int skipY, int boxSize, int loc, @Nullable FilterParallelism parallelism) {
         int width = src.getWidth();
         int height = src.getHeight();
 
@@ -54,11 +57,20 @@ final class InplaceBoxBlurFilter {
         int[] srcPixels = ImageUtil.getINT_RGBA_DataBank(src);
         int[] dstPixels = ImageUtil.getINT_RGBA_DataBank(dst);
 
+        // Rows are independent of each other, hence they can be blurred concurrently even if src and dst coincide.
+        BandExecutor.forEachBand(parallelism, (long) width * height, skipY, height - skipY,
+                (fromY, toY) -> horizontalPass(srcPixels, srcOff, srcScanStride, dstPixels, dstOff, dstScanStride,
+                        width, skipX, boxSize, loc, fromY, toY));
+    }
+
+    private static void horizontalPass(int @NotNull [] srcPixels, int srcOff, int srcScanStride,
+            int @NotNull [] dstPixels, int dstOff, int dstScanStride,
+            int width, int skipX, int boxSize, int loc, int fromY, int toY) {
         int[] buffer = new int[boxSize];
         int curr, prev;
         int scale = (1 << 24) / boxSize;
 
-        for (int y = skipY; y < (height - skipY); y++) {
+        for (int y = fromY; y < toY; y++) {
             int sp = srcOff + y * srcScanStride;
             int dp = dstOff + y * dstScanStride;
             int rowEnd = sp + (width - skipX);
@@ -118,7 +130,7 @@ final class InplaceBoxBlurFilter {
     }
 
     public static void verticalPass(@NotNull Raster src, @NotNull WritableRaster dst,
-            int skipX, int skipY, int boxSize, int loc) {
+            int skipX, int skipY, int boxSize, int loc, @Nullable FilterParallelism parallelism) {
         int w = src.getWidth();
         int h = src.getHeight();
 
@@ -134,68 +146,11 @@ final class InplaceBoxBlurFilter {
         int[] srcPixels = ImageUtil.getINT_RGBA_DataBank(src);
         int[] dstPixels = ImageUtil.getINT_RGBA_DataBank(dst);
 
-        int[] buffer = new int[boxSize];
-        int curr, prev;
-
-        final int scale = (1 << 24) / boxSize;
-
-        for (int x = skipX; x < (w - skipX); x++) {
-            int sp = srcOff + x;
-            int dp = dstOff + x;
-            int colEnd = sp + (h - skipY) * srcScanStride;
-
-            int k = 0;
-            int sumA = 0;
-            int sumR = 0;
-            int sumG = 0;
-            int sumB = 0;
-
-            sp += skipY * srcScanStride;
-            int end = sp + (boxSize * srcScanStride);
-
-            while (sp < end) {
-                curr = buffer[k] = srcPixels[sp];
-                sumA += (curr >>> 24);
-                sumR += (curr >> 16) & 0xFF;
-                sumG += (curr >> 8) & 0xFF;
-                sumB += curr & 0xFF;
-                k++;
-                sp += srcScanStride;
-            }
-
-
-            dp += (skipY + loc) * dstScanStride;
-            prev = dstPixels[dp] = (((sumA * scale) & 0xFF000000) |
-                    (((sumR * scale) & 0xFF000000) >>> 8) |
-                    (((sumG * scale) & 0xFF000000) >>> 16) |
-                    (((sumB * scale) & 0xFF000000) >>> 24));
-            dp += dstScanStride;
-            k = 0;
-            while (sp < colEnd) {
-                curr = buffer[k];
-                if (curr == srcPixels[sp]) {
-                    dstPixels[dp] = prev;
-                } else {
-                    sumA -= (curr >>> 24);
-                    sumR -= (curr >> 16) & 0xFF;
-                    sumG -= (curr >> 8) & 0xFF;
-                    sumB -= curr & 0xFF;
-
-                    curr = buffer[k] = srcPixels[sp];
-
-                    sumA += (curr >>> 24);
-                    sumR += (curr >> 16) & 0xFF;
-                    sumG += (curr >> 8) & 0xFF;
-                    sumB += curr & 0xFF;
-                    prev = dstPixels[dp] = (((sumA * scale) & 0xFF000000) |
-                            (((sumR * scale) & 0xFF000000) >>> 8) |
-                            (((sumG * scale) & 0xFF000000) >>> 16) |
-                            (((sumB * scale) & 0xFF000000) >>> 24));
-                }
-                k = (k + 1) % boxSize;
-                sp += srcScanStride;
-                dp += dstScanStride;
-            }
-        }
+        // Columns are independent of each other, hence they can be blurred concurrently. Adjacent columns are
+        // contiguous in memory, which allows the kernels to blur multiple columns at once.
+        PixelKernels kernels = PixelKernels.get();
+        BandExecutor.forEachBand(parallelism, (long) w * h, skipX, w - skipX,
+                (fromX, toX) -> kernels.boxBlurColumns(srcPixels, srcOff, srcScanStride,
+                        dstPixels, dstOff, dstScanStride, h, skipY, boxSize, loc, fromX, toX));
     }
 }
@@ -27,26 +27,31 @@ import java.awt.geom.Rectangle2D;
 import java.awt.image.*;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.renderer.FilterParallelism;
 
 final class MultiConvolveOp implements BufferedImageOp, RasterOp {
 
     private final @NotNull ConvolveOp[] ops;
     private final @NotNull ConvolveOp op;
+    private final @Nullable FilterParallelism parallelism;
 
-    public MultiConvolveOp(@NotNull ConvolveOp[] ops) {
+    public MultiConvolveOp(@NotNull ConvolveOp[] ops, @Nullable FilterParallelism parallelism) {
         if (ops.length == 0) throw new IllegalStateException("Must supply at least one op");
         this.ops = ops;
         this.op = ops[0];
+        this.parallelism = parallelism;
     }
 
     @Override
     public BufferedImage filter(BufferedImage src, BufferedImage dest) {
-        BufferedImage result1 = op.filter(src, dest);
+        BufferedImage result1 = filter(op, src, dest);
         if (ops.length == 1) return result1;
-        BufferedImage result2 = ops[1].filter(result1, null);
+        BufferedImage result2 = filter(ops[1], result1, null);
         BufferedImage r = result2;
         for (int i = 2; i < ops.length; i++) {
-            result1 = ops[1].filter(result2, result1);
+            result1 = filter(ops[1], result2, result1);
             r = result1;
             result1 = result2;
             result2 = r;
@@ -57,12 +62,12 @@ final class MultiConvolveOp implements BufferedImageOp, RasterOp {
 
     @Override
     public WritableRaster filter(Raster src, WritableRaster dest) {
-        WritableRaster result1 = op.filter(src, dest);
+        WritableRaster result1 = filter(op, src, dest);
         if (ops.length == 1) return result1;
-        WritableRaster result2 = ops[1].filter(result1, null);
+        WritableRaster result2 = filter(ops[1], result1, null);
         WritableRaster r = result2;
         for (int i = 2; i < ops.length; i++) {
-            result1 = ops[1].filter(result2, result1);
+            result1 = filter(ops[1], result2, result1);
             r = result1;
             result1 = result2;
             result2 = r;
@@ -70,6 +75,60 @@ final class MultiConvolveOp implements BufferedImageOp, RasterOp {
         return r;
     }
 
+    private @NotNull BufferedImage filter(@NotNull ConvolveOp convolveOp, @NotNull BufferedImage src,
+            @Nullable BufferedImage dest) {
+        if (!BandExecutor.isParallel(parallelism, (long) src.getWidth() * src.getHeight())) {
+            return convolveOp.filter(src, dest);
+        }
+        // Filtering the rasters directly is only equivalent if no color conversion takes place.
+        ColorModel colorModel = src.getColorModel();
+        if (!(colorModel instanceof DirectColorModel)) return convolveOp.filter(src, dest);
+        if (dest == src) return convolveOp.filter(src, dest);
+        if (dest == null) {
+            dest = convolveOp.createCompatibleDestImage(src, null);
+        } else if (!colorModel.equals(dest.getColorModel())) {
+            return convolveOp.filter(src, dest);
+        }
+        filterBands(convolveOp, src.getRaster(), dest.getRaster());
+        return dest;
+    }
+
+    private @NotNull WritableRaster filter(@NotNull ConvolveOp convolveOp, @NotNull Raster src,
+            @Nullable WritableRaster dest) {
+        if (!BandExecutor.isParallel(parallelism, (long) src.getWidth() * src.getHeight())) {
+            return convolveOp.filter(src, dest);
+        }
+        if (dest == null) dest = convolveOp.createCompatibleDestRaster(src);
+        filterBands(convolveOp, src, dest);
+        return dest;
+    }
+
+    /*
+     * A kernel which is only one pixel high reads from a single row, hence the image can be convolved as independent
+     * horizontal bands. Likewise, a kernel which is one pixel wide allows for vertical bands.
+     */
+    private void filterBands(@NotNull ConvolveOp convolveOp, @NotNull Raster src, @NotNull WritableRaster dest) {
+        Kernel kernel = convolveOp.getKernel();
+        int width = Math.min(src.getWidth(), dest.getWidth());
+        int height = Math.min(src.getHeight(), dest.getHeight());
+        long pixelCount = (long) width * height;
+        int srcX = src.getMinX();
+        int srcY = src.getMinY();
+        int destX = dest.getMinX();
+        int destY = dest.getMinY();
+        if (kernel.getHeight() == 1) {
+            BandExecutor.forEachBand(parallelism, pixelCount, 0, height, (from, to) -> convolveOp.filter(
+                    src.createChild(srcX, srcY + from, width, to - from, 0, 0, null),
+                    dest.createWritableChild(destX, destY + from, width, to - from, 0, 0, null)));
+        } else if (kernel.getWidth() == 1) {
+            BandExecutor.forEachBand(parallelism, pixelCount, 0, width, (from, to) -> convolveOp.filter(
+                    src.createChild(srcX + from, srcY, to - from, height, 0, 0, null),
+                    dest.createWritableChild(destX + from, destY, to - from, height, 0, 0, null)));
+        } else {
+            convolveOp.filter(src, dest);
+        }
+    }
+
     @Override
     public BufferedImage createCompatibleDestImage(BufferedImage src, ColorModel destCM) {
         return op.createCompatibleDestImage(src, destCM);
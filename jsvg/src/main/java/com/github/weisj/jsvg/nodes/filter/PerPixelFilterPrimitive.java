@@ -1,7 +1,7 @@
 /*
  * MIT License
  *
- * Copyright (c) 2021-2023 Jannis Weis
+ * Copyright (c) 2025 Jannis Weis
  *
  * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
  * associated documentation files (the "Software"), to deal in the Software without restriction,
@@ -19,16 +19,26 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
  *
  */
-package com.github.weisj.jsvg.geometry.mesh;
+package com.github.weisj.jsvg.nodes.filter;
+
+import java.util.function.IntUnaryOperator;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-final class Split<T> {
-    public final @NotNull T left;
-    public final @NotNull T right;
+/**
+ * A filter primitive which maps each pixel of its single input independently of all other pixels. Chains of such
+ * primitives are evaluated in a single pass over the raster.
+ */
+interface PerPixelFilterPrimitive extends FilterPrimitive {
 
-    public Split(@NotNull T left, @NotNull T right) {
-        this.left = left;
-        this.right = right;
-    }
+    /**
+     * The operation applied to the non-premultiplied value of each pixel. Pixels are provided in the color space
+     * specified by {@link #colorInterpolation(FilterContext)}.
+     *
+     * @param filterContext the filter context.
+     * @return the operation or null if the input is passed through unchanged.
+     */
+    @Nullable
+    IntUnaryOperator pixelOperation(@NotNull FilterContext filterContext);
 }
@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import java.util.function.IntUnaryOperator;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A per pixel operation which can process a whole row of pixels at once.
+ */
+interface PixelRowOperation extends IntUnaryOperator {
+
+    /**
+     * Applies the operation in place to the given non-premultiplied pixels.
+     *
+     * @param pixels the pixels.
+     * @param offset the index of the first pixel.
+     * @param length the number of pixels.
+     */
+    default void applyToRow(int @NotNull [] pixels, int offset, int length) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            pixels[i] = applyAsInt(pixels[i]);
+        }
+    }
+
+    static @NotNull PixelRowOperation of(@NotNull IntUnaryOperator operation) {
+        if (operation instanceof PixelRowOperation) return (PixelRowOperation) operation;
+        return operation::applyAsInt;
+    }
+
+    /**
+     * Composes the operations such that they are applied row by row in the given order.
+     *
+     * @param operations the operations.
+     * @return the composed operation.
+     */
+    static @NotNull PixelRowOperation compose(@NotNull IntUnaryOperator @NotNull [] operations) {
+        if (operations.length == 1) return of(operations[0]);
+        PixelRowOperation[] ops = new PixelRowOperation[operations.length];
+        for (int i = 0; i < ops.length; i++) {
+            ops[i] = of(operations[i]);
+        }
+        return new PixelRowOperation() {
+            @Override
+            public int applyAsInt(int argb) {
+                for (PixelRowOperation op : ops) {
+                    argb = op.applyAsInt(argb);
+                }
+                return argb;
+            }
+
+            @Override
+            public void applyToRow(int @NotNull [] pixels, int offset, int length) {
+                for (PixelRowOperation op : ops) {
+                    op.applyToRow(pixels, offset, length);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,363 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import java.awt.*;
+import java.awt.image.*;
+import java.util.function.IntUnaryOperator;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.attributes.ColorInterpolation;
+import com.github.weisj.jsvg.renderer.RenderContext;
+import com.github.weisj.jsvg.renderer.impl.SurfaceScope;
+import com.github.weisj.jsvg.util.ColorUtil;
+import com.github.weisj.jsvg.util.ImageUtil;
+
+/**
+ * A {@link Channel} backed by an integer packed image, which may either store premultiplied or non-premultiplied
+ * pixels in either sRGB or linear RGB. Filter primitives operate on the data array directly and write their result
+ * into a new channel, hence a raster channel is never modified once it has been created.
+ * <p>
+ * Linear RGB channels are only converted back to sRGB once a consumer asks for sRGB content, which allows consecutive
+ * primitives operating in linear RGB to pass their results along without converting them in between.
+ */
+public final class RasterChannel implements Channel, PixelProvider {
+
+    private final @NotNull BufferedImage image;
+    private final int[] data;
+    private final int offset;
+    private final int scanlineStride;
+    private final int width;
+    private final int height;
+    private final boolean premultiplied;
+    private final @NotNull SurfaceScope surfaces;
+    private final @NotNull ColorInterpolation colorSpace;
+    private volatile @Nullable RasterChannel converted;
+
+    public RasterChannel(@NotNull BufferedImage image) {
+        this(image, SurfaceScope.unpooled());
+    }
+
+    public RasterChannel(@NotNull BufferedImage image, @NotNull SurfaceScope surfaces) {
+        this(image, surfaces, ColorInterpolation.S_RGB);
+    }
+
+    /**
+     * Creates a channel for the given image. Channels derived from it are allocated from the given scope.
+     *
+     * @param image the image.
+     * @param surfaces the scope to allocate derived channels from.
+     * @param colorSpace the color space of the pixels. Either {@link ColorInterpolation#S_RGB} or
+     *        {@link ColorInterpolation#LinearRGB}.
+     */
+    public RasterChannel(@NotNull BufferedImage image, @NotNull SurfaceScope surfaces,
+            @NotNull ColorInterpolation colorSpace) {
+        int type = image.getType();
+        if (type != BufferedImage.TYPE_INT_ARGB && type != BufferedImage.TYPE_INT_ARGB_PRE) {
+            throw new IllegalArgumentException("Unsupported image type " + type);
+        }
+        WritableRaster raster = image.getRaster();
+        this.image = image;
+        this.data = ImageUtil.getINT_RGBA_DataBank(raster);
+        this.offset = ImageUtil.getINT_RGBA_DataOffset(raster);
+        this.scanlineStride = ImageUtil.getINT_RGBA_ScanlineStride(raster);
+        this.width = raster.getWidth();
+        this.height = raster.getHeight();
+        this.premultiplied = type == BufferedImage.TYPE_INT_ARGB_PRE;
+        this.surfaces = surfaces;
+        this.colorSpace = ColorSpaceConversion.storageSpace(colorSpace);
+    }
+
+    public static @NotNull RasterChannel create(int width, int height, @NotNull ImageUtil.Premultiplied premultiplied) {
+        return create(SurfaceScope.unpooled(), width, height, premultiplied);
+    }
+
+    public static @NotNull RasterChannel create(@NotNull SurfaceScope surfaces, int width, int height,
+            @NotNull ImageUtil.Premultiplied premultiplied) {
+        return create(surfaces, width, height, premultiplied, ColorInterpolation.S_RGB);
+    }
+
+    private static @NotNull RasterChannel create(@NotNull SurfaceScope surfaces, int width, int height,
+            @NotNull ImageUtil.Premultiplied premultiplied, @NotNull ColorInterpolation colorSpace) {
+        int type = premultiplied == ImageUtil.Premultiplied.Yes
+                ? BufferedImage.TYPE_INT_ARGB_PRE
+                : BufferedImage.TYPE_INT_ARGB;
+        return new RasterChannel(surfaces.acquire(width, height, type), surfaces, colorSpace);
+    }
+
+    /**
+     * Creates a transparent channel allocated from the same scope and in the same color space as this channel.
+     *
+     * @param width the width of the channel.
+     * @param height the height of the channel.
+     * @param premultiplied the format of the channel.
+     * @return the new channel.
+     */
+    public @NotNull RasterChannel createCompatible(int width, int height,
+            @NotNull ImageUtil.Premultiplied premultiplied) {
+        return create(surfaces, width, height, premultiplied, colorSpace);
+    }
+
+    /**
+     * The image backing this channel. Its pixels are stored in the color space of this channel.
+     *
+     * @return the image.
+     */
+    public @NotNull BufferedImage image() {
+        return image;
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int height() {
+        return height;
+    }
+
+    public boolean isPremultiplied() {
+        return premultiplied;
+    }
+
+    public @NotNull ImageUtil.Premultiplied format() {
+        return premultiplied ? ImageUtil.Premultiplied.Yes : ImageUtil.Premultiplied.No;
+    }
+
+    @Override
+    public @NotNull ColorInterpolation colorSpace() {
+        return colorSpace;
+    }
+
+    int[] data() {
+        return data;
+    }
+
+    int offset() {
+        return offset;
+    }
+
+    int scanlineStride() {
+        return scanlineStride;
+    }
+
+    /**
+     * The non-premultiplied value of the given pixel in the color space of this channel. Pixels outside the channel
+     * are transparent.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @return the pixel value.
+     */
+    public int argbAt(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) return 0;
+        int argb = data[offset + y * scanlineStride + x];
+        return premultiplied ? ColorUtil.unpremultiply(argb) : argb;
+    }
+
+    /**
+     * Returns a channel with the same content stored in the requested format. If this channel already has the
+     * requested format it is returned as is.
+     *
+     * @param format the requested format.
+     * @return a channel in the requested format.
+     */
+    public @NotNull RasterChannel coerce(@NotNull ImageUtil.Premultiplied format) {
+        if (premultiplied == (format == ImageUtil.Premultiplied.Yes)) return this;
+        return copy(format);
+    }
+
+    /**
+     * Creates a copy of this channel which can be safely modified.
+     *
+     * @param format the format of the copy.
+     * @return the copy.
+     */
+    public @NotNull RasterChannel copy(@NotNull ImageUtil.Premultiplied format) {
+        RasterChannel result = createCompatible(width, height, format);
+        boolean targetPremultiplied = format == ImageUtil.Premultiplied.Yes;
+        int[] dst = result.data;
+        int dp = result.offset;
+        int sp = offset;
+        for (int y = 0; y < height; y++) {
+            if (premultiplied == targetPremultiplied) {
+                System.arraycopy(data, sp, dst, dp, width);
+            } else if (targetPremultiplied) {
+                for (int x = 0; x < width; x++) {
+                    dst[dp + x] = ColorUtil.premultiply(data[sp + x]);
+                }
+            } else {
+                for (int x = 0; x < width; x++) {
+                    dst[dp + x] = ColorUtil.unpremultiply(data[sp + x]);
+                }
+            }
+            sp += scanlineStride;
+            dp += result.scanlineStride;
+        }
+        return result;
+    }
+
+    /**
+     * Returns a channel with the same content stored in the requested color space. If this channel already is in the
+     * requested color space it is returned as is. The conversion is only computed once.
+     *
+     * @param colorSpace the requested color space.
+     * @return a channel in the requested color space.
+     */
+    public @NotNull RasterChannel convert(@NotNull ColorInterpolation colorSpace) {
+        ColorSpaceConversion conversion = ColorSpaceConversion.between(this.colorSpace, colorSpace);
+        if (conversion == null) return this;
+        RasterChannel result = converted;
+        if (result == null) {
+            result = map(conversion, ColorSpaceConversion.storageSpace(colorSpace));
+            converted = result;
+        }
+        return result;
+    }
+
+    /**
+     * Applies the given operation to the non-premultiplied value of every pixel in the color space of this channel.
+     *
+     * @param operation the operation mapping a non-premultiplied pixel.
+     * @return a non-premultiplied channel containing the result.
+     */
+    public @NotNull RasterChannel map(@NotNull IntUnaryOperator operation) {
+        return map(operation, colorSpace);
+    }
+
+    /**
+     * Applies the given operation to the non-premultiplied value of every pixel in the color space of this channel.
+     *
+     * @param operation the operation mapping a non-premultiplied pixel.
+     * @param resultColorSpace the color space of the pixels produced by the operation.
+     * @return a non-premultiplied channel containing the result.
+     */
+    public @NotNull RasterChannel map(@NotNull IntUnaryOperator operation,
+            @NotNull ColorInterpolation resultColorSpace) {
+        return map(operation, resultColorSpace, new Rectangle(0, 0, width, height));
+    }
+
+    /**
+     * Applies the given operation to the non-premultiplied value of every pixel inside the given region in the color
+     * space of this channel. Pixels outside the region are transparent in the result.
+     *
+     * @param operation the operation mapping a non-premultiplied pixel.
+     * @param resultColorSpace the color space of the pixels produced by the operation.
+     * @param region the region to apply the operation to.
+     * @return a non-premultiplied channel containing the result.
+     */
+    public @NotNull RasterChannel map(@NotNull IntUnaryOperator operation,
+            @NotNull ColorInterpolation resultColorSpace, @NotNull Rectangle region) {
+        RasterChannel result = create(surfaces, width, height, ImageUtil.Premultiplied.No, resultColorSpace);
+        Rectangle area = region.intersection(new Rectangle(0, 0, width, height));
+        if (area.isEmpty()) return result;
+        int[] dst = result.data;
+        int dp = result.offset + area.y * result.scanlineStride + area.x;
+        int sp = offset + area.y * scanlineStride + area.x;
+        int rowLength = area.width;
+        if (operation instanceof PixelRowOperation) {
+            PixelRowOperation rowOperation = (PixelRowOperation) operation;
+            for (int y = 0; y < area.height; y++) {
+                if (premultiplied) {
+                    for (int x = 0; x < rowLength; x++) {
+                        dst[dp + x] = ColorUtil.unpremultiply(data[sp + x]);
+                    }
+                } else {
+                    System.arraycopy(data, sp, dst, dp, rowLength);
+                }
+                rowOperation.applyToRow(dst, dp, rowLength);
+                sp += scanlineStride;
+                dp += result.scanlineStride;
+            }
+            return result;
+        }
+        for (int y = 0; y < area.height; y++) {
+            for (int x = 0; x < rowLength; x++) {
+                int argb = data[sp + x];
+                if (premultiplied) argb = ColorUtil.unpremultiply(argb);
+                dst[dp + x] = operation.applyAsInt(argb);
+            }
+            sp += scanlineStride;
+            dp += result.scanlineStride;
+        }
+        return result;
+    }
+
+    @Override
+    public @NotNull Channel alphaChannel() {
+        RasterChannel result = create(surfaces, width, height, ImageUtil.Premultiplied.No, ColorInterpolation.S_RGB);
+        int[] dst = result.data;
+        int dp = result.offset;
+        int sp = offset;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                dst[dp + x] = data[sp + x] & 0xFF000000;
+            }
+            sp += scanlineStride;
+            dp += result.scanlineStride;
+        }
+        return result;
+    }
+
+    @Override
+    public @NotNull ImageProducer producer() {
+        return convert(ColorInterpolation.S_RGB).image.getSource();
+    }
+
+    @Override
+    public @NotNull Image toImage(@NotNull RenderContext context) {
+        return convert(ColorInterpolation.S_RGB).image;
+    }
+
+    @Override
+    public @NotNull BufferedImage toBufferedImageNonAliased(@NotNull RenderContext context) {
+        RasterChannel sRGB = convert(ColorInterpolation.S_RGB);
+        return sRGB.copy(sRGB.format()).image;
+    }
+
+    @Override
+    public @NotNull RasterChannel rasterChannel(@NotNull RenderContext context) {
+        return convert(ColorInterpolation.S_RGB);
+    }
+
+    @Override
+    public @NotNull RasterChannel rasterChannel(@NotNull RenderContext context,
+            @NotNull ColorInterpolation colorSpace) {
+        return convert(colorSpace);
+    }
+
+    @Override
+    public @NotNull Channel applyFilter(@NotNull ImageFilter filter) {
+        return new ImageProducerChannel(new FilteredImageSource(producer(), filter));
+    }
+
+    @Override
+    public @NotNull PixelProvider pixels(@NotNull RenderContext context) {
+        return convert(ColorInterpolation.S_RGB);
+    }
+
+    @Override
+    public int pixelAt(double x, double y) {
+        return argbAt((int) x, (int) y);
+    }
+}
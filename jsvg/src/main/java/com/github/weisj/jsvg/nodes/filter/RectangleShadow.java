@@ -0,0 +1,204 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The blurred alpha of a {@link SourceShape}. Instead of blurring its raster, the gaussian is integrated in closed
+ * form using the error function. Straight edges are exact, the rows of rounded corners are integrated numerically.
+ * These rows only differ from the straight part of the shape near its left and right edge.
+ * <p>
+ * Like the raster, each pixel holds the coverage of its area, i.e. the shape is convolved with the pixel area as well.
+ */
+final class RectangleShadow implements ShadowRenderer.ShadowRows {
+    // The length of the arc covered by a slice of a corner in pixels. Blurrier shadows use longer slices.
+    private static final double MIN_CORNER_STEP = 0.5;
+    private static final double NEGLIGIBLE_WEIGHT = 1e-6;
+    // Pixels further away from an edge than this many standard deviations don't see it.
+    private static final double REACH = 5;
+    // Beyond this many standard deviations the normal distribution is 0 or 1 within double precision.
+    private static final double CUTOFF = 9;
+    private static final double SQRT_2 = Math.sqrt(2);
+    private static final double INV_SQRT_2_PI = 1 / Math.sqrt(2 * Math.PI);
+
+    private final @NotNull SourceShape shape;
+    private final double yStdDeviation;
+    private final double offsetY;
+    private final float @NotNull [] columns;
+    private final double @NotNull [] cornerRows;
+    private final double @NotNull [] cornerHeights;
+    /*
+     * The alpha missing from the columns of a corner slice compared to the straight part. It is non-zero near the
+     * left and right edge only. Their column ranges are stored as start and end pairs in cornerRanges, and the
+     * deficits of both ranges are stored consecutively.
+     */
+    private final float @NotNull [] @NotNull [] cornerDeficits;
+    private final int @NotNull [] @NotNull [] cornerRanges;
+
+    /**
+     * Creates the shadow for the given columns of the result.
+     *
+     * @param shape the shape.
+     * @param xStdDeviation the horizontal standard deviation in pixels.
+     * @param yStdDeviation the vertical standard deviation in pixels.
+     * @param offsetX the horizontal offset of the shadow.
+     * @param offsetY the vertical offset of the shadow.
+     * @param x the first column.
+     * @param width the number of columns.
+     */
+    RectangleShadow(@NotNull SourceShape shape, double xStdDeviation, double yStdDeviation,
+            double offsetX, double offsetY, int x, int width) {
+        this.shape = shape;
+        this.yStdDeviation = yStdDeviation;
+        this.offsetY = offsetY;
+        float scale = 255 * shape.alpha;
+        columns = new float[width];
+        for (int i = 0; i < width; i++) {
+            columns[i] = scale * (float) coverage(shape.x0, shape.x1, x + i - offsetX, xStdDeviation);
+        }
+
+        /*
+         * The corners are split into slices of equal angle, such that slices are thin where the corner is steep.
+         * The inset of a slice is the average inset of the corner within it.
+         */
+        double step = Math.max(MIN_CORNER_STEP, Math.min(xStdDeviation, yStdDeviation) / 2);
+        int samples = shape.ry > 0 ? (int) Math.ceil(Math.PI / 2 * Math.max(shape.rx, shape.ry) / step) : 0;
+        cornerRows = new double[samples];
+        cornerHeights = new double[samples];
+        cornerDeficits = new float[samples][];
+        cornerRanges = new int[samples][];
+        double reach = REACH * xStdDeviation + 1;
+        for (int k = 0; k < samples; k++) {
+            // The distances of the slice to the center of the corners, relative to ry.
+            double u0 = Math.sin(Math.PI / 2 * k / samples);
+            double u1 = Math.sin(Math.PI / 2 * (k + 1) / samples);
+            double height = shape.ry * (u1 - u0);
+            double inset = shape.rx - shape.rx * shape.ry * (ellipseArea(u1) - ellipseArea(u0)) / height;
+            cornerRows[k] = shape.ry * (u0 + u1) / 2;
+            cornerHeights[k] = height;
+            int leftStart = column(shape.x0 - reach + offsetX - x, width);
+            int leftEnd = column(shape.x0 + inset + reach + offsetX - x, width);
+            int rightStart = Math.max(leftEnd, column(shape.x1 - inset - reach + offsetX - x, width));
+            int rightEnd = Math.max(rightStart, column(shape.x1 + reach + offsetX - x, width));
+            int[] ranges = {leftStart, leftEnd, rightStart, rightEnd};
+            float[] deficit = new float[(leftEnd - leftStart) + (rightEnd - rightStart)];
+            cornerRanges[k] = ranges;
+            cornerDeficits[k] = deficit;
+            int j = 0;
+            for (int r = 0; r < ranges.length; r += 2) {
+                for (int i = ranges[r]; i < ranges[r + 1]; i++) {
+                    double position = x + i - offsetX;
+                    deficit[j++] = scale * (float) (coverage(shape.x0, shape.x0 + inset, position, xStdDeviation)
+                            + coverage(shape.x1 - inset, shape.x1, position, xStdDeviation));
+                }
+            }
+        }
+    }
+
+    /*
+     * The area of the unit circle between the x-axis and y = u within the first quadrant.
+     */
+    private static double ellipseArea(double u) {
+        return (u * Math.sqrt(1 - u * u) + Math.asin(u)) / 2;
+    }
+
+    private static int column(double position, int width) {
+        return (int) Math.max(0, Math.min(width, Math.floor(position)));
+    }
+
+    @Override
+    public void fill(int y, float @NotNull [] row) {
+        double position = y - offsetY;
+        float weight = (float) coverage(shape.y0 + shape.ry, shape.y1 - shape.ry, position, yStdDeviation);
+        float[] cornerWeights = new float[cornerRows.length];
+        for (int k = 0; k < cornerRows.length; k++) {
+            // The top and bottom corners are symmetric.
+            double dy = cornerRows[k];
+            cornerWeights[k] = (float) (cornerHeights[k]
+                    * (density(shape.y0 + shape.ry - dy, position, yStdDeviation)
+                            + density(shape.y1 - shape.ry + dy, position, yStdDeviation)));
+            weight += cornerWeights[k];
+        }
+        for (int i = 0; i < row.length; i++) {
+            row[i] = weight * columns[i];
+        }
+        for (int k = 0; k < cornerRows.length; k++) {
+            float cornerWeight = cornerWeights[k];
+            if (cornerWeight < NEGLIGIBLE_WEIGHT) continue;
+            float[] deficit = cornerDeficits[k];
+            int[] ranges = cornerRanges[k];
+            int j = 0;
+            for (int r = 0; r < ranges.length; r += 2) {
+                for (int i = ranges[r]; i < ranges[r + 1]; i++) {
+                    row[i] -= cornerWeight * deficit[j++];
+                }
+            }
+        }
+    }
+
+    /*
+     * The integral of the blurred indicator function of [start, end] over the pixel [position, position + 1].
+     */
+    private static double coverage(double start, double end, double position, double stdDeviation) {
+        if (end <= start) return 0;
+        if (stdDeviation <= 0) {
+            return Math.max(0, Math.min(end, position + 1) - Math.max(start, position));
+        }
+        return stdDeviation * (integratedCdf((end - position) / stdDeviation)
+                - integratedCdf((end - position - 1) / stdDeviation)
+                - integratedCdf((start - position) / stdDeviation)
+                + integratedCdf((start - position - 1) / stdDeviation));
+    }
+
+    /*
+     * The integral of the gaussian centered at center over the pixel [position, position + 1].
+     */
+    private static double density(double center, double position, double stdDeviation) {
+        if (stdDeviation <= 0) return center >= position && center < position + 1 ? 1 : 0;
+        return cdf((position + 1 - center) / stdDeviation) - cdf((position - center) / stdDeviation);
+    }
+
+    /*
+     * The antiderivative of the cumulative distribution function of the standard normal distribution.
+     */
+    private static double integratedCdf(double z) {
+        if (z <= -CUTOFF) return 0;
+        if (z >= CUTOFF) return z;
+        return z * cdf(z) + INV_SQRT_2_PI * Math.exp(-z * z / 2);
+    }
+
+    private static double cdf(double z) {
+        return 0.5 * (1 + erf(z / SQRT_2));
+    }
+
+    /*
+     * Abramowitz and Stegun 7.1.26. The absolute error is less than 1.5e-7.
+     */
+    private static double erf(double x) {
+        double t = 1 / (1 + 0.3275911 * Math.abs(x));
+        double polynomial = t * (0.254829592 + t * (-0.284496736 + t * (1.421413741
+                + t * (-1.453152027 + t * 1.061405429))));
+        double value = 1 - polynomial * Math.exp(-x * x);
+        return x < 0 ? -value : value;
+    }
+}
@@ -0,0 +1,497 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import java.awt.*;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.attributes.filter.EdgeMode;
+import com.github.weisj.jsvg.renderer.FilterParallelism;
+import com.github.weisj.jsvg.renderer.impl.SurfaceScope;
+import com.github.weisj.jsvg.util.ColorUtil;
+import com.github.weisj.jsvg.util.ImageUtil;
+
+/**
+ * Renders a drop shadow beneath its source in a single pass. Only the alpha of the source is blurred, as a plane of
+ * its own, and the shadow is tinted, offset and merged with the source while writing the result. This avoids the
+ * intermediate images of the equivalent chain of blur, offset, flood, composite and merge primitives.
+ * <p>
+ * If the geometry of the source is known to be a rectangle, the plane isn't needed at all and the shadow is
+ * evaluated analytically by {@link RectangleShadow}.
+ */
+final class ShadowRenderer {
+    /*
+     * If the speed rendering hint is set, large shadows are blurred on a downsampled plane, whose standard
+     * deviation is still large enough for the box blur approximation.
+     */
+    private static final double MIN_DOWNSAMPLED_STD_DEVIATION = 4;
+    private static final int MAX_DOWNSAMPLING = 8;
+
+    private final double xStdDeviation;
+    private final double yStdDeviation;
+    private final @NotNull EdgeMode edgeMode;
+    private final double offsetX;
+    private final double offsetY;
+    private final @NotNull Color color;
+    private final int downsampling;
+    private final @NotNull Blur xBlur;
+    private final @NotNull Blur yBlur;
+
+    ShadowRenderer(double xStdDeviation, double yStdDeviation, @NotNull EdgeMode edgeMode,
+            double offsetX, double offsetY, @NotNull Color color, int downsampling) {
+        this.xStdDeviation = xStdDeviation;
+        this.yStdDeviation = yStdDeviation;
+        this.edgeMode = edgeMode;
+        this.offsetX = offsetX;
+        this.offsetY = offsetY;
+        this.color = color;
+        this.downsampling = downsampling;
+        this.xBlur = new Blur(xStdDeviation / downsampling);
+        this.yBlur = new Blur(yStdDeviation / downsampling);
+    }
+
+    static int downsampling(boolean renderSpeed, double xStdDeviation, double yStdDeviation) {
+        if (!renderSpeed) return 1;
+        double stdDeviation = Math.min(xStdDeviation, yStdDeviation);
+        return Math.max(1, Math.min(MAX_DOWNSAMPLING, (int) (stdDeviation / MIN_DOWNSAMPLED_STD_DEVIATION)));
+    }
+
+    /**
+     * The region of the source read to render the given region of the result.
+     *
+     * @param resultRegion the region of the result.
+     * @param width the width of the source.
+     * @param height the height of the source.
+     * @return the needed region of the source.
+     */
+    @NotNull
+    Rectangle sourceRegion(@NotNull Rectangle resultRegion, int width, int height) {
+        if (resultRegion.isEmpty()) return new Rectangle();
+        if (edgeMode == EdgeMode.Wrap) return FilterContext.unboundedRegion();
+        Axis x = new Axis(resultRegion.x, resultRegion.width, offsetX, width, xBlur);
+        Axis y = new Axis(resultRegion.y, resultRegion.height, offsetY, height, yBlur);
+        Rectangle region = new Rectangle(x.planeStart * downsampling, y.planeStart * downsampling,
+                x.planeLength * downsampling, y.planeLength * downsampling);
+        // Duplicated edges are read from the outermost blocks of the source.
+        if (edgeMode == EdgeMode.Duplicate && !x.isEmpty() && !y.isEmpty()) {
+            region.add(new Rectangle(x.edgeBlock(x.planeStart) * downsampling,
+                    y.edgeBlock(y.planeStart) * downsampling, downsampling, downsampling));
+            region.add(new Rectangle(x.edgeBlock(x.planeStart + x.planeLength - 1) * downsampling,
+                    y.edgeBlock(y.planeStart + y.planeLength - 1) * downsampling, downsampling, downsampling));
+        }
+        return region.union(resultRegion);
+    }
+
+    /**
+     * Renders the source over its shadow.
+     *
+     * @param source the source.
+     * @param region the region of the result to compute. Pixels outside of it are left transparent.
+     * @param surfaces the scope to allocate the result from.
+     * @param parallelism the parallelism to use.
+     * @return the premultiplied result, which has the same size as the source.
+     */
+    @NotNull
+    RasterChannel render(@NotNull RasterChannel source, @NotNull Rectangle region, @NotNull SurfaceScope surfaces,
+            @Nullable FilterParallelism parallelism) {
+        return render(source, null, region, surfaces, parallelism);
+    }
+
+    /**
+     * Renders the source over its shadow.
+     *
+     * @param source the source.
+     * @param shape the geometry of the source or null if it is unknown. The edge mode doesn't apply to it.
+     * @param region the region of the result to compute. Pixels outside of it are left transparent.
+     * @param surfaces the scope to allocate the result from.
+     * @param parallelism the parallelism to use.
+     * @return the premultiplied result, which has the same size as the source.
+     */
+    @NotNull
+    RasterChannel render(@NotNull RasterChannel source, @Nullable SourceShape shape, @NotNull Rectangle region,
+            @NotNull SurfaceScope surfaces, @Nullable FilterParallelism parallelism) {
+        int width = source.width();
+        int height = source.height();
+        RasterChannel result = RasterChannel.create(surfaces, width, height, ImageUtil.Premultiplied.Yes);
+        Rectangle area = region.intersection(new Rectangle(0, 0, width, height));
+        if (area.isEmpty()) return result;
+
+        ShadowRows shadow = null;
+        if (shape != null) {
+            shadow = new RectangleShadow(shape, xStdDeviation, yStdDeviation, offsetX, offsetY, area.x, area.width);
+        } else {
+            Axis x = new Axis(area.x, area.width, offsetX, width, xBlur);
+            Axis y = new Axis(area.y, area.height, offsetY, height, yBlur);
+            if (!x.isEmpty() && !y.isEmpty()) {
+                int[] plane = fillPlane(source, x, y, parallelism);
+                plane = xBlur.blurRows(plane, x.planeLength, y.planeLength, parallelism);
+                plane = yBlur.blurColumns(plane, x.planeLength, y.planeLength, parallelism);
+                shadow = new PlaneRows(plane, area, x, y);
+            }
+        }
+        compose(source, result, area, shadow, parallelism);
+        return result;
+    }
+
+    private int @NotNull [] fillPlane(@NotNull RasterChannel source, @NotNull Axis x, @NotNull Axis y,
+            @Nullable FilterParallelism parallelism) {
+        int planeWidth = x.planeLength;
+        int planeHeight = y.planeLength;
+        int[] plane = new int[planeWidth * planeHeight];
+        int[] blockX = new int[planeWidth];
+        for (int i = 0; i < planeWidth; i++) {
+            blockX[i] = x.block(x.planeStart + i);
+        }
+        int[] data = source.data();
+        int offset = source.offset();
+        int stride = source.scanlineStride();
+        int width = source.width();
+        int height = source.height();
+        int f = downsampling;
+        BandExecutor.forEachBand(parallelism, (long) planeWidth * planeHeight * f * f, 0, planeHeight,
+                (from, to) -> {
+                    for (int j = from; j < to; j++) {
+                        int by = y.block(y.planeStart + j);
+                        if (by < 0) continue;
+                        int row = j * planeWidth;
+                        if (f == 1) {
+                            int sp = offset + by * stride;
+                            for (int i = 0; i < planeWidth; i++) {
+                                int bx = blockX[i];
+                                if (bx >= 0) plane[row + i] = data[sp + bx] >>> 24;
+                            }
+                            continue;
+                        }
+                        int y0 = by * f;
+                        int y1 = Math.min(height, y0 + f);
+                        for (int i = 0; i < planeWidth; i++) {
+                            int bx = blockX[i];
+                            if (bx < 0) continue;
+                            int x0 = bx * f;
+                            int x1 = Math.min(width, x0 + f);
+                            int sum = 0;
+                            for (int sy = y0; sy < y1; sy++) {
+                                int sp = offset + sy * stride;
+                                for (int sx = x0; sx < x1; sx++) {
+                                    sum += data[sp + sx] >>> 24;
+                                }
+                            }
+                            int count = (x1 - x0) * (y1 - y0);
+                            plane[row + i] = (sum + count / 2) / count;
+                        }
+                    }
+                });
+        return plane;
+    }
+
+    private void compose(@NotNull RasterChannel source, @NotNull RasterChannel result, @NotNull Rectangle area,
+            @Nullable ShadowRows shadow, @Nullable FilterParallelism parallelism) {
+        int[] src = source.data();
+        int srcOffset = source.offset();
+        int srcStride = source.scanlineStride();
+        boolean premultiplied = source.isPremultiplied();
+        int[] dst = result.data();
+        int dstOffset = result.offset();
+        int dstStride = result.scanlineStride();
+
+        float alphaScale = color.getAlpha() / (255f * 255f);
+        float red = color.getRed();
+        float green = color.getGreen();
+        float blue = color.getBlue();
+
+        BandExecutor.forEachBand(parallelism, (long) area.width * area.height, area.y, area.y + area.height,
+                (from, to) -> {
+                    float[] shadowRow = shadow != null ? new float[area.width] : null;
+                    for (int py = from; py < to; py++) {
+                        if (shadow != null) shadow.fill(py, shadowRow);
+                        int sp = srcOffset + py * srcStride + area.x;
+                        int dp = dstOffset + py * dstStride + area.x;
+                        for (int i = 0; i < area.width; i++) {
+                            int argb = src[sp + i];
+                            if (!premultiplied) argb = ColorUtil.premultiply(argb);
+                            int srcAlpha = argb >>> 24;
+                            float shadowAlpha = shadowRow != null && srcAlpha != 255
+                                    ? shadowRow[i] * alphaScale
+                                    : 0;
+                            if (shadowAlpha <= 0) {
+                                dst[dp + i] = argb;
+                                continue;
+                            }
+                            // Source over the premultiplied shadow.
+                            float remaining = shadowAlpha * (255 - srcAlpha) / 255f;
+                            int a = Math.min(255, srcAlpha + Math.round(255 * remaining));
+                            int r = Math.min(a, ((argb >> 16) & 0xFF) + Math.round(red * remaining));
+                            int g = Math.min(a, ((argb >> 8) & 0xFF) + Math.round(green * remaining));
+                            int b = Math.min(a, (argb & 0xFF) + Math.round(blue * remaining));
+                            dst[dp + i] = (a << 24) | (r << 16) | (g << 8) | b;
+                        }
+                    }
+                });
+    }
+
+    /**
+     * The alpha of the shadow before it is tinted, in the range of 0 to 255.
+     */
+    interface ShadowRows {
+        /**
+         * Computes the alpha of the shadow for a row of the result region.
+         *
+         * @param y the row.
+         * @param row the alpha for each column of the region.
+         */
+        void fill(int y, float @NotNull [] row);
+    }
+
+    /*
+     * Bilinearly samples the offset and possibly downsampled plane.
+     */
+    private static final class PlaneRows implements ShadowRows {
+        private final int @NotNull [] plane;
+        private final int planeWidth;
+        private final @NotNull Axis y;
+        private final int @NotNull [] columns;
+        private final float @NotNull [] columnWeights;
+
+        private PlaneRows(int @NotNull [] plane, @NotNull Rectangle area, @NotNull Axis x, @NotNull Axis y) {
+            this.plane = plane;
+            this.planeWidth = x.planeLength;
+            this.y = y;
+            columns = new int[2 * area.width];
+            columnWeights = new float[area.width];
+            for (int i = 0; i < area.width; i++) {
+                x.sample(area.x + i, columns, 2 * i, columnWeights, i);
+            }
+        }
+
+        @Override
+        public void fill(int py, float @NotNull [] row) {
+            int[] rows = new int[2];
+            float[] rowWeight = new float[1];
+            y.sample(py, rows, 0, rowWeight, 0);
+            float ty = rowWeight[0];
+            int row0 = rows[0] < 0 ? -1 : rows[0] * planeWidth;
+            int row1 = rows[1] < 0 ? -1 : rows[1] * planeWidth;
+            for (int i = 0; i < row.length; i++) {
+                int c0 = columns[2 * i];
+                int c1 = columns[2 * i + 1];
+                float tx = columnWeights[i];
+                float top = row0 < 0 ? 0 : interpolate(row0, c0, c1, tx);
+                float bottom = row1 < 0 ? 0 : interpolate(row1, c0, c1, tx);
+                row[i] = top + (bottom - top) * ty;
+            }
+        }
+
+        private float interpolate(int row, int c0, int c1, float t) {
+            float left = c0 < 0 ? 0 : plane[row + c0];
+            if (t == 0) return left;
+            float right = c1 < 0 ? 0 : plane[row + c1];
+            return left + (right - left) * t;
+        }
+    }
+
+    /*
+     * The geometry of the plane along one axis. The plane consists of the blocks of the source, which cover the
+     * samples needed for the result region, extended by the reach of the blur.
+     */
+    private final class Axis {
+        private final double offset;
+        private final int blockCount;
+        private final int planeStart;
+        private final int planeLength;
+        private final int sampleStart;
+        private final int sampleEnd;
+
+        private Axis(int resultStart, int resultLength, double offset, int sourceLength, @NotNull Blur blur) {
+            this.offset = offset;
+            this.blockCount = (sourceLength + downsampling - 1) / downsampling;
+            int first = (int) Math.floor(position(resultStart));
+            int last = (int) Math.ceil(position(resultStart + resultLength - 1));
+            // Samples outside the blurred source are transparent.
+            sampleStart = Math.max(0, first);
+            sampleEnd = Math.min(blockCount, last + 1);
+            planeStart = sampleStart - blur.reach;
+            planeLength = Math.max(0, sampleEnd - sampleStart) + 2 * blur.reach;
+        }
+
+        private boolean isEmpty() {
+            return sampleEnd <= sampleStart;
+        }
+
+        private double position(int pixel) {
+            return (pixel + 0.5 - offset) / downsampling - 0.5;
+        }
+
+        private int edgeBlock(int block) {
+            return Math.max(0, Math.min(blockCount - 1, block));
+        }
+
+        /*
+         * The block of the source the given plane position is read from, or -1 if it is transparent.
+         */
+        private int block(int block) {
+            if (block >= 0 && block < blockCount) return block;
+            switch (edgeMode) {
+                case Duplicate:
+                    return edgeBlock(block);
+                case Wrap:
+                    return Math.floorMod(block, blockCount);
+                default:
+                    return -1;
+            }
+        }
+
+        /*
+         * Stores the plane indices of the two samples neighbouring the given pixel and the weight of the second one.
+         * Indices of transparent samples are -1.
+         */
+        private void sample(int pixel, int @NotNull [] indices, int index, float @NotNull [] weights, int weight) {
+            double position = position(pixel);
+            int sample = (int) Math.floor(position);
+            weights[weight] = (float) (position - sample);
+            indices[index] = planeIndex(sample);
+            indices[index + 1] = planeIndex(sample + 1);
+        }
+
+        private int planeIndex(int sample) {
+            if (sample < sampleStart || sample >= sampleEnd) return -1;
+            return sample - planeStart;
+        }
+    }
+
+    /*
+     * A one dimensional blur of the alpha plane. Small standard deviations use a gaussian kernel, larger ones the
+     * same three box passes as FeGaussianBlur.
+     */
+    private static final class Blur {
+        private final float @Nullable [] kernel;
+        private final int @NotNull [] boxSizes;
+        private final int @NotNull [] boxLocations;
+        private final int reach;
+
+        private Blur(double stdDeviation) {
+            if (stdDeviation <= 0) {
+                kernel = null;
+                boxSizes = new int[0];
+                boxLocations = new int[0];
+                reach = 0;
+                return;
+            }
+            int diameter = FeGaussianBlur.kernelDiameterForStandardDeviation(stdDeviation);
+            if (stdDeviation < FeGaussianBlur.BOX_BLUR_APPROXIMATION_THRESHOLD) {
+                kernel = FeGaussianBlur.computeGaussianKernelData(diameter, stdDeviation);
+                boxSizes = new int[0];
+                boxLocations = new int[0];
+                reach = diameter / 2;
+            } else {
+                kernel = null;
+                if ((diameter & 0x01) == 0) {
+                    boxSizes = new int[] {diameter, diameter, diameter + 1};
+                    boxLocations = new int[] {diameter / 2, diameter / 2 - 1, diameter / 2};
+                } else {
+                    boxSizes = new int[] {diameter, diameter, diameter};
+                    boxLocations = new int[] {diameter / 2, diameter / 2, diameter / 2};
+                }
+                int r = 0;
+                for (int i = 0; i < boxSizes.length; i++) {
+                    r += Math.max(boxLocations[i], boxSizes[i] - 1 - boxLocations[i]);
+                }
+                reach = r;
+            }
+        }
+
+        private int @NotNull [] blurRows(int @NotNull [] plane, int width, int height,
+                @Nullable FilterParallelism parallelism) {
+            return blur(plane, width, height, width, 1, width, height, parallelism);
+        }
+
+        private int @NotNull [] blurColumns(int @NotNull [] plane, int width, int height,
+                @Nullable FilterParallelism parallelism) {
+            return blur(plane, width, height, height, width, 1, width, parallelism);
+        }
+
+        /*
+         * Blurs the lines of the plane. Values are step apart within a line and consecutive lines lineStep apart.
+         * Positions, whose neighbourhood isn't part of the plane, are copied unchanged.
+         */
+        private int @NotNull [] blur(int @NotNull [] plane, int width, int height, int length, int step,
+                int lineStep, int lineCount, @Nullable FilterParallelism parallelism) {
+            if (kernel == null && boxSizes.length == 0) return plane;
+            int[] src = plane;
+            int[] dst = new int[plane.length];
+            int passes = kernel != null ? 1 : boxSizes.length;
+            for (int pass = 0; pass < passes; pass++) {
+                int[] in = src;
+                int[] out = dst;
+                int size = kernel != null ? kernel.length : boxSizes[pass];
+                int location = kernel != null ? kernel.length / 2 : boxLocations[pass];
+                BandExecutor.forEachBand(parallelism, (long) width * height, 0, lineCount, (from, to) -> {
+                    for (int line = from; line < to; line++) {
+                        int start = line * lineStep;
+                        for (int i = 0; i < length; i++) {
+                            out[start + i * step] = in[start + i * step];
+                        }
+                        if (length < size) continue;
+                        if (kernel != null) {
+                            convolve(in, out, start, step, length, kernel);
+                        } else {
+                            box(in, out, start, step, length, size, location);
+                        }
+                    }
+                });
+                src = out;
+                dst = in;
+            }
+            return src;
+        }
+
+        private static void convolve(int @NotNull [] in, int @NotNull [] out, int start, int step, int length,
+                float @NotNull [] kernel) {
+            int size = kernel.length;
+            for (int i = 0; i + size <= length; i++) {
+                float sum = 0;
+                int p = start + i * step;
+                for (int k = 0; k < size; k++) {
+                    sum += kernel[k] * in[p];
+                    p += step;
+                }
+                out[start + (i + size / 2) * step] = Math.min(255, Math.round(sum));
+            }
+        }
+
+        private static void box(int @NotNull [] in, int @NotNull [] out, int start, int step, int length,
+                int size, int location) {
+            // Same fixed point arithmetic as InplaceBoxBlurFilter.
+            int scale = (1 << 24) / size;
+            int sum = 0;
+            for (int k = 0; k < size; k++) {
+                sum += in[start + k * step];
+            }
+            out[start + location * step] = (sum * scale) >>> 24;
+            for (int i = size; i < length; i++) {
+                sum += in[start + i * step] - in[start + (i - size) * step];
+                out[start + (i - size + 1 + location) * step] = (sum * scale) >>> 24;
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.geom.RoundRectangle2D;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.attributes.ShapeRendering;
+import com.github.weisj.jsvg.geometry.util.GeometryUtil;
+import com.github.weisj.jsvg.nodes.Rect;
+import com.github.weisj.jsvg.nodes.prototype.Renderable;
+import com.github.weisj.jsvg.paint.SVGPaint;
+import com.github.weisj.jsvg.paint.SimplePaintSVGPaint;
+import com.github.weisj.jsvg.renderer.RenderContext;
+
+/**
+ * The geometry of a source graphic, which consists of a single axis aligned (rounded) rectangle filled with a
+ * uniform color. Coordinates are in pixels of the filter image.
+ */
+final class SourceShape {
+    final double x0;
+    final double y0;
+    final double x1;
+    final double y1;
+    final double rx;
+    final double ry;
+    final float alpha;
+
+    SourceShape(double x0, double y0, double x1, double y1, double rx, double ry, float alpha) {
+        this.x0 = x0;
+        this.y0 = y0;
+        this.x1 = x1;
+        this.y1 = y1;
+        this.rx = rx;
+        this.ry = ry;
+        this.alpha = alpha;
+    }
+
+    /**
+     * Determines the geometry of the source graphic rendered by the given renderable.
+     *
+     * @param renderable the filtered renderable.
+     * @param context the context the renderable is rendered into the filter image with.
+     * @param filterRegion the filter region in user space.
+     * @return the shape or null if the source graphic isn't such a rectangle or extends to the edge of the filter
+     *         region.
+     */
+    static @Nullable SourceShape of(@Nullable Renderable renderable, @NotNull RenderContext context,
+            @NotNull Rectangle2D filterRegion) {
+        if (!(renderable instanceof Rect)) return null;
+        Rect rect = (Rect) renderable;
+        if (rect.hasMarkers() || !rect.vectorEffects().isEmpty()) return null;
+        // The analytic shadow assumes antialiased edges.
+        if (rect.shapeRendering() == ShapeRendering.CrispEdges) return null;
+
+        AffineTransform transform = new AffineTransform(context.rootTransform());
+        transform.concatenate(context.userSpaceTransform());
+        if (transform.getShearX() != 0 || transform.getShearY() != 0) return null;
+
+        SVGPaint strokePaint = context.strokePaint();
+        if (context.strokeOpacity() > 0 && strokePaint.isVisible(context)) return null;
+        SVGPaint fillPaint = context.fillPaint();
+        if (!(fillPaint instanceof SimplePaintSVGPaint)) return null;
+        Paint paint = ((SimplePaintSVGPaint) fillPaint).paint();
+        if (!(paint instanceof Color)) return null;
+        float alpha = ((Color) paint).getAlpha() / 255f * context.fillOpacity();
+        if (alpha <= 0) return null;
+
+        Shape shape = rect.shape().shape(context);
+        Rectangle2D bounds = shape.getBounds2D();
+        if (bounds.isEmpty()) return null;
+        Rectangle2D deviceBounds = transform.createTransformedShape(bounds).getBounds2D();
+        // Keep a transparent margin of a pixel, such that edges extended by the blur are transparent as well.
+        Rectangle2D deviceFilterRegion = transform.createTransformedShape(filterRegion).getBounds2D();
+        if (!GeometryUtil.grow(deviceFilterRegion, -1).contains(deviceBounds)) return null;
+        double rx = 0;
+        double ry = 0;
+        if (shape instanceof RoundRectangle2D) {
+            RoundRectangle2D roundRect = (RoundRectangle2D) shape;
+            rx = Math.min(roundRect.getArcWidth(), roundRect.getWidth()) / 2 * Math.abs(transform.getScaleX());
+            ry = Math.min(roundRect.getArcHeight(), roundRect.getHeight()) / 2 * Math.abs(transform.getScaleY());
+            if (rx <= 0 || ry <= 0) {
+                rx = 0;
+                ry = 0;
+            }
+        }
+        return new SourceShape(deviceBounds.getMinX(), deviceBounds.getMinY(),
+                deviceBounds.getMaxX(), deviceBounds.getMaxY(), rx, ry, alpha);
+    }
+}
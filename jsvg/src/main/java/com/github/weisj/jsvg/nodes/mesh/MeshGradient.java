@@ -24,6 +24,8 @@ package com.github.weisj.jsvg.nodes.mesh;
 import java.awt.*;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -78,14 +80,31 @@ public final class MeshGradient extends ContainerNode implements SVGPaint {
     }
 
     public void renderMesh(@NotNull MeasureContext measure, @NotNull Output output) {
+        // The rasterizer antialiases the outer edge of the mesh itself if requested.
+        boolean antialiased =
+                output.renderingHint(RenderingHints.KEY_ANTIALIASING) == RenderingHints.VALUE_ANTIALIAS_ON;
         Output meshOutput = output.createChild();
         // meshGraphics.translate(x.resolve(measure), y.resolve(measure));
 
         meshOutput.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
+        List<MeshPatch> patches = new ArrayList<>();
         for (SVGNode child : children()) {
             MeshRow row = (MeshRow) child;
             for (SVGNode node : row.children()) {
-                MeshPatch patch = (MeshPatch) node;
+                patches.add((MeshPatch) node);
+            }
+        }
+        if (meshOutput.supportsColors()) {
+            // All patches are rasterized into a single image instead of painting them one by one.
+            MeshRasterizer rasterizer = MeshRasterizer.create(meshOutput, patches, antialiased);
+            if (rasterizer != null) {
+                for (MeshPatch patch : patches) {
+                    rasterizer.rasterize(patch);
+                }
+                rasterizer.paint(meshOutput);
+            }
+        } else {
+            for (MeshPatch patch : patches) {
                 patch.renderPath(meshOutput);
             }
         }
@@ -24,14 +24,11 @@ package com.github.weisj.jsvg.nodes.mesh;
 import static com.github.weisj.jsvg.geometry.util.GeometryUtil.lerp;
 
 import java.awt.*;
-import java.awt.geom.AffineTransform;
+import java.util.Collections;
 
 import org.jetbrains.annotations.NotNull;
 
 import com.github.weisj.jsvg.geometry.mesh.CoonPatch;
-import com.github.weisj.jsvg.geometry.mesh.CoonValues;
-import com.github.weisj.jsvg.geometry.mesh.Subdivided;
-import com.github.weisj.jsvg.geometry.util.GeometryUtil;
 import com.github.weisj.jsvg.nodes.Stop;
 import com.github.weisj.jsvg.nodes.container.ContainerNode;
 import com.github.weisj.jsvg.nodes.prototype.spec.Category;
@@ -47,7 +44,6 @@ import com.github.weisj.jsvg.util.ColorUtil;
 )
 public final class MeshPatch extends ContainerNode {
     public static final String TAG = "meshpatch";
-    private static final int MAX_DEPTH = 10;
 
     Color north;
     Color east;
@@ -65,47 +61,29 @@ public final class MeshPatch extends ContainerNode {
             output.fillShape(coonPatch.toShape());
             return;
         }
-
-        AffineTransform at = output.transform();
-        float scaleX = (float) GeometryUtil.scaleXOfTransform(at);
-        float scaleY = (float) GeometryUtil.scaleYOfTransform(at);
-        int depth = Math.max(
-                Math.max(coonPatch.north.estimateStepCount(scaleX, scaleY),
-                        coonPatch.east.estimateStepCount(scaleX, scaleY)),
-                Math.max(coonPatch.south.estimateStepCount(scaleX, scaleY),
-                        coonPatch.west.estimateStepCount(scaleX, scaleY)));
-        renderPath(output, coonPatch, scaleX, scaleY, Math.min(MAX_DEPTH, depth));
-    }
-
-    private void renderPath(@NotNull Output output, @NotNull CoonPatch patch, float scaleX, float scaleY, int depth) {
-        CoonValues weights = patch.coonValues;
-        // Check if we have reached the limit of discernible colors. This happens if our color weights
-        // spectrum allows for less that approximately (1/255)^3, which is our "relative color-depth".
-        if (depth == 0 || GeometryUtil.distanceSquared(weights.north, weights.south, scaleX, scaleY)
-                * GeometryUtil.distanceSquared(weights.east, weights.west, scaleX, scaleY) < 0.000001) {
-            float u = (weights.north.x + weights.east.x + weights.south.x + weights.west.x) / 4;
-            float v = (weights.north.y + weights.east.y + weights.south.y + weights.west.y) / 4;
-            output.setPaint(bilinearInterpolation(u, v));
-            Shape s = patch.toShape();
-            output.fillShape(s.getBounds2D());
-        } else {
-            Subdivided<CoonPatch> patchSubdivided = patch.subdivide();
-            renderPath(output, patchSubdivided.northWest, scaleX, scaleY, depth - 1);
-            renderPath(output, patchSubdivided.northEast, scaleX, scaleY, depth - 1);
-            renderPath(output, patchSubdivided.southEast, scaleX, scaleY, depth - 1);
-            renderPath(output, patchSubdivided.southWest, scaleX, scaleY, depth - 1);
-        }
+        MeshRasterizer rasterizer = MeshRasterizer.create(output, Collections.singletonList(this),
+                output.renderingHint(RenderingHints.KEY_ANTIALIASING) == RenderingHints.VALUE_ANTIALIAS_ON);
+        if (rasterizer == null) return;
+        rasterizer.rasterize(this);
+        rasterizer.paint(output);
     }
 
-    private @NotNull Color bilinearInterpolation(float dx, float dy) {
-        float r = lerp(dy, lerp(dx, north.getRed(), east.getRed()), lerp(dx, west.getRed(), south.getRed()));
-        float g = lerp(dy, lerp(dx, north.getGreen(), east.getGreen()), lerp(dx, west.getGreen(), south.getGreen()));
-        float b = lerp(dy, lerp(dx, north.getBlue(), east.getBlue()), lerp(dx, west.getBlue(), south.getBlue()));
-        float a = lerp(dy, lerp(dx, north.getAlpha(), east.getAlpha()), lerp(dx, west.getAlpha(), south.getAlpha()));
-        return new Color(clampColor(r), clampColor(g), clampColor(b), clampColor(a));
+    /**
+     * The color at the given position of the patch.
+     *
+     * @param u the position along the north and south edges.
+     * @param v the position along the west and east edges.
+     * @return the color in ARGB format.
+     */
+    int colorAt(float u, float v) {
+        float r = lerp(v, lerp(u, north.getRed(), east.getRed()), lerp(u, west.getRed(), south.getRed()));
+        float g = lerp(v, lerp(u, north.getGreen(), east.getGreen()), lerp(u, west.getGreen(), south.getGreen()));
+        float b = lerp(v, lerp(u, north.getBlue(), east.getBlue()), lerp(u, west.getBlue(), south.getBlue()));
+        float a = lerp(v, lerp(u, north.getAlpha(), east.getAlpha()), lerp(u, west.getAlpha(), south.getAlpha()));
+        return (clampColor(a) << 24) | (clampColor(r) << 16) | (clampColor(g) << 8) | clampColor(b);
     }
 
     private int clampColor(float v) {
-        return ColorUtil.clampColor((int) v);
+        return ColorUtil.clampColor(Math.round(v));
     }
 }
@@ -0,0 +1,427 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.mesh;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Path2D;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.geometry.mesh.Bezier;
+import com.github.weisj.jsvg.geometry.mesh.CoonPatch;
+import com.github.weisj.jsvg.renderer.output.Output;
+
+/**
+ * Rasterizes coons patches into a single image in device space, which is painted to the output at once.
+ * <p>
+ * Each patch is evaluated on a grid of cells, which are small enough to follow the curvature of the boundary and the
+ * change in color, but not smaller than a pixel. The boundary curves are evaluated using forward differencing and
+ * every cell is scan converted with the color at its center. Later patches are painted on top of earlier ones.
+ * <p>
+ * If antialiasing is requested the outline of the mesh is filled into a coverage mask, which is applied to the pixels
+ * on the edge of the rasterized cells. Interior pixels keep their full coverage, as the shared edges of the patches
+ * would otherwise show faint seams.
+ */
+final class MeshRasterizer {
+    private static final int MAX_STEPS = 1 << 10;
+    private static final double FLATNESS = 0.25;
+
+    private final @NotNull AffineTransform transform;
+    private final @NotNull Rectangle bounds;
+    private final @NotNull BufferedImage image;
+    private final int @NotNull [] pixels;
+    private final double @NotNull [] quad = new double[8];
+    private final double @NotNull [] crossings = new double[4];
+    // Only tracked if the edge is antialiased.
+    private final @Nullable Path2D outline;
+    private final @Nullable BitSet covered;
+
+    private MeshRasterizer(@NotNull AffineTransform transform, @NotNull Rectangle bounds, boolean antialiased) {
+        this.transform = transform;
+        this.bounds = bounds;
+        this.image = new BufferedImage(bounds.width, bounds.height, BufferedImage.TYPE_INT_ARGB);
+        this.pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        this.outline = antialiased ? new Path2D.Double(Path2D.WIND_NON_ZERO) : null;
+        this.covered = antialiased ? new BitSet(pixels.length) : null;
+    }
+
+    /**
+     * Creates a rasterizer for the visible part of the given patches.
+     *
+     * @param output the output to paint to.
+     * @param patches the patches.
+     * @param antialiased whether the outer edge of the mesh should be antialiased.
+     * @return the rasterizer or null if no patch is visible.
+     */
+    static @Nullable MeshRasterizer create(@NotNull Output output, @NotNull List<@NotNull MeshPatch> patches,
+            boolean antialiased) {
+        if (patches.isEmpty()) return null;
+        AffineTransform transform = output.transform();
+        Rectangle2D meshBounds = null;
+        for (MeshPatch patch : patches) {
+            Rectangle2D patchBounds = patch.coonPatch.toShape().getBounds2D();
+            if (meshBounds == null) {
+                meshBounds = patchBounds;
+            } else {
+                meshBounds.add(patchBounds);
+            }
+        }
+        Rectangle2D deviceBounds = transform.createTransformedShape(meshBounds).getBounds2D();
+        @SuppressWarnings("ConstantConditions") Rectangle2D clip = output.clipBounds();
+        if (clip != null) {
+            Rectangle2D.intersect(deviceBounds, transform.createTransformedShape(clip).getBounds2D(), deviceBounds);
+        }
+        if (deviceBounds.isEmpty()) return null;
+        int x = (int) Math.floor(deviceBounds.getMinX());
+        int y = (int) Math.floor(deviceBounds.getMinY());
+        int width = (int) Math.ceil(deviceBounds.getMaxX()) - x;
+        int height = (int) Math.ceil(deviceBounds.getMaxY()) - y;
+        if (width <= 0 || height <= 0) return null;
+        return new MeshRasterizer(transform, new Rectangle(x, y, width, height), antialiased);
+    }
+
+    void rasterize(@NotNull MeshPatch patch) {
+        CoonPatch coonPatch = patch.coonPatch;
+        double[] north = deviceCurve(coonPatch.north);
+        double[] east = deviceCurve(coonPatch.east);
+        // The south and west curves run backwards.
+        double[] south = deviceCurve(coonPatch.south.inverse());
+        double[] west = deviceCurve(coonPatch.west.inverse());
+        if (outline != null) appendOutline(north, east, south, west);
+
+        int uSteps = steps(north, south, colorDistance(patch.north, patch.east, patch.west, patch.south));
+        int vSteps = steps(west, east, colorDistance(patch.north, patch.west, patch.east, patch.south));
+        double[] northPoints = evaluate(north, uSteps);
+        double[] southPoints = evaluate(south, uSteps);
+        double[] westPoints = evaluate(west, vSteps);
+        double[] eastPoints = evaluate(east, vSteps);
+
+        double[] previousRow = new double[2 * (uSteps + 1)];
+        double[] row = new double[2 * (uSteps + 1)];
+        evaluateRow(north, south, west, east, northPoints, southPoints, westPoints, eastPoints, 0, vSteps, previousRow);
+        for (int j = 1; j <= vSteps; j++) {
+            evaluateRow(north, south, west, east, northPoints, southPoints, westPoints, eastPoints, j, vSteps, row);
+            float v = (j - 0.5f) / vSteps;
+            for (int i = 0; i < uSteps; i++) {
+                int k = 2 * i;
+                quad[0] = previousRow[k];
+                quad[1] = previousRow[k + 1];
+                quad[2] = previousRow[k + 2];
+                quad[3] = previousRow[k + 3];
+                quad[4] = row[k + 2];
+                quad[5] = row[k + 3];
+                quad[6] = row[k];
+                quad[7] = row[k + 1];
+                fillQuad(patch.colorAt((i + 0.5f) / uSteps, v));
+            }
+            double[] tmp = previousRow;
+            previousRow = row;
+            row = tmp;
+        }
+    }
+
+    void paint(@NotNull Output output) {
+        if (outline != null) antialiasEdge(outline);
+        Output.SafeState safeState = output.safeState();
+        output.setTransform(AffineTransform.getTranslateInstance(bounds.x, bounds.y));
+        output.drawImage(image);
+        safeState.restore();
+    }
+
+    /*
+     * Appends the boundary of the patch to the outline. The union of the patches is filled using the non-zero rule,
+     * hence all boundaries are appended with the same orientation. Otherwise overlapping patches would cancel out.
+     */
+    private void appendOutline(double @NotNull [] north, double @NotNull [] east, double @NotNull [] south,
+            double @NotNull [] west) {
+        assert outline != null;
+        // The control polygon of the boundary, which runs along the north, east, south and west curves.
+        double area = 0;
+        double[] polygon = {north[0], north[1], north[2], north[3], north[4], north[5], east[0], east[1],
+                east[2], east[3], east[4], east[5], east[6], east[7], south[4], south[5], south[2], south[3],
+                south[0], south[1], west[4], west[5], west[2], west[3]};
+        for (int i = 0; i < polygon.length; i += 2) {
+            int next = (i + 2) % polygon.length;
+            area += polygon[i] * polygon[next + 1] - polygon[next] * polygon[i + 1];
+        }
+        outline.moveTo(north[0], north[1]);
+        if (area >= 0) {
+            outline.curveTo(north[2], north[3], north[4], north[5], north[6], north[7]);
+            outline.curveTo(east[2], east[3], east[4], east[5], east[6], east[7]);
+            outline.curveTo(south[4], south[5], south[2], south[3], south[0], south[1]);
+            outline.curveTo(west[4], west[5], west[2], west[3], west[0], west[1]);
+        } else {
+            outline.curveTo(west[2], west[3], west[4], west[5], west[6], west[7]);
+            outline.curveTo(south[2], south[3], south[4], south[5], south[6], south[7]);
+            outline.curveTo(east[4], east[5], east[2], east[3], east[0], east[1]);
+            outline.curveTo(north[4], north[5], north[2], north[3], north[0], north[1]);
+        }
+        outline.closePath();
+    }
+
+    /*
+     * Scales the alpha of the pixels on the edge of the rasterized cells by their coverage of the outline. Edge pixels
+     * whose center lies outside every cell take the color of a covered neighbour.
+     */
+    private void antialiasEdge(@NotNull Shape outline) {
+        assert covered != null;
+        int width = bounds.width;
+        int height = bounds.height;
+        BufferedImage mask = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D g = mask.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+        g.translate(-bounds.x, -bounds.y);
+        g.setColor(Color.WHITE);
+        g.fill(outline);
+        g.dispose();
+        byte[] coverage = ((DataBufferByte) mask.getRaster().getDataBuffer()).getData();
+
+        int[] edgeColors = new int[pixels.length];
+        BitSet edge = new BitSet(pixels.length);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int i = y * width + x;
+                int neighbour = -1;
+                boolean interior = covered.get(i);
+                for (int dy = -1; dy <= 1; dy++) {
+                    for (int dx = -1; dx <= 1; dx++) {
+                        int nx = x + dx;
+                        int ny = y + dy;
+                        if (nx < 0 || nx >= width || ny < 0 || ny >= height || !covered.get(ny * width + nx)) {
+                            interior = false;
+                        } else if (neighbour < 0) {
+                            neighbour = ny * width + nx;
+                        }
+                    }
+                }
+                if (interior) continue;
+                edge.set(i);
+                if (covered.get(i)) {
+                    edgeColors[i] = pixels[i];
+                } else if (neighbour >= 0) {
+                    edgeColors[i] = pixels[neighbour];
+                }
+            }
+        }
+        for (int i = edge.nextSetBit(0); i >= 0; i = edge.nextSetBit(i + 1)) {
+            int argb = edgeColors[i];
+            int alpha = ((argb >>> 24) * (coverage[i] & 0xFF) + 127) / 0xFF;
+            pixels[i] = (alpha << 24) | (argb & 0xFFFFFF);
+        }
+    }
+
+    private double @NotNull [] deviceCurve(@NotNull Bezier bezier) {
+        double[] points = {bezier.a.x, bezier.a.y, bezier.b.x, bezier.b.y, bezier.c.x, bezier.c.y, bezier.d.x,
+                bezier.d.y};
+        transform.transform(points, 0, points, 0, 4);
+        return points;
+    }
+
+    /*
+     * The number of cells along the given opposite curves. Cells are small enough, such that the curves are
+     * approximated up to the flatness and neighbouring cells differ in at most one color level.
+     */
+    private static int steps(double @NotNull [] curve1, double @NotNull [] curve2, int colorDistance) {
+        int steps = Math.max(colorDistance, Math.max(flatteningSteps(curve1), flatteningSteps(curve2)));
+        int maxSteps = (int) Math.ceil(Math.max(polygonLength(curve1), polygonLength(curve2)));
+        return Math.max(1, Math.min(Math.min(MAX_STEPS, maxSteps), steps));
+    }
+
+    private static int colorDistance(@NotNull Color start1, @NotNull Color end1, @NotNull Color start2,
+            @NotNull Color end2) {
+        return Math.max(colorDistance(start1, end1), colorDistance(start2, end2));
+    }
+
+    private static int colorDistance(@NotNull Color c1, @NotNull Color c2) {
+        return Math.max(
+                Math.max(Math.abs(c1.getRed() - c2.getRed()), Math.abs(c1.getGreen() - c2.getGreen())),
+                Math.max(Math.abs(c1.getBlue() - c2.getBlue()), Math.abs(c1.getAlpha() - c2.getAlpha())));
+    }
+
+    /*
+     * The number of line segments approximating the cubic curve up to the flatness. The distance of a segment to the
+     * curve is bounded by an eighth of the maximal second derivative divided by the square of the number of segments.
+     */
+    private static int flatteningSteps(double @NotNull [] curve) {
+        double dx = Math.max(Math.abs(curve[0] - 2 * curve[2] + curve[4]),
+                Math.abs(curve[2] - 2 * curve[4] + curve[6]));
+        double dy = Math.max(Math.abs(curve[1] - 2 * curve[3] + curve[5]),
+                Math.abs(curve[3] - 2 * curve[5] + curve[7]));
+        return (int) Math.ceil(Math.sqrt(6 * Math.hypot(dx, dy) / (8 * FLATNESS)));
+    }
+
+    /*
+     * The length of the control polygon, which bounds the length of the curve.
+     */
+    private static double polygonLength(double @NotNull [] curve) {
+        double length = 0;
+        for (int i = 2; i < 8; i += 2) {
+            length += Point2D.distance(curve[i - 2], curve[i - 1], curve[i], curve[i + 1]);
+        }
+        return length;
+    }
+
+    /*
+     * Evaluates the cubic curve at steps + 1 equidistant parameters using forward differencing.
+     */
+    private static double @NotNull [] evaluate(double @NotNull [] curve, int steps) {
+        double[] points = new double[2 * (steps + 1)];
+        double h = 1.0 / steps;
+        for (int dim = 0; dim < 2; dim++) {
+            double p0 = curve[dim];
+            double p1 = curve[2 + dim];
+            double p2 = curve[4 + dim];
+            double p3 = curve[6 + dim];
+            // Polynomial coefficients of a t^3 + b t^2 + c t + p0.
+            double a = -p0 + 3 * p1 - 3 * p2 + p3;
+            double b = 3 * p0 - 6 * p1 + 3 * p2;
+            double c = -3 * p0 + 3 * p1;
+            double value = p0;
+            double d1 = a * h * h * h + b * h * h + c * h;
+            double d2 = 6 * a * h * h * h + 2 * b * h * h;
+            double d3 = 6 * a * h * h * h;
+            for (int i = 0; i <= steps; i++) {
+                points[2 * i + dim] = value;
+                value += d1;
+                d1 += d2;
+                d2 += d3;
+            }
+            // Avoid accumulated errors at the corners, which are shared with the neighbouring patches.
+            points[dim] = p0;
+            points[2 * steps + dim] = p3;
+        }
+        return points;
+    }
+
+    /*
+     * Evaluates the coons surface along the row with parameter v = j / vSteps.
+     */
+    private static void evaluateRow(double @NotNull [] north, double @NotNull [] south, double @NotNull [] west,
+            double @NotNull [] east, double @NotNull [] northPoints, double @NotNull [] southPoints,
+            double @NotNull [] westPoints, double @NotNull [] eastPoints, int j, int vSteps,
+            double @NotNull [] row) {
+        int uSteps = row.length / 2 - 1;
+        double v = (double) j / vSteps;
+        for (int dim = 0; dim < 2; dim++) {
+            double westValue = westPoints[2 * j + dim];
+            double eastValue = eastPoints[2 * j + dim];
+            double topLeft = north[dim];
+            double topRight = north[6 + dim];
+            double bottomLeft = south[dim];
+            double bottomRight = south[6 + dim];
+            for (int i = 0; i <= uSteps; i++) {
+                double u = (double) i / uSteps;
+                double ruled = (1 - v) * northPoints[2 * i + dim] + v * southPoints[2 * i + dim]
+                        + (1 - u) * westValue + u * eastValue;
+                double bilinear = (1 - u) * (1 - v) * topLeft + u * (1 - v) * topRight
+                        + (1 - u) * v * bottomLeft + u * v * bottomRight;
+                row[2 * i + dim] = ruled - bilinear;
+            }
+        }
+    }
+
+    /*
+     * Fills the pixels whose centers lie inside the quadrilateral. Edges are evaluated identically for both cells
+     * sharing them, hence neighbouring cells neither overlap nor leave gaps.
+     */
+    private void fillQuad(int argb) {
+        double minY = Math.min(Math.min(quad[1], quad[3]), Math.min(quad[5], quad[7]));
+        double maxY = Math.max(Math.max(quad[1], quad[3]), Math.max(quad[5], quad[7]));
+        int fromY = Math.max(bounds.y, (int) Math.ceil(minY - 0.5));
+        int toY = Math.min(bounds.y + bounds.height, (int) Math.ceil(maxY - 0.5));
+        for (int y = fromY; y < toY; y++) {
+            double center = y + 0.5;
+            int count = 0;
+            for (int edge = 0; edge < 8; edge += 2) {
+                int next = (edge + 2) & 7;
+                double x0 = quad[edge];
+                double y0 = quad[edge + 1];
+                double x1 = quad[next];
+                double y1 = quad[next + 1];
+                if (y0 > y1) {
+                    double t = x0;
+                    x0 = x1;
+                    x1 = t;
+                    t = y0;
+                    y0 = y1;
+                    y1 = t;
+                }
+                if (center < y0 || center >= y1) continue;
+                crossings[count++] = x0 + (center - y0) * (x1 - x0) / (y1 - y0);
+            }
+            if (count == 4) {
+                Arrays.sort(crossings);
+                fillSpan(y, crossings[0], crossings[1], argb);
+                fillSpan(y, crossings[2], crossings[3], argb);
+            } else if (count == 2) {
+                fillSpan(y, Math.min(crossings[0], crossings[1]), Math.max(crossings[0], crossings[1]), argb);
+            }
+        }
+    }
+
+    /*
+     * Cells are composited using source over, as overlapping patches (or folded parts of a patch) with translucent
+     * colors are painted on top of each other.
+     */
+    private void fillSpan(int y, double fromX, double toX, int argb) {
+        int from = Math.max(bounds.x, (int) Math.ceil(fromX - 0.5));
+        int to = Math.min(bounds.x + bounds.width, (int) Math.ceil(toX - 0.5));
+        if (from >= to) return;
+        int offset = (y - bounds.y) * bounds.width - bounds.x;
+        if (covered != null) covered.set(offset + from, offset + to);
+        int alpha = argb >>> 24;
+        if (alpha == 0xFF) {
+            Arrays.fill(pixels, offset + from, offset + to, argb);
+        } else if (alpha != 0) {
+            for (int x = from; x < to; x++) {
+                pixels[offset + x] = sourceOver(argb, pixels[offset + x]);
+            }
+        }
+    }
+
+    /*
+     * Composites the non-premultiplied colors.
+     */
+    private static int sourceOver(int src, int dst) {
+        int dstAlpha = dst >>> 24;
+        if (dstAlpha == 0) return src;
+        int srcAlpha = src >>> 24;
+        int dstWeight = (dstAlpha * (0xFF - srcAlpha) + 127) / 0xFF;
+        int alpha = srcAlpha + dstWeight;
+        int half = alpha / 2;
+        int r = (((src >> 16) & 0xFF) * srcAlpha + ((dst >> 16) & 0xFF) * dstWeight + half) / alpha;
+        int g = (((src >> 8) & 0xFF) * srcAlpha + ((dst >> 8) & 0xFF) * dstWeight + half) / alpha;
+        int b = ((src & 0xFF) * srcAlpha + (dst & 0xFF) * dstWeight + half) / alpha;
+        return (alpha << 24) | (r << 16) | (g << 8) | b;
+    }
+}
@@ -55,17 +55,18 @@ final class GlyphRenderer {
         GlyphRun glyphRun = layoutGlyphRun(segment, cursor, font, context, textOutput);
 
         cursor.completeGlyphRunMetrics.union(glyphRun.metrics());
-        segment.currentGlyphRun = glyphRun;
-        segment.currentRenderContext = context;
+        cursor.preparedGlyphRuns.put(segment, new PreparedGlyphRun(glyphRun, context));
     }
 
     static void renderGlyphRun(@NotNull Output output, @NotNull PaintOrder paintOrder,
-            @NotNull Set<VectorEffect> vectorEffects, @NotNull StringTextSegment segment) {
-        RenderContext context = segment.currentRenderContext;
-        assert context != null;
+            @NotNull Set<VectorEffect> vectorEffects, @NotNull StringTextSegment segment,
+            @NotNull GlyphCursor cursor) {
+        // Remove the glyphRun. Avoids holding onto the RenderContext, which may reference a JComponent.
+        PreparedGlyphRun preparedGlyphRun = cursor.preparedGlyphRuns.remove(segment);
+        assert preparedGlyphRun != null;
 
-        GlyphRun glyphRun = segment.currentGlyphRun;
-        assert glyphRun != null;
+        RenderContext context = preparedGlyphRun.context;
+        GlyphRun glyphRun = preparedGlyphRun.glyphRun;
 
         AbstractGlyphRun.Metrics metrics = glyphRun.metrics();
 
@@ -86,10 +87,6 @@ final class GlyphRenderer {
             emoji.render(output, font);
             safeState.restore();
         }
-
-        // Invalidate the glyphRun. Avoids holding onto the RenderContext, which may reference a JComponent.
-        segment.currentRenderContext = null;
-        segment.currentGlyphRun = null;
     }
 
     static @NotNull GlyphRun layoutGlyphRun(@NotNull StringTextSegment segment, @NotNull GlyphCursor cursor,
@@ -190,4 +187,14 @@ final class GlyphRenderer {
                 return font.textOverBaseline();
         }
     }
+
+    static final class PreparedGlyphRun {
+        private final @NotNull GlyphRun glyphRun;
+        private final @NotNull RenderContext context;
+
+        private PreparedGlyphRun(@NotNull GlyphRun glyphRun, @NotNull RenderContext context) {
+            this.glyphRun = glyphRun;
+            this.context = context;
+        }
+    }
 }
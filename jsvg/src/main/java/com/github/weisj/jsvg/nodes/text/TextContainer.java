@@ -269,7 +269,8 @@ abstract class TextContainer extends BaseContainerNode<TextSegment>
                 (segment, ctx) -> {
                     if (!isVisible(ctx)) return;
                     GlyphRenderer.renderGlyphRun(
-                            output, RenderContextAccessor.instance().paintOrder(context), vectorEffects(), segment);
+                            output, RenderContextAccessor.instance().paintOrder(context), vectorEffects(), segment,
+                            cursor);
                 },
                 (segment, ctx) -> segment.renderSegmentWithoutLayout(cursor, ctx, output));
     }
@@ -36,6 +36,8 @@ import org.jetbrains.annotations.Nullable;
 import com.github.weisj.jsvg.renderer.output.Output;
 import com.github.weisj.jsvg.renderer.output.impl.GraphicsUtil;
 import com.github.weisj.jsvg.util.CachedSurfaceSupplier;
+import com.github.weisj.jsvg.util.ImageUtil;
+import com.github.weisj.jsvg.util.PixelKernels;
 
 public final class MaskedPaint implements Paint, GraphicsUtil.WrappingPaint, GraphicsUtil.DisposablePaint {
     private @NotNull Paint paint;
@@ -148,6 +150,12 @@ public final class MaskedPaint implements Paint, GraphicsUtil.WrappingPaint, Gra
             int softMaskMaxX = softMaskMinX + maskRaster.getWidth();
             int softMaskMaxY = softMaskMinY + maskRaster.getHeight();
 
+            if (numColorComponents == 3 && ImageUtil.is_INT_PACK_Data(result.getSampleModel(), true)
+                    && isByteMask(maskRaster)) {
+                applyByteMask(result, x, y, w, h, softMaskMinX, softMaskMinY, softMaskMaxX, softMaskMaxY);
+                return result;
+            }
+
             for (int j = 0; j < h; j++) {
                 for (int i = 0; i < w; i++) {
                     int rx = x + i - offset.x;
@@ -166,5 +174,49 @@ public final class MaskedPaint implements Paint, GraphicsUtil.WrappingPaint, Gra
 
             return result;
         }
+
+        private static boolean isByteMask(@NotNull Raster raster) {
+            if (!(raster.getDataBuffer() instanceof DataBufferByte)) return false;
+            if (!(raster.getSampleModel() instanceof ComponentSampleModel)) return false;
+            ComponentSampleModel sampleModel = (ComponentSampleModel) raster.getSampleModel();
+            return sampleModel.getNumBands() == 1 && sampleModel.getPixelStride() == 1;
+        }
+
+        private void applyByteMask(@NotNull WritableRaster result, int x, int y, int w, int h,
+                int softMaskMinX, int softMaskMinY, int softMaskMaxX, int softMaskMaxY) {
+            int[] pixels = ImageUtil.getINT_RGBA_DataBank(result);
+            int pixelOffset = ImageUtil.getINT_RGBA_DataOffset(result);
+            int scanlineStride = ImageUtil.getINT_RGBA_ScanlineStride(result);
+
+            ComponentSampleModel maskSampleModel = (ComponentSampleModel) maskRaster.getSampleModel();
+            byte[] mask = ((DataBufferByte) maskRaster.getDataBuffer()).getData();
+            int maskBaseOffset = maskRaster.getDataBuffer().getOffset();
+            int maskTranslateX = maskRaster.getSampleModelTranslateX();
+            int maskTranslateY = maskRaster.getSampleModelTranslateY();
+
+            PixelKernels kernels = PixelKernels.get();
+            int rx = x - offset.x;
+            int start = Math.max(0, Math.min(w, softMaskMinX - rx));
+            int end = Math.max(start, Math.min(w, softMaskMaxX - rx));
+            for (int j = 0; j < h; j++) {
+                int row = pixelOffset + j * scanlineStride;
+                int ry = y + j - offset.y;
+                boolean inside = ry >= softMaskMinY && ry < softMaskMaxY;
+                int rowStart = inside ? start : w;
+                int rowEnd = inside ? end : w;
+                // Outside the mask the luminance is zero, which makes the pixel fully transparent.
+                for (int i = 0; i < rowStart; i++) {
+                    pixels[row + i] &= 0x00FFFFFF;
+                }
+                if (rowStart < rowEnd) {
+                    int maskOffset = maskBaseOffset + maskSampleModel.getOffset(
+                            rx + rowStart - maskTranslateX, ry - maskTranslateY, 0);
+                    kernels.multiplyAlpha(pixels, row + rowStart, mask, maskOffset, rowEnd - rowStart);
+                }
+                for (int i = rowEnd; i < w; i++) {
+                    pixels[row + i] &= 0x00FFFFFF;
+                }
+            }
+        }
     }
 }
@@ -29,9 +29,11 @@ import java.awt.image.DataBufferInt;
 import java.awt.image.DirectColorModel;
 import java.awt.image.Raster;
 import java.awt.image.SinglePixelPackedSampleModel;
-import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -84,14 +86,10 @@ abstract class SVGMultipleGradientPaintContext implements PaintContext {
             new DirectColorModel(24, 0x00ff0000, 0x0000ff00, 0x000000ff);
 
     /**
-     * The cached ColorModel.
+     * The raster cached by the current thread, which is reusable among instances. Keeping the cache per thread
+     * lets gradients be painted concurrently without contending for a shared raster.
      */
-    protected static ColorModel cachedModel;
-
-    /**
-     * The cached raster, which is reusable among instances.
-     */
-    protected static WeakReference<Raster> cached;
+    private static final ThreadLocal<CachedRaster> CACHED_RASTER = ThreadLocal.withInitial(CachedRaster::new);
 
     /**
      * Raster is reused whenever possible.
@@ -135,14 +133,14 @@ abstract class SVGMultipleGradientPaintContext implements PaintContext {
 
     /**
      * Array which contains the interpolated color values for each interval,
-     * used by calculateSingleArrayGradient().  It is protected for possible
+     * used by the fast lookup method.  It is protected for possible
      * direct access by subclasses.
      */
     protected int[] gradient;
 
     /**
      * Array of gradient arrays, one array for each interval.  Used by
-     * calculateMultipleArrayGradient().
+     * the slow lookup method.
      */
     private int[][] gradients;
 
@@ -156,11 +154,6 @@ abstract class SVGMultipleGradientPaintContext implements PaintContext {
      */
     private final float[] fractions;
 
-    /**
-     * Used to determine if gradient colors are all opaque.
-     */
-    private int transparencyTest;
-
     /**
      * Constant number of max colors between any 2 arbitrary colors.
      * Used for creating and indexing gradients arrays.
@@ -211,276 +204,18 @@ abstract class SVGMultipleGradientPaintContext implements PaintContext {
         // we can avoid copying this array since we do not modify its values
         this.fractions = fractions;
 
-        // note that only one of these values can ever be non-null (we either
-        // store the fast gradient array or the slow one, but never both
-        // at the same time)
-        int[] grad =
-                (mgp.gradient != null) ? mgp.gradient.get() : null;
-        int[][] grads =
-                (mgp.gradients != null) ? mgp.gradients.get() : null;
-
-        if (grad == null && grads == null) {
-            // we need to (re)create the appropriate values
-            calculateLookupData(colors);
-
-            // now cache the calculated values in the
-            // MultipleGradientPaint instance for future use
-            mgp.model = this.model;
-            mgp.normalizedIntervals = this.normalizedIntervals;
-            mgp.isSimpleLookup = this.isSimpleLookup;
-            if (isSimpleLookup) {
-                // only cache the fast array
-                mgp.fastGradientArraySize = this.fastGradientArraySize;
-                mgp.gradient = new SoftReference<>(this.gradient);
-            } else {
-                // only cache the slow array
-                mgp.gradients = new SoftReference<>(this.gradients);
-            }
-        } else {
-            // use the values cached in the MultipleGradientPaint instance
-            this.model = mgp.model;
-            this.normalizedIntervals = mgp.normalizedIntervals;
-            this.isSimpleLookup = mgp.isSimpleLookup;
-            this.gradient = grad;
-            this.fastGradientArraySize = mgp.fastGradientArraySize;
-            this.gradients = grads;
-        }
-    }
-
-    /**
-     * This function is the meat of this class.  It calculates an array of
-     * gradient colors based on an array of fractions and color values at
-     * those fractions.
-     */
-    private void calculateLookupData(Color[] colors) {
-        Color[] normalizedColors;
-        if (colorSpace == MultipleGradientPaint.ColorSpaceType.LINEAR_RGB) {
-            // create a new colors array
-            normalizedColors = new Color[colors.length];
-            // convert the colors using the lookup table
-            for (int i = 0; i < colors.length; i++) {
-                int argb = colors[i].getRGB();
-                normalizedColors[i] = new Color(ColorUtil.sRGBtoLinearRGB(argb), true);
-            }
-        } else {
-            // we can just use this array by reference since we do not
-            // modify its values in the case of SRGB
-            normalizedColors = colors;
-        }
-
-        // this will store the intervals (distances) between gradient stops
-        normalizedIntervals = new float[fractions.length - 1];
-
-        // convert from fractions into intervals
-        for (int i = 0; i < normalizedIntervals.length; i++) {
-            // interval distance is equal to the difference in positions
-            normalizedIntervals[i] = this.fractions[i + 1] - this.fractions[i];
-        }
-
-        // initialize to be fully opaque for ANDing with colors
-        transparencyTest = 0xff000000;
-
-        // array of interpolation arrays
-        gradients = new int[normalizedIntervals.length][];
-
-        // find smallest interval
-        float minInterval = 1;
-        for (float interval : normalizedIntervals) {
-            if (interval > MIN_INTERVAL_LENGTH) {
-                minInterval = Math.min(minInterval, interval);
-            }
-        }
-
-        // Estimate the size of the entire gradients array.
-        // This is to prevent a tiny interval from causing the size of array
-        // to explode. If the estimated size is too large, break to using
-        // separate arrays for each interval, and using an indexing scheme at
-        // look-up time.
-        int estimatedSize = 0;
-        for (float normalizedInterval : normalizedIntervals) {
-            estimatedSize += (int) ((normalizedInterval / minInterval) * GRADIENT_SIZE);
-        }
-
-        if (estimatedSize > MAX_GRADIENT_ARRAY_SIZE) {
-            // slow method
-            calculateMultipleArrayGradient(normalizedColors);
-        } else {
-            // fast method
-            calculateSingleArrayGradient(normalizedColors, minInterval);
-        }
-
-        // use the most "economical" model
-        if ((transparencyTest >>> 24) == 0xff) {
-            model = XRGB_MODEL;
-        } else {
-            model = ColorModel.getRGBdefault();
-        }
-    }
-
-    /**
-     * FAST LOOKUP METHOD
-     * <p>
-     * This method calculates the gradient color values and places them in a
-     * single int array, gradient[].  It does this by allocating space for
-     * each interval based on its size relative to the smallest interval in
-     * the array.  The smallest interval is allocated 255 interpolated values
-     * (the maximum number of unique in-between colors in a 24 bit color
-     * system), and all other intervals are allocated
-     * size = (255 * the ratio of their size to the smallest interval).
-     * <p>
-     * This scheme expedites a speedy retrieval because the colors are
-     * distributed along the array according to their user-specified
-     * distribution.  All that is needed is a relative index from 0 to 1.
-     * <p>
-     * The only problem with this method is that the possibility exists for
-     * the array size to balloon in the case where there is a
-     * disproportionately small gradient interval.  In this case the other
-     * intervals will be allocated huge space, but much of that data is
-     * redundant.  We thus need to use the space conserving scheme below.
-     *
-     * @param minInterval the size of the smallest interval
-     */
-    private void calculateSingleArrayGradient(Color[] colors, float minInterval) {
-        // set the flag, so we know later it is a simple (fast) lookup
-        isSimpleLookup = true;
-
-        // 2 colors to interpolate
-        int rgb1;
-        int rgb2;
-
-        // the eventual size of the single array
-        int gradientsTot = 1;
-
-        // for every interval (transition between 2 colors)
-        for (int i = 0; i < gradients.length; i++) {
-            // create an array whose size is based on the ratio to the
-            // smallest interval
-            int nGradients = (int) ((normalizedIntervals[i] / minInterval) * 255f);
-            gradientsTot += nGradients;
-            gradients[i] = new int[nGradients];
-
-            // the 2 colors (keyframes) to interpolate between
-            rgb1 = colors[i].getRGB();
-            rgb2 = colors[i + 1].getRGB();
-
-            // fill this array with the colors in between rgb1 and rgb2
-            interpolate(rgb1, rgb2, gradients[i]);
-
-            // if the colors are opaque, transparency should still
-            // be 0xff000000
-            transparencyTest &= rgb1;
-            transparencyTest &= rgb2;
-        }
-
-        // put all gradients in a single array
-        gradient = new int[gradientsTot];
-        int curOffset = 0;
-        for (int[] ints : gradients) {
-            System.arraycopy(ints, 0, gradient, curOffset, ints.length);
-            curOffset += ints.length;
-        }
-        gradient[gradient.length - 1] = colors[colors.length - 1].getRGB();
-
-        // if interpolation occurred in Linear RGB space, convert the
-        // gradients back to sRGB using the lookup table
-        if (colorSpace == MultipleGradientPaint.ColorSpaceType.LINEAR_RGB) {
-            for (int i = 0; i < gradient.length; i++) {
-                gradient[i] = ColorUtil.linearRGBtoSRGB(gradient[i]);
-            }
-        }
-
-        fastGradientArraySize = gradient.length - 1;
-    }
-
-    /**
-     * SLOW LOOKUP METHOD
-     * <p>
-     * This method calculates the gradient color values for each interval and
-     * places each into its own 255 size array.  The arrays are stored in
-     * gradients[][].  (255 is used because this is the maximum number of
-     * unique colors between 2 arbitrary colors in a 24 bit color system.)
-     * <p>
-     * This method uses the minimum amount of space (only 255 * number of
-     * intervals), but it aggravates the lookup procedure, because now we
-     * have to find out which interval to select, then calculate the index
-     * within that interval.  This causes a significant performance hit,
-     * because it requires this calculation be done for every point in
-     * the rendering loop.
-     * <p>
-     * For those of you who are interested, this is a classic example of the
-     * time-space tradeoff.
-     */
-    private void calculateMultipleArrayGradient(Color[] colors) {
-        // set the flag, so we know later it is a non-simple lookup
-        isSimpleLookup = false;
-
-        // 2 colors to interpolate
-        int rgb1;
-        int rgb2;
-
-        // for every interval (transition between 2 colors)
-        for (int i = 0; i < gradients.length; i++) {
-            // create an array of the maximum theoretical size for
-            // each interval
-            gradients[i] = new int[GRADIENT_SIZE];
-
-            // get the 2 colors
-            rgb1 = colors[i].getRGB();
-            rgb2 = colors[i + 1].getRGB();
-
-            // fill this array with the colors in between rgb1 and rgb2
-            interpolate(rgb1, rgb2, gradients[i]);
-
-            // if the colors are opaque, transparency should still
-            // be 0xff000000
-            transparencyTest &= rgb1;
-            transparencyTest &= rgb2;
-        }
-
-        // if interpolation occurred in Linear RGB space, convert the
-        // gradients back to SRGB using the lookup table
-        if (colorSpace == MultipleGradientPaint.ColorSpaceType.LINEAR_RGB) {
-            for (int j = 0; j < gradients.length; j++) {
-                for (int i = 0; i < gradients[j].length; i++) {
-                    gradients[j][i] = ColorUtil.linearRGBtoSRGB(gradients[j][i]);
-                }
-            }
-        }
-    }
-
-    /**
-     * Yet another helper function.  This one linearly interpolates between
-     * 2 colors, filling up the output array.
-     *
-     * @param rgb1   the start color
-     * @param rgb2   the end color
-     * @param output the output array of colors; must not be null
-     */
-    private void interpolate(int rgb1, int rgb2, int[] output) {
-        // step between interpolated values
-        float stepSize = 1.0f / output.length;
-
-        // extract color components from packed integer
-        int a1 = (rgb1 >> 24) & 0xff;
-        int r1 = (rgb1 >> 16) & 0xff;
-        int g1 = (rgb1 >> 8) & 0xff;
-        int b1 = rgb1 & 0xff;
-
-        // calculate the total change in alpha, red, green, blue
-        int da = ((rgb2 >> 24) & 0xff) - a1;
-        int dr = ((rgb2 >> 16) & 0xff) - r1;
-        int dg = ((rgb2 >> 8) & 0xff) - g1;
-        int db = (rgb2 & 0xff) - b1;
-
-        // for each step in the interval calculate the in-between color by
-        // multiplying the normalized current position by the total color
-        // change (0.5 is added to prevent truncation round-off error)
-        for (int i = 0; i < output.length; i++) {
-            output[i] = ((int) ((a1 + i * da * stepSize) + 0.5) << 24) |
-                    ((int) ((r1 + i * dr * stepSize) + 0.5) << 16) |
-                    ((int) ((g1 + i * dg * stepSize) + 0.5) << 8) |
-                    ((int) ((b1 + i * db * stepSize) + 0.5));
+        // the lookup data is shared with all paints using the same stops
+        GradientLookup lookup = mgp.lookup;
+        if (lookup == null) {
+            lookup = GradientLookup.of(fractions, colors, colorSpace);
+            mgp.lookup = lookup;
         }
+        this.model = lookup.model;
+        this.normalizedIntervals = lookup.normalizedIntervals;
+        this.isSimpleLookup = lookup.isSimpleLookup;
+        this.gradient = lookup.gradient;
+        this.fastGradientArraySize = lookup.fastGradientArraySize;
+        this.gradients = lookup.gradients;
     }
 
     private static float mod1(float x) {
@@ -581,14 +316,15 @@ abstract class SVGMultipleGradientPaintContext implements PaintContext {
 
     /**
      * Took this cacheRaster code from GradientPaint. It appears to recycle
-     * rasters for use by any other instance, as long as they are sufficiently
-     * large.
+     * rasters for use by any other instance on the same thread, as long as
+     * they are sufficiently large.
      */
-    private static synchronized Raster getCachedRaster(ColorModel cm, int w, int h) {
-        if (Objects.equals(cm, cachedModel) && cached != null) {
-            Raster ras = cached.get();
+    private static Raster getCachedRaster(ColorModel cm, int w, int h) {
+        CachedRaster cache = CACHED_RASTER.get();
+        if (Objects.equals(cm, cache.model) && cache.raster != null) {
+            Raster ras = cache.raster.get();
             if (ras != null && ras.getWidth() >= w && ras.getHeight() >= h) {
-                cached = null;
+                cache.raster = null;
                 return ras;
             }
         }
@@ -598,12 +334,13 @@ abstract class SVGMultipleGradientPaintContext implements PaintContext {
 
     /**
      * Took this cacheRaster code from GradientPaint. It appears to recycle
-     * rasters for use by any other instance, as long as they are sufficiently
-     * large.
+     * rasters for use by any other instance on the same thread, as long as
+     * they are sufficiently large.
      */
-    private static synchronized void putCachedRaster(ColorModel cm, Raster ras) {
-        if (cached != null) {
-            Raster cras = cached.get();
+    private static void putCachedRaster(ColorModel cm, Raster ras) {
+        CachedRaster cache = CACHED_RASTER.get();
+        if (cache.raster != null) {
+            Raster cras = cache.raster.get();
             if (cras != null) {
                 int cw = cras.getWidth();
                 int ch = cras.getHeight();
@@ -617,8 +354,8 @@ abstract class SVGMultipleGradientPaintContext implements PaintContext {
                 }
             }
         }
-        cachedModel = cm;
-        cached = new WeakReference<>(ras);
+        cache.model = cm;
+        cache.raster = new WeakReference<>(ras);
     }
 
     @Override
@@ -633,4 +370,338 @@ abstract class SVGMultipleGradientPaintContext implements PaintContext {
     public final ColorModel getColorModel() {
         return model;
     }
+
+    private static final class CachedRaster {
+        private ColorModel model;
+        private WeakReference<Raster> raster;
+    }
+
+    /**
+     * The color lookup data of a gradient. It only depends on the stops and the interpolation color space, hence
+     * it is shared by all paints with equal stops. The data is never modified after construction.
+     */
+    static final class GradientLookup {
+        private static final int MAX_CACHED_LOOKUPS = 64;
+        private static final ConcurrentHashMap<LookupKey, GradientLookup> CACHE = new ConcurrentHashMap<>();
+
+        private final float[] fractions;
+        private final MultipleGradientPaint.ColorSpaceType colorSpace;
+        private ColorModel model;
+        private float[] normalizedIntervals;
+        private boolean isSimpleLookup;
+        private int fastGradientArraySize;
+        private int[] gradient;
+        private int[][] gradients;
+        private int transparencyTest;
+
+        private GradientLookup(float @NotNull [] fractions, @NotNull Color @NotNull [] colors,
+                @NotNull MultipleGradientPaint.ColorSpaceType colorSpace) {
+            this.fractions = fractions;
+            this.colorSpace = colorSpace;
+            calculateLookupData(colors);
+        }
+
+        /**
+         * Returns the lookup data for the given stops. Recently used lookup data is kept in a bounded cache, which
+         * can be accessed concurrently.
+         *
+         * @param fractions the stop offsets.
+         * @param colors the stop colors.
+         * @param colorSpace the interpolation color space.
+         * @return the lookup data.
+         */
+        static @NotNull GradientLookup of(float @NotNull [] fractions, @NotNull Color @NotNull [] colors,
+                @NotNull MultipleGradientPaint.ColorSpaceType colorSpace) {
+            LookupKey key = new LookupKey(fractions, colors, colorSpace);
+            GradientLookup lookup = CACHE.get(key);
+            if (lookup != null) return lookup;
+
+            lookup = new GradientLookup(key.fractions, colors, colorSpace);
+            GradientLookup existing = CACHE.putIfAbsent(key, lookup);
+            if (existing != null) return existing;
+            if (CACHE.size() > MAX_CACHED_LOOKUPS) {
+                // Evict arbitrary entries. Cheap to recompute compared to the cost of tracking the usage order.
+                Iterator<LookupKey> keys = CACHE.keySet().iterator();
+                while (CACHE.size() > MAX_CACHED_LOOKUPS && keys.hasNext()) {
+                    if (!key.equals(keys.next())) keys.remove();
+                }
+            }
+            return lookup;
+        }
+
+        static int cacheSize() {
+            return CACHE.size();
+        }
+
+        /**
+         * This function is the meat of this class.  It calculates an array of
+         * gradient colors based on an array of fractions and color values at
+         * those fractions.
+         */
+        private void calculateLookupData(Color[] colors) {
+            Color[] normalizedColors;
+            if (colorSpace == MultipleGradientPaint.ColorSpaceType.LINEAR_RGB) {
+                // create a new colors array
+                normalizedColors = new Color[colors.length];
+                // convert the colors using the lookup table
+                for (int i = 0; i < colors.length; i++) {
+                    int argb = colors[i].getRGB();
+                    normalizedColors[i] = new Color(ColorUtil.sRGBtoLinearRGB(argb), true);
+                }
+            } else {
+                // we can just use this array by reference since we do not
+                // modify its values in the case of SRGB
+                normalizedColors = colors;
+            }
+
+            // this will store the intervals (distances) between gradient stops
+            normalizedIntervals = new float[fractions.length - 1];
+
+            // convert from fractions into intervals
+            for (int i = 0; i < normalizedIntervals.length; i++) {
+                // interval distance is equal to the difference in positions
+                normalizedIntervals[i] = this.fractions[i + 1] - this.fractions[i];
+            }
+
+            // initialize to be fully opaque for ANDing with colors
+            transparencyTest = 0xff000000;
+
+            // array of interpolation arrays
+            gradients = new int[normalizedIntervals.length][];
+
+            // find smallest interval
+            float minInterval = 1;
+            for (float interval : normalizedIntervals) {
+                if (interval > MIN_INTERVAL_LENGTH) {
+                    minInterval = Math.min(minInterval, interval);
+                }
+            }
+
+            // Estimate the size of the entire gradients array.
+            // This is to prevent a tiny interval from causing the size of array
+            // to explode. If the estimated size is too large, break to using
+            // separate arrays for each interval, and using an indexing scheme at
+            // look-up time.
+            int estimatedSize = 0;
+            for (float normalizedInterval : normalizedIntervals) {
+                estimatedSize += (int) ((normalizedInterval / minInterval) * GRADIENT_SIZE);
+            }
+
+            if (estimatedSize > MAX_GRADIENT_ARRAY_SIZE) {
+                // slow method
+                calculateMultipleArrayGradient(normalizedColors);
+            } else {
+                // fast method
+                calculateSingleArrayGradient(normalizedColors, minInterval);
+            }
+
+            // use the most "economical" model
+            if ((transparencyTest >>> 24) == 0xff) {
+                model = XRGB_MODEL;
+            } else {
+                model = ColorModel.getRGBdefault();
+            }
+        }
+
+        /**
+         * FAST LOOKUP METHOD
+         * <p>
+         * This method calculates the gradient color values and places them in a
+         * single int array, gradient[].  It does this by allocating space for
+         * each interval based on its size relative to the smallest interval in
+         * the array.  The smallest interval is allocated 255 interpolated values
+         * (the maximum number of unique in-between colors in a 24 bit color
+         * system), and all other intervals are allocated
+         * size = (255 * the ratio of their size to the smallest interval).
+         * <p>
+         * This scheme expedites a speedy retrieval because the colors are
+         * distributed along the array according to their user-specified
+         * distribution.  All that is needed is a relative index from 0 to 1.
+         * <p>
+         * The only problem with this method is that the possibility exists for
+         * the array size to balloon in the case where there is a
+         * disproportionately small gradient interval.  In this case the other
+         * intervals will be allocated huge space, but much of that data is
+         * redundant.  We thus need to use the space conserving scheme below.
+         *
+         * @param minInterval the size of the smallest interval
+         */
+        private void calculateSingleArrayGradient(Color[] colors, float minInterval) {
+            // set the flag, so we know later it is a simple (fast) lookup
+            isSimpleLookup = true;
+
+            // 2 colors to interpolate
+            int rgb1;
+            int rgb2;
+
+            // the eventual size of the single array
+            int gradientsTot = 1;
+
+            // for every interval (transition between 2 colors)
+            for (int i = 0; i < gradients.length; i++) {
+                // create an array whose size is based on the ratio to the
+                // smallest interval
+                int nGradients = (int) ((normalizedIntervals[i] / minInterval) * 255f);
+                gradientsTot += nGradients;
+                gradients[i] = new int[nGradients];
+
+                // the 2 colors (keyframes) to interpolate between
+                rgb1 = colors[i].getRGB();
+                rgb2 = colors[i + 1].getRGB();
+
+                // fill this array with the colors in between rgb1 and rgb2
+                interpolate(rgb1, rgb2, gradients[i]);
+
+                // if the colors are opaque, transparency should still
+                // be 0xff000000
+                transparencyTest &= rgb1;
+                transparencyTest &= rgb2;
+            }
+
+            // put all gradients in a single array
+            gradient = new int[gradientsTot];
+            int curOffset = 0;
+            for (int[] ints : gradients) {
+                System.arraycopy(ints, 0, gradient, curOffset, ints.length);
+                curOffset += ints.length;
+            }
+            gradient[gradient.length - 1] = colors[colors.length - 1].getRGB();
+            // only the single array is needed for the fast lookup
+            gradients = null;
+
+            // if interpolation occurred in Linear RGB space, convert the
+            // gradients back to sRGB using the lookup table
+            if (colorSpace == MultipleGradientPaint.ColorSpaceType.LINEAR_RGB) {
+                for (int i = 0; i < gradient.length; i++) {
+                    gradient[i] = ColorUtil.linearRGBtoSRGB(gradient[i]);
+                }
+            }
+
+            fastGradientArraySize = gradient.length - 1;
+        }
+
+        /**
+         * SLOW LOOKUP METHOD
+         * <p>
+         * This method calculates the gradient color values for each interval and
+         * places each into its own 255 size array.  The arrays are stored in
+         * gradients[][].  (255 is used because this is the maximum number of
+         * unique colors between 2 arbitrary colors in a 24 bit color system.)
+         * <p>
+         * This method uses the minimum amount of space (only 255 * number of
+         * intervals), but it aggravates the lookup procedure, because now we
+         * have to find out which interval to select, then calculate the index
+         * within that interval.  This causes a significant performance hit,
+         * because it requires this calculation be done for every point in
+         * the rendering loop.
+         * <p>
+         * For those of you who are interested, this is a classic example of the
+         * time-space tradeoff.
+         */
+        private void calculateMultipleArrayGradient(Color[] colors) {
+            // set the flag, so we know later it is a non-simple lookup
+            isSimpleLookup = false;
+
+            // 2 colors to interpolate
+            int rgb1;
+            int rgb2;
+
+            // for every interval (transition between 2 colors)
+            for (int i = 0; i < gradients.length; i++) {
+                // create an array of the maximum theoretical size for
+                // each interval
+                gradients[i] = new int[GRADIENT_SIZE];
+
+                // get the 2 colors
+                rgb1 = colors[i].getRGB();
+                rgb2 = colors[i + 1].getRGB();
+
+                // fill this array with the colors in between rgb1 and rgb2
+                interpolate(rgb1, rgb2, gradients[i]);
+
+                // if the colors are opaque, transparency should still
+                // be 0xff000000
+                transparencyTest &= rgb1;
+                transparencyTest &= rgb2;
+            }
+
+            // if interpolation occurred in Linear RGB space, convert the
+            // gradients back to SRGB using the lookup table
+            if (colorSpace == MultipleGradientPaint.ColorSpaceType.LINEAR_RGB) {
+                for (int j = 0; j < gradients.length; j++) {
+                    for (int i = 0; i < gradients[j].length; i++) {
+                        gradients[j][i] = ColorUtil.linearRGBtoSRGB(gradients[j][i]);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Yet another helper function.  This one linearly interpolates between
+         * 2 colors, filling up the output array.
+         *
+         * @param rgb1   the start color
+         * @param rgb2   the end color
+         * @param output the output array of colors; must not be null
+         */
+        private void interpolate(int rgb1, int rgb2, int[] output) {
+            // step between interpolated values
+            float stepSize = 1.0f / output.length;
+
+            // extract color components from packed integer
+            int a1 = (rgb1 >> 24) & 0xff;
+            int r1 = (rgb1 >> 16) & 0xff;
+            int g1 = (rgb1 >> 8) & 0xff;
+            int b1 = rgb1 & 0xff;
+
+            // calculate the total change in alpha, red, green, blue
+            int da = ((rgb2 >> 24) & 0xff) - a1;
+            int dr = ((rgb2 >> 16) & 0xff) - r1;
+            int dg = ((rgb2 >> 8) & 0xff) - g1;
+            int db = (rgb2 & 0xff) - b1;
+
+            // for each step in the interval calculate the in-between color by
+            // multiplying the normalized current position by the total color
+            // change (0.5 is added to prevent truncation round-off error)
+            for (int i = 0; i < output.length; i++) {
+                output[i] = ((int) ((a1 + i * da * stepSize) + 0.5) << 24) |
+                        ((int) ((r1 + i * dr * stepSize) + 0.5) << 16) |
+                        ((int) ((g1 + i * dg * stepSize) + 0.5) << 8) |
+                        ((int) ((b1 + i * db * stepSize) + 0.5));
+            }
+        }
+    }
+
+    private static final class LookupKey {
+        private final float[] fractions;
+        private final int[] colors;
+        private final MultipleGradientPaint.ColorSpaceType colorSpace;
+        private final int hashCode;
+
+        private LookupKey(float @NotNull [] fractions, @NotNull Color @NotNull [] colors,
+                @NotNull MultipleGradientPaint.ColorSpaceType colorSpace) {
+            this.fractions = fractions.clone();
+            this.colors = new int[colors.length];
+            for (int i = 0; i < colors.length; i++) {
+                this.colors[i] = colors[i].getRGB();
+            }
+            this.colorSpace = colorSpace;
+            this.hashCode = 31 * (31 * Arrays.hashCode(this.fractions) + Arrays.hashCode(this.colors))
+                    + colorSpace.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof LookupKey)) return false;
+            LookupKey other = (LookupKey) o;
+            return hashCode == other.hashCode && colorSpace == other.colorSpace
+                    && Arrays.equals(fractions, other.fractions) && Arrays.equals(colors, other.colors);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
@@ -25,6 +25,10 @@ import java.io.*;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -37,15 +41,16 @@ import com.github.weisj.jsvg.parser.impl.*;
 
 /**
  * Class for loading svg files as an {@link SVGDocument}.
- * Note that this class isn't guaranteed to be thread safe and hence shouldn't be used across multiple threads.
+ * This class is thread safe. A single instance can be used to load documents from multiple threads concurrently.
  */
 public final class SVGLoader {
 
     static final Logger LOGGER = LogFactory.createLogger(SVGLoader.class);
+    private static final LoaderContext DEFAULT_LOADER_CONTEXT = LoaderContext.createDefault();
     private final StaxSVGLoader loader = new StaxSVGLoader();
 
     public @Nullable SVGDocument load(@NotNull URL xmlBase) {
-        return load(xmlBase, LoaderContext.createDefault());
+        return load(xmlBase, DEFAULT_LOADER_CONTEXT);
     }
 
     public @Nullable SVGDocument load(@NotNull URL xmlBase, @NotNull LoaderContext loaderContext) {
@@ -93,4 +98,63 @@ public final class SVGLoader {
         }
         return null;
     }
+
+    /**
+     * Parse an SVG document and write it in a compact binary format, which can be loaded using
+     * {@link #loadCompiled(Path, URI, LoaderContext)} without parsing any xml or css. This is intended to be done
+     * at build time.
+     * <p>
+     * The {@link LoaderContext#preProcessor()} and style sheets are applied during compilation. Resources are
+     * resolved when the compiled document is loaded.
+     *
+     * @param inputStream the input stream to read the SVG document from
+     * @param xmlBase The uri of the document.
+     * @param loaderContext The loader context to use for parsing the document.
+     * @param outputStream the stream to write the compiled document to.
+     * @throws IOException if the document couldn't be read or written.
+     */
+    public void compile(@NotNull InputStream inputStream, @Nullable URI xmlBase,
+            @NotNull LoaderContext loaderContext, @NotNull OutputStream outputStream) throws IOException {
+        try (InputStream is = StreamUtil.createDocumentInputStream(inputStream)) {
+            BinaryDocumentFormat.write(loader, loader.createXMLInput(is), xmlBase, loaderContext, outputStream);
+        }
+    }
+
+    /**
+     * Load a document written by {@link #compile(InputStream, URI, LoaderContext, OutputStream)}. The file is
+     * memory mapped.
+     *
+     * @param path the path of the compiled document.
+     * @param xmlBase The uri of the original document. This is used to resolve external resources.
+     * @param loaderContext The loader context to use for loading the document.
+     * @return The loaded SVG document or null if an error occurred.
+     */
+    public @Nullable SVGDocument loadCompiled(@NotNull Path path, @Nullable URI xmlBase,
+            @NotNull LoaderContext loaderContext) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return loadCompiled(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), xmlBase,
+                    loaderContext);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, String.format("Could not read %s", path), e);
+        }
+        return null;
+    }
+
+    /**
+     * Load a document written by {@link #compile(InputStream, URI, LoaderContext, OutputStream)}.
+     *
+     * @param buffer the buffer containing the compiled document, starting at its current position.
+     * @param xmlBase The uri of the original document. This is used to resolve external resources.
+     * @param loaderContext The loader context to use for loading the document.
+     * @return The loaded SVG document or null if an error occurred.
+     */
+    public @Nullable SVGDocument loadCompiled(@NotNull ByteBuffer buffer, @Nullable URI xmlBase,
+            @NotNull LoaderContext loaderContext) {
+        try {
+            return BinaryDocumentFormat.read(buffer, xmlBase, loaderContext);
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Could not load compiled SVG", e);
+        }
+        return null;
+    }
 }
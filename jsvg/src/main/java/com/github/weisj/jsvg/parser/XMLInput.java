@@ -23,11 +23,24 @@ package com.github.weisj.jsvg.parser;
 
 import javax.xml.stream.XMLEventReader;
 import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public interface XMLInput {
 
     @NotNull
     XMLEventReader createReader() throws XMLStreamException;
+
+    /**
+     * Create a cursor based reader for the input. If available, it is used instead of {@link #createReader()} as
+     * it avoids allocating an event object for every token.
+     *
+     * @return the stream reader or null if only an event reader is supported.
+     * @throws XMLStreamException if the reader couldn't be created.
+     */
+    default @Nullable XMLStreamReader createStreamReader() throws XMLStreamException {
+        return null;
+    }
 }
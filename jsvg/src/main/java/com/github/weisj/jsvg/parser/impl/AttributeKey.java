@@ -0,0 +1,123 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.parser.impl;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An attribute name together with its {@link AttributeSymbols} id. Keys of known names are interned, hence looking up
+ * an attribute through a constant key neither hashes nor compares the name.
+ */
+public final class AttributeKey {
+    private static final @NotNull AttributeKey @NotNull [] INTERNED = intern();
+
+    // Geometry of the basic shapes
+    public static final @NotNull AttributeKey X = of("x");
+    public static final @NotNull AttributeKey Y = of("y");
+    public static final @NotNull AttributeKey WIDTH = of("width");
+    public static final @NotNull AttributeKey HEIGHT = of("height");
+    public static final @NotNull AttributeKey RX = of("rx");
+    public static final @NotNull AttributeKey RY = of("ry");
+    public static final @NotNull AttributeKey CX = of("cx");
+    public static final @NotNull AttributeKey CY = of("cy");
+    public static final @NotNull AttributeKey R = of("r");
+    public static final @NotNull AttributeKey X1 = of("x1");
+    public static final @NotNull AttributeKey Y1 = of("y1");
+    public static final @NotNull AttributeKey X2 = of("x2");
+    public static final @NotNull AttributeKey Y2 = of("y2");
+    public static final @NotNull AttributeKey D = of("d");
+    public static final @NotNull AttributeKey POINTS = of("points");
+    public static final @NotNull AttributeKey PATH_LENGTH = of("pathLength");
+    public static final @NotNull AttributeKey MARKER = of("marker");
+    public static final @NotNull AttributeKey MARKER_START = of("marker-start");
+    public static final @NotNull AttributeKey MARKER_MID = of("marker-mid");
+    public static final @NotNull AttributeKey MARKER_END = of("marker-end");
+    public static final @NotNull AttributeKey SHAPE_RENDERING = of("shape-rendering");
+
+    // Paint and stroke properties
+    public static final @NotNull AttributeKey COLOR = of("color");
+    public static final @NotNull AttributeKey FILL = of("fill");
+    public static final @NotNull AttributeKey FILL_OPACITY = of("fill-opacity");
+    public static final @NotNull AttributeKey FILL_RULE = of("fill-rule");
+    public static final @NotNull AttributeKey STROKE = of("stroke");
+    public static final @NotNull AttributeKey STROKE_OPACITY = of("stroke-opacity");
+    public static final @NotNull AttributeKey STROKE_WIDTH = of("stroke-width");
+    public static final @NotNull AttributeKey STROKE_LINECAP = of("stroke-linecap");
+    public static final @NotNull AttributeKey STROKE_LINEJOIN = of("stroke-linejoin");
+    public static final @NotNull AttributeKey STROKE_MITERLIMIT = of("stroke-miterlimit");
+    public static final @NotNull AttributeKey STROKE_DASHARRAY = of("stroke-dasharray");
+    public static final @NotNull AttributeKey STROKE_DASHOFFSET = of("stroke-dashoffset");
+    public static final @NotNull AttributeKey OPACITY = of("opacity");
+    public static final @NotNull AttributeKey PAINT_ORDER = of("paint-order");
+
+    private final @NotNull String name;
+    private final int id;
+
+    private AttributeKey(@NotNull String name, int id) {
+        this.name = name;
+        this.id = id;
+    }
+
+    private static @NotNull AttributeKey @NotNull [] intern() {
+        AttributeKey[] keys = new AttributeKey[AttributeSymbols.count()];
+        for (int id = 0; id < keys.length; id++) {
+            keys[id] = new AttributeKey(AttributeSymbols.name(id), id);
+        }
+        return keys;
+    }
+
+    /**
+     * Get the key of an attribute name.
+     *
+     * @param name the attribute name.
+     * @return the interned key if the name is known to the parser or a new key otherwise.
+     */
+    public static @NotNull AttributeKey of(@NotNull String name) {
+        int id = AttributeSymbols.id(name);
+        return id != AttributeSymbols.UNKNOWN ? INTERNED[id] : new AttributeKey(name, id);
+    }
+
+    public @NotNull String name() {
+        return name;
+    }
+
+    int id() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof AttributeKey)) return false;
+        return name.equals(((AttributeKey) o).name);
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.parser.impl;
+
+import java.util.*;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Compact attribute storage. Attributes with a name known to {@link AttributeSymbols} are stored in parallel arrays
+ * keyed by their symbol id, which avoids the entry objects of a {@link HashMap}. Elements usually only carry a
+ * handful of attributes, hence a linear scan over the ids is sufficient. Unknown attributes are kept in a fallback
+ * map, which is only created if needed.
+ */
+final class AttributeMap extends AbstractMap<String, String> {
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private short @NotNull [] ids;
+    private @NotNull String @NotNull [] values;
+    private int knownCount;
+    private @Nullable Map<String, String> unknown;
+    private @Nullable Set<Entry<String, String>> entrySet;
+
+    AttributeMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    AttributeMap(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        ids = new short[capacity];
+        values = new String[capacity];
+    }
+
+    static @NotNull AttributeMap copyOf(@NotNull Map<String, String> attributes) {
+        if (attributes instanceof AttributeMap) return ((AttributeMap) attributes).copy();
+        AttributeMap map = new AttributeMap(attributes.size());
+        map.putAll(attributes);
+        return map;
+    }
+
+    @NotNull
+    AttributeMap copy() {
+        AttributeMap map = new AttributeMap(0);
+        map.ids = Arrays.copyOf(ids, Math.max(1, knownCount));
+        map.values = Arrays.copyOf(values, Math.max(1, knownCount));
+        map.knownCount = knownCount;
+        if (unknown != null) map.unknown = new HashMap<>(unknown);
+        return map;
+    }
+
+    private int indexOf(int id) {
+        short[] keys = ids;
+        for (int i = 0; i < knownCount; i++) {
+            if (keys[i] == id) return i;
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return knownCount + (unknown != null ? unknown.size() : 0);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (!(key instanceof String)) return false;
+        int id = AttributeSymbols.id((String) key);
+        if (id != AttributeSymbols.UNKNOWN) return indexOf(id) >= 0;
+        return unknown != null && unknown.containsKey(key);
+    }
+
+    @Override
+    public @Nullable String get(Object key) {
+        if (!(key instanceof String)) return null;
+        int id = AttributeSymbols.id((String) key);
+        if (id != AttributeSymbols.UNKNOWN) {
+            int index = indexOf(id);
+            return index >= 0 ? values[index] : null;
+        }
+        return unknown != null ? unknown.get(key) : null;
+    }
+
+    /**
+     * Variant of {@link #get(Object)} which doesn't need to resolve the symbol id of the name.
+     *
+     * @param key the attribute key.
+     * @return the value of the attribute or null if it isn't present.
+     */
+    @Nullable
+    String get(@NotNull AttributeKey key) {
+        int id = key.id();
+        if (id != AttributeSymbols.UNKNOWN) {
+            int index = indexOf(id);
+            return index >= 0 ? values[index] : null;
+        }
+        return unknown != null ? unknown.get(key.name()) : null;
+    }
+
+    boolean containsKey(@NotNull AttributeKey key) {
+        int id = key.id();
+        if (id != AttributeSymbols.UNKNOWN) return indexOf(id) >= 0;
+        return unknown != null && unknown.containsKey(key.name());
+    }
+
+    @Override
+    public @Nullable String put(@NotNull String key, @NotNull String value) {
+        int id = AttributeSymbols.id(key);
+        if (id == AttributeSymbols.UNKNOWN) {
+            if (unknown == null) unknown = new HashMap<>();
+            return unknown.put(key, value);
+        }
+        int index = indexOf(id);
+        if (index >= 0) {
+            String old = values[index];
+            values[index] = value;
+            return old;
+        }
+        if (knownCount == ids.length) {
+            int capacity = 2 * knownCount;
+            ids = Arrays.copyOf(ids, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        ids[knownCount] = (short) id;
+        values[knownCount] = value;
+        knownCount++;
+        return null;
+    }
+
+    @Override
+    public @Nullable String remove(Object key) {
+        if (!(key instanceof String)) return null;
+        int id = AttributeSymbols.id((String) key);
+        if (id == AttributeSymbols.UNKNOWN) return unknown != null ? unknown.remove(key) : null;
+        int index = indexOf(id);
+        if (index < 0) return null;
+        String old = values[index];
+        removeAt(index);
+        return old;
+    }
+
+    private void removeAt(int index) {
+        int tail = knownCount - index - 1;
+        System.arraycopy(ids, index + 1, ids, index, tail);
+        System.arraycopy(values, index + 1, values, index, tail);
+        knownCount--;
+        values[knownCount] = null;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(values, 0, knownCount, null);
+        knownCount = 0;
+        unknown = null;
+    }
+
+    @Override
+    public @NotNull Set<Entry<String, String>> entrySet() {
+        Set<Entry<String, String>> set = entrySet;
+        if (set == null) {
+            set = new AbstractSet<Entry<String, String>>() {
+                @Override
+                public @NotNull Iterator<Entry<String, String>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return AttributeMap.this.size();
+                }
+            };
+            entrySet = set;
+        }
+        return set;
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, String>> {
+        private int next;
+        private boolean canRemoveKnown;
+        private @Nullable Iterator<Entry<String, String>> unknownIterator;
+
+        @Override
+        public boolean hasNext() {
+            if (next < knownCount) return true;
+            return unknownIterator().hasNext();
+        }
+
+        @Override
+        public @NotNull Entry<String, String> next() {
+            if (next < knownCount) {
+                canRemoveKnown = true;
+                int index = next++;
+                return new SimpleImmutableEntry<>(AttributeSymbols.name(ids[index]), values[index]);
+            }
+            canRemoveKnown = false;
+            return unknownIterator().next();
+        }
+
+        @Override
+        public void remove() {
+            if (canRemoveKnown) {
+                canRemoveKnown = false;
+                removeAt(--next);
+            } else if (unknownIterator != null) {
+                unknownIterator.remove();
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+
+        private @NotNull Iterator<Entry<String, String>> unknownIterator() {
+            if (unknownIterator == null) {
+                unknownIterator = unknown != null
+                        ? unknown.entrySet().iterator()
+                        : Collections.emptyIterator();
+            }
+            return unknownIterator;
+        }
+    }
+}
@@ -22,6 +22,7 @@
 package com.github.weisj.jsvg.parser.impl;
 
 import java.awt.*;
+import java.awt.geom.Path2D;
 import java.net.URI;
 import java.util.*;
 import java.util.List;
@@ -38,6 +39,7 @@ import com.github.weisj.jsvg.attributes.*;
 import com.github.weisj.jsvg.attributes.filter.FilterChannelKey;
 import com.github.weisj.jsvg.attributes.transform.TransformPart;
 import com.github.weisj.jsvg.attributes.value.*;
+import com.github.weisj.jsvg.geometry.SVGShape;
 import com.github.weisj.jsvg.geometry.size.Length;
 import com.github.weisj.jsvg.geometry.size.Percentage;
 import com.github.weisj.jsvg.geometry.size.Unit;
@@ -56,6 +58,7 @@ import com.github.weisj.jsvg.parser.css.StyleSheet;
 import com.github.weisj.jsvg.parser.resources.ResourceLoader;
 import com.github.weisj.jsvg.renderer.MeasureContext;
 import com.github.weisj.jsvg.renderer.animation.AnimationState;
+import com.github.weisj.jsvg.util.PathUtil;
 import com.github.weisj.jsvg.view.ViewBox;
 
 public final class AttributeNode {
@@ -76,15 +79,22 @@ public final class AttributeNode {
 
     private final @NotNull String tagName;
     private final @NotNull Map<String, String> attributes;
-    private final @NotNull List<@NotNull StyleSheet> styleSheets;
+    private final @NotNull StyleCascade styleCascade;
+    // Values of attributes which have been parsed ahead of time. They are only used if the attribute isn't set.
+    private @Nullable Map<String, Object> parsedValues;
 
     private ParsedElement element = null;
 
     public AttributeNode(@NotNull String tagName, @NotNull Map<String, String> attributes,
             @NotNull List<@NotNull StyleSheet> styleSheets) {
+        this(tagName, attributes, new StyleCascade(styleSheets));
+    }
+
+    AttributeNode(@NotNull String tagName, @NotNull Map<String, String> attributes,
+            @NotNull StyleCascade styleCascade) {
         this.tagName = tagName;
         this.attributes = attributes;
-        this.styleSheets = styleSheets;
+        this.styleCascade = styleCascade;
     }
 
     void setElement(ParsedElement element) {
@@ -96,28 +106,44 @@ public final class AttributeNode {
     }
 
     public @NotNull AttributeNode copy() {
-        AttributeNode node = new AttributeNode(tagName, new HashMap<>(attributes), styleSheets);
+        AttributeNode node = new AttributeNode(tagName, AttributeMap.copyOf(attributes), styleCascade);
+        if (parsedValues != null) node.parsedValues = new HashMap<>(parsedValues);
         node.setElement(element);
         return node;
     }
 
+    void setParsedValue(@NotNull String key, @NotNull Object value) {
+        if (parsedValues == null) parsedValues = new HashMap<>();
+        parsedValues.put(key, value);
+    }
+
+    void removeParsedValue(@NotNull String key) {
+        if (parsedValues != null) parsedValues.remove(key);
+    }
+
+    private @Nullable String attribute(@NotNull AttributeKey key) {
+        if (attributes instanceof AttributeMap) return ((AttributeMap) attributes).get(key);
+        return attributes.get(key.name());
+    }
+
+    private boolean containsAttribute(@NotNull AttributeKey key) {
+        if (attributes instanceof AttributeMap) return ((AttributeMap) attributes).containsKey(key);
+        return attributes.containsKey(key.name());
+    }
+
+    private <T> @Nullable T parsedValue(@NotNull AttributeKey key, @NotNull Class<T> type) {
+        if (parsedValues == null || containsAttribute(key)) return null;
+        Object value = parsedValues.get(key.name());
+        return type.isInstance(value) ? type.cast(value) : null;
+    }
+
     void prepareForNodeBuilding() {
         Map<String, String> styleSheetAttributes = new HashMap<>();
 
         // First process the inline styles. They have the highest priority.
         preprocessAttributes(attributes, styleSheetAttributes);
 
-        List<StyleSheet> sheets = styleSheets();
-        // Traverse the style sheets in backwards order to only use the newest definition.
-        // FIXME: Only use the newest *valid* definition of a property value.
-        for (int i = sheets.size() - 1; i >= 0; i--) {
-            StyleSheet sheet = sheets.get(i);
-            sheet.forEachMatchingRule(element, p -> {
-                if (!styleSheetAttributes.containsKey(p.name())) {
-                    styleSheetAttributes.put(p.name(), p.value());
-                }
-            });
-        }
+        styleCascade.applyTo(element, styleSheetAttributes);
         attributes.putAll(styleSheetAttributes);
     }
 
@@ -148,7 +174,7 @@ public final class AttributeNode {
 
     @NotNull
     List<@NotNull StyleSheet> styleSheets() {
-        return styleSheets;
+        return styleCascade.styleSheets();
     }
 
     private <T> @Nullable T getElementByUrl(@NotNull Class<T> type, @Nullable String value) {
@@ -202,7 +228,16 @@ public final class AttributeNode {
     }
 
     public @Nullable String getValue(@NotNull String key) {
-        return attributes.get(key);
+        return getValue(AttributeKey.of(key));
+    }
+
+    public @Nullable String getValue(@NotNull AttributeKey key) {
+        String value = attribute(key);
+        if (value == null && parsedValues != null) {
+            Object parsedValue = parsedValues.get(key.name());
+            if (parsedValue != null) return BinaryDocumentFormat.formatParsedValue(parsedValue);
+        }
+        return value;
     }
 
     public @NotNull Color getColor(@NotNull String key) {
@@ -211,6 +246,11 @@ public final class AttributeNode {
 
     @Contract("_,!null -> !null")
     public @Nullable Color getColor(@NotNull String key, @Nullable Color fallback) {
+        return getColor(AttributeKey.of(key), fallback);
+    }
+
+    @Contract("_,!null -> !null")
+    public @Nullable Color getColor(@NotNull AttributeKey key, @Nullable Color fallback) {
         String value = getValue(key);
         if (value == null) return fallback;
         Color c = loadHelper().attributeParser().paintParser().parseColor(value.toLowerCase(Locale.ENGLISH));
@@ -218,12 +258,22 @@ public final class AttributeNode {
     }
 
     public @Nullable SVGPaint getPaint(@NotNull String key, Inherited inherited, Animatable animatable) {
+        return getPaint(AttributeKey.of(key), null, inherited, animatable);
+    }
+
+    public @Nullable SVGPaint getPaint(@NotNull AttributeKey key, Inherited inherited, Animatable animatable) {
         return getPaint(key, null, inherited, animatable);
     }
 
     @Contract("_,!null,_,_ -> !null")
     public @Nullable SVGPaint getPaint(@NotNull String key, @Nullable SVGPaint fallback,
             Inherited inherited, Animatable animatable) {
+        return getPaint(AttributeKey.of(key), fallback, inherited, animatable);
+    }
+
+    @Contract("_,!null,_,_ -> !null")
+    public @Nullable SVGPaint getPaint(@NotNull AttributeKey key, @Nullable SVGPaint fallback,
+            Inherited inherited, Animatable animatable) {
         SVGPaint value = getPaintInternal(key, fallback);
         if (animatable == Animatable.YES) {
             SVGPaint initial = value;
@@ -232,14 +282,14 @@ public final class AttributeNode {
                         ? PredefinedPaints.INHERITED
                         : PredefinedPaints.DEFAULT_PAINT;
             }
-            AnimatedPaint animatedPaint = getAnimatedPaint(key, initial);
+            AnimatedPaint animatedPaint = getAnimatedPaint(key.name(), initial);
             if (animatedPaint != null) return animatedPaint;
         }
         return value;
     }
 
     @Contract("_,!null -> !null")
-    private @Nullable SVGPaint getPaintInternal(@NotNull String key, @Nullable SVGPaint fallback) {
+    private @Nullable SVGPaint getPaintInternal(@NotNull AttributeKey key, @Nullable SVGPaint fallback) {
         SVGPaint paint = parsePaint(getValue(key));
         if (paint == null) return fallback;
         return paint;
@@ -253,27 +303,49 @@ public final class AttributeNode {
     }
 
     public @Nullable Length getLength(@NotNull String key, @NotNull PercentageDimension dimension) {
-        return getLength(key, dimension, (Length) null);
+        return getLength(AttributeKey.of(key), dimension, (Length) null);
     }
 
     public @NotNull Length getLength(@NotNull String key, @NotNull PercentageDimension dimension, float fallback) {
+        return getLength(AttributeKey.of(key), dimension, fallback);
+    }
+
+    public @NotNull Length getLength(@NotNull AttributeKey key, @NotNull PercentageDimension dimension,
+            float fallback) {
         return getLength(key, dimension, Unit.RAW.valueOf(fallback));
     }
 
     @Contract("_,_,!null -> !null")
     public @Nullable Length getLength(@NotNull String key, @NotNull PercentageDimension dimension,
             @Nullable Length fallback) {
+        return getLength(AttributeKey.of(key), dimension, fallback);
+    }
+
+    @Contract("_,_,!null -> !null")
+    public @Nullable Length getLength(@NotNull AttributeKey key, @NotNull PercentageDimension dimension,
+            @Nullable Length fallback) {
         return (Length) getLength(key, dimension, fallback, Inherited.NO, Animatable.NO);
     }
 
     public @Nullable LengthValue getLength(@NotNull String key, @NotNull PercentageDimension dimension,
             Inherited inherited, Animatable animatable) {
+        return getLength(AttributeKey.of(key), dimension, null, inherited, animatable);
+    }
+
+    public @Nullable LengthValue getLength(@NotNull AttributeKey key, @NotNull PercentageDimension dimension,
+            Inherited inherited, Animatable animatable) {
         return getLength(key, dimension, null, inherited, animatable);
     }
 
     @Contract("_,_,!null,_,_ -> !null")
     public @Nullable LengthValue getLength(@NotNull String key, @NotNull PercentageDimension dimension,
             @Nullable LengthValue fallback, Inherited inherited, Animatable animatable) {
+        return getLength(AttributeKey.of(key), dimension, fallback, inherited, animatable);
+    }
+
+    @Contract("_,_,!null,_,_ -> !null")
+    public @Nullable LengthValue getLength(@NotNull AttributeKey key, @NotNull PercentageDimension dimension,
+            @Nullable LengthValue fallback, Inherited inherited, Animatable animatable) {
         LengthValue value = getLengthInternal(key, dimension);
         if (value == FALLBACK_LENGTH) {
             value = fallback;
@@ -289,7 +361,7 @@ public final class AttributeNode {
             if (initial instanceof AnimatedLength) {
                 initial = ((AnimatedLength) initial).initial();
             }
-            AnimatedLength animatedLength = getAnimatedLength(key, initial, dimension);
+            AnimatedLength animatedLength = getAnimatedLength(key.name(), initial, dimension);
             if (animatedLength != null) return animatedLength;
         }
 
@@ -300,7 +372,7 @@ public final class AttributeNode {
         return loadHelper().attributeParser().parseTimeOffsetValue(getValue(key), fallback);
     }
 
-    private @NotNull Length getLengthInternal(@NotNull String key, @NotNull PercentageDimension dimension) {
+    private @NotNull Length getLengthInternal(@NotNull AttributeKey key, @NotNull PercentageDimension dimension) {
         return loadHelper().attributeParser().parseLength(getValue(key), FALLBACK_LENGTH, dimension);
     }
 
@@ -328,16 +400,32 @@ public final class AttributeNode {
 
     @Contract("_,!null -> !null")
     public @Nullable Percentage getPercentage(@NotNull String key, @Nullable Percentage fallback) {
+        return getPercentage(AttributeKey.of(key), fallback);
+    }
+
+    @Contract("_,!null -> !null")
+    public @Nullable Percentage getPercentage(@NotNull AttributeKey key, @Nullable Percentage fallback) {
         return loadHelper().attributeParser().parsePercentage(getValue(key), fallback);
     }
 
     public @Nullable PercentageValue getPercentage(@NotNull String key, Inherited inherited, Animatable animatable) {
+        return getPercentage(AttributeKey.of(key), null, inherited, animatable);
+    }
+
+    public @Nullable PercentageValue getPercentage(@NotNull AttributeKey key, Inherited inherited,
+            Animatable animatable) {
         return getPercentage(key, null, inherited, animatable);
     }
 
     @Contract("_,!null,_,_ -> !null")
     public @Nullable PercentageValue getPercentage(@NotNull String key, @Nullable PercentageValue fallback,
             Inherited inherited, Animatable animatable) {
+        return getPercentage(AttributeKey.of(key), fallback, inherited, animatable);
+    }
+
+    @Contract("_,!null,_,_ -> !null")
+    public @Nullable PercentageValue getPercentage(@NotNull AttributeKey key, @Nullable PercentageValue fallback,
+            Inherited inherited, Animatable animatable) {
         PercentageValue value =
                 loadHelper().attributeParser().parsePercentage(getValue(key), FALLBACK_PERCENTAGE);
         if (value == FALLBACK_PERCENTAGE) {
@@ -354,7 +442,7 @@ public final class AttributeNode {
             if (initial instanceof AnimatedPercentage) {
                 initial = ((AnimatedPercentage) initial).initial();
             }
-            AnimatedPercentage animatedPercentage = getAnimatedPercentage(key, initial);
+            AnimatedPercentage animatedPercentage = getAnimatedPercentage(key.name(), initial);
             if (animatedPercentage != null) return animatedPercentage;
         }
         return value;
@@ -368,6 +456,12 @@ public final class AttributeNode {
     @Contract("_,!null,_ -> !null")
     public @NotNull Length @Nullable [] getLengthList(@NotNull String key, @NotNull Length @Nullable [] fallback,
             @NotNull PercentageDimension dimension) {
+        return getLengthList(AttributeKey.of(key), fallback, dimension);
+    }
+
+    @Contract("_,!null,_ -> !null")
+    public @NotNull Length @Nullable [] getLengthList(@NotNull AttributeKey key,
+            @NotNull Length @Nullable [] fallback, @NotNull PercentageDimension dimension) {
         return loadHelper().attributeParser().parseLengthList(getValue(key), fallback, dimension);
     }
 
@@ -376,12 +470,20 @@ public final class AttributeNode {
     }
 
     public @NotNull FloatListValue getFloatList(@NotNull String key, Inherited inherited, Animatable animatable) {
-        String value = getValue(key);
-        float[] initialRaw = loadHelper().attributeParser().parseFloatList(getValue(key));
+        return getFloatList(AttributeKey.of(key), inherited, animatable);
+    }
 
-        FloatListValue initial = value != null
-                ? new ConstantFloatList(initialRaw)
-                : null;
+    public @NotNull FloatListValue getFloatList(@NotNull AttributeKey key, Inherited inherited,
+            Animatable animatable) {
+        float[] parsedValue = parsedValue(key, float[].class);
+        String value = parsedValue == null ? getValue(key) : null;
+
+        FloatListValue initial = null;
+        if (parsedValue != null) {
+            initial = new ConstantFloatList(parsedValue);
+        } else if (value != null) {
+            initial = new ConstantFloatList(loadHelper().attributeParser().parseFloatList(value));
+        }
 
         if (animatable == Animatable.YES) {
             if (initial == null) {
@@ -390,7 +492,7 @@ public final class AttributeNode {
                 }
                 initial = NeutralElements.NEUTRAL_FLOAT_LIST;
             }
-            AnimatedFloatList animatedLength = getAnimatedFloatList(key, initial);
+            AnimatedFloatList animatedLength = getAnimatedFloatList(key.name(), initial);
             if (animatedLength != null) return animatedLength;
         }
         return initial != null ? initial : ConstantFloatList.EMPTY;
@@ -401,10 +503,18 @@ public final class AttributeNode {
     }
 
     public <E extends Enum<E>> @NotNull E getEnum(@NotNull String key, @NotNull E fallback) {
+        return getEnum(AttributeKey.of(key), fallback);
+    }
+
+    public <E extends Enum<E>> @NotNull E getEnum(@NotNull AttributeKey key, @NotNull E fallback) {
         return loadHelper().attributeParser().parseEnum(getValue(key), fallback);
     }
 
     public <E extends Enum<E>> @Nullable E getEnumNullable(@NotNull String key, @NotNull Class<E> enumType) {
+        return getEnumNullable(AttributeKey.of(key), enumType);
+    }
+
+    public <E extends Enum<E>> @Nullable E getEnumNullable(@NotNull AttributeKey key, @NotNull Class<E> enumType) {
         return loadHelper().attributeParser().parseEnum(getValue(key), enumType);
     }
 
@@ -439,7 +549,10 @@ public final class AttributeNode {
     }
 
     public @Nullable TransformValue parseTransform(@NotNull String key, Inherited inherited, Animatable animatable) {
-        List<TransformPart> parts = loadHelper().attributeParser().parseTransform(getValue(key));
+        TransformPart[] parsedValue = parsedValue(AttributeKey.of(key), TransformPart[].class);
+        List<TransformPart> parts = parsedValue != null
+                ? Arrays.asList(parsedValue)
+                : loadHelper().attributeParser().parseTransform(getValue(key));
         TransformValue value = parts != null
                 ? createTransformValueFromParts(parts)
                 : null;
@@ -461,8 +574,24 @@ public final class AttributeNode {
         return value;
     }
 
+    public @Nullable SVGShape getPath(@NotNull String key, @NotNull FillRule fillRule) {
+        return getPath(AttributeKey.of(key), fillRule);
+    }
+
+    public @Nullable SVGShape getPath(@NotNull AttributeKey key, @NotNull FillRule fillRule) {
+        Path2D parsedValue = parsedValue(key, Path2D.class);
+        if (parsedValue != null) return PathUtil.fromPath(parsedValue, fillRule);
+        String value = getValue(key);
+        if (value == null) return null;
+        return PathUtil.parseFromPathData(value, fillRule);
+    }
+
     public boolean hasAttribute(@NotNull String name) {
-        return attributes.containsKey(name);
+        return hasAttribute(AttributeKey.of(name));
+    }
+
+    public boolean hasAttribute(@NotNull AttributeKey key) {
+        return containsAttribute(key) || (parsedValues != null && parsedValues.containsKey(key.name()));
     }
 
     public @NotNull String @NotNull [] getStringList(@NotNull String name) {
@@ -475,11 +604,19 @@ public final class AttributeNode {
     }
 
     public float getFloat(@NotNull String name, float fallback) {
-        return loadHelper().attributeParser().parseFloat(getValue(name), fallback);
+        return getFloat(AttributeKey.of(name), fallback);
+    }
+
+    public float getFloat(@NotNull AttributeKey key, float fallback) {
+        return loadHelper().attributeParser().parseFloat(getValue(key), fallback);
     }
 
     public float getNonNegativeFloat(@NotNull String name, float fallback) {
-        float value = getFloat(name, fallback);
+        return getNonNegativeFloat(AttributeKey.of(name), fallback);
+    }
+
+    public float getNonNegativeFloat(@NotNull AttributeKey key, float fallback) {
+        float value = getFloat(key, fallback);
         if (Float.isFinite(value) && value < 0) return fallback;
         return value;
     }
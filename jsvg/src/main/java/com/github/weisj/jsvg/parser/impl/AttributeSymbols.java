@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.parser.impl;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Static symbol table of the attribute and property names known to the parser. Every known name is assigned a
+ * small integer id, which allows storing attributes compactly in an {@link AttributeMap}.
+ */
+final class AttributeSymbols {
+    static final int UNKNOWN = -1;
+
+    private static final @NotNull String @NotNull [] NAMES = {
+            // Core and structural attributes
+            "id", "class", "style", "href", "xlink:href", "xml:space", "lang", "xml:lang", "tabindex",
+            "viewBox", "preserveAspectRatio", "transform", "x", "y", "width", "height", "d", "points",
+            "cx", "cy", "r", "rx", "ry", "x1", "y1", "x2", "y2", "dx", "dy", "rotate", "pathLength",
+            "requiredExtensions", "requiredFeatures", "systemLanguage", "version", "baseProfile",
+            "zoomAndPan",
+            // Presentation attributes
+            "fill", "fill-opacity", "fill-rule", "stroke", "stroke-width", "stroke-opacity", "stroke-linecap",
+            "stroke-linejoin", "stroke-miterlimit", "stroke-dasharray", "stroke-dashoffset", "opacity",
+            "color", "display", "visibility", "overflow", "clip", "clip-path", "clip-rule", "mask", "mask-type",
+            "filter", "marker", "marker-start", "marker-mid", "marker-end", "paint-order", "vector-effect",
+            "transform-origin", "transform-box", "stop-color", "stop-opacity", "flood-color", "flood-opacity",
+            "lighting-color", "solid-color", "solid-opacity", "color-interpolation",
+            "color-interpolation-filters", "color-rendering", "shape-rendering", "text-rendering",
+            "image-rendering", "pointer-events", "cursor", "mix-blend-mode", "isolation",
+            // Text and font properties
+            "font", "font-family", "font-size", "font-size-adjust", "font-stretch", "font-style",
+            "font-weight", "font-variant", "letter-spacing", "word-spacing", "text-anchor", "text-decoration",
+            "dominant-baseline", "alignment-baseline", "baseline-shift", "writing-mode", "direction",
+            "unicode-bidi", "white-space", "textLength", "lengthAdjust", "startOffset", "method", "side",
+            "spacing",
+            // Paint servers, markers, clipping and masking
+            "offset", "gradientUnits", "gradientTransform", "spreadMethod", "fx", "fy", "fr",
+            "patternUnits", "patternContentUnits", "patternTransform", "clipPathUnits", "maskUnits",
+            "maskContentUnits", "markerUnits", "markerWidth", "markerHeight", "refX", "refY", "orient",
+            "type", "path",
+            // Filters
+            "filterUnits", "primitiveUnits", "in", "in2", "result", "mode", "operator", "k1", "k2", "k3",
+            "k4", "values", "tableValues", "slope", "intercept", "amplitude", "exponent", "stdDeviation",
+            "edgeMode", "baseFrequency", "numOctaves", "seed", "stitchTiles", "scale", "xChannelSelector",
+            "yChannelSelector", "radius", "order", "kernelMatrix", "divisor", "bias", "targetX", "targetY",
+            "preserveAlpha", "kernelUnitLength", "surfaceScale", "diffuseConstant", "specularConstant",
+            "specularExponent", "azimuth", "elevation", "z", "pointsAtX", "pointsAtY", "pointsAtZ",
+            "limitingConeAngle",
+            // Animation
+            "attributeName", "attributeType", "begin", "end", "dur", "min", "max", "restart", "repeatCount",
+            "repeatDur", "calcMode", "keyTimes", "keySplines", "from", "to", "by", "additive", "accumulate",
+            "keyPoints"
+    };
+
+    private static final int MASK;
+    private static final @NotNull String @NotNull [] TABLE;
+    private static final short @NotNull [] TABLE_IDS;
+
+    static {
+        int capacity = Integer.highestOneBit(NAMES.length * 4 - 1);
+        MASK = capacity - 1;
+        TABLE = new String[capacity];
+        TABLE_IDS = new short[capacity];
+        for (int id = 0; id < NAMES.length; id++) {
+            int index = index(NAMES[id]);
+            while (TABLE[index] != null) {
+                if (TABLE[index].equals(NAMES[id])) throw new IllegalStateException("Duplicate name " + NAMES[id]);
+                index = (index + 1) & MASK;
+            }
+            TABLE[index] = NAMES[id];
+            TABLE_IDS[index] = (short) id;
+        }
+    }
+
+    private AttributeSymbols() {}
+
+    private static int index(@NotNull String name) {
+        int h = name.hashCode();
+        return (h ^ (h >>> 16)) & MASK;
+    }
+
+    /**
+     * Look up the id of an attribute name.
+     *
+     * @param name the attribute name.
+     * @return the id of the name or {@link #UNKNOWN} if the name isn't part of the table.
+     */
+    static int id(@NotNull String name) {
+        int index = index(name);
+        String candidate;
+        while ((candidate = TABLE[index]) != null) {
+            // Most names are string literals, hence the identity check usually suffices.
+            if (candidate == name || candidate.equals(name)) return TABLE_IDS[index];
+            index = (index + 1) & MASK;
+        }
+        return UNKNOWN;
+    }
+
+    static @NotNull String name(int id) {
+        return NAMES[id];
+    }
+
+    static int count() {
+        return NAMES.length;
+    }
+}
@@ -0,0 +1,510 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.parser.impl;
+
+import java.awt.geom.IllegalPathStateException;
+import java.awt.geom.Path2D;
+import java.awt.geom.PathIterator;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.SVGDocument;
+import com.github.weisj.jsvg.attributes.transform.TransformPart;
+import com.github.weisj.jsvg.geometry.path.PathParser;
+import com.github.weisj.jsvg.geometry.size.Length;
+import com.github.weisj.jsvg.geometry.size.Unit;
+import com.github.weisj.jsvg.nodes.Path;
+import com.github.weisj.jsvg.nodes.Polygon;
+import com.github.weisj.jsvg.nodes.Polyline;
+import com.github.weisj.jsvg.nodes.Style;
+import com.github.weisj.jsvg.parser.LoaderContext;
+import com.github.weisj.jsvg.parser.XMLInput;
+
+/**
+ * A compact binary representation of a parsed document. It stores the element tree as a sequence of start element,
+ * text and end element records, which can be replayed into a {@link SVGDocumentBuilder} without any xml parsing.
+ * <p>
+ * Style sheets are resolved when the document is written i.e. each element stores its final attributes and
+ * {@code <style>} elements are omitted. All strings are stored once in a table at the start of the file and
+ * records reference them by index. Integers are encoded as unsigned variable length quantities.
+ * <p>
+ * Path data, point lists and transforms are stored in parsed form as path segments, floats and transform parts.
+ * They are handed to the {@link AttributeNode} as is, such that building these nodes doesn't parse any strings.
+ * Enum constants are stored by name.
+ */
+public final class BinaryDocumentFormat {
+    private static final int MAGIC = 0x4A535647; // "JSVG"
+    private static final int VERSION = 2;
+
+    private static final byte START_ELEMENT = 1;
+    private static final byte TEXT = 2;
+    private static final byte END_ELEMENT = 3;
+
+    private static final byte PATH_VALUE = 1;
+    private static final byte FLOAT_LIST_VALUE = 2;
+    private static final byte TRANSFORM_VALUE = 3;
+
+    private static final String[] TRANSFORM_ATTRIBUTES = {"transform", "gradientTransform", "patternTransform"};
+
+    private BinaryDocumentFormat() {}
+
+    public static void write(@NotNull StaxSVGLoader loader, @NotNull XMLInput xmlInput, @Nullable URI xmlBase,
+            @NotNull LoaderContext loaderContext, @NotNull OutputStream outputStream) throws IOException {
+        SVGDocumentBuilder builder = new SVGDocumentBuilder(xmlBase, loaderContext, StaxSVGLoader.nodeSupplier());
+        Recorder recorder = new Recorder();
+        builder.setRecorder(recorder);
+        try {
+            if (!loader.parse(xmlInput, builder)) throw new IOException("Could not parse document");
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+        RecordedElement root = recorder.root;
+        if (root == null) throw new IOException("Document is empty");
+        builder.preProcess();
+
+        StringTable strings = new StringTable();
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream records = new DataOutputStream(recordBytes);
+        recordElement(root, strings, records);
+        records.flush();
+
+        DataOutputStream out = new DataOutputStream(outputStream);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        writeVarInt(out, strings.values.size());
+        for (String value : strings.values) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(out, bytes.length);
+            out.write(bytes);
+        }
+        recordBytes.writeTo(out);
+        out.flush();
+    }
+
+    private static void recordElement(@NotNull RecordedElement element, @NotNull StringTable strings,
+            @NotNull DataOutputStream records) throws IOException {
+        AttributeNode attributeNode = element.parsedElement.attributeNode();
+        attributeNode.prepareForNodeBuilding();
+        Map<String, String> attributes = new TreeMap<>(attributeNode.attributes());
+        // Inline styles have been merged into the attributes.
+        attributes.remove("style");
+
+        Map<String, Object> parsedValues = new TreeMap<>();
+        for (Map.Entry<String, String> entry : attributes.entrySet()) {
+            Object parsedValue = parseValue(attributeNode, entry.getKey(), entry.getValue());
+            if (parsedValue != null) parsedValues.put(entry.getKey(), parsedValue);
+        }
+        attributes.keySet().removeAll(parsedValues.keySet());
+
+        records.writeByte(START_ELEMENT);
+        writeVarInt(records, strings.indexOf(attributeNode.tagName()));
+        writeVarInt(records, attributes.size());
+        for (Map.Entry<String, String> entry : attributes.entrySet()) {
+            writeVarInt(records, strings.indexOf(entry.getKey()));
+            writeVarInt(records, strings.indexOf(entry.getValue()));
+        }
+        writeVarInt(records, parsedValues.size());
+        for (Map.Entry<String, Object> entry : parsedValues.entrySet()) {
+            writeVarInt(records, strings.indexOf(entry.getKey()));
+            writeParsedValue(records, strings, entry.getValue());
+        }
+
+        for (Object content : element.content) {
+            if (content instanceof RecordedElement) {
+                RecordedElement child = (RecordedElement) content;
+                // Style sheets have already been applied.
+                if (child.parsedElement.node() instanceof Style) continue;
+                recordElement(child, strings, records);
+            } else {
+                records.writeByte(TEXT);
+                writeVarInt(records, strings.indexOf((String) content));
+            }
+        }
+        records.writeByte(END_ELEMENT);
+    }
+
+    /*
+     * Parses the attributes which are stored in parsed form. Values which can't be parsed are stored as strings,
+     * such that they are handled the same way as in the original document.
+     */
+    private static @Nullable Object parseValue(@NotNull AttributeNode attributeNode, @NotNull String name,
+            @NotNull String value) {
+        if ("d".equals(name) && attributeNode.tagIsOneOf(Path.TAG)) {
+            Path2D path = new Path2D.Float(Path2D.WIND_NON_ZERO);
+            new PathParser(value).parsePathInto(path);
+            return path;
+        }
+        if ("points".equals(name) && attributeNode.tagIsOneOf(Polygon.TAG, Polyline.TAG)) {
+            return attributeNode.parser().parseFloatList(value);
+        }
+        for (String transformAttribute : TRANSFORM_ATTRIBUTES) {
+            if (transformAttribute.equals(name)) {
+                List<TransformPart> parts = attributeNode.parser().parseTransform(value);
+                return parts != null ? parts.toArray(new TransformPart[0]) : null;
+            }
+        }
+        return null;
+    }
+
+    private static void writeParsedValue(@NotNull DataOutputStream out, @NotNull StringTable strings,
+            @NotNull Object value) throws IOException {
+        if (value instanceof Path2D) {
+            out.writeByte(PATH_VALUE);
+            Path2D path = (Path2D) value;
+            float[] segment = new float[6];
+            int segmentCount = 0;
+            int coordinateCount = 0;
+            for (PathIterator it = path.getPathIterator(null); !it.isDone(); it.next()) {
+                segmentCount++;
+                coordinateCount += coordinateCount(it.currentSegment(segment));
+            }
+            writeVarInt(out, segmentCount);
+            writeVarInt(out, coordinateCount);
+            for (PathIterator it = path.getPathIterator(null); !it.isDone(); it.next()) {
+                out.writeByte(it.currentSegment(segment));
+            }
+            for (PathIterator it = path.getPathIterator(null); !it.isDone(); it.next()) {
+                int type = it.currentSegment(segment);
+                for (int i = 0; i < coordinateCount(type); i++) {
+                    out.writeFloat(segment[i]);
+                }
+            }
+        } else if (value instanceof float[]) {
+            out.writeByte(FLOAT_LIST_VALUE);
+            float[] list = (float[]) value;
+            writeVarInt(out, list.length);
+            for (float f : list) {
+                out.writeFloat(f);
+            }
+        } else {
+            out.writeByte(TRANSFORM_VALUE);
+            TransformPart[] parts = (TransformPart[]) value;
+            writeVarInt(out, parts.length);
+            for (TransformPart part : parts) {
+                writeVarInt(out, strings.indexOf(part.type().name()));
+                Length[] lengths = part.values();
+                writeVarInt(out, lengths.length);
+                for (Length length : lengths) {
+                    writeVarInt(out, strings.indexOf(length.unit().name()));
+                    out.writeFloat(length.raw());
+                }
+            }
+        }
+    }
+
+    private static @NotNull Object readParsedValue(@NotNull ByteBuffer in, @NotNull String @NotNull [] strings)
+            throws IOException {
+        switch (in.get()) {
+            case PATH_VALUE: {
+                int segmentCount = readLength(in, 1);
+                int coordinateCount = readLength(in, 4);
+                byte[] types = new byte[segmentCount];
+                in.get(types);
+                Path2D path = new Path2D.Float(Path2D.WIND_NON_ZERO, segmentCount);
+                float[] coordinates = readFloats(in, coordinateCount);
+                int i = 0;
+                for (byte type : types) {
+                    if (i + coordinateCount(type) > coordinateCount) {
+                        throw new IOException("Malformed compiled svg document");
+                    }
+                    switch (type) {
+                        case PathIterator.SEG_MOVETO:
+                            path.moveTo(coordinates[i], coordinates[i + 1]);
+                            break;
+                        case PathIterator.SEG_LINETO:
+                            path.lineTo(coordinates[i], coordinates[i + 1]);
+                            break;
+                        case PathIterator.SEG_QUADTO:
+                            path.quadTo(coordinates[i], coordinates[i + 1], coordinates[i + 2], coordinates[i + 3]);
+                            break;
+                        case PathIterator.SEG_CUBICTO:
+                            path.curveTo(coordinates[i], coordinates[i + 1], coordinates[i + 2],
+                                    coordinates[i + 3], coordinates[i + 4], coordinates[i + 5]);
+                            break;
+                        case PathIterator.SEG_CLOSE:
+                            path.closePath();
+                            break;
+                        default:
+                            throw new IOException("Malformed compiled svg document");
+                    }
+                    i += coordinateCount(type);
+                }
+                return path;
+            }
+            case FLOAT_LIST_VALUE: {
+                return readFloats(in, readLength(in, 4));
+            }
+            case TRANSFORM_VALUE: {
+                TransformPart[] parts = new TransformPart[readLength(in, 2)];
+                for (int i = 0; i < parts.length; i++) {
+                    TransformPart.TransformType type = readEnum(in, strings, TransformPart.TransformType.class);
+                    Length[] lengths = new Length[readLength(in, 5)];
+                    for (int j = 0; j < lengths.length; j++) {
+                        lengths[j] = new Length(readEnum(in, strings, Unit.class), in.getFloat());
+                    }
+                    parts[i] = new TransformPart(type, lengths);
+                }
+                return parts;
+            }
+            default:
+                throw new IOException("Malformed compiled svg document");
+        }
+    }
+
+    /*
+     * Reads the number of elements of an array, making sure the buffer can contain them given the minimal number of
+     * bytes per element. Corrupt counts hence fail before anything is allocated.
+     */
+    private static int readLength(@NotNull ByteBuffer in, int elementSize) throws IOException {
+        int length = readVarInt(in);
+        if (length < 0 || (long) length * elementSize > in.remaining()) {
+            throw new IOException("Malformed compiled svg document");
+        }
+        return length;
+    }
+
+    private static float @NotNull [] readFloats(@NotNull ByteBuffer in, int length) {
+        float[] values = new float[length];
+        in.asFloatBuffer().get(values);
+        in.position(in.position() + 4 * length);
+        return values;
+    }
+
+    private static <E extends Enum<E>> @NotNull E readEnum(@NotNull ByteBuffer in,
+            @NotNull String @NotNull [] strings, @NotNull Class<E> type) throws IOException {
+        String name = strings[readVarInt(in)];
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Unknown constant " + name + " of " + type.getSimpleName(), e);
+        }
+    }
+
+    private static int coordinateCount(int segmentType) {
+        switch (segmentType) {
+            case PathIterator.SEG_MOVETO:
+            case PathIterator.SEG_LINETO:
+                return 2;
+            case PathIterator.SEG_QUADTO:
+                return 4;
+            case PathIterator.SEG_CUBICTO:
+                return 6;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Formats a parsed attribute value as it would appear in a document. This is only needed if an attribute is
+     * accessed by name, e.g. by a {@link com.github.weisj.jsvg.parser.DomProcessor}.
+     *
+     * @param value the parsed value.
+     * @return the attribute value.
+     */
+    static @NotNull String formatParsedValue(@NotNull Object value) {
+        StringBuilder builder = new StringBuilder();
+        if (value instanceof Path2D) {
+            float[] segment = new float[6];
+            for (PathIterator it = ((Path2D) value).getPathIterator(null); !it.isDone(); it.next()) {
+                int type = it.currentSegment(segment);
+                builder.append("MLQCZ".charAt(type));
+                for (int i = 0; i < coordinateCount(type); i++) {
+                    builder.append(' ').append(segment[i]);
+                }
+            }
+        } else if (value instanceof float[]) {
+            for (float f : (float[]) value) {
+                if (builder.length() > 0) builder.append(' ');
+                builder.append(f);
+            }
+        } else {
+            for (TransformPart part : (TransformPart[]) value) {
+                if (builder.length() > 0) builder.append(' ');
+                builder.append(part.type().matchName()).append('(');
+                Length[] lengths = part.values();
+                for (int i = 0; i < lengths.length; i++) {
+                    if (i > 0) builder.append(' ');
+                    builder.append(lengths[i]);
+                }
+                builder.append(')');
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Rebuild a document from its binary representation.
+     *
+     * @param buffer the buffer containing the document. Its position isn't modified.
+     * @param xmlBase the uri used to resolve external resources.
+     * @param loaderContext the loader context.
+     * @return the document.
+     * @throws IOException if the buffer doesn't contain a valid document.
+     */
+    public static @NotNull SVGDocument read(@NotNull ByteBuffer buffer, @Nullable URI xmlBase,
+            @NotNull LoaderContext loaderContext) throws IOException {
+        ByteBuffer in = buffer.duplicate();
+        try {
+            if (in.getInt() != MAGIC) throw new IOException("Not a compiled svg document");
+            int version = in.getInt();
+            if (version != VERSION) throw new IOException("Unsupported version " + version);
+
+            String[] strings = new String[readLength(in, 1)];
+            byte[] bytes = new byte[0];
+            for (int i = 0; i < strings.length; i++) {
+                int length = readLength(in, 1);
+                if (bytes.length < length) bytes = new byte[length];
+                in.get(bytes, 0, length);
+                strings[i] = new String(bytes, 0, length, StandardCharsets.UTF_8);
+            }
+
+            SVGDocumentBuilder builder = new SVGDocumentBuilder(xmlBase, loaderContext,
+                    StaxSVGLoader.nodeSupplier());
+            builder.startDocument();
+            Deque<String> openElements = new ArrayDeque<>();
+            int skipDepth = 0;
+            do {
+                switch (readVarInt(in)) {
+                    case START_ELEMENT: {
+                        String tagName = strings[readVarInt(in)];
+                        int attributeCount = readLength(in, 2);
+                        Map<String, String> attributes = new HashMap<>();
+                        for (int i = 0; i < attributeCount; i++) {
+                            String name = strings[readVarInt(in)];
+                            attributes.put(name, strings[readVarInt(in)]);
+                        }
+                        int parsedValueCount = readLength(in, 3);
+                        Map<String, Object> parsedValues = new HashMap<>();
+                        for (int i = 0; i < parsedValueCount; i++) {
+                            String name = strings[readVarInt(in)];
+                            parsedValues.put(name, readParsedValue(in, strings));
+                        }
+                        if (skipDepth > 0 || !builder.startElement(tagName, attributes, parsedValues)) {
+                            skipDepth++;
+                        } else {
+                            openElements.push(tagName);
+                        }
+                        break;
+                    }
+                    case TEXT: {
+                        char[] text = strings[readVarInt(in)].toCharArray();
+                        if (skipDepth == 0) builder.addTextContent(text, 0, text.length);
+                        break;
+                    }
+                    case END_ELEMENT:
+                        if (skipDepth > 0) {
+                            skipDepth--;
+                        } else {
+                            builder.endElement(openElements.pop());
+                        }
+                        break;
+                    default:
+                        throw new IOException("Malformed compiled svg document");
+                }
+            } while (!openElements.isEmpty() || skipDepth > 0);
+            builder.endDocument();
+            return builder.build();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NoSuchElementException
+                | IllegalPathStateException e) {
+            throw new IOException("Malformed compiled svg document", e);
+        }
+    }
+
+    private static void writeVarInt(@NotNull DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(@NotNull ByteBuffer in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed compiled svg document");
+    }
+
+    private static final class StringTable {
+        private final @NotNull Map<String, Integer> indices = new HashMap<>();
+        private final @NotNull List<String> values = new ArrayList<>();
+
+        int indexOf(@NotNull String value) {
+            return indices.computeIfAbsent(value, v -> {
+                values.add(v);
+                return values.size() - 1;
+            });
+        }
+    }
+
+    private static final class RecordedElement {
+        private final @NotNull ParsedElement parsedElement;
+        private final @NotNull List<Object> content = new ArrayList<>();
+
+        private RecordedElement(@NotNull ParsedElement parsedElement) {
+            this.parsedElement = parsedElement;
+        }
+    }
+
+    /**
+     * Records the elements and text accepted by a {@link SVGDocumentBuilder} in document order.
+     */
+    static final class Recorder {
+        private final @NotNull Deque<RecordedElement> stack = new ArrayDeque<>();
+        private @Nullable RecordedElement root;
+
+        void startElement(@NotNull ParsedElement element) {
+            RecordedElement recorded = new RecordedElement(element);
+            RecordedElement parent = stack.peek();
+            if (parent != null) {
+                parent.content.add(recorded);
+            } else {
+                root = recorded;
+            }
+            stack.push(recorded);
+        }
+
+        void addTextContent(char @NotNull [] characterData, int offset, int length) {
+            RecordedElement current = stack.peek();
+            if (current != null) current.content.add(new String(characterData, offset, length));
+        }
+
+        void endElement() {
+            stack.pop();
+        }
+    }
+}
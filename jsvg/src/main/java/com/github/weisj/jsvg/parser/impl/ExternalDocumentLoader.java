@@ -37,7 +37,12 @@ import com.github.weisj.jsvg.parser.DomDocument;
 class ExternalDocumentLoader implements DefaultElementLoader.DocumentLoader {
     private static final Logger LOGGER = LogFactory.createLogger(ExternalDocumentLoader.class);
 
-    private final @NotNull Map<URI, CachedDocument> cache = new HashMap<>();
+    private final @NotNull Map<URI, ParsedDocument> cache = new HashMap<>();
+    /*
+     * The documents the current thread is loading. A document referencing itself while being loaded is a cycle,
+     * whereas a concurrent load of the same document on another thread isn't.
+     */
+    private final @NotNull ThreadLocal<Set<URI>> documentsInProgress = ThreadLocal.withInitial(HashSet::new);
 
     @Override
     public @Nullable DomDocument resolveDocument(@NotNull DomDocument document, @NotNull String name) {
@@ -52,22 +57,18 @@ class ExternalDocumentLoader implements DefaultElementLoader.DocumentLoader {
                 .resolveResourceURI(document.rootURI(), name);
         if (documentUri == null) return null;
 
+        Set<URI> inProgress = documentsInProgress.get();
+        boolean loading = false;
         try {
             URL documentUrl = documentUri.toURL();
             synchronized (cache) {
-                CachedDocument cachedDocument = cache.get(documentUri);
-                if (cachedDocument != null) {
-                    ParsedDocument cached = cachedDocument.document;
-                    if (cached == null) {
-                        throw new IllegalStateException("Reference cycle containing external document: " + documentUri);
-                    }
-                    return cached;
-                }
+                ParsedDocument cached = cache.get(documentUri);
+                if (cached != null) return cached;
             }
-            CachedDocument cachedDocument = new CachedDocument();
-            synchronized (cache) {
-                cache.put(documentUri, cachedDocument);
+            if (!inProgress.add(documentUri)) {
+                throw new IllegalStateException("Reference cycle containing external document: " + documentUri);
             }
+            loading = true;
 
             try (InputStream is = StreamUtil.createDocumentInputStream(documentUrl.openStream())) {
                 SVGDocumentBuilder builder = new StaxSVGLoader().parse(
@@ -78,18 +79,18 @@ class ExternalDocumentLoader implements DefaultElementLoader.DocumentLoader {
 
                 ParsedDocument parsedDocument = builder.parsedDocument();
                 synchronized (cache) {
-                    cachedDocument.document = parsedDocument;
+                    // Another thread may have loaded the document concurrently. Share its result.
+                    ParsedDocument existing = cache.putIfAbsent(documentUri, parsedDocument);
+                    return existing != null ? existing : parsedDocument;
                 }
-                return parsedDocument;
             }
         } catch (Exception e) {
             LOGGER.log(Level.WARNING, String.format("Failed to load external document: %s from %s - %s",
                     name, documentUri, e.getMessage()));
             return null;
+        } finally {
+            // Failed loads leave nothing behind, hence later lookups try again.
+            if (loading) inProgress.remove(documentUri);
         }
     }
-
-    private static final class CachedDocument {
-        private @Nullable ParsedDocument document;
-    }
 }
@@ -24,24 +24,29 @@ package com.github.weisj.jsvg.parser.impl;
 import java.io.InputStream;
 
 import javax.xml.stream.XMLEventReader;
-import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import org.jetbrains.annotations.NotNull;
 
 import com.github.weisj.jsvg.parser.XMLInput;
 
 public final class InputStreamXMLInput implements XMLInput {
-    private final @NotNull XMLInputFactory xmlInputFactory;
+    private final @NotNull XMLInputFactoryPool xmlInputFactoryPool;
     private final @NotNull InputStream inputStream;
 
-    public InputStreamXMLInput(@NotNull XMLInputFactory xmlInputFactory, @NotNull InputStream inputStream) {
-        this.xmlInputFactory = xmlInputFactory;
+    public InputStreamXMLInput(@NotNull XMLInputFactoryPool xmlInputFactoryPool, @NotNull InputStream inputStream) {
+        this.xmlInputFactoryPool = xmlInputFactoryPool;
         this.inputStream = inputStream;
     }
 
     @Override
     public @NotNull XMLEventReader createReader() throws XMLStreamException {
-        return xmlInputFactory.createXMLEventReader(inputStream);
+        return xmlInputFactoryPool.createXMLEventReader(inputStream);
+    }
+
+    @Override
+    public @NotNull XMLStreamReader createStreamReader() throws XMLStreamException {
+        return xmlInputFactoryPool.createXMLStreamReader(inputStream);
     }
 }
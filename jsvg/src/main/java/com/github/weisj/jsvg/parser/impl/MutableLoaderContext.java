@@ -136,6 +136,63 @@ public final class MutableLoaderContext implements LoaderContext, LoaderContext.
                 || ((DefaultResourcePolicy) this.resourcePolicy).allowsExternalResources()) {
             this.elementLoader = new DefaultElementLoader(DefaultElementLoader.AllowExternalResources.ALLOW);
         }
-        return this;
+        // Take a snapshot, such that the built context can be safely shared across threads even if this builder
+        // is modified afterward.
+        return new ImmutableLoaderContext(this);
+    }
+
+    private static final class ImmutableLoaderContext implements LoaderContext {
+        private final @Nullable DomProcessor preProcessor;
+        private final @NotNull CssParser cssParser;
+        private final @NotNull PaintParser paintParser;
+        private final @NotNull ResourceLoader resourceLoader;
+        private final @NotNull ElementLoader elementLoader;
+        private final @NotNull ResourcePolicy resourcePolicy;
+        private final @NotNull DocumentLimits documentLimits;
+
+        private ImmutableLoaderContext(@NotNull MutableLoaderContext context) {
+            this.preProcessor = context.preProcessor;
+            this.cssParser = context.cssParser;
+            this.paintParser = context.paintParser;
+            this.resourceLoader = context.resourceLoader;
+            this.elementLoader = context.elementLoader;
+            this.resourcePolicy = context.resourcePolicy;
+            this.documentLimits = context.documentLimits;
+        }
+
+        @Override
+        public @Nullable DomProcessor preProcessor() {
+            return preProcessor;
+        }
+
+        @Override
+        public @NotNull CssParser cssParser() {
+            return cssParser;
+        }
+
+        @Override
+        public @NotNull PaintParser paintParser() {
+            return paintParser;
+        }
+
+        @Override
+        public @NotNull ResourceLoader resourceLoader() {
+            return resourceLoader;
+        }
+
+        @Override
+        public @NotNull ElementLoader elementLoader() {
+            return elementLoader;
+        }
+
+        @Override
+        public @NotNull ResourcePolicy externalResourcePolicy() {
+            return resourcePolicy;
+        }
+
+        @Override
+        public @NotNull DocumentLimits documentLimits() {
+            return documentLimits;
+        }
     }
 }
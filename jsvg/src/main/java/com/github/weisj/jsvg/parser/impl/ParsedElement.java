@@ -63,17 +63,23 @@ public final class ParsedElement implements DomElement {
         this.attributeNode = element;
         this.node = node;
         this.id = id;
-        PermittedContent permittedContent = node.getClass().getAnnotation(PermittedContent.class);
-        if (permittedContent == null) {
-            throw new IllegalStateException("Element <" + node.tagName() + "> doesn't specify permitted content");
-        }
-        if (permittedContent.charData()) {
+        if (permitsCharData(node)) {
             characterDataParser = new CharacterDataParser();
         } else {
             characterDataParser = null;
         }
     }
 
+    private static boolean permitsCharData(@NotNull SVGNode node) {
+        Class<? extends SVGNode> nodeType = node.getClass();
+        if (NodeTable.hasPermittedContent(nodeType)) return NodeTable.permitsCharData(nodeType);
+        PermittedContent permittedContent = nodeType.getAnnotation(PermittedContent.class);
+        if (permittedContent == null) {
+            throw new IllegalStateException("Element <" + node.tagName() + "> doesn't specify permitted content");
+        }
+        return permittedContent.charData();
+    }
+
     @Override
     public @Nullable String id() {
         return id;
@@ -106,6 +112,7 @@ public final class ParsedElement implements DomElement {
 
     @Override
     public void setAttribute(@NotNull String name, @Nullable String value) {
+        attributeNode.removeParsedValue(name);
         if (value == null) {
             attributeNode.attributes().remove(name);
         } else {
@@ -41,12 +41,14 @@ public final class SVGDocumentBuilder {
     private final @NotNull List<@NotNull Use> useElements = new ArrayList<>();
     private final @NotNull List<@NotNull Style> styleElements = new ArrayList<>();
     private final @NotNull List<@NotNull StyleSheet> styleSheets = new ArrayList<>();
+    private final @NotNull StyleCascade styleCascade = new StyleCascade(styleSheets);
     private final @NotNull Deque<@NotNull ParsedElement> currentNodeStack = new ArrayDeque<>();
 
     private final @NotNull LoaderContext loaderContext;
     private final @NotNull NodeSupplier nodeSupplier;
 
     private ParsedElement rootNode;
+    private @Nullable BinaryDocumentFormat.Recorder recorder;
 
     public SVGDocumentBuilder(
             @Nullable URI rootURI,
@@ -60,6 +62,10 @@ public final class SVGDocumentBuilder {
         this.parsedDocument = new ParsedDocument(rootURI, loaderContext, loadHelper);
     }
 
+    void setRecorder(@Nullable BinaryDocumentFormat.Recorder recorder) {
+        this.recorder = recorder;
+    }
+
     @ApiStatus.Internal
     @NotNull
     ParsedDocument parsedDocument() {
@@ -75,16 +81,48 @@ public final class SVGDocumentBuilder {
     }
 
     public boolean startElement(@NotNull String tagName, @NotNull Map<String, String> attributes) {
-        ParsedElement parentElement = !currentNodeStack.isEmpty()
-                ? currentNodeStack.peek()
-                : null;
-
-        if (parentElement != null) flushText(parentElement, true);
+        flushParentText();
+        @Nullable SVGNode newNode = nodeSupplier.create(tagName);
+        if (newNode == null) return false;
+        startElement(tagName, AttributeMap.copyOf(attributes), newNode);
+        return true;
+    }
 
+    /**
+     * Variant of {@link #startElement(String, Map)} which only copies the attributes if a node is created for the
+     * element. The buffer may be reused after this method returns.
+     */
+    boolean startElement(@NotNull String tagName, @NotNull AttributeBuffer attributes) {
+        flushParentText();
         @Nullable SVGNode newNode = nodeSupplier.create(tagName);
         if (newNode == null) return false;
+        startElement(tagName, attributes.toMap(), newNode);
+        return true;
+    }
+
+    /**
+     * Variant of {@link #startElement(String, Map)} for elements whose attributes have partially been parsed ahead of
+     * time.
+     */
+    boolean startElement(@NotNull String tagName, @NotNull Map<String, String> attributes,
+            @NotNull Map<String, Object> parsedValues) {
+        if (!startElement(tagName, attributes)) return false;
+        AttributeNode attributeNode = currentNodeStack.peek().attributeNode();
+        parsedValues.forEach(attributeNode::setParsedValue);
+        return true;
+    }
+
+    private void flushParentText() {
+        if (!currentNodeStack.isEmpty()) flushText(currentNodeStack.peek(), true);
+    }
 
-        AttributeNode attributeNode = new AttributeNode(tagName, attributes, styleSheets);
+    private void startElement(@NotNull String tagName, @NotNull Map<String, String> attributes,
+            @NotNull SVGNode newNode) {
+        ParsedElement parentElement = !currentNodeStack.isEmpty()
+                ? currentNodeStack.peek()
+                : null;
+
+        AttributeNode attributeNode = new AttributeNode(tagName, attributes, styleCascade);
         String id = attributes.get("id");
         ParsedElement parsedElement = new ParsedElement(id, parsedDocument, parentElement, attributeNode, newNode);
         attributeNode.setElement(parsedElement);
@@ -107,7 +145,7 @@ public final class SVGDocumentBuilder {
         }
 
         currentNodeStack.push(parsedElement);
-        return true;
+        if (recorder != null) recorder.startElement(parsedElement);
     }
 
     public void addTextContent(char @NotNull [] characterData, int startOffset, int endOffset) {
@@ -116,6 +154,8 @@ public final class SVGDocumentBuilder {
         }
         ParsedElement currentElement = currentNodeStack.peek();
         if (currentElement.characterDataParser == null) return;
+        // The character data parser normalizes whitespace in place, hence record the content beforehand.
+        if (recorder != null) recorder.addTextContent(characterData, startOffset, endOffset);
         currentElement.characterDataParser.append(characterData, startOffset, endOffset);
     }
 
@@ -130,6 +170,7 @@ public final class SVGDocumentBuilder {
                     String.format("Closing tag %s doesn't match current node %s)", tagName, currentNodeTagName));
         }
         flushText(currentElement, false);
+        if (recorder != null) recorder.endElement();
     }
 
     private void flushText(@NotNull ParsedElement element, boolean segmentBreak) {
@@ -23,17 +23,17 @@ package com.github.weisj.jsvg.parser.impl;
 
 import java.io.InputStream;
 import java.net.URI;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
-import java.util.function.Supplier;
 
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLEventReader;
-import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.stream.events.Attribute;
 import javax.xml.stream.events.StartElement;
 import javax.xml.stream.events.XMLEvent;
@@ -47,21 +47,17 @@ import com.github.weisj.jsvg.logging.Logger.Level;
 import com.github.weisj.jsvg.logging.impl.LogFactory;
 import com.github.weisj.jsvg.parser.LoaderContext;
 import com.github.weisj.jsvg.parser.XMLInput;
-import com.github.weisj.jsvg.util.supplier.LazySupplier;
 
+/**
+ * Loader for svg documents based on the StAX api. The loader doesn't hold any state and hence can be shared across
+ * threads.
+ */
 public final class StaxSVGLoader {
     private static final Logger LOGGER = LogFactory.createLogger(StaxSVGLoader.class);
     private static final String SVG_NAMESPACE_URI = "http://www.w3.org/2000/svg";
     private static final String XLINK_NAMESPACE_URI = "http://www.w3.org/1999/xlink";
     private static final @NotNull NodeSupplier NODE_SUPPLIER = new NodeSupplier();
-
-    private final @NotNull Supplier<@NotNull XMLInputFactory> xmlInputFactory = new LazySupplier<>(() -> {
-        XMLInputFactory factory = XMLInputFactory.newFactory();
-        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
-        factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
-        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
-        return factory;
-    });
+    private static final @NotNull XMLInputFactoryPool XML_INPUT_FACTORY_POOL = new XMLInputFactoryPool();
 
     @Nullable
     SVGDocumentBuilder parse(
@@ -76,10 +72,16 @@ public final class StaxSVGLoader {
             @NotNull XMLInput xmlInput,
             @Nullable URI xmlBase,
             @NotNull LoaderContext loaderContext) throws XMLStreamException {
+        SVGDocumentBuilder builder = new SVGDocumentBuilder(xmlBase, loaderContext, NODE_SUPPLIER);
+        return parse(xmlInput, builder) ? builder : null;
+    }
+
+    boolean parse(@NotNull XMLInput xmlInput, @NotNull SVGDocumentBuilder builder) throws XMLStreamException {
+        XMLStreamReader streamReader = xmlInput.createStreamReader();
+        if (streamReader != null) return parse(streamReader, builder);
         XMLEventReader reader = null;
         try {
             reader = xmlInput.createReader();
-            SVGDocumentBuilder builder = new SVGDocumentBuilder(xmlBase, loaderContext, NODE_SUPPLIER);
             while (reader.hasNext()) {
                 XMLEvent event = reader.nextEvent();
                 switch (event.getEventType()) {
@@ -134,13 +136,75 @@ public final class StaxSVGLoader {
                         break;
                 }
             }
-            return builder;
+            return true;
         } catch (XMLStreamException e) {
             LOGGER.log(Level.WARNING, "Error while parsing SVG.", e);
         } finally {
             if (reader != null) reader.close();
         }
-        return null;
+        return false;
+    }
+
+    private boolean parse(@NotNull XMLStreamReader reader, @NotNull SVGDocumentBuilder builder)
+            throws XMLStreamException {
+        NameTable names = new NameTable();
+        AttributeBuffer attributes = new AttributeBuffer();
+        char[] text = new char[0];
+        try {
+            // Contrary to the event api the reader is already positioned at the start of the document.
+            if (reader.getEventType() == XMLStreamConstants.START_DOCUMENT) builder.startDocument();
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.END_DOCUMENT:
+                        builder.endDocument();
+                        break;
+
+                    case XMLStreamConstants.START_ELEMENT:
+                        String uri = reader.getNamespaceURI();
+                        if (uri != null && !uri.isEmpty() && !SVG_NAMESPACE_URI.equals(uri)) {
+                            skipElement(reader);
+                            break;
+                        }
+                        attributes.clear();
+                        int attributeCount = reader.getAttributeCount();
+                        for (int i = 0; i < attributeCount; i++) {
+                            attributes.add(
+                                    names.attributeName(reader.getAttributePrefix(i),
+                                            reader.getAttributeLocalName(i), reader.getAttributeNamespace(i)),
+                                    reader.getAttributeValue(i).trim());
+                        }
+                        String tagName = names.tagName(reader.getPrefix(), reader.getLocalName(), uri);
+                        if (!builder.startElement(tagName, attributes)) {
+                            skipElement(reader);
+                        }
+                        break;
+
+                    case XMLStreamConstants.END_ELEMENT:
+                        builder.endElement(
+                                names.tagName(reader.getPrefix(), reader.getLocalName(), reader.getNamespaceURI()));
+                        break;
+
+                    case XMLStreamConstants.CDATA:
+                    case XMLStreamConstants.CHARACTERS:
+                        // The reader's own buffer must not be modified, but the builder normalizes whitespace in
+                        // place. Copy into a buffer which is reused for all text content of the document.
+                        int length = reader.getTextLength();
+                        if (text.length < length) text = Arrays.copyOf(text, Math.max(length, 2 * text.length));
+                        reader.getTextCharacters(0, text, 0, length);
+                        builder.addTextContent(text, 0, length);
+                        break;
+
+                    default:
+                        break;
+                }
+            }
+            return true;
+        } catch (XMLStreamException e) {
+            LOGGER.log(Level.WARNING, "Error while parsing SVG.", e);
+        } finally {
+            reader.close();
+        }
+        return false;
     }
 
     public @Nullable SVGDocument load(
@@ -165,8 +229,25 @@ public final class StaxSVGLoader {
         }
     }
 
+    private static void skipElement(@NotNull XMLStreamReader reader) throws XMLStreamException {
+        int elementCount = 1;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                elementCount++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                elementCount--;
+            }
+            if (elementCount == 0) return;
+        }
+    }
+
+    static @NotNull NodeSupplier nodeSupplier() {
+        return NODE_SUPPLIER;
+    }
+
     public @NotNull XMLInput createXMLInput(@NotNull InputStream inputStream) {
-        return new InputStreamXMLInput(xmlInputFactory.get(), inputStream);
+        return new InputStreamXMLInput(XML_INPUT_FACTORY_POOL, inputStream);
     }
 
     private enum MakeLowerCase {
@@ -185,13 +266,44 @@ public final class StaxSVGLoader {
     }
 
     private static @NotNull String qualifiedNameImpl(@NotNull QName name) {
-        String prefix = name.getPrefix();
-        String localName = name.getLocalPart();
-        if (prefix == null) return localName;
-        if (prefix.isEmpty()) return localName;
-        if (SVG_NAMESPACE_URI.equals(name.getNamespaceURI())) return localName;
-        if (XLINK_NAMESPACE_URI.equals(name.getNamespaceURI())) return "xlink:" + localName;
+        return qualifiedNameImpl(name.getPrefix(), name.getLocalPart(), name.getNamespaceURI());
+    }
+
+    private static @NotNull String qualifiedNameImpl(@Nullable String prefix, @NotNull String localName,
+            @Nullable String namespaceUri) {
+        if (isUnqualified(prefix, namespaceUri)) return localName;
+        if (XLINK_NAMESPACE_URI.equals(namespaceUri)) return "xlink:" + localName;
         return prefix + ":" + localName;
     }
 
+    private static boolean isUnqualified(@Nullable String prefix, @Nullable String namespaceUri) {
+        return prefix == null || prefix.isEmpty() || SVG_NAMESPACE_URI.equals(namespaceUri);
+    }
+
+    /**
+     * Canonical instances of the qualified names encountered in a single document. Documents usually only use a
+     * handful of distinct names, hence this avoids computing the same qualified (and lower cased) names over and over.
+     */
+    private static final class NameTable {
+        private final @NotNull Map<String, String> tagNames = new HashMap<>();
+        private final @NotNull Map<String, String> xlinkAttributeNames = new HashMap<>();
+
+        @NotNull
+        String tagName(@Nullable String prefix, @NotNull String localName, @Nullable String namespaceUri) {
+            if (isUnqualified(prefix, namespaceUri)) {
+                return tagNames.computeIfAbsent(localName, name -> name.toLowerCase(Locale.ROOT));
+            }
+            return qualifiedNameImpl(prefix, localName, namespaceUri).toLowerCase(Locale.ROOT);
+        }
+
+        @NotNull
+        String attributeName(@Nullable String prefix, @NotNull String localName, @Nullable String namespaceUri) {
+            if (isUnqualified(prefix, namespaceUri)) return localName;
+            if (XLINK_NAMESPACE_URI.equals(namespaceUri)) {
+                return xlinkAttributeNames.computeIfAbsent(localName, name -> "xlink:" + name);
+            }
+            return prefix + ":" + localName;
+        }
+    }
+
 }
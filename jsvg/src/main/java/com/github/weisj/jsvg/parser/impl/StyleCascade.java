@@ -0,0 +1,158 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.parser.impl;
+
+import java.util.*;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.parser.DomElement;
+import com.github.weisj.jsvg.parser.css.StyleSheet;
+import com.github.weisj.jsvg.parser.css.impl.SimpleStyleSheet;
+
+/**
+ * Resolves the properties the style sheets of a document cascade onto its elements.
+ * <p>
+ * The rules of a {@link SimpleStyleSheet} only match on the tag name, id and class names of an element. Hence, the
+ * result only depends on these and is shared by all elements which agree on them. Ids and class names, which aren't
+ * referenced by any of the style sheets, are ignored, such that e.g. elements only differing in their id share the
+ * same result. Other style sheet implementations may match on arbitrary properties of an element, hence no results
+ * are shared if any of those is present.
+ */
+final class StyleCascade {
+    private final @NotNull List<@NotNull StyleSheet> styleSheets;
+    private final @NotNull Map<Key, @NotNull String @NotNull []> cascadedProperties = new HashMap<>();
+    private @Nullable Set<String> referencedIds;
+    private @Nullable Set<String> referencedClassNames;
+    private int indexedStyleSheetCount;
+
+    StyleCascade(@NotNull List<@NotNull StyleSheet> styleSheets) {
+        this.styleSheets = styleSheets;
+    }
+
+    @NotNull
+    List<@NotNull StyleSheet> styleSheets() {
+        return styleSheets;
+    }
+
+    /**
+     * Adds the properties of the rules matching the element, unless the element already specifies them.
+     *
+     * @param element the element.
+     * @param styleAttributes the style attributes of the element.
+     */
+    void applyTo(@NotNull DomElement element, @NotNull Map<String, String> styleAttributes) {
+        if (styleSheets.isEmpty()) return;
+        // Style sheets are only added before the elements are built. Be safe nonetheless.
+        if (indexedStyleSheetCount != styleSheets.size()) buildIndex();
+        if (referencedIds == null || referencedClassNames == null) {
+            cascade(element, styleAttributes);
+            return;
+        }
+
+        Key key = new Key(element, referencedIds, referencedClassNames);
+        String[] properties = cascadedProperties.get(key);
+        if (properties == null) {
+            Map<String, String> cascaded = new LinkedHashMap<>();
+            cascade(element, cascaded);
+            properties = new String[2 * cascaded.size()];
+            int i = 0;
+            for (Map.Entry<String, String> entry : cascaded.entrySet()) {
+                properties[i++] = entry.getKey();
+                properties[i++] = entry.getValue();
+            }
+            cascadedProperties.put(key, properties);
+        }
+        for (int i = 0; i < properties.length; i += 2) {
+            if (!styleAttributes.containsKey(properties[i])) {
+                styleAttributes.put(properties[i], properties[i + 1]);
+            }
+        }
+    }
+
+    private void cascade(@NotNull DomElement element, @NotNull Map<String, String> styleAttributes) {
+        // Traverse the style sheets in backwards order to only use the newest definition.
+        // FIXME: Only use the newest *valid* definition of a property value.
+        for (int i = styleSheets.size() - 1; i >= 0; i--) {
+            StyleSheet sheet = styleSheets.get(i);
+            sheet.forEachMatchingRule(element, p -> {
+                if (!styleAttributes.containsKey(p.name())) {
+                    styleAttributes.put(p.name(), p.value());
+                }
+            });
+        }
+    }
+
+    private void buildIndex() {
+        indexedStyleSheetCount = styleSheets.size();
+        cascadedProperties.clear();
+        Set<String> ids = new HashSet<>();
+        Set<String> classNames = new HashSet<>();
+        for (StyleSheet sheet : styleSheets) {
+            if (!(sheet instanceof SimpleStyleSheet)) {
+                referencedIds = null;
+                referencedClassNames = null;
+                return;
+            }
+            ids.addAll(((SimpleStyleSheet) sheet).idRules().keySet());
+            classNames.addAll(((SimpleStyleSheet) sheet).classRules().keySet());
+        }
+        referencedIds = ids;
+        referencedClassNames = classNames;
+    }
+
+    private static final class Key {
+        private final @NotNull String tagName;
+        private final @Nullable String id;
+        private final @NotNull String @NotNull [] classNames;
+        private final int hashCode;
+
+        private Key(@NotNull DomElement element, @NotNull Set<String> referencedIds,
+                @NotNull Set<String> referencedClassNames) {
+            tagName = element.tagName();
+            String elementId = element.id();
+            id = elementId != null && referencedIds.contains(elementId) ? elementId : null;
+            List<String> elementClassNames = element.classNames();
+            List<String> names = new ArrayList<>(elementClassNames.size());
+            for (String className : elementClassNames) {
+                if (referencedClassNames.contains(className)) names.add(className);
+            }
+            classNames = names.toArray(new String[0]);
+            hashCode = 31 * (31 * tagName.hashCode() + Objects.hashCode(id)) + Arrays.hashCode(classNames);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return hashCode == other.hashCode && tagName.equals(other.tagName) && Objects.equals(id, other.id)
+                    && Arrays.equals(classNames, other.classNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
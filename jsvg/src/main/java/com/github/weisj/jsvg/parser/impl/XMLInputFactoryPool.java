@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.parser.impl;
+
+import java.io.InputStream;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A pool of configured {@link XMLInputFactory} instances.
+ * <p>
+ * The StAX api doesn't guarantee a factory to be usable from multiple threads at once. Hence, every reader is created
+ * from a factory which is exclusively owned by the calling thread for the duration of the call. Factories are only
+ * needed while creating a reader and are returned to the pool immediately afterward, which keeps the number of
+ * instances small even when many (virtual) threads load documents concurrently.
+ * <p>
+ * Locating the factory implementation and configuring it only happens if the pool is empty.
+ */
+public final class XMLInputFactoryPool {
+    private static final int DEFAULT_MAX_RETAINED = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private final @NotNull Queue<@NotNull XMLInputFactory> factories = new ConcurrentLinkedQueue<>();
+    private final @NotNull AtomicInteger retainedCount = new AtomicInteger();
+    private final int maxRetained;
+
+    public XMLInputFactoryPool() {
+        this(DEFAULT_MAX_RETAINED);
+    }
+
+    public XMLInputFactoryPool(int maxRetained) {
+        this.maxRetained = maxRetained;
+    }
+
+    public @NotNull XMLEventReader createXMLEventReader(@NotNull InputStream inputStream)
+            throws XMLStreamException {
+        XMLInputFactory factory = acquire();
+        try {
+            return factory.createXMLEventReader(inputStream);
+        } finally {
+            release(factory);
+        }
+    }
+
+    public @NotNull XMLStreamReader createXMLStreamReader(@NotNull InputStream inputStream)
+            throws XMLStreamException {
+        XMLInputFactory factory = acquire();
+        try {
+            return factory.createXMLStreamReader(inputStream);
+        } finally {
+            release(factory);
+        }
+    }
+
+    private @NotNull XMLInputFactory acquire() {
+        XMLInputFactory factory = factories.poll();
+        if (factory == null) return createFactory();
+        retainedCount.decrementAndGet();
+        return factory;
+    }
+
+    private void release(@NotNull XMLInputFactory factory) {
+        if (retainedCount.incrementAndGet() > maxRetained) {
+            retainedCount.decrementAndGet();
+            return;
+        }
+        factories.offer(factory);
+    }
+
+    private static @NotNull XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Configures whether separable filter kernels, e.g. the passes of {@code feGaussianBlur} and {@code feDropShadow},
+ * split their rows and columns into bands which are processed concurrently. It is enabled by setting it as the
+ * value of {@link SVGRenderingHints#KEY_FILTER_PARALLELISM}.
+ */
+public final class FilterParallelism {
+    public static final int DEFAULT_THRESHOLD = 256 * 256;
+
+    public static final FilterParallelism DEFAULT = new FilterParallelism(ForkJoinPool.commonPool());
+
+    private final @NotNull ForkJoinPool pool;
+    private final int threshold;
+
+    /**
+     * Creates a configuration which runs on the given pool once an image has at least {@link #DEFAULT_THRESHOLD}
+     * pixels.
+     *
+     * @param pool the pool the bands are processed on.
+     */
+    public FilterParallelism(@NotNull ForkJoinPool pool) {
+        this(pool, DEFAULT_THRESHOLD);
+    }
+
+    public FilterParallelism(@NotNull ForkJoinPool pool, int threshold) {
+        if (threshold < 0) throw new IllegalArgumentException("Threshold must not be negative but was " + threshold);
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * The pool the bands are processed on. If its parallelism is one, filters stay on the calling thread.
+     *
+     * @return the pool.
+     */
+    public @NotNull ForkJoinPool pool() {
+        return pool;
+    }
+
+    /**
+     * The number of pixels an image needs to have before a pass is split into bands. Smaller images are processed
+     * on the calling thread, as the overhead of scheduling the bands outweighs the gain.
+     *
+     * @return the threshold in pixels.
+     */
+    public int threshold() {
+        return threshold;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.WritableRaster;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.renderer.impl.ImageLruCache;
+
+/**
+ * Caches the results of filtered elements across repaints. It is enabled by setting it as the value of
+ * {@link SVGRenderingHints#KEY_FILTER_RESULT_CACHE}, usually one cache per document.
+ * <p>
+ * A result is reused if the element is painted with the same inherited attributes, animation state, rendering hints
+ * and device transform, up to a translation by whole pixels, and if the visible part of the filter region is the
+ * same. Repaints which only scroll or recomposite the element then draw the cached image instead of rendering the
+ * element and applying its filter.
+ * <p>
+ * Results are evicted in least recently used order once their combined size exceeds the byte budget. Note that
+ * elements are held strongly by the cache until their entries are evicted. The cache may be used from multiple
+ * threads.
+ */
+public final class FilterResultCache {
+    public static final long DEFAULT_MAXIMUM_BYTES = 32L * 1024 * 1024;
+
+    private final @NotNull ImageLruCache<Object> entries;
+
+    public FilterResultCache() {
+        this(DEFAULT_MAXIMUM_BYTES);
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maximumBytes the budget for cached results in bytes.
+     */
+    public FilterResultCache(long maximumBytes) {
+        entries = new ImageLruCache<>(maximumBytes, null);
+    }
+
+    public long maximumBytes() {
+        return entries.maximumBytes();
+    }
+
+    /**
+     * The size of the cached results in bytes.
+     *
+     * @return the current size.
+     */
+    public long currentBytes() {
+        return entries.currentBytes();
+    }
+
+    public @NotNull CacheStatistics statistics() {
+        return entries.statistics();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Looks up a filter result. Keys are created by the renderer.
+     *
+     * @param key the key of the result.
+     * @return the result or null if it isn't cached. The image must not be modified.
+     */
+    public @Nullable BufferedImage lookup(@NotNull Object key) {
+        return entries.lookup(key, null);
+    }
+
+    /**
+     * Whether a result of the given size fits into the byte budget.
+     *
+     * @param width the width of the result.
+     * @param height the height of the result.
+     * @return true if the result can be cached.
+     */
+    public boolean accepts(int width, int height) {
+        return entries.accepts(width, height);
+    }
+
+    /**
+     * Stores a copy of the given filter result.
+     *
+     * @param key the key of the result.
+     * @param result the filter result, which may be reused by the caller afterwards.
+     */
+    public void store(@NotNull Object key, @NotNull BufferedImage result) {
+        if (!accepts(result.getWidth(), result.getHeight())) return;
+        ColorModel colorModel = result.getColorModel();
+        WritableRaster raster = colorModel.createCompatibleWritableRaster(result.getWidth(), result.getHeight());
+        result.copyData(raster);
+        entries.put(key, new BufferedImage(colorModel, raster, colorModel.isAlphaPremultiplied(), null));
+    }
+}
@@ -106,6 +106,20 @@ public final class RenderContext {
                 }
             }
 
+            @Override
+            public @NotNull PaintContext paintContext(@NotNull RenderContext context) {
+                return context.paintContext;
+            }
+
+            @Override
+            public @NotNull MeasurableFontSpec fontSpec(@NotNull RenderContext context) {
+                return context.fontSpec;
+            }
+
+            @Override
+            public @Nullable ContextElementAttributes contextElementAttributes(@NotNull RenderContext context) {
+                return context.contextElementAttributes();
+            }
 
             @Override
             public @NotNull StrokeContext strokeContext(@NotNull RenderContext context) {
@@ -0,0 +1,251 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.SVGDocument;
+import com.github.weisj.jsvg.renderer.animation.AnimationState;
+import com.github.weisj.jsvg.renderer.awt.AwtComponentPlatformSupport;
+import com.github.weisj.jsvg.renderer.impl.ImageLruCache;
+import com.github.weisj.jsvg.renderer.output.Output;
+import com.github.weisj.jsvg.view.ViewBox;
+
+/**
+ * Caches the rasterized result of rendering a {@link SVGDocument}. Repeatedly rendering a document with the same
+ * size, device scale, rendering hints and animation timestamp only needs to draw the cached image.
+ * <p>
+ * Images are evicted in least recently used order once their combined size exceeds the byte budget. Evicted images
+ * are still reachable through soft references until the garbage collector reclaims them.
+ * <p>
+ * Rendering is done in device space, hence the cache only applies if the transform of the graphics consists of
+ * a translation and a positive scale, and if the composite is {@link AlphaComposite#SrcOver}. Otherwise, the document
+ * is rendered directly. Note that documents are held strongly by the cache until their entries are evicted.
+ * The cache may be used from multiple threads.
+ */
+public final class SVGRasterCache {
+    private final @NotNull ImageLruCache<Key> entries;
+    // Only accessed while holding the lock of the entries.
+    private final @NotNull Map<Key, SoftEntry> softEntries = new HashMap<>();
+    private final @NotNull ReferenceQueue<BufferedImage> softQueue = new ReferenceQueue<>();
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maximumBytes the budget for strongly cached images in bytes.
+     */
+    public SVGRasterCache(long maximumBytes) {
+        entries = new ImageLruCache<>(maximumBytes, this::retainSoftly);
+    }
+
+    public long maximumBytes() {
+        return entries.maximumBytes();
+    }
+
+    /**
+     * The size of the strongly cached images in bytes.
+     *
+     * @return the current size.
+     */
+    public long currentBytes() {
+        return entries.currentBytes();
+    }
+
+    /**
+     * The statistics of the lookups. Images restored from soft references count as hits.
+     *
+     * @return a snapshot of the statistics.
+     */
+    public @NotNull CacheStatistics statistics() {
+        return entries.statistics();
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            softEntries.clear();
+        }
+    }
+
+    public void render(@NotNull SVGDocument document, @Nullable Component component, @NotNull Graphics2D g,
+            @Nullable ViewBox bounds) {
+        PlatformSupport platformSupport = component != null
+                ? new AwtComponentPlatformSupport(component)
+                : NullPlatformSupport.INSTANCE;
+        renderWithPlatform(document, platformSupport, g, bounds, null);
+    }
+
+    /**
+     * Renders the document as {@link SVGDocument#renderWithPlatform(PlatformSupport, Output, ViewBox,
+     * AnimationState)} would, using the cached image if possible.
+     *
+     * @param document the document to render.
+     * @param platformSupport the platform support.
+     * @param g the graphics to render into.
+     * @param bounds the bounds to render the document in.
+     * @param animationState the animation state.
+     */
+    public void renderWithPlatform(@NotNull SVGDocument document, @NotNull PlatformSupport platformSupport,
+            @NotNull Graphics2D g, @Nullable ViewBox bounds, @Nullable AnimationState animationState) {
+        if (bounds == null) bounds = new ViewBox(document.size());
+        AffineTransform transform = g.getTransform();
+        if (!isCacheable(transform, g.getComposite()) || bounds.isEmpty()) {
+            renderDirectly(document, platformSupport, g, bounds, animationState);
+            return;
+        }
+
+        double scaleX = transform.getScaleX();
+        double scaleY = transform.getScaleY();
+        double deviceX = transform.getTranslateX() + bounds.x * scaleX;
+        double deviceY = transform.getTranslateY() + bounds.y * scaleY;
+        double pixelX = Math.floor(deviceX);
+        double pixelY = Math.floor(deviceY);
+        double offsetX = deviceX - pixelX;
+        double offsetY = deviceY - pixelY;
+        int width = (int) Math.ceil(offsetX + bounds.width * scaleX);
+        int height = (int) Math.ceil(offsetY + bounds.height * scaleY);
+        if (!entries.accepts(width, height)) {
+            renderDirectly(document, platformSupport, g, bounds, animationState);
+            return;
+        }
+
+        long timestamp = document.isAnimated() && animationState != null ? animationState.timestamp() : 0;
+        Key key = new Key(document, bounds.width, bounds.height, scaleX, scaleY, offsetX, offsetY,
+                g.getRenderingHints(), platformSupport.fontSize(), timestamp);
+
+        BufferedImage image = entries.lookup(key, this::restoreSoftly);
+        if (image == null) {
+            image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+            Graphics2D imageGraphics = image.createGraphics();
+            imageGraphics.setRenderingHints(key.renderingHints);
+            imageGraphics.translate(offsetX, offsetY);
+            imageGraphics.scale(scaleX, scaleY);
+            imageGraphics.translate(-bounds.x, -bounds.y);
+            renderDirectly(document, platformSupport, imageGraphics, bounds, animationState);
+            imageGraphics.dispose();
+            entries.put(key, image);
+        }
+
+        g.setTransform(AffineTransform.getTranslateInstance(pixelX, pixelY));
+        g.drawImage(image, 0, 0, null);
+        g.setTransform(transform);
+    }
+
+    private static boolean isCacheable(@NotNull AffineTransform transform, @Nullable Composite composite) {
+        return transform.getShearX() == 0 && transform.getShearY() == 0
+                && transform.getScaleX() > 0 && transform.getScaleY() > 0
+                && AlphaComposite.SrcOver.equals(composite);
+    }
+
+    private static void renderDirectly(@NotNull SVGDocument document, @NotNull PlatformSupport platformSupport,
+            @NotNull Graphics2D g, @NotNull ViewBox bounds, @Nullable AnimationState animationState) {
+        Output output = Output.createForGraphics(g);
+        document.renderWithPlatform(platformSupport, output, bounds, animationState);
+        output.dispose();
+    }
+
+    private @Nullable BufferedImage restoreSoftly(@NotNull Key key) {
+        SoftEntry softEntry = softEntries.remove(key);
+        return softEntry != null ? softEntry.get() : null;
+    }
+
+    private void retainSoftly(@NotNull Key key, @NotNull BufferedImage image) {
+        softEntries.put(key, new SoftEntry(key, image, softQueue));
+        SoftEntry cleared;
+        while ((cleared = (SoftEntry) softQueue.poll()) != null) {
+            softEntries.remove(cleared.key, cleared);
+        }
+    }
+
+    private static final class SoftEntry extends SoftReference<BufferedImage> {
+        private final @NotNull Key key;
+
+        private SoftEntry(@NotNull Key key, @NotNull BufferedImage referent,
+                @NotNull ReferenceQueue<BufferedImage> queue) {
+            super(referent, queue);
+            this.key = key;
+        }
+    }
+
+    private static final class Key {
+        private final @NotNull SVGDocument document;
+        private final float width;
+        private final float height;
+        private final double scaleX;
+        private final double scaleY;
+        private final double offsetX;
+        private final double offsetY;
+        private final @NotNull RenderingHints renderingHints;
+        private final float fontSize;
+        private final long timestamp;
+        private final int hashCode;
+
+        private Key(@NotNull SVGDocument document, float width, float height, double scaleX, double scaleY,
+                double offsetX, double offsetY, @NotNull RenderingHints renderingHints, float fontSize,
+                long timestamp) {
+            this.document = document;
+            this.width = width;
+            this.height = height;
+            this.scaleX = scaleX;
+            this.scaleY = scaleY;
+            this.offsetX = offsetX;
+            this.offsetY = offsetY;
+            this.renderingHints = renderingHints;
+            this.fontSize = fontSize;
+            this.timestamp = timestamp;
+            this.hashCode = Objects.hash(System.identityHashCode(document), width, height, scaleX, scaleY,
+                    offsetX, offsetY, renderingHints, fontSize, timestamp);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return document == key.document
+                    && Float.compare(width, key.width) == 0
+                    && Float.compare(height, key.height) == 0
+                    && Double.compare(scaleX, key.scaleX) == 0
+                    && Double.compare(scaleY, key.scaleY) == 0
+                    && Double.compare(offsetX, key.offsetX) == 0
+                    && Double.compare(offsetY, key.offsetY) == 0
+                    && Float.compare(fontSize, key.fontSize) == 0
+                    && timestamp == key.timestamp
+                    && renderingHints.equals(key.renderingHints);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
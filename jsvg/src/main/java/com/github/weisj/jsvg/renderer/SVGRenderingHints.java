@@ -26,6 +26,7 @@ import java.awt.*;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+
 public final class SVGRenderingHints {
     private SVGRenderingHints() {}
 
@@ -33,6 +34,10 @@ public final class SVGRenderingHints {
     private static final int P_KEY_SOFT_CLIPPING = 2;
     private static final int P_KEY_CACHE_OFFSCREEN_IMAGE = 3;
     private static final int P_KEY_MASK_CLIP_RENDERING = 4;
+    private static final int P_KEY_SURFACE_POOL = 5;
+    private static final int P_KEY_SURFACE_STATISTICS = 6;
+    private static final int P_KEY_FILTER_PARALLELISM = 7;
+    private static final int P_KEY_FILTER_RESULT_CACHE = 8;
 
     public static final RenderingHints.Key KEY_IMAGE_ANTIALIASING = new Key(P_KEY_IMAGE_ANTIALIASING);
     public static final Object VALUE_IMAGE_ANTIALIASING_ON = Value.ON;
@@ -51,14 +56,48 @@ public final class SVGRenderingHints {
     public static final Object VALUE_USE_CACHE = Value.ON;
     public static final Object VALUE_NO_CACHE = Value.OFF;
 
+    /**
+     * The {@link SurfacePool} offscreen images for isolation groups, filters and masks are taken from. If not set
+     * {@link SurfacePool#shared()} is used. Pooling is disabled if {@link #KEY_CACHE_OFFSCREEN_IMAGE} is set to
+     * {@link #VALUE_NO_CACHE}, which should be done if the graphics retain drawn images beyond the draw call.
+     */
+    public static final RenderingHints.Key KEY_SURFACE_POOL = new Key(P_KEY_SURFACE_POOL, SurfacePool.class);
+
+    /**
+     * A {@link SurfaceStatistics} instance which records the offscreen images used while rendering.
+     */
+    public static final RenderingHints.Key KEY_SURFACE_STATISTICS =
+            new Key(P_KEY_SURFACE_STATISTICS, SurfaceStatistics.class);
+
+    /**
+     * A {@link FilterParallelism} which allows large blurs and convolutions to be processed on multiple threads. If
+     * not set filters are applied on the rendering thread.
+     */
+    public static final RenderingHints.Key KEY_FILTER_PARALLELISM =
+            new Key(P_KEY_FILTER_PARALLELISM, FilterParallelism.class);
+
+    /**
+     * A {@link FilterResultCache} which retains the results of filtered elements between repaints. If not set
+     * filters are applied on every repaint.
+     */
+    public static final RenderingHints.Key KEY_FILTER_RESULT_CACHE =
+            new Key(P_KEY_FILTER_RESULT_CACHE, FilterResultCache.class);
+
     private static final class Key extends RenderingHints.Key {
+        private final @NotNull Class<?> valueType;
+
         private Key(int privateKey) {
+            this(privateKey, Value.class);
+        }
+
+        private Key(int privateKey, @NotNull Class<?> valueType) {
             super(privateKey);
+            this.valueType = valueType;
         }
 
         @Override
         public boolean isCompatibleValue(@Nullable Object val) {
-            return val instanceof Value;
+            return valueType.isInstance(val);
         }
     }
 
@@ -0,0 +1,271 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer;
+
+import java.awt.*;
+import java.awt.image.*;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.renderer.impl.ImageLruCache;
+
+/**
+ * A pool of offscreen images used for intermediate results during rendering, e.g. isolation groups, filter results
+ * and masks. Images are grouped into buckets by their type and their size rounded up to a coarse granularity, such
+ * that an image can be reused for requests of a slightly smaller size. An acquired image is cleared and has exactly
+ * the requested size.
+ * <p>
+ * The pool only retains released images. Their combined size is bounded by the byte budget, once it is exceeded
+ * images of the least recently used buckets are discarded. The pool may be used from multiple threads.
+ */
+public final class SurfacePool {
+    public static final long DEFAULT_MAXIMUM_BYTES = 16L * 1024 * 1024;
+    private static final SurfacePool SHARED = new SurfacePool(DEFAULT_MAXIMUM_BYTES);
+
+    private static final int MIN_GRANULARITY = 16;
+
+    private final long maximumBytes;
+    private final @NotNull Object lock = new Object();
+    private final @NotNull LinkedHashMap<Long, ArrayDeque<BufferedImage>> buckets =
+            new LinkedHashMap<>(16, 0.75f, true);
+    private final @NotNull SurfaceStatistics statistics = new SurfaceStatistics();
+    private long idleBytes;
+
+    /**
+     * Creates a new pool.
+     *
+     * @param maximumBytes the budget for retained images in bytes.
+     */
+    public SurfacePool(long maximumBytes) {
+        this.maximumBytes = ImageLruCache.checkMaximumBytes(maximumBytes);
+    }
+
+    /**
+     * The pool used if no pool is specified through {@link SVGRenderingHints#KEY_SURFACE_POOL}.
+     *
+     * @return the shared pool.
+     */
+    public static @NotNull SurfacePool shared() {
+        return SHARED;
+    }
+
+    public long maximumBytes() {
+        return maximumBytes;
+    }
+
+    /**
+     * The size of the retained images, which currently aren't in use, in bytes.
+     *
+     * @return the idle size.
+     */
+    public long idleBytes() {
+        synchronized (lock) {
+            return idleBytes;
+        }
+    }
+
+    /**
+     * The statistics accumulated over the lifetime of the pool.
+     *
+     * @return a snapshot of the statistics.
+     */
+    public @NotNull SurfaceStatistics statistics() {
+        return statistics.snapshot();
+    }
+
+    public void clear() {
+        synchronized (lock) {
+            buckets.clear();
+            idleBytes = 0;
+        }
+    }
+
+    public @NotNull Lease acquire(int width, int height, int imageType) {
+        return acquire(width, height, imageType, null);
+    }
+
+    /**
+     * Acquires a cleared image. The image must not be used after the lease has been released.
+     *
+     * @param width the width of the image.
+     * @param height the height of the image.
+     * @param imageType the {@link BufferedImage} type of the image.
+     * @param renderStatistics additional statistics to record the acquisition in.
+     * @return the lease of the image.
+     */
+    public @NotNull Lease acquire(int width, int height, int imageType,
+            @Nullable SurfaceStatistics renderStatistics) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Invalid image size " + width + "x" + height);
+        }
+        if (imageType == BufferedImage.TYPE_CUSTOM) {
+            throw new IllegalArgumentException("Custom image types are not supported");
+        }
+        int bucketWidth = bucketSize(width);
+        int bucketHeight = bucketSize(height);
+        long key = ((long) imageType << 56) | ((long) bucketWidth << 28) | bucketHeight;
+
+        BufferedImage image = null;
+        synchronized (lock) {
+            ArrayDeque<BufferedImage> bucket = buckets.get(key);
+            if (bucket != null) {
+                image = bucket.pollLast();
+                if (bucket.isEmpty()) buckets.remove(key);
+                if (image != null) idleBytes -= sizeInBytes(image);
+            }
+        }
+
+        boolean reused = image != null;
+        if (image != null) {
+            clear(image, width, height);
+        } else {
+            image = new BufferedImage(bucketWidth, bucketHeight, imageType);
+        }
+        long size = sizeInBytes(image);
+        statistics.recordAcquire(size, reused);
+        if (renderStatistics != null) renderStatistics.recordAcquire(size, reused);
+        return new Lease(this, key, image, width, height, renderStatistics);
+    }
+
+    private void release(@NotNull Lease lease) {
+        BufferedImage image = lease.pooledImage;
+        long size = sizeInBytes(image);
+        statistics.recordRelease(size);
+        if (lease.renderStatistics != null) lease.renderStatistics.recordRelease(size);
+
+        int evicted = 0;
+        synchronized (lock) {
+            if (size > maximumBytes) {
+                evicted++;
+            } else {
+                buckets.computeIfAbsent(lease.key, k -> new ArrayDeque<>()).addLast(image);
+                idleBytes += size;
+                Iterator<Map.Entry<Long, ArrayDeque<BufferedImage>>> iterator = buckets.entrySet().iterator();
+                while (idleBytes > maximumBytes && iterator.hasNext()) {
+                    ArrayDeque<BufferedImage> eldest = iterator.next().getValue();
+                    while (idleBytes > maximumBytes && !eldest.isEmpty()) {
+                        idleBytes -= sizeInBytes(eldest.pollFirst());
+                        evicted++;
+                    }
+                    if (eldest.isEmpty()) iterator.remove();
+                }
+            }
+        }
+        for (int i = 0; i < evicted; i++) {
+            statistics.recordEviction();
+            if (lease.renderStatistics != null) lease.renderStatistics.recordEviction();
+        }
+    }
+
+    static int bucketSize(int size) {
+        if (size <= 4 * MIN_GRANULARITY) {
+            return (size + MIN_GRANULARITY - 1) / MIN_GRANULARITY * MIN_GRANULARITY;
+        }
+        // Round to a quarter of the next smaller power of two, which wastes at most 25% in each dimension.
+        int granularity = Integer.highestOneBit(size - 1) >> 2;
+        return (size + granularity - 1) / granularity * granularity;
+    }
+
+    private static long sizeInBytes(@NotNull BufferedImage image) {
+        DataBuffer dataBuffer = image.getRaster().getDataBuffer();
+        return (long) dataBuffer.getSize() * dataBuffer.getNumBanks()
+                * DataBuffer.getDataTypeSize(dataBuffer.getDataType()) / 8;
+    }
+
+    private static void clear(@NotNull BufferedImage image, int width, int height) {
+        WritableRaster raster = image.getRaster();
+        DataBuffer dataBuffer = raster.getDataBuffer();
+        SampleModel sampleModel = raster.getSampleModel();
+        if (dataBuffer.getNumBanks() == 1 && sampleModel instanceof ComponentSampleModel
+                || sampleModel instanceof SinglePixelPackedSampleModel) {
+            int scanlineStride = sampleModel instanceof ComponentSampleModel
+                    ? ((ComponentSampleModel) sampleModel).getScanlineStride()
+                    : ((SinglePixelPackedSampleModel) sampleModel).getScanlineStride();
+            int rowLength = sampleModel instanceof ComponentSampleModel
+                    ? width * ((ComponentSampleModel) sampleModel).getPixelStride()
+                    : width;
+            if (dataBuffer instanceof DataBufferInt) {
+                int[] data = ((DataBufferInt) dataBuffer).getData();
+                for (int y = 0; y < height; y++) {
+                    Arrays.fill(data, y * scanlineStride, y * scanlineStride + rowLength, 0);
+                }
+                return;
+            } else if (dataBuffer instanceof DataBufferByte) {
+                byte[] data = ((DataBufferByte) dataBuffer).getData();
+                for (int y = 0; y < height; y++) {
+                    Arrays.fill(data, y * scanlineStride, y * scanlineStride + rowLength, (byte) 0);
+                }
+                return;
+            }
+        }
+        Graphics2D g = image.createGraphics();
+        g.setComposite(AlphaComposite.Clear);
+        g.fillRect(0, 0, width, height);
+        g.dispose();
+    }
+
+    /**
+     * An image acquired from a {@link SurfacePool}.
+     */
+    public static final class Lease {
+        private final @NotNull SurfacePool pool;
+        private final long key;
+        private final @NotNull BufferedImage pooledImage;
+        private final @NotNull BufferedImage image;
+        private final @Nullable SurfaceStatistics renderStatistics;
+        private boolean released;
+
+        private Lease(@NotNull SurfacePool pool, long key, @NotNull BufferedImage pooledImage, int width, int height,
+                @Nullable SurfaceStatistics renderStatistics) {
+            this.pool = pool;
+            this.key = key;
+            this.pooledImage = pooledImage;
+            this.image = width == pooledImage.getWidth() && height == pooledImage.getHeight()
+                    ? pooledImage
+                    : pooledImage.getSubimage(0, 0, width, height);
+            this.renderStatistics = renderStatistics;
+        }
+
+        public @NotNull BufferedImage image() {
+            return image;
+        }
+
+        /**
+         * Returns the image to the pool.
+         *
+         * @throws IllegalStateException if the lease has already been released.
+         */
+        public void release() {
+            if (released) {
+                throw new IllegalStateException("Surface already released");
+            }
+            released = true;
+            pool.release(this);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Records how offscreen images are obtained from a {@link SurfacePool}. To collect the statistics of a single
+ * render pass set an instance as the value of {@link SVGRenderingHints#KEY_SURFACE_STATISTICS} on the graphics
+ * the document is rendered into. The statistics may be updated from multiple threads.
+ */
+public final class SurfaceStatistics {
+    private final @NotNull Object lock = new Object();
+    private long acquireCount;
+    private long reuseCount;
+    private long releaseCount;
+    private long evictionCount;
+    private long allocatedBytes;
+    private long bytesInUse;
+    private long peakBytesInUse;
+
+    public SurfaceStatistics() {}
+
+    private SurfaceStatistics(@NotNull SurfaceStatistics statistics) {
+        synchronized (statistics.lock) {
+            acquireCount = statistics.acquireCount;
+            reuseCount = statistics.reuseCount;
+            releaseCount = statistics.releaseCount;
+            evictionCount = statistics.evictionCount;
+            allocatedBytes = statistics.allocatedBytes;
+            bytesInUse = statistics.bytesInUse;
+            peakBytesInUse = statistics.peakBytesInUse;
+        }
+    }
+
+    @NotNull
+    SurfaceStatistics snapshot() {
+        return new SurfaceStatistics(this);
+    }
+
+    void recordAcquire(long sizeInBytes, boolean reused) {
+        synchronized (lock) {
+            acquireCount++;
+            if (reused) {
+                reuseCount++;
+            } else {
+                allocatedBytes += sizeInBytes;
+            }
+            bytesInUse += sizeInBytes;
+            peakBytesInUse = Math.max(peakBytesInUse, bytesInUse);
+        }
+    }
+
+    void recordRelease(long sizeInBytes) {
+        synchronized (lock) {
+            releaseCount++;
+            bytesInUse -= sizeInBytes;
+        }
+    }
+
+    void recordEviction() {
+        synchronized (lock) {
+            evictionCount++;
+        }
+    }
+
+    public long acquireCount() {
+        synchronized (lock) {
+            return acquireCount;
+        }
+    }
+
+    /**
+     * The number of acquired images which were served from a previously released image.
+     *
+     * @return the reuse count.
+     */
+    public long reuseCount() {
+        synchronized (lock) {
+            return reuseCount;
+        }
+    }
+
+    public long releaseCount() {
+        synchronized (lock) {
+            return releaseCount;
+        }
+    }
+
+    /**
+     * The number of released images which were discarded because the pool exceeded its byte budget.
+     *
+     * @return the eviction count.
+     */
+    public long evictionCount() {
+        synchronized (lock) {
+            return evictionCount;
+        }
+    }
+
+    /**
+     * The size of all newly allocated images in bytes.
+     *
+     * @return the allocated bytes.
+     */
+    public long allocatedBytes() {
+        synchronized (lock) {
+            return allocatedBytes;
+        }
+    }
+
+    /**
+     * The size of the images which have been acquired but not yet released in bytes.
+     *
+     * @return the bytes in use.
+     */
+    public long bytesInUse() {
+        synchronized (lock) {
+            return bytesInUse;
+        }
+    }
+
+    public long peakBytesInUse() {
+        synchronized (lock) {
+            return peakBytesInUse;
+        }
+    }
+
+    public double reuseRate() {
+        synchronized (lock) {
+            return acquireCount == 0 ? 0 : (double) reuseCount / acquireCount;
+        }
+    }
+
+    @Override
+    public String toString() {
+        synchronized (lock) {
+            return "SurfaceStatistics{" +
+                    "acquireCount=" + acquireCount +
+                    ", reuseCount=" + reuseCount +
+                    ", releaseCount=" + releaseCount +
+                    ", evictionCount=" + evictionCount +
+                    ", allocatedBytes=" + allocatedBytes +
+                    ", bytesInUse=" + bytesInUse +
+                    ", peakBytesInUse=" + peakBytesInUse +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Configures how {@link com.github.weisj.jsvg.SVGDocument#renderTiled} splits the target image into tiles and where
+ * they are rendered.
+ */
+public final class TileConfiguration {
+    public static final int DEFAULT_TILE_SIZE = 256;
+    public static final int DEFAULT_OVERLAP = 32;
+
+    public static final TileConfiguration DEFAULT = new TileConfiguration(DEFAULT_TILE_SIZE);
+
+    private final int tileSize;
+    private final int overlap;
+    private final @NotNull Executor executor;
+
+    /**
+     * Creates a configuration which renders the tiles on the common {@link ForkJoinPool}.
+     *
+     * @param tileSize the width and height of a tile in pixels.
+     */
+    public TileConfiguration(int tileSize) {
+        this(tileSize, DEFAULT_OVERLAP, ForkJoinPool.commonPool());
+    }
+
+    public TileConfiguration(int tileSize, int overlap, @NotNull Executor executor) {
+        if (tileSize <= 0) throw new IllegalArgumentException("Tile size must be positive but was " + tileSize);
+        if (overlap < 0) throw new IllegalArgumentException("Overlap must not be negative but was " + overlap);
+        this.tileSize = tileSize;
+        this.overlap = overlap;
+        this.executor = executor;
+    }
+
+    /**
+     * The width and height of a tile in pixels. Tiles at the right and bottom edge of the image may be smaller.
+     *
+     * @return the tile size.
+     */
+    public int tileSize() {
+        return tileSize;
+    }
+
+    /**
+     * The minimal number of pixels each tile is extended by on every side while rendering. Only the tile itself is
+     * copied to the target image. If filters read pixels further away from the tile, e.g. through large blurs or
+     * offsets, the overlap is increased to their reach.
+     *
+     * @return the overlap in pixels.
+     */
+    public int overlap() {
+        return overlap;
+    }
+
+    /**
+     * The executor the tiles are rendered on. Each tile is submitted as a separate task.
+     *
+     * @return the executor.
+     */
+    public @NotNull Executor executor() {
+        return executor;
+    }
+}
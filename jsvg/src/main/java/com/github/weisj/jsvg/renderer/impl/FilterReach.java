@@ -0,0 +1,88 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer.impl;
+
+import java.awt.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.renderer.output.Output;
+
+/**
+ * Records how far filters read past the clip of the output they are rendered to. The source graphic of a filter is
+ * only rendered inside the clip, hence {@link TileRenderer} uses this to check whether the overlap of its tiles was
+ * sufficient.
+ */
+@ApiStatus.Internal
+public final class FilterReach {
+    public static final int UNBOUNDED = Integer.MAX_VALUE;
+    private static final RenderingHints.Key KEY_FILTER_REACH = new Key();
+
+    private final @NotNull AtomicInteger reach = new AtomicInteger();
+
+    public static @Nullable FilterReach of(@NotNull Output output) {
+        Object reach = output.renderingHint(KEY_FILTER_REACH);
+        return reach instanceof FilterReach ? (FilterReach) reach : null;
+    }
+
+    /**
+     * Makes filters rendered to the given graphics report to this instance.
+     *
+     * @param g the graphics.
+     */
+    void install(@NotNull Graphics2D g) {
+        g.setRenderingHint(KEY_FILTER_REACH, this);
+    }
+
+    /**
+     * Reports that a filter read pixels of its source graphic, which were cut off by the clip.
+     *
+     * @param pixels the distance in device pixels the filter reads past its clip or {@link #UNBOUNDED} if it may
+     *        read any pixel of the filter region.
+     */
+    public void report(int pixels) {
+        reach.accumulateAndGet(pixels, Math::max);
+    }
+
+    /**
+     * The largest reach reported so far.
+     *
+     * @return the reach in device pixels or {@link #UNBOUNDED}.
+     */
+    public int reach() {
+        return reach.get();
+    }
+
+    private static final class Key extends RenderingHints.Key {
+        private Key() {
+            super(0);
+        }
+
+        @Override
+        public boolean isCompatibleValue(@Nullable Object val) {
+            return val instanceof FilterReach;
+        }
+    }
+}
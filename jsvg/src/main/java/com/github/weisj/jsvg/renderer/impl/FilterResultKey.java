@@ -0,0 +1,146 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer.impl;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.attributes.font.MeasurableFontSpec;
+import com.github.weisj.jsvg.geometry.util.GeometryUtil;
+import com.github.weisj.jsvg.nodes.prototype.Renderable;
+import com.github.weisj.jsvg.renderer.FilterResultCache;
+import com.github.weisj.jsvg.renderer.MeasureContext;
+import com.github.weisj.jsvg.renderer.RenderContext;
+import com.github.weisj.jsvg.renderer.impl.context.ContextElementAttributes;
+import com.github.weisj.jsvg.renderer.impl.context.FontRenderContext;
+import com.github.weisj.jsvg.renderer.impl.context.PaintContext;
+import com.github.weisj.jsvg.renderer.impl.context.RenderContextAccessor;
+import com.github.weisj.jsvg.renderer.output.Output;
+
+/**
+ * Identifies the result of a filtered element in a {@link FilterResultCache}. Device space positions are stored
+ * relative to the whole pixel part of the device translation, such that the key stays the same if the element is
+ * only moved by whole pixels.
+ */
+final class FilterResultKey {
+    private final @NotNull Renderable renderable;
+    private final @NotNull MeasureContext measureContext;
+    private final @NotNull PaintContext paintContext;
+    private final @NotNull MeasurableFontSpec fontSpec;
+    private final @NotNull FontRenderContext fontRenderContext;
+    private final @Nullable ContextElementAttributes contextElementAttributes;
+    private final @Nullable RenderingHints renderingHints;
+    private final double[] transform;
+    private final @NotNull Rectangle2D imageBounds;
+    private final @NotNull Rectangle2D visibleFilterRegion;
+    private final int hashCode;
+
+    private FilterResultKey(@NotNull Renderable renderable, @NotNull RenderContext context,
+            @Nullable RenderingHints renderingHints, double[] transform, @NotNull Rectangle2D imageBounds,
+            @NotNull Rectangle2D visibleFilterRegion) {
+        RenderContextAccessor.Accessor accessor = RenderContextAccessor.instance();
+        this.renderable = renderable;
+        this.measureContext = context.measureContext();
+        this.paintContext = accessor.paintContext(context);
+        this.fontSpec = accessor.fontSpec(context);
+        this.fontRenderContext = accessor.fontRenderContext(context);
+        this.contextElementAttributes = accessor.contextElementAttributes(context);
+        this.renderingHints = renderingHints;
+        this.transform = transform;
+        this.imageBounds = imageBounds;
+        this.visibleFilterRegion = visibleFilterRegion;
+        this.hashCode = Objects.hash(System.identityHashCode(renderable), measureContext, paintContext, fontSpec,
+                fontRenderContext, contextElementAttributes, renderingHints, Arrays.hashCode(transform),
+                imageBounds, visibleFilterRegion);
+    }
+
+    /**
+     * Creates the key of a filtered element.
+     *
+     * @param renderable the filtered element.
+     * @param context the context the element is rendered in.
+     * @param output the output the filter result is drawn to.
+     * @param filterRegion the filter region in user space.
+     * @param imageBoundsInDeviceSpace the pixel aligned bounds of the filter result in device space.
+     * @return the key.
+     */
+    static @NotNull FilterResultKey create(@NotNull Renderable renderable, @NotNull RenderContext context,
+            @NotNull Output output, @NotNull Rectangle2D filterRegion,
+            @NotNull Rectangle2D imageBoundsInDeviceSpace) {
+        AffineTransform rootTransform = context.rootTransform();
+        AffineTransform deviceTransform = new AffineTransform(rootTransform);
+        deviceTransform.concatenate(context.userSpaceTransform());
+
+        double originX = Math.floor(deviceTransform.getTranslateX());
+        double originY = Math.floor(deviceTransform.getTranslateY());
+        double[] transform = {
+                deviceTransform.getScaleX(), deviceTransform.getShearY(),
+                deviceTransform.getShearX(), deviceTransform.getScaleY(),
+                deviceTransform.getTranslateX() - originX, deviceTransform.getTranslateY() - originY,
+                rootTransform.getScaleX(), rootTransform.getShearY(),
+                rootTransform.getShearX(), rootTransform.getScaleY()
+        };
+
+        Rectangle2D clipBounds = output.clipBounds();
+        Rectangle2D visibleRegion = clipBounds != null
+                ? filterRegion.createIntersection(clipBounds)
+                : filterRegion;
+        Rectangle2D visibleRegionInDeviceSpace = GeometryUtil.userBoundsToDeviceBounds(context, visibleRegion);
+
+        return new FilterResultKey(renderable, context, output.renderingHints(), transform,
+                relativeTo(imageBoundsInDeviceSpace, originX, originY),
+                relativeTo(visibleRegionInDeviceSpace, originX, originY));
+    }
+
+    private static @NotNull Rectangle2D relativeTo(@NotNull Rectangle2D r, double originX, double originY) {
+        return new Rectangle2D.Double(r.getX() - originX, r.getY() - originY, r.getWidth(), r.getHeight());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof FilterResultKey)) return false;
+        FilterResultKey key = (FilterResultKey) o;
+        return renderable == key.renderable
+                && hashCode == key.hashCode
+                && Arrays.equals(transform, key.transform)
+                && imageBounds.equals(key.imageBounds)
+                && visibleFilterRegion.equals(key.visibleFilterRegion)
+                && measureContext.equals(key.measureContext)
+                && paintContext.equals(key.paintContext)
+                && fontSpec.equals(key.fontSpec)
+                && fontRenderContext.equals(key.fontRenderContext)
+                && Objects.equals(contextElementAttributes, key.contextElementAttributes)
+                && Objects.equals(renderingHints, key.renderingHints);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
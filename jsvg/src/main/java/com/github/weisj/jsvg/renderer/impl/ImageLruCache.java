@@ -0,0 +1,140 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer.impl;
+
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.renderer.CacheStatistics;
+
+/**
+ * A map of images whose combined size is bounded by a byte budget. Once it is exceeded images are evicted in least
+ * recently used order. All methods synchronize on the cache, callbacks are invoked while holding its lock.
+ *
+ * @param <K> the type of the keys.
+ */
+@ApiStatus.Internal
+public final class ImageLruCache<K> {
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private final long maximumBytes;
+    private final @Nullable BiConsumer<K, BufferedImage> evictionListener;
+    private final @NotNull LinkedHashMap<K, BufferedImage> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long currentBytes;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maximumBytes the budget for cached images in bytes.
+     * @param evictionListener notified of every image evicted from the budget.
+     */
+    public ImageLruCache(long maximumBytes, @Nullable BiConsumer<K, BufferedImage> evictionListener) {
+        this.maximumBytes = checkMaximumBytes(maximumBytes);
+        this.evictionListener = evictionListener;
+    }
+
+    public static long checkMaximumBytes(long maximumBytes) {
+        if (maximumBytes < 0) {
+            throw new IllegalArgumentException("Maximum size must not be negative but was " + maximumBytes);
+        }
+        return maximumBytes;
+    }
+
+    public static long sizeInBytes(int width, int height) {
+        return (long) width * height * BYTES_PER_PIXEL;
+    }
+
+    public long maximumBytes() {
+        return maximumBytes;
+    }
+
+    public boolean accepts(int width, int height) {
+        return sizeInBytes(width, height) <= maximumBytes;
+    }
+
+    public synchronized long currentBytes() {
+        return currentBytes;
+    }
+
+    public synchronized @NotNull CacheStatistics statistics() {
+        return new CacheStatistics(hitCount, missCount, evictionCount);
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        currentBytes = 0;
+    }
+
+    /**
+     * Looks up an image and records the lookup as a hit or a miss.
+     *
+     * @param key the key of the image.
+     * @param fallback consulted if the image isn't cached. A non-null result is inserted and counts as a hit.
+     * @return the image or null if it isn't cached.
+     */
+    public synchronized @Nullable BufferedImage lookup(@NotNull K key,
+            @Nullable Function<K, BufferedImage> fallback) {
+        BufferedImage image = entries.get(key);
+        if (image == null && fallback != null) {
+            image = fallback.apply(key);
+            if (image != null) put(key, image);
+        }
+        if (image != null) {
+            hitCount++;
+        } else {
+            missCount++;
+        }
+        return image;
+    }
+
+    /**
+     * Inserts an image, replacing the image of the key if present, and evicts images until the budget is met.
+     *
+     * @param key the key of the image.
+     * @param image the image.
+     */
+    public synchronized void put(@NotNull K key, @NotNull BufferedImage image) {
+        BufferedImage previous = entries.put(key, image);
+        if (previous != null) currentBytes -= sizeInBytes(previous.getWidth(), previous.getHeight());
+        currentBytes += sizeInBytes(image.getWidth(), image.getHeight());
+        Iterator<Map.Entry<K, BufferedImage>> iterator = entries.entrySet().iterator();
+        while (currentBytes > maximumBytes && iterator.hasNext()) {
+            Map.Entry<K, BufferedImage> eldest = iterator.next();
+            iterator.remove();
+            BufferedImage evicted = eldest.getValue();
+            currentBytes -= sizeInBytes(evicted.getWidth(), evicted.getHeight());
+            evictionCount++;
+            if (evictionListener != null) evictionListener.accept(eldest.getKey(), evicted);
+        }
+    }
+}
@@ -22,6 +22,7 @@
 package com.github.weisj.jsvg.renderer.impl;
 
 import java.awt.*;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 
@@ -33,12 +34,13 @@ import com.github.weisj.jsvg.nodes.ClipPath;
 import com.github.weisj.jsvg.nodes.Mask;
 import com.github.weisj.jsvg.nodes.filter.Filter;
 import com.github.weisj.jsvg.nodes.prototype.Renderable;
+import com.github.weisj.jsvg.renderer.FilterResultCache;
 import com.github.weisj.jsvg.renderer.RenderContext;
+import com.github.weisj.jsvg.renderer.SVGRenderingHints;
 import com.github.weisj.jsvg.renderer.impl.context.RenderContextAccessor;
 import com.github.weisj.jsvg.renderer.output.Output;
 import com.github.weisj.jsvg.renderer.output.impl.Graphics2DOutput;
 import com.github.weisj.jsvg.util.BlittableImage;
-import com.github.weisj.jsvg.util.ImageUtil;
 
 class Info implements AutoCloseable {
     protected final @NotNull RenderContext context;
@@ -63,20 +65,59 @@ class Info implements AutoCloseable {
         return context;
     }
 
+    /**
+     * Whether the renderable needs to be rendered into {@link #output()}. This isn't the case if its appearance is
+     * restored from a cache once the info is closed.
+     *
+     * @return true if the content has to be rendered.
+     */
+    public boolean rendersContent() {
+        return true;
+    }
+
     @Override
     public void close() {
         output.dispose();
     }
 
+    private static @Nullable FilterResultCache filterResultCache(@NotNull Output output) {
+        // Cached results skip applying the filter, which is where its reach is reported.
+        if (FilterReach.of(output) != null) return null;
+        Object cache = output.renderingHint(SVGRenderingHints.KEY_FILTER_RESULT_CACHE);
+        return cache instanceof FilterResultCache ? (FilterResultCache) cache : null;
+    }
+
+    private static void applyEffectsAndBlit(@NotNull Output output, @NotNull RenderContext context,
+            @NotNull ElementBounds elementBounds, @NotNull IsolationEffects effects,
+            @Nullable Rectangle2D filterRegion, @NotNull BufferedImage image,
+            @NotNull Rectangle2D imageBoundsInDeviceSpace) {
+        if (filterRegion != null) {
+            output.applyClip(filterRegion);
+        }
+        if (effects.mask != null) {
+            output.setPaint(() -> effects.mask.createMaskPaint(output, context, elementBounds));
+        }
+        if (effects.clipPath != null) {
+            effects.clipPath.applyClip(output, context, elementBounds);
+        }
+
+        output.setTransform(AffineTransform.getTranslateInstance(
+                imageBoundsInDeviceSpace.getX(), imageBoundsInDeviceSpace.getY()));
+        output.drawImage(image, context.platformSupport().imageObserver());
+    }
+
     static final class InfoWithIsolation extends Info {
 
         private final @NotNull BlittableImage blittableImage;
         private final @NotNull Output imageOutput;
+        private final @NotNull SurfaceScope surfaces;
         private final @NotNull ElementBounds elementBounds;
         private final @NotNull IsolationEffects isolationEffects;
         private final @Nullable Filter.FilterInfo filterInfo;
+        private final @Nullable FilterResultCache resultCache;
+        private final @Nullable FilterResultKey resultKey;
 
-        static @Nullable InfoWithIsolation create(@NotNull Renderable renderable,
+        static @Nullable Info create(@NotNull Renderable renderable,
                 @NotNull RenderContext context, @NotNull Output output,
                 @NotNull ElementBounds elementBounds, @NotNull IsolationEffects effects) {
 
@@ -104,36 +145,60 @@ class Info implements AutoCloseable {
                 return null;
             }
 
+            FilterResultCache resultCache = filterBounds != null ? filterResultCache(output) : null;
+            FilterResultKey resultKey = null;
+            if (resultCache != null) {
+                Rectangle2D imageBounds = BlittableImage.imageBoundsInDeviceSpace(context, clipBounds, bounds);
+                if (imageBounds != null
+                        && resultCache.accepts((int) imageBounds.getWidth(), (int) imageBounds.getHeight())) {
+                    resultKey = FilterResultKey.create(renderable, context, output, filterBounds.filterRegion(),
+                            imageBounds);
+                    BufferedImage cachedResult = resultCache.lookup(resultKey);
+                    if (cachedResult != null) {
+                        return new InfoWithCachedFilterResult(renderable, context, output, elementBounds, effects,
+                                filterBounds.filterRegion(), cachedResult, imageBounds);
+                    }
+                }
+            }
+
             RenderContext imageContext = RenderContextAccessor.instance().deriveForSurface(context);
 
+            SurfaceScope surfaces = SurfaceScope.create(output);
             BlittableImage blitImage = BlittableImage.create(
-                    ImageUtil::createCompatibleTransparentImage, context, clipBounds,
+                    surfaces::createTransparentSurface, context, clipBounds,
                     bounds, elementBounds.boundingBox(), UnitType.UserSpaceOnUse, imageContext);
-            if (blitImage == null) return null;
+            if (blitImage == null) {
+                surfaces.close();
+                return null;
+            }
 
             Graphics2D g = blitImage.createGraphics();
             g.setRenderingHints(output.renderingHints());
             Output imageOutput = new Graphics2DOutput(g);
 
             if (filter != null && filterBounds != null) {
-                filterInfo = new Filter.FilterInfo(blitImage, imageOutput, filterBounds);
+                filterInfo = new Filter.FilterInfo(blitImage, imageOutput, filterBounds, surfaces, renderable);
             }
 
-            return new InfoWithIsolation(
-                    renderable, context, output, imageOutput, blitImage, elementBounds, effects, filterInfo);
+            return new InfoWithIsolation(renderable, context, output, imageOutput, blitImage, surfaces,
+                    elementBounds, effects, filterInfo, resultCache, resultKey);
         }
 
         private InfoWithIsolation(@NotNull Renderable renderable, @NotNull RenderContext context,
                 @NotNull Output output, @NotNull Output imageOutput,
-                @NotNull BlittableImage blittableImage,
+                @NotNull BlittableImage blittableImage, @NotNull SurfaceScope surfaces,
                 @NotNull ElementBounds elementBounds,
-                @NotNull IsolationEffects isolationEffects, @Nullable Filter.FilterInfo filterInfo) {
+                @NotNull IsolationEffects isolationEffects, @Nullable Filter.FilterInfo filterInfo,
+                @Nullable FilterResultCache resultCache, @Nullable FilterResultKey resultKey) {
             super(renderable, context, output);
             this.blittableImage = blittableImage;
             this.imageOutput = imageOutput;
+            this.surfaces = surfaces;
             this.elementBounds = elementBounds;
             this.isolationEffects = isolationEffects;
             this.filterInfo = filterInfo;
+            this.resultCache = resultCache;
+            this.resultKey = resultKey;
         }
 
         @Override
@@ -150,23 +215,56 @@ class Info implements AutoCloseable {
         public void close() {
             Output previousOutput = this.output;
             BufferedImage result = this.blittableImage.image();
+            Rectangle2D filterRegion = null;
 
             if (isolationEffects.filter != null) {
                 assert filterInfo != null;
                 result = isolationEffects.filter.applyFilter(previousOutput, context, filterInfo);
-                previousOutput.applyClip(filterInfo.filterRegion());
-            }
-            if (isolationEffects.mask != null) {
-                previousOutput.setPaint(() -> isolationEffects.mask.createMaskPaint(
-                        previousOutput, context, elementBounds));
-            }
-            if (isolationEffects.clipPath != null) {
-                isolationEffects.clipPath.applyClip(previousOutput, context, elementBounds);
+                filterRegion = filterInfo.filterRegion();
+                if (resultCache != null && resultKey != null) {
+                    resultCache.store(resultKey, result);
+                }
             }
 
-            blittableImage.prepareForBlitting(previousOutput);
-            previousOutput.drawImage(result, context.platformSupport().imageObserver());
+            applyEffectsAndBlit(previousOutput, context, elementBounds, isolationEffects, filterRegion, result,
+                    blittableImage.imageBoundsInDeviceSpace());
             imageOutput.dispose();
+            surfaces.close();
+            super.close();
+        }
+    }
+
+    /**
+     * Draws a filter result restored from a {@link FilterResultCache}. The renderable itself isn't rendered.
+     */
+    static final class InfoWithCachedFilterResult extends Info {
+        private final @NotNull ElementBounds elementBounds;
+        private final @NotNull IsolationEffects isolationEffects;
+        private final @NotNull Rectangle2D filterRegion;
+        private final @NotNull BufferedImage result;
+        private final @NotNull Rectangle2D imageBoundsInDeviceSpace;
+
+        private InfoWithCachedFilterResult(@NotNull Renderable renderable, @NotNull RenderContext context,
+                @NotNull Output output, @NotNull ElementBounds elementBounds,
+                @NotNull IsolationEffects isolationEffects, @NotNull Rectangle2D filterRegion,
+                @NotNull BufferedImage result, @NotNull Rectangle2D imageBoundsInDeviceSpace) {
+            super(renderable, context, output);
+            this.elementBounds = elementBounds;
+            this.isolationEffects = isolationEffects;
+            this.filterRegion = filterRegion;
+            this.result = result;
+            this.imageBoundsInDeviceSpace = imageBoundsInDeviceSpace;
+        }
+
+        @Override
+        public boolean rendersContent() {
+            return false;
+        }
+
+        @Override
+        public void close() {
+            applyEffectsAndBlit(output, context, elementBounds, isolationEffects, filterRegion, result,
+                    imageBoundsInDeviceSpace);
             super.close();
         }
     }
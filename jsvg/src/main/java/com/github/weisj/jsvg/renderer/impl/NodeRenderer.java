@@ -21,12 +21,14 @@
  */
 package com.github.weisj.jsvg.renderer.impl;
 
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import com.github.weisj.jsvg.attributes.font.MeasurableFontSpec;
+import com.github.weisj.jsvg.geometry.util.GeometryUtil;
 import com.github.weisj.jsvg.nodes.ClipPath;
 import com.github.weisj.jsvg.nodes.Mask;
 import com.github.weisj.jsvg.nodes.SVG;
@@ -62,7 +64,7 @@ public final class NodeRenderer {
     public static void renderNode(@NotNull SVGNode node, @NotNull RenderContext context, @NotNull Output output,
             @Nullable Instantiator instantiator) {
         try (Info info = createRenderInfo(node, context, output, instantiator)) {
-            if (info != null) info.renderable().render(info.context(), info.output());
+            if (info != null && info.rendersContent()) info.renderable().render(info.context(), info.output());
         }
     }
 
@@ -70,7 +72,9 @@ public final class NodeRenderer {
             @NotNull RenderContext context, @NotNull Output output,
             @Nullable Instantiator instantiator) {
         try (Info info = createRenderInfo(node, context, output, instantiator)) {
-            if (info != null) node.renderWithSize(size, node.viewBox(info.context()), info.context(), info.output());
+            if (info != null && info.rendersContent()) {
+                node.renderWithSize(size, node.viewBox(info.context()), info.context(), info.output());
+            }
         }
     }
 
@@ -89,6 +93,8 @@ public final class NodeRenderer {
         if (!renderable.isVisible(context)) return null;
 
         RenderContext childContext = createChildContext(renderable, context, instantiator);
+        if (isOutsideClip(node, childContext, output)) return null;
+
         Output childOutput = output.createChild();
         ElementBounds elementBounds = new ElementBounds(node, childContext);
 
@@ -120,6 +126,21 @@ public final class NodeRenderer {
         return new Info(renderable, childContext, childOutput);
     }
 
+    private static boolean isOutsideClip(@NotNull SVGNode node, @NotNull RenderContext childContext,
+            @NotNull Output output) {
+        Rectangle2D clipBounds = output.clipBounds();
+        // Graphics2D may return null if there is no clip.
+        // noinspection ConstantValue
+        if (clipBounds == null) return false;
+        // Allow for the shift introduced by stroke normalization and anti-aliasing, which is about half a pixel.
+        AffineTransform transform = output.transform();
+        double pixelSize = 1 / Math.min(GeometryUtil.scaleXOfTransform(transform),
+                GeometryUtil.scaleYOfTransform(transform));
+        if (!Double.isFinite(pixelSize)) return false;
+        return SubtreeBounds.isOutsideClip(node, childContext, GeometryUtil.grow(clipBounds, pixelSize),
+                output.supportsFilters());
+    }
+
     private static void applyTransform(@NotNull Renderable renderable, @NotNull Output childOutput,
             @NotNull RenderContext childContext, @NotNull ElementBounds elementBounds) {
         if (renderable instanceof Transformable && ((Transformable) renderable).shouldTransform()) {
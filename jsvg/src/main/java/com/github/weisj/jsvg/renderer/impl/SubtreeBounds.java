@@ -0,0 +1,185 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer.impl;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.util.Objects;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.attributes.VectorEffect;
+import com.github.weisj.jsvg.geometry.util.GeometryUtil;
+import com.github.weisj.jsvg.nodes.SVGNode;
+import com.github.weisj.jsvg.nodes.ShapeNode;
+import com.github.weisj.jsvg.nodes.container.CommonRenderableContainerNode;
+import com.github.weisj.jsvg.nodes.filter.Filter;
+import com.github.weisj.jsvg.nodes.prototype.HasFilter;
+import com.github.weisj.jsvg.nodes.prototype.HasShape;
+import com.github.weisj.jsvg.nodes.prototype.Renderable;
+import com.github.weisj.jsvg.nodes.prototype.ShapedContainer;
+import com.github.weisj.jsvg.nodes.prototype.Transformable;
+import com.github.weisj.jsvg.renderer.MeasureContext;
+import com.github.weisj.jsvg.renderer.RenderContext;
+
+/**
+ * Conservative bounds of everything a node paints, used to skip nodes which lie outside the clip. The bounds are
+ * expressed in the user space of the parent i.e. they include the transform of the node itself.
+ * <p>
+ * Only nodes, whose painted area can be determined cheaply, provide bounds:
+ * <ul>
+ *     <li>Shapes without markers and vector effects, including the area covered by their stroke.</li>
+ *     <li>Groups and anchors, if all their children provide bounds. These are cached per node.</li>
+ *     <li>Nodes with a filter, as the filter result is clipped to the filter region.</li>
+ * </ul>
+ * All other nodes are never culled.
+ */
+@ApiStatus.Internal
+public final class SubtreeBounds {
+    private SubtreeBounds() {}
+
+    static boolean isOutsideClip(@NotNull SVGNode node, @NotNull RenderContext childContext,
+            @NotNull Rectangle2D clipBounds, boolean supportsFilters) {
+        Rectangle2D bounds = compute(node, childContext, supportsFilters);
+        return bounds != null && !bounds.intersects(clipBounds);
+    }
+
+    private static @Nullable Rectangle2D compute(@NotNull SVGNode node, @NotNull RenderContext childContext,
+            boolean supportsFilters) {
+        Rectangle2D bounds = null;
+        if (supportsFilters && node instanceof HasFilter) {
+            Filter filter = ((HasFilter) node).filter();
+            if (filter != null && filter.hasEffect()) {
+                bounds = filter.filterRegion(childContext, new ElementBounds(node, childContext));
+            }
+        }
+        if (bounds == null) bounds = untransformedBounds(node, childContext, supportsFilters);
+        if (bounds == null) return null;
+
+        if (node instanceof Transformable && ((Transformable) node).shouldTransform()) {
+            AffineTransform transform = ((Transformable) node).effectiveTransform(childContext,
+                    new ElementBounds(node, childContext));
+            if (transform != null) bounds = GeometryUtil.containingBoundsAfterTransform(transform, bounds);
+        }
+        return bounds;
+    }
+
+    private static @Nullable Rectangle2D untransformedBounds(@NotNull SVGNode node, @NotNull RenderContext context,
+            boolean supportsFilters) {
+        if (node instanceof ShapeNode) return shapeBounds((ShapeNode) node, context);
+        if (node instanceof CommonRenderableContainerNode && node instanceof ShapedContainer) {
+            CommonRenderableContainerNode container = (CommonRenderableContainerNode) node;
+            return container.subtreeBoundsCache().get(container, context, supportsFilters);
+        }
+        return null;
+    }
+
+    private static @Nullable Rectangle2D shapeBounds(@NotNull ShapeNode node, @NotNull RenderContext context) {
+        if (node.hasMarkers()) return null;
+        for (VectorEffect effect : node.vectorEffects()) {
+            if (effect != VectorEffect.None) return null;
+        }
+        Rectangle2D bounds = node.untransformedElementBounds(context, HasShape.Box.BoundingBox);
+        if (!GeometryUtil.isValidRect(bounds)) return null;
+        Stroke stroke = context.stroke(1);
+        if (!(stroke instanceof BasicStroke)) return null;
+        return GeometryUtil.grow(bounds, strokeReach((BasicStroke) stroke));
+    }
+
+    /*
+     * How far the outline of a stroke can extend beyond the geometry.
+     */
+    private static double strokeReach(@NotNull BasicStroke stroke) {
+        double factor = 1;
+        if (stroke.getLineJoin() == BasicStroke.JOIN_MITER) factor = Math.max(factor, stroke.getMiterLimit());
+        if (stroke.getEndCap() == BasicStroke.CAP_SQUARE) factor = Math.max(factor, Math.sqrt(2));
+        return factor * stroke.getLineWidth() / 2;
+    }
+
+    private static @Nullable Rectangle2D childrenBounds(@NotNull CommonRenderableContainerNode container,
+            @NotNull RenderContext context, boolean supportsFilters) {
+        Rectangle2D bounds = null;
+        for (SVGNode child : container.children()) {
+            if (!(child instanceof Renderable)) continue;
+            Renderable renderable = (Renderable) child;
+            if (renderable.requiresInstantiation() || !renderable.isVisible(context)) continue;
+            RenderContext childContext = NodeRenderer.createChildContext(renderable, context, null);
+            Rectangle2D childBounds = compute(child, childContext, supportsFilters);
+            if (childBounds == null) return null;
+            if (childBounds.isEmpty()) continue;
+            if (bounds == null) {
+                bounds = childBounds.getBounds2D();
+            } else {
+                Rectangle2D.union(bounds, childBounds, bounds);
+            }
+        }
+        return bounds != null ? bounds : new Rectangle2D.Double();
+    }
+
+    /**
+     * Remembers the bounds of the children of a container for the last context it was rendered in. The bounds only
+     * depend on the measurements, the inherited stroke and whether the inherited opacity hides all children, which
+     * are compared to decide whether the cached value can be reused.
+     */
+    public static final class Cache {
+        private volatile @Nullable Entry entry;
+
+        private @Nullable Rectangle2D get(@NotNull CommonRenderableContainerNode container,
+                @NotNull RenderContext context, boolean supportsFilters) {
+            Entry key = new Entry(context.measureContext(), context.stroke(1), context.rawOpacity() > 0,
+                    supportsFilters, null);
+            Entry current = entry;
+            if (current != null && current.matches(key)) return current.bounds;
+            Rectangle2D bounds = childrenBounds(container, context, supportsFilters);
+            entry = new Entry(key.measureContext, key.stroke, key.inheritsVisibility, supportsFilters, bounds);
+            return bounds;
+        }
+    }
+
+    private static final class Entry {
+        private final @NotNull MeasureContext measureContext;
+        private final @NotNull Stroke stroke;
+        // Children are invisible if the inherited opacity is zero.
+        private final boolean inheritsVisibility;
+        private final boolean supportsFilters;
+        private final @Nullable Rectangle2D bounds;
+
+        private Entry(@NotNull MeasureContext measureContext, @NotNull Stroke stroke, boolean inheritsVisibility,
+                boolean supportsFilters, @Nullable Rectangle2D bounds) {
+            this.measureContext = measureContext;
+            this.stroke = stroke;
+            this.inheritsVisibility = inheritsVisibility;
+            this.supportsFilters = supportsFilters;
+            this.bounds = bounds;
+        }
+
+        private boolean matches(@NotNull Entry other) {
+            return supportsFilters == other.supportsFilters
+                    && inheritsVisibility == other.inheritsVisibility
+                    && measureContext.equals(other.measureContext)
+                    && Objects.equals(stroke, other.stroke);
+        }
+    }
+}
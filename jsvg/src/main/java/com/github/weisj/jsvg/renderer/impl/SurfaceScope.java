@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer.impl;
+
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.geometry.util.GeometryUtil;
+import com.github.weisj.jsvg.renderer.SVGRenderingHints;
+import com.github.weisj.jsvg.renderer.SurfacePool;
+import com.github.weisj.jsvg.renderer.SurfaceStatistics;
+import com.github.weisj.jsvg.renderer.output.Output;
+
+/**
+ * Hands out offscreen images from the {@link SurfacePool} of an output and returns all of them to the pool once
+ * the scope is closed. Images must not be used after the scope has been closed. A scope is not thread safe.
+ */
+public final class SurfaceScope {
+    private static final SurfaceScope UNPOOLED = new SurfaceScope(null, null);
+
+    private final @Nullable SurfacePool pool;
+    private final @Nullable SurfaceStatistics statistics;
+    private final @NotNull List<SurfacePool.Lease> leases = new ArrayList<>();
+
+    private SurfaceScope(@Nullable SurfacePool pool, @Nullable SurfaceStatistics statistics) {
+        this.pool = pool;
+        this.statistics = statistics;
+    }
+
+    public static @NotNull SurfaceScope create(@NotNull Output output) {
+        SurfacePool pool = surfacePool(output);
+        if (pool == null) return UNPOOLED;
+        return new SurfaceScope(pool, surfaceStatistics(output));
+    }
+
+    /**
+     * A scope which allocates new images and never reuses them.
+     *
+     * @return the unpooled scope.
+     */
+    public static @NotNull SurfaceScope unpooled() {
+        return UNPOOLED;
+    }
+
+    public static @Nullable SurfacePool surfacePool(@NotNull Output output) {
+        if (output.renderingHint(SVGRenderingHints.KEY_CACHE_OFFSCREEN_IMAGE) == SVGRenderingHints.VALUE_NO_CACHE) {
+            return null;
+        }
+        Object pool = output.renderingHint(SVGRenderingHints.KEY_SURFACE_POOL);
+        return pool instanceof SurfacePool ? (SurfacePool) pool : SurfacePool.shared();
+    }
+
+    public static @Nullable SurfaceStatistics surfaceStatistics(@NotNull Output output) {
+        Object statistics = output.renderingHint(SVGRenderingHints.KEY_SURFACE_STATISTICS);
+        return statistics instanceof SurfaceStatistics ? (SurfaceStatistics) statistics : null;
+    }
+
+    /**
+     * Acquires a cleared image.
+     *
+     * @param width the width of the image.
+     * @param height the height of the image.
+     * @param imageType the {@link BufferedImage} type of the image.
+     * @return the image, which is valid until the scope is closed.
+     */
+    public @NotNull BufferedImage acquire(int width, int height, int imageType) {
+        if (pool == null) return new BufferedImage(width, height, imageType);
+        SurfacePool.Lease lease = pool.acquire(width, height, imageType, statistics);
+        leases.add(lease);
+        return lease.image();
+    }
+
+    public @NotNull BufferedImage createTransparentSurface(@Nullable AffineTransform at, double width,
+            double height) {
+        return acquire(
+                (int) Math.ceil(GeometryUtil.scaleXOfTransform(at) * width),
+                (int) Math.ceil(GeometryUtil.scaleYOfTransform(at) * height),
+                BufferedImage.TYPE_INT_ARGB);
+    }
+
+    public void close() {
+        for (SurfacePool.Lease lease : leases) {
+            lease.release();
+        }
+        leases.clear();
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer.impl;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.Raster;
+import java.awt.image.WritableRaster;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.github.weisj.jsvg.renderer.TileConfiguration;
+import com.github.weisj.jsvg.renderer.output.Output;
+
+@ApiStatus.Internal
+public final class TileRenderer {
+    private TileRenderer() {}
+
+    /**
+     * Renders into the given image tile by tile. Each tile is rendered into its own image, which initially holds
+     * the content of the target image and uses the same coordinate system. The tile grown by the overlap is used
+     * as clip. Once all tiles are done, the tiles without their overlap are copied into the target.
+     * <p>
+     * {@link com.github.weisj.jsvg.nodes.filter.Filter#createFilterBounds} limits the filter input to the clip.
+     * Filters report through {@link FilterReach} how far they read past it. If this exceeds
+     * {@link TileConfiguration#overlap()} the tiles are rendered again with the reported reach as overlap. Filters
+     * whose reach can't be bounded cause the image to be rendered without tiles.
+     *
+     * @param image the target image.
+     * @param renderingHints the rendering hints applied to each tile.
+     * @param configuration the tile configuration.
+     * @param renderer the render routine, which is invoked concurrently with the output of each tile.
+     */
+    public static void render(@NotNull BufferedImage image, @Nullable RenderingHints renderingHints,
+            @NotNull TileConfiguration configuration, @NotNull Consumer<@NotNull Output> renderer) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int tileSize = configuration.tileSize();
+
+        List<Rectangle> tiles = new ArrayList<>();
+        for (int y = 0; y < height; y += tileSize) {
+            for (int x = 0; x < width; x += tileSize) {
+                tiles.add(new Rectangle(x, y, Math.min(tileSize, width - x), Math.min(tileSize, height - y)));
+            }
+        }
+
+        int overlap = configuration.overlap();
+        FilterReach filterReach = new FilterReach();
+        List<Raster> tileImages = renderTiles(image, tiles, overlap, filterReach, renderingHints, configuration,
+                renderer);
+        if (filterReach.reach() > overlap && filterReach.reach() != FilterReach.UNBOUNDED) {
+            overlap = filterReach.reach();
+            filterReach = new FilterReach();
+            tileImages = renderTiles(image, tiles, overlap, filterReach, renderingHints, configuration, renderer);
+        }
+        if (filterReach.reach() > overlap) {
+            renderUntiled(image, renderingHints, renderer);
+            return;
+        }
+
+        WritableRaster raster = image.getRaster();
+        for (int i = 0; i < tiles.size(); i++) {
+            Rectangle tile = tiles.get(i);
+            raster.setDataElements(tile.x, tile.y, tileImages.get(i));
+        }
+    }
+
+    private static @NotNull List<Raster> renderTiles(@NotNull BufferedImage image, @NotNull List<Rectangle> tiles,
+            int overlap, @NotNull FilterReach filterReach, @Nullable RenderingHints renderingHints,
+            @NotNull TileConfiguration configuration, @NotNull Consumer<@NotNull Output> renderer) {
+        List<CompletableFuture<Raster>> futures = new ArrayList<>(tiles.size());
+        for (Rectangle tile : tiles) {
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> renderTile(image, tile, overlap, filterReach, renderingHints, renderer),
+                    configuration.executor()));
+        }
+        // Tiles read the content of the target, hence it may only be written after all tiles are done.
+        List<Raster> tileImages = new ArrayList<>(futures.size());
+        for (CompletableFuture<Raster> future : futures) {
+            tileImages.add(join(future));
+        }
+        return tileImages;
+    }
+
+    private static @NotNull Raster renderTile(@NotNull BufferedImage image, @NotNull Rectangle tile, int overlap,
+            @NotNull FilterReach filterReach, @Nullable RenderingHints renderingHints,
+            @NotNull Consumer<@NotNull Output> renderer) {
+        Rectangle region = new Rectangle(tile);
+        region.grow(overlap, overlap);
+        region = region.intersection(new Rectangle(0, 0, image.getWidth(), image.getHeight()));
+
+        // Use the same pixel layout as the target, such that the tile can be copied as is. Drawing on top of the
+        // current content makes the tile identical to the corresponding region of an untiled render.
+        WritableRaster tileRaster = image.getRaster().createCompatibleWritableRaster(region.width, region.height);
+        tileRaster.setDataElements(0, 0, image.getRaster().createChild(
+                region.x, region.y, region.width, region.height, 0, 0, null));
+        BufferedImage tileImage = new BufferedImage(image.getColorModel(), tileRaster,
+                image.isAlphaPremultiplied(), null);
+        Graphics2D g = tileImage.createGraphics();
+        if (renderingHints != null) g.setRenderingHints(renderingHints);
+        filterReach.install(g);
+        g.translate(-region.x, -region.y);
+
+        Output output = Output.createForGraphics(g);
+        output.applyClip(region);
+        renderer.accept(output);
+        output.dispose();
+        g.dispose();
+        return tileRaster.createChild(tile.x - region.x, tile.y - region.y, tile.width, tile.height, 0, 0, null);
+    }
+
+    private static void renderUntiled(@NotNull BufferedImage image, @Nullable RenderingHints renderingHints,
+            @NotNull Consumer<@NotNull Output> renderer) {
+        Graphics2D g = image.createGraphics();
+        if (renderingHints != null) g.setRenderingHints(renderingHints);
+        Output output = Output.createForGraphics(g);
+        renderer.accept(output);
+        output.dispose();
+        g.dispose();
+    }
+
+    private static <T> @NotNull T join(@NotNull CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw e;
+        }
+    }
+}
@@ -23,6 +23,7 @@ package com.github.weisj.jsvg.renderer.impl.context;
 
 
 import java.awt.*;
+import java.util.Objects;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -39,6 +40,7 @@ import com.github.weisj.jsvg.paint.SVGPaint;
 import com.github.weisj.jsvg.paint.impl.AwtSVGPaint;
 import com.github.weisj.jsvg.paint.impl.PredefinedPaints;
 import com.github.weisj.jsvg.paint.impl.RGBColor;
+import com.github.weisj.jsvg.parser.impl.AttributeKey;
 import com.github.weisj.jsvg.parser.impl.AttributeNode;
 
 public final class PaintContext implements Mutator<PaintContext> {
@@ -85,20 +87,20 @@ public final class PaintContext implements Mutator<PaintContext> {
     public static @NotNull PaintContext parse(@NotNull AttributeNode attributeNode) {
         return new PaintContext(
                 parseColorAttribute(attributeNode),
-                attributeNode.getPaint("fill", Inherited.YES, Animatable.YES),
-                attributeNode.getPercentage("fill-opacity", Inherited.YES, Animatable.YES),
-                attributeNode.getPaint("stroke", Inherited.YES, Animatable.YES),
-                attributeNode.getPercentage("stroke-opacity", Inherited.YES, Animatable.YES),
-                attributeNode.getPercentage("opacity", Percentage.ONE, Inherited.NO, Animatable.YES),
+                attributeNode.getPaint(AttributeKey.FILL, Inherited.YES, Animatable.YES),
+                attributeNode.getPercentage(AttributeKey.FILL_OPACITY, Inherited.YES, Animatable.YES),
+                attributeNode.getPaint(AttributeKey.STROKE, Inherited.YES, Animatable.YES),
+                attributeNode.getPercentage(AttributeKey.STROKE_OPACITY, Inherited.YES, Animatable.YES),
+                attributeNode.getPercentage(AttributeKey.OPACITY, Percentage.ONE, Inherited.NO, Animatable.YES),
                 PaintOrder.parse(attributeNode),
                 StrokeContext.parse(attributeNode),
                 FillRule.parse(attributeNode));
     }
 
     private static @Nullable SVGPaint parseColorAttribute(@NotNull AttributeNode attributeNode) {
-        Color c = attributeNode.getColor("color", null);
+        Color c = attributeNode.getColor(AttributeKey.COLOR, null);
         if (c == null) return null;
-        AnimatedColor animatedColor = attributeNode.getAnimatedColor("color", new RGBColor(c));
+        AnimatedColor animatedColor = attributeNode.getAnimatedColor(AttributeKey.COLOR.name(), new RGBColor(c));
         if (animatedColor != null) return animatedColor;
         return new AwtSVGPaint(c);
     }
@@ -125,6 +127,28 @@ public final class PaintContext implements Mutator<PaintContext> {
         return element.derive(this);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PaintContext)) return false;
+        PaintContext that = (PaintContext) o;
+        return Objects.equals(color, that.color)
+                && Objects.equals(fillPaint, that.fillPaint)
+                && Objects.equals(strokePaint, that.strokePaint)
+                && opacity.equals(that.opacity)
+                && Objects.equals(fillOpacity, that.fillOpacity)
+                && Objects.equals(strokeOpacity, that.strokeOpacity)
+                && Objects.equals(paintOrder, that.paintOrder)
+                && Objects.equals(strokeContext, that.strokeContext)
+                && fillRule == that.fillRule;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(color, fillPaint, strokePaint, opacity, fillOpacity, strokeOpacity, paintOrder,
+                strokeContext, fillRule);
+    }
+
     @Override
     public String toString() {
         return "PaintContext{" +
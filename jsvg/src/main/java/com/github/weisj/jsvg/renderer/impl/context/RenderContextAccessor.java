@@ -62,6 +62,15 @@ public final class RenderContextAccessor {
         RenderContext setupInnerViewRenderContext(@NotNull ViewBox viewBox,
                 @NotNull RenderContext context, boolean inheritAttributes);
 
+        @NotNull
+        PaintContext paintContext(@NotNull RenderContext context);
+
+        @NotNull
+        MeasurableFontSpec fontSpec(@NotNull RenderContext context);
+
+        @Nullable
+        ContextElementAttributes contextElementAttributes(@NotNull RenderContext context);
+
         @NotNull
         StrokeContext strokeContext(@NotNull RenderContext context);
 
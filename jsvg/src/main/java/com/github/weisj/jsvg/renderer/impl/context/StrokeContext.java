@@ -22,6 +22,7 @@
 package com.github.weisj.jsvg.renderer.impl.context;
 
 import java.util.Arrays;
+import java.util.Objects;
 
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -35,6 +36,7 @@ import com.github.weisj.jsvg.attributes.value.LengthValue;
 import com.github.weisj.jsvg.attributes.value.PercentageDimension;
 import com.github.weisj.jsvg.geometry.size.Length;
 import com.github.weisj.jsvg.geometry.size.Unit;
+import com.github.weisj.jsvg.parser.impl.AttributeKey;
 import com.github.weisj.jsvg.parser.impl.AttributeNode;
 
 public final class StrokeContext {
@@ -98,15 +100,36 @@ public final class StrokeContext {
 
     public static @NotNull StrokeContext parse(@NotNull AttributeNode attributeNode) {
         return new StrokeContext(
-                attributeNode.getLength("stroke-width", PercentageDimension.LENGTH, Inherited.YES, Animatable.YES),
-                attributeNode.getEnumNullable("stroke-linecap", LineCap.class),
-                attributeNode.getEnumNullable("stroke-linejoin", LineJoin.class),
-                attributeNode.getNonNegativeFloat("stroke-miterlimit", Length.UNSPECIFIED_RAW),
-                attributeNode.getLengthList("stroke-dasharray", null, PercentageDimension.LENGTH),
-                attributeNode.getLength("stroke-dashoffset", PercentageDimension.CUSTOM,
+                attributeNode.getLength(AttributeKey.STROKE_WIDTH, PercentageDimension.LENGTH,
+                        Inherited.YES, Animatable.YES),
+                attributeNode.getEnumNullable(AttributeKey.STROKE_LINECAP, LineCap.class),
+                attributeNode.getEnumNullable(AttributeKey.STROKE_LINEJOIN, LineJoin.class),
+                attributeNode.getNonNegativeFloat(AttributeKey.STROKE_MITERLIMIT, Length.UNSPECIFIED_RAW),
+                attributeNode.getLengthList(AttributeKey.STROKE_DASHARRAY, null, PercentageDimension.LENGTH),
+                attributeNode.getLength(AttributeKey.STROKE_DASHOFFSET, PercentageDimension.CUSTOM,
                         Inherited.YES, Animatable.YES));
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof StrokeContext)) return false;
+        StrokeContext that = (StrokeContext) o;
+        return Float.compare(miterLimit, that.miterLimit) == 0
+                && Objects.equals(strokeWidth, that.strokeWidth)
+                && lineCap == that.lineCap
+                && lineJoin == that.lineJoin
+                && Arrays.equals(dashPattern, that.dashPattern)
+                && Objects.equals(dashOffset, that.dashOffset);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(strokeWidth, lineCap, lineJoin, miterLimit, dashOffset);
+        result = 31 * result + Arrays.hashCode(dashPattern);
+        return result;
+    }
+
     @Override
     public String toString() {
         return "StrokeContext{" +
@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.renderer.output.impl;
+
+import java.awt.*;
+import java.awt.geom.Area;
+import java.awt.geom.Path2D;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Collects the shapes painted to a {@link ShapeOutput}. Shapes are only merged once the result is requested, either
+ * as a plain outline, which appends them, or as their exact union.
+ */
+public final class ShapeAccumulator {
+    private final @NotNull List<@NotNull Shape> shapes = new ArrayList<>();
+
+    void add(@NotNull Shape shape) {
+        shapes.add(shape);
+    }
+
+    /**
+     * The outline of all shapes. Overlapping shapes aren't merged, but the path covers exactly the union of the shapes
+     * when filled using {@link Path2D#WIND_NON_ZERO}.
+     *
+     * @return the outline.
+     */
+    public @NotNull Path2D outline() {
+        Path2D.Double outline = new Path2D.Double(Path2D.WIND_NON_ZERO);
+        for (Shape shape : shapes) {
+            // Areas are oriented consistently. Appending them as is ensures overlapping shapes can't cancel out.
+            outline.append(new Area(shape), false);
+        }
+        return outline;
+    }
+
+    /**
+     * The exact union of all shapes.
+     *
+     * @return the union.
+     */
+    public @NotNull Area union() {
+        List<Area> areas = new ArrayList<>(shapes.size());
+        for (Shape shape : shapes) {
+            Area area = new Area(shape);
+            if (!area.isEmpty()) areas.add(area);
+        }
+        if (areas.isEmpty()) return new Area();
+        // Merging neighbours pairwise keeps the operands of every union small. Adding all shapes to a single area
+        // instead repeatedly processes the ever-growing result.
+        int count = areas.size();
+        while (count > 1) {
+            int merged = 0;
+            for (int i = 0; i < count; i += 2) {
+                Area area = areas.get(i);
+                if (i + 1 < count) area.add(areas.get(i + 1));
+                areas.set(merged++, area);
+            }
+            count = merged;
+        }
+        return areas.get(0);
+    }
+}
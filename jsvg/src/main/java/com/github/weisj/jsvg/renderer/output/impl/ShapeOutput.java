@@ -40,23 +40,32 @@ import com.github.weisj.jsvg.util.ShapeUtil;
 
 public class ShapeOutput implements Output {
 
-    private final @NotNull Area accumulatorShape;
+    private final @NotNull Consumer<@NotNull Shape> accumulator;
     private @NotNull AffineTransform currentTransform;
     private @NotNull Stroke currentStroke;
     private @Nullable Shape currentClip;
 
     public ShapeOutput(@NotNull Area area) {
-        accumulatorShape = area;
+        this(s -> area.add(new Area(s)));
+    }
+
+    public ShapeOutput(@NotNull ShapeAccumulator accumulator) {
+        this(accumulator::add);
+    }
+
+    private ShapeOutput(@NotNull Consumer<@NotNull Shape> accumulator) {
+        this.accumulator = accumulator;
         currentStroke = new BasicStroke();
         currentTransform = new AffineTransform();
         currentClip = null;
     }
 
     private ShapeOutput(@NotNull ShapeOutput parent) {
-        accumulatorShape = parent.accumulatorShape;
+        accumulator = parent.accumulator;
         currentStroke = parent.currentStroke;
         currentTransform = new AffineTransform(parent.currentTransform);
-        currentClip = parent.currentClip != null ? new Area(parent.currentClip) : null;
+        // Clips are never modified, but replaced, hence they can be shared.
+        currentClip = parent.currentClip;
     }
 
     private void addShape(@NotNull Shape shape) {
@@ -64,7 +73,7 @@ public class ShapeOutput implements Output {
         Shape s = currentClip != null
                 ? ShapeUtil.intersect(currentClip, shape, true, false)
                 : shape;
-        accumulatorShape.add(new Area(s));
+        accumulator.accept(s);
     }
 
     private void append(@NotNull Shape shape, @NotNull AffineTransform transform) {
@@ -247,13 +256,13 @@ public class ShapeOutput implements Output {
         private final @NotNull ShapeOutput shapeOutput;
         private final @NotNull Stroke oldStroke;
         private final @NotNull AffineTransform oldTransform;
-        private final @Nullable Area oldClip;
+        private final @Nullable Shape oldClip;
 
         private ShapeOutputSafeState(@NotNull ShapeOutput shapeOutput) {
             this.shapeOutput = shapeOutput;
             this.oldStroke = shapeOutput.stroke();
             this.oldTransform = shapeOutput.transform();
-            this.oldClip = shapeOutput.currentClip != null ? new Area(shapeOutput.currentClip) : null;
+            this.oldClip = shapeOutput.currentClip;
         }
 
         @Override
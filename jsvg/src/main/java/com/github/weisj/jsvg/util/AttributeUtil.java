@@ -33,6 +33,7 @@ import com.github.weisj.jsvg.attributes.Inherited;
 import com.github.weisj.jsvg.attributes.value.LengthValue;
 import com.github.weisj.jsvg.attributes.value.PercentageDimension;
 import com.github.weisj.jsvg.geometry.size.Length;
+import com.github.weisj.jsvg.parser.impl.AttributeKey;
 import com.github.weisj.jsvg.parser.impl.AttributeNode;
 
 public final class AttributeUtil {
@@ -56,6 +57,14 @@ public final class AttributeUtil {
             @NotNull String xAttr, @NotNull String yAttr,
             @NotNull Length fallback, Inherited inherited,
             @NotNull Function<@NotNull LengthValue, @Nullable LengthValue> validator) {
+        return parseAxisPair(node, AttributeKey.of(xAttr), AttributeKey.of(yAttr), fallback, inherited, validator);
+    }
+
+    public static @NotNull AxisPair parseAxisPair(
+            @NotNull AttributeNode node,
+            @NotNull AttributeKey xAttr, @NotNull AttributeKey yAttr,
+            @NotNull Length fallback, Inherited inherited,
+            @NotNull Function<@NotNull LengthValue, @Nullable LengthValue> validator) {
         LengthValue initialRx =
                 node.getLength(xAttr, PercentageDimension.WIDTH, Length.UNSPECIFIED,
                         inherited, Animatable.NO);
@@ -76,9 +85,9 @@ public final class AttributeUtil {
             // First try if either is specified through animation.
             // Then fallback to the other if not.
             rx = notNullOrElse(
-                    node.getAnimatedLength(xAttr, fallback, PercentageDimension.WIDTH), initialRx);
+                    node.getAnimatedLength(xAttr.name(), fallback, PercentageDimension.WIDTH), initialRx);
             ry = notNullOrElse(
-                    node.getAnimatedLength(yAttr, fallback, PercentageDimension.HEIGHT), initialRy);
+                    node.getAnimatedLength(yAttr.name(), fallback, PercentageDimension.HEIGHT), initialRy);
             if (rx == Length.UNSPECIFIED) {
                 rx = ry;
             } else if (ry == Length.UNSPECIFIED) {
@@ -88,22 +97,22 @@ public final class AttributeUtil {
             // rx is unspecified, but ry is specified.
             // Use ry as value for rx.
             ry = notNullOrElse(
-                    node.getAnimatedLength(yAttr, initialRy, PercentageDimension.HEIGHT), initialRy);
+                    node.getAnimatedLength(yAttr.name(), initialRy, PercentageDimension.HEIGHT), initialRy);
             rx = notNullOrElse(
-                    node.getAnimatedLength(xAttr, ry, PercentageDimension.WIDTH), ry);
+                    node.getAnimatedLength(xAttr.name(), ry, PercentageDimension.WIDTH), ry);
         } else if (initialRy == Length.UNSPECIFIED) {
             // ry is unspecified, but rx is specified.
             // Use rx as value for ry.
             rx = notNullOrElse(
-                    node.getAnimatedLength(xAttr, initialRx, PercentageDimension.WIDTH), initialRx);
+                    node.getAnimatedLength(xAttr.name(), initialRx, PercentageDimension.WIDTH), initialRx);
             ry = notNullOrElse(
-                    node.getAnimatedLength(yAttr, rx, PercentageDimension.HEIGHT), rx);
+                    node.getAnimatedLength(yAttr.name(), rx, PercentageDimension.HEIGHT), rx);
         } else {
             // Both rx and ry are specified.
             rx = notNullOrElse(
-                    node.getAnimatedLength(xAttr, initialRx, PercentageDimension.WIDTH), initialRx);
+                    node.getAnimatedLength(xAttr.name(), initialRx, PercentageDimension.WIDTH), initialRx);
             ry = notNullOrElse(
-                    node.getAnimatedLength(yAttr, initialRy, PercentageDimension.HEIGHT), initialRy);
+                    node.getAnimatedLength(yAttr.name(), initialRy, PercentageDimension.HEIGHT), initialRy);
         }
 
         if (rx == Length.UNSPECIFIED) rx = fallback;
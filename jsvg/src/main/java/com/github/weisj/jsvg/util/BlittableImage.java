@@ -81,18 +81,8 @@ public final class BlittableImage {
             @NotNull RenderContext context, @Nullable Rectangle2D clipBounds,
             @NotNull Rectangle2D bounds, @NotNull Rectangle2D objectBounds, @NotNull UnitType contentUnits,
             @NotNull RenderContext imageContext) {
-        Rectangle2D boundsInDeviceSpace = GeometryUtil.userBoundsToDeviceBounds(context, bounds);
-
-        if (clipBounds != null) {
-            Rectangle2D clipBoundsInDeviceSpace = GeometryUtil.userBoundsToDeviceBounds(context, clipBounds);
-            Rectangle2D.intersect(clipBoundsInDeviceSpace, boundsInDeviceSpace, boundsInDeviceSpace);
-        }
-
-        if (ShapeUtil.isInvalidArea(boundsInDeviceSpace)) return null;
-
-        // Convert to integer coordinates to ensure we don't cut off any pixels due to rounding errors.
-        // Increase size by 1 to ensure we don't cut off any pixels used for anti-aliasing.
-        GeometryUtil.adjustForAliasing(boundsInDeviceSpace);
+        Rectangle2D boundsInDeviceSpace = imageBoundsInDeviceSpace(context, clipBounds, bounds);
+        if (boundsInDeviceSpace == null) return null;
 
         // Due to aliasing adjustments this cannot just be bounds intersected clipBounds.
         Rectangle2D adjustedBoundsInUserSpace = GeometryUtil.convertBounds(context, boundsInDeviceSpace,
@@ -120,6 +110,30 @@ public final class BlittableImage {
         return new BlittableImage(img, imageContext, boundsInDeviceSpace, adjustedBoundsInUserSpace);
     }
 
+    /**
+     * The pixel aligned bounds an image created for the given bounds would occupy on the root surface.
+     *
+     * @param context the render context.
+     * @param clipBounds the clip in user space.
+     * @param bounds the bounds in user space.
+     * @return the bounds in device space or null if they are empty.
+     */
+    public static @Nullable Rectangle2D imageBoundsInDeviceSpace(@NotNull RenderContext context,
+            @Nullable Rectangle2D clipBounds, @NotNull Rectangle2D bounds) {
+        Rectangle2D boundsInDeviceSpace = GeometryUtil.userBoundsToDeviceBounds(context, bounds);
+
+        if (clipBounds != null) {
+            Rectangle2D clipBoundsInDeviceSpace = GeometryUtil.userBoundsToDeviceBounds(context, clipBounds);
+            Rectangle2D.intersect(clipBoundsInDeviceSpace, boundsInDeviceSpace, boundsInDeviceSpace);
+        }
+
+        if (ShapeUtil.isInvalidArea(boundsInDeviceSpace)) return null;
+
+        // Convert to integer coordinates to ensure we don't cut off any pixels due to rounding errors.
+        // Increase size by 1 to ensure we don't cut off any pixels used for anti-aliasing.
+        return GeometryUtil.adjustForAliasing(boundsInDeviceSpace);
+    }
+
     public @NotNull RenderContext context() {
         return context;
     }
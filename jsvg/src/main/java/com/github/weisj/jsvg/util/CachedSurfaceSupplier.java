@@ -21,27 +21,37 @@
  */
 package com.github.weisj.jsvg.util;
 
-import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
-import java.lang.ref.SoftReference;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import com.github.weisj.jsvg.renderer.RenderContext;
 import com.github.weisj.jsvg.renderer.SVGRenderingHints;
+import com.github.weisj.jsvg.renderer.SurfacePool;
+import com.github.weisj.jsvg.renderer.SurfaceStatistics;
+import com.github.weisj.jsvg.renderer.impl.SurfaceScope;
 import com.github.weisj.jsvg.renderer.output.Output;
 
 public class CachedSurfaceSupplier {
 
     private final @NotNull BlittableImage.BufferSurfaceSupplier surfaceSupplier;
-    private final @NotNull ThreadLocal<Cache> cache = ThreadLocal.withInitial(Cache::new);
-
-    public CachedSurfaceSupplier(BlittableImage.@NotNull BufferSurfaceSupplier surfaceSupplier) {
+    private final int imageType;
+    private final @NotNull Map<BufferedImage, SurfacePool.Lease> issuedLeases =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Creates a new supplier.
+     *
+     * @param surfaceSupplier the supplier used if the cache isn't used.
+     * @param imageType the {@link BufferedImage} type of the images created by the supplier.
+     */
+    public CachedSurfaceSupplier(@NotNull BlittableImage.BufferSurfaceSupplier surfaceSupplier, int imageType) {
         this.surfaceSupplier = surfaceSupplier;
+        this.imageType = imageType;
     }
 
     public boolean useCache(@NotNull Output output, @NotNull RenderContext renderContext) {
@@ -51,46 +61,34 @@ public class CachedSurfaceSupplier {
     }
 
     @NotNull
-    public BlittableImage.BufferSurfaceSupplier surfaceSupplier(boolean useCache) {
-        if (!useCache) {
+    public BlittableImage.BufferSurfaceSupplier surfaceSupplier(@NotNull Output output, boolean useCache) {
+        SurfacePool pool = useCache ? SurfaceScope.surfacePool(output) : null;
+        if (pool == null) {
             return surfaceSupplier;
         }
-        return this::createBufferSurface;
-    }
-
-    public @NotNull BufferedImage createBufferSurface(@Nullable AffineTransform at, double width, double height) {
-        if (at != null) {
-            throw new UnsupportedOperationException("CachedSurfaceSupplier does not support transformations");
-        }
-        Cache c = cache.get();
-        Iterator<CachedImage> it = c.images.iterator();
-        while (it.hasNext()) {
-            CachedImage cachedImage = it.next();
-            BufferedImage img = cachedImage.image.get();
-            if (img == null) {
-                it.remove();
-                continue;
-            }
-            if (!cachedImage.inUse && img.getWidth() >= width && img.getHeight() >= height) {
-                cachedImage.inUse = true;
-                c.lastIssuedCleaner = new ResourceCleaner(null, cachedImage::free);
-                return img.getSubimage(0, 0, (int) width, (int) height);
+        SurfaceStatistics statistics = SurfaceScope.surfaceStatistics(output);
+        return (at, width, height) -> {
+            if (at != null) {
+                throw new UnsupportedOperationException("CachedSurfaceSupplier does not support transformations");
             }
-        }
-        BufferedImage image = surfaceSupplier.createBufferSurface(null, width, height);
-        CachedImage cachedImage = new CachedImage(image);
-        c.images.add(cachedImage);
-        c.lastIssuedCleaner = new ResourceCleaner(null, cachedImage::free);
-        return image;
+            SurfacePool.Lease lease = pool.acquire(
+                    (int) Math.ceil(width), (int) Math.ceil(height), imageType, statistics);
+            issuedLeases.put(lease.image(), lease);
+            return lease.image();
+        };
     }
 
-    public @Nullable ResourceCleaner resourceCleaner(Object owner, boolean useCache) {
-        if (!useCache) return null;
-        ResourceCleaner cleaner = cache.get().lastIssuedCleaner;
-        if (cleaner != null) {
-            return cleaner.withOwner(owner);
-        }
-        return null;
+    /**
+     * Creates the cleaner returning the given image to its pool.
+     *
+     * @param owner the owner which is allowed to clean the resource.
+     * @param image an image created by the supplier.
+     * @return the cleaner or null if the image doesn't need to be cleaned.
+     */
+    public @Nullable ResourceCleaner resourceCleaner(Object owner, @NotNull BufferedImage image) {
+        SurfacePool.Lease lease = issuedLeases.remove(image);
+        if (lease == null) return null;
+        return new ResourceCleaner(owner, lease::release);
     }
 
     public static class ResourceCleaner {
@@ -111,27 +109,5 @@ public class CachedSurfaceSupplier {
                 cleaner = null;
             }
         }
-
-        private @NotNull ResourceCleaner withOwner(Object owner) {
-            return new ResourceCleaner(owner, cleaner);
-        }
-    }
-
-    private static class Cache {
-        private final List<CachedImage> images = new ArrayList<>();
-        private @Nullable ResourceCleaner lastIssuedCleaner;
-    }
-
-    private static class CachedImage {
-        private final @NotNull SoftReference<BufferedImage> image;
-        private boolean inUse = true;
-
-        private CachedImage(@NotNull BufferedImage image) {
-            this.image = new SoftReference<>(image);
-        }
-
-        private void free() {
-            this.inUse = false;
-        }
     }
 }
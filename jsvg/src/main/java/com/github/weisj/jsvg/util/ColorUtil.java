@@ -35,6 +35,27 @@ public final class ColorUtil {
         return (x + (x >> 8)) >> 8;
     }
 
+    public static int premultiply(int argb) {
+        int a = argb >>> 24;
+        if (a == 0xFF) return argb;
+        if (a == 0) return 0;
+        int r = div255(((argb >> 16) & 0xFF) * a);
+        int g = div255(((argb >> 8) & 0xFF) * a);
+        int b = div255((argb & 0xFF) * a);
+        return (a << 24) | (r << 16) | (g << 8) | b;
+    }
+
+    public static int unpremultiply(int argb) {
+        int a = argb >>> 24;
+        if (a == 0xFF) return argb;
+        if (a == 0) return 0;
+        int half = a >> 1;
+        int r = Math.min(255, (((argb >> 16) & 0xFF) * 255 + half) / a);
+        int g = Math.min(255, (((argb >> 8) & 0xFF) * 255 + half) / a);
+        int b = Math.min(255, ((argb & 0xFF) * 255 + half) / a);
+        return (a << 24) | (r << 16) | (g << 8) | b;
+    }
+
     public static int computeLuminance(int r, int g, int b) {
         return toRgbRange(0.2125 * r + 0.7164 * g + 0.0712 * b);
     }
@@ -258,6 +279,40 @@ public final class ColorUtil {
                 (b & 0xFF);
     }
 
+    public static int sRGBtoLinearRGBPre(int argb) {
+        int a = argb >>> 24;
+        int[] table = SRGBtoLinearRGBPre[a];
+        int r = table[(argb >> 16) & 0xff];
+        int g = table[(argb >> 8) & 0xff];
+        int b = table[argb & 0xff];
+        return (a << 24) | ((r & 0xFF) << 16) | ((g & 0xFF) << 8) | (b & 0xFF);
+    }
+
+    public static int linearRGBtoSRGBPre(int argb) {
+        int a = argb >>> 24;
+        int[] table = LinearRGBtoSRGBPre[a];
+        int r = table[(argb >> 16) & 0xff];
+        int g = table[(argb >> 8) & 0xff];
+        int b = table[argb & 0xff];
+        return (a << 24) | ((r & 0xFF) << 16) | ((g & 0xFF) << 8) | (b & 0xFF);
+    }
+
+    static int @NotNull [] sRGBtoLinearRGBTable() {
+        return SRGBtoLinearRGB;
+    }
+
+    static int @NotNull [] linearRGBtoSRGBTable() {
+        return LinearRGBtoSRGB;
+    }
+
+    static int @NotNull [] @NotNull [] sRGBtoLinearRGBPreTable() {
+        return SRGBtoLinearRGBPre;
+    }
+
+    static int @NotNull [] @NotNull [] linearRGBtoSRGBPreTable() {
+        return LinearRGBtoSRGBPre;
+    }
+
     public static int linearRGBtoSRGBBand(int value) {
         return LinearRGBtoSRGB[value];
     }
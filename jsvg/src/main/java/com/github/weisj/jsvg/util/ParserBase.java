@@ -26,6 +26,12 @@ import org.jetbrains.annotations.NotNull;
 import com.github.weisj.jsvg.geometry.size.Length;
 
 public class ParserBase {
+    private static final int MAX_EXACT_FLOAT_INT = 1 << 24;
+    // All powers of ten up to 10^10 are exactly representable as floats.
+    private static final float[] FLOAT_POWERS_OF_TEN = {
+            1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+
     protected final @NotNull String input;
     private final int inputLength;
     private int index;
@@ -59,13 +65,8 @@ public class ParserBase {
     }
 
     private String nextNumberString() {
-        int start = index;
-        NumberCharState state = new NumberCharState();
-        while (hasNext() && isValidNumberChar(peek(), state)) {
-            consume();
-        }
-        int end = index;
-        return input.substring(start, end);
+        int start = scanNumber();
+        return input.substring(start, index);
     }
 
     protected float nextFloatOrUnspecified() {
@@ -74,8 +75,10 @@ public class ParserBase {
     }
 
     public float nextFloat() throws NumberFormatException {
-        int start = index;
-        String token = nextNumberString();
+        int start = scanNumber();
+        float value = parseSimpleFloat(start, index);
+        if (!Float.isNaN(value)) return value;
+        String token = input.substring(start, index);
         try {
             return Float.parseFloat(token);
         } catch (NumberFormatException e) {
@@ -103,39 +106,114 @@ public class ParserBase {
         return "(index=" + index + " in input=" + input + ")";
     }
 
-    // This only checks for the rough structure of a number as we need to know
-    // when to separate the next token.
-    // Explicit parsing is done by Float#parseFloat.
-    private boolean isValidNumberChar(char c, NumberCharState state) {
-        boolean valid = '0' <= c && c <= '9';
-        if (valid && state.iteration == 1 && input.charAt(index - 1) == '0') {
-            // Break up combined zeros into multiple numbers.
-            return false;
-        }
-        state.signAllowed = state.signAllowed && !valid;
-        if (state.dotAllowed && !valid) {
-            valid = c == '.';
-            state.dotAllowed = !valid;
-        }
-        if (state.signAllowed && !valid) {
-            valid = c == '+' || c == '-';
-            state.signAllowed = valid;
-        }
-        if (state.exponentAllowed && !valid) {
-            // Possible exponent notation. Needs at least one preceding number
-            valid = c == 'e' || c == 'E';
-            state.exponentAllowed = !valid;
-            state.signAllowed = valid;
-            state.dotAllowed = !valid;
-        }
-        state.iteration++;
-        return valid;
-    }
-
-    private static final class NumberCharState {
+    /**
+     * Advances the index over the next number token.
+     * <p>
+     * This only checks for the rough structure of a number as we need to know when to separate the next token.
+     * Explicit parsing is done by {@link #parseSimpleFloat(int, int)} or {@link Float#parseFloat(String)}.
+     *
+     * @return the start index of the token.
+     */
+    private int scanNumber() {
+        int start = index;
         int iteration = 0;
         boolean dotAllowed = true;
         boolean signAllowed = true;
         boolean exponentAllowed = true;
+        while (hasNext()) {
+            char c = peek();
+            boolean valid = '0' <= c && c <= '9';
+            if (valid && iteration == 1 && input.charAt(index - 1) == '0') {
+                // Break up combined zeros into multiple numbers.
+                break;
+            }
+            signAllowed = signAllowed && !valid;
+            if (dotAllowed && !valid) {
+                valid = c == '.';
+                dotAllowed = !valid;
+            }
+            if (signAllowed && !valid) {
+                valid = c == '+' || c == '-';
+                signAllowed = valid;
+            }
+            if (exponentAllowed && !valid) {
+                // Possible exponent notation. Needs at least one preceding number
+                valid = c == 'e' || c == 'E';
+                exponentAllowed = !valid;
+                signAllowed = valid;
+                dotAllowed = !valid;
+            }
+            iteration++;
+            if (!valid) break;
+            consume();
+        }
+        return start;
+    }
+
+    /**
+     * Parses the common case of a decimal number with at most 8 significant digits and a small decimal exponent
+     * without any allocations. In this case the significand and the power of ten are both exactly representable as
+     * floats, hence a single multiplication or division yields the correctly rounded result, which is the same value
+     * {@link Float#parseFloat(String)} produces.
+     *
+     * @return the parsed value or {@link Float#NaN} if the token isn't of this simple form.
+     */
+    private float parseSimpleFloat(int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (input.charAt(i) == '-' || input.charAt(i) == '+')) {
+            negative = input.charAt(i) == '-';
+            i++;
+        }
+        int significand = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        boolean hasDigits = false;
+        for (; i < end; i++) {
+            int digit = input.charAt(i) - '0';
+            if (digit < 0 || digit > 9) break;
+            hasDigits = true;
+            if (significand == 0 && digit == 0) continue;
+            if (++significantDigits > 8) return Float.NaN;
+            significand = 10 * significand + digit;
+        }
+        if (i < end && input.charAt(i) == '.') {
+            for (i++; i < end; i++) {
+                int digit = input.charAt(i) - '0';
+                if (digit < 0 || digit > 9) break;
+                hasDigits = true;
+                exponent--;
+                if (significand == 0 && digit == 0) continue;
+                if (++significantDigits > 8) return Float.NaN;
+                significand = 10 * significand + digit;
+            }
+        }
+        if (!hasDigits) return Float.NaN;
+        if (i < end) {
+            char c = input.charAt(i);
+            if (c != 'e' && c != 'E') return Float.NaN;
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (input.charAt(i) == '-' || input.charAt(i) == '+')) {
+                negativeExponent = input.charAt(i) == '-';
+                i++;
+            }
+            if (i == end) return Float.NaN;
+            int explicitExponent = 0;
+            for (; i < end; i++) {
+                int digit = input.charAt(i) - '0';
+                if (digit < 0 || digit > 9 || explicitExponent > FLOAT_POWERS_OF_TEN.length) return Float.NaN;
+                explicitExponent = 10 * explicitExponent + digit;
+            }
+            exponent += negativeExponent ? -explicitExponent : explicitExponent;
+        }
+        if (significand == 0) return negative ? -0f : 0f;
+        if (significand > MAX_EXACT_FLOAT_INT || Math.abs(exponent) >= FLOAT_POWERS_OF_TEN.length) {
+            return Float.NaN;
+        }
+        float value = exponent >= 0
+                ? significand * FLOAT_POWERS_OF_TEN[exponent]
+                : significand / FLOAT_POWERS_OF_TEN[-exponent];
+        return negative ? -value : value;
     }
 }
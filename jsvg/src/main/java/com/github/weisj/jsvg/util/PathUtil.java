@@ -33,8 +33,6 @@ import com.github.weisj.jsvg.attributes.FillRule;
 import com.github.weisj.jsvg.attributes.value.ConstantValue;
 import com.github.weisj.jsvg.geometry.FillRuleAwareAWTSVGShape;
 import com.github.weisj.jsvg.geometry.SVGShape;
-import com.github.weisj.jsvg.geometry.path.BuildHistory;
-import com.github.weisj.jsvg.geometry.path.PathCommand;
 import com.github.weisj.jsvg.geometry.path.PathParser;
 
 public final class PathUtil {
@@ -54,25 +52,20 @@ public final class PathUtil {
     private PathUtil() {}
 
     public static @NotNull SVGShape parseFromPathData(@NotNull String data, FillRule fillRule) {
-        PathCommand[] pathCommands = new PathParser(data).parsePathCommand();
-
-        int nodeCount = 2;
-        for (PathCommand pathCommand : pathCommands) {
-            nodeCount += pathCommand.nodeCount() - 1;
-        }
-
-        Path2D path = new Path2D.Float(fillRule.awtWindingRule, nodeCount);
-        BuildHistory hist = new BuildHistory();
-
-        for (PathCommand pathCommand : pathCommands) {
-            pathCommand.appendPath(path, hist);
-        }
+        // Rough guess of the number of coordinates to avoid repeated growing of the path.
+        Path2D path = new Path2D.Float(fillRule.awtWindingRule, Math.max(2, data.length() / 8));
+        new PathParser(data).parsePathInto(path);
 
         trimPathToSize(path);
 
         return new FillRuleAwareAWTSVGShape(new ConstantValue<>(path));
     }
 
+    public static @NotNull SVGShape fromPath(@NotNull Path2D path, FillRule fillRule) {
+        path.setWindingRule(fillRule.awtWindingRule);
+        return new FillRuleAwareAWTSVGShape(new ConstantValue<>(path));
+    }
+
     public static @NotNull Path2D setPolyLine(@Nullable Path2D path, float @NotNull [] points, boolean closed) {
         Path2D p;
         if (path == null) {
@@ -0,0 +1,292 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.util;
+
+import static com.github.weisj.jsvg.util.ColorUtil.div255;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import com.github.weisj.jsvg.attributes.filter.BlendMode;
+
+/**
+ * Row based pixel kernels operating on packed {@code INT_ARGB} data. This class contains the scalar
+ * implementations. On Java 21 and later a vectorized implementation using the {@code jdk.incubator.vector} module
+ * is picked up from the versioned part of the jar if the module is available, i.e. the JVM has been started with
+ * {@code --add-modules jdk.incubator.vector}. It can be disabled by setting the system property
+ * {@code jsvg.vectorKernels} to {@code false}.
+ */
+@ApiStatus.Internal
+public class PixelKernels {
+    private static final String VECTOR_KERNELS_CLASS = "com.github.weisj.jsvg.util.VectorPixelKernels";
+
+    private static final PixelKernels SCALAR = new PixelKernels();
+    private static final PixelKernels INSTANCE = select();
+
+    PixelKernels() {}
+
+    private static @NotNull PixelKernels select() {
+        if (!Boolean.parseBoolean(System.getProperty("jsvg.vectorKernels", "true"))) return SCALAR;
+        try {
+            Class<?> kernelsClass = Class.forName(VECTOR_KERNELS_CLASS);
+            return (PixelKernels) kernelsClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            // Either running on a JVM older than 21 or the vector module isn't available.
+            return SCALAR;
+        }
+    }
+
+    /**
+     * The kernels used for rendering. These are the vectorized kernels if supported by the platform.
+     *
+     * @return the kernels.
+     */
+    public static @NotNull PixelKernels get() {
+        return INSTANCE;
+    }
+
+    /**
+     * The scalar kernels. All other implementations produce the same results.
+     *
+     * @return the scalar kernels.
+     */
+    public static @NotNull PixelKernels scalar() {
+        return SCALAR;
+    }
+
+    public boolean isVectorized() {
+        return false;
+    }
+
+    /**
+     * Applies a 4x5 color matrix to non-premultiplied pixels in place. The rows of the matrix compute red, green,
+     * blue and alpha from the red, green, blue and alpha components and a constant offset in the range [0, 255].
+     *
+     * @param pixels the pixels.
+     * @param offset the index of the first pixel.
+     * @param length the number of pixels.
+     * @param matrix the color matrix in row-major order.
+     */
+    public void colorMatrix(int @NotNull [] pixels, int offset, int length, double @NotNull [] matrix) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            pixels[i] = colorMatrix(pixels[i], matrix);
+        }
+    }
+
+    public static int colorMatrix(int argb, double @NotNull [] m) {
+        int a = argb >>> 24;
+        int r = (argb >> 16) & 0xFF;
+        int g = (argb >> 8) & 0xFF;
+        int b = argb & 0xFF;
+        int nr = ColorUtil.toRgbRange(m[0] * r + m[1] * g + m[2] * b + m[3] * a + m[4] * 255);
+        int ng = ColorUtil.toRgbRange(m[5] * r + m[6] * g + m[7] * b + m[8] * a + m[9] * 255);
+        int nb = ColorUtil.toRgbRange(m[10] * r + m[11] * g + m[12] * b + m[13] * a + m[14] * 255);
+        int na = ColorUtil.toRgbRange(m[15] * r + m[16] * g + m[17] * b + m[18] * a + m[19] * 255);
+        return (na << 24) | (nr << 16) | (ng << 8) | nb;
+    }
+
+    public void sRGBtoLinearRGB(int @NotNull [] pixels, int offset, int length) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            pixels[i] = ColorUtil.sRGBtoLinearRGB(pixels[i]);
+        }
+    }
+
+    public void linearRGBtoSRGB(int @NotNull [] pixels, int offset, int length) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            pixels[i] = ColorUtil.linearRGBtoSRGB(pixels[i]);
+        }
+    }
+
+    public void sRGBtoLinearRGBPre(int @NotNull [] pixels, int offset, int length) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            pixels[i] = ColorUtil.sRGBtoLinearRGBPre(pixels[i]);
+        }
+    }
+
+    public void linearRGBtoSRGBPre(int @NotNull [] pixels, int offset, int length) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            pixels[i] = ColorUtil.linearRGBtoSRGBPre(pixels[i]);
+        }
+    }
+
+    /**
+     * Multiplies the alpha component of each pixel with the corresponding mask value. The color components are
+     * left as is.
+     *
+     * @param pixels the pixels.
+     * @param offset the index of the first pixel.
+     * @param mask the mask values interpreted as unsigned bytes.
+     * @param maskOffset the index of the first mask value.
+     * @param length the number of pixels.
+     */
+    public void multiplyAlpha(int @NotNull [] pixels, int offset, byte @NotNull [] mask, int maskOffset,
+            int length) {
+        for (int i = 0; i < length; i++) {
+            int argb = pixels[offset + i];
+            int alpha = div255((mask[maskOffset + i] & 0xFF) * (argb >>> 24));
+            pixels[offset + i] = (alpha << 24) | (argb & 0x00FFFFFF);
+        }
+    }
+
+    /**
+     * Blurs the given columns with a box filter of the given size. The source and destination may be the same.
+     */
+    public void boxBlurColumns(int @NotNull [] srcPixels, int srcOff, int srcScanStride,
+            int @NotNull [] dstPixels, int dstOff, int dstScanStride,
+            int h, int skipY, int boxSize, int loc, int fromX, int toX) {
+        /*
+         * NOTICE: This method contains adapted code from the Batik project:
+         * https://xmlgraphics.apache.org/batik/ by the Apache Software Foundation. It is licensed under the
+         * Apache License 2.0 http://www.apache.org/licenses/LICENSE-2.0
+         */
+        int[] buffer = new int[boxSize];
+        int curr, prev;
+
+        final int scale = (1 << 24) / boxSize;
+
+        for (int x = fromX; x < toX; x++) {
+            int sp = srcOff + x;
+            int dp = dstOff + x;
+            int colEnd = sp + (h - skipY) * srcScanStride;
+
+            int k = 0;
+            int sumA = 0;
+            int sumR = 0;
+            int sumG = 0;
+            int sumB = 0;
+
+            sp += skipY * srcScanStride;
+            int end = sp + (boxSize * srcScanStride);
+
+            while (sp < end) {
+                curr = buffer[k] = srcPixels[sp];
+                sumA += (curr >>> 24);
+                sumR += (curr >> 16) & 0xFF;
+                sumG += (curr >> 8) & 0xFF;
+                sumB += curr & 0xFF;
+                k++;
+                sp += srcScanStride;
+            }
+
+            dp += (skipY + loc) * dstScanStride;
+            prev = dstPixels[dp] = (((sumA * scale) & 0xFF000000) |
+                    (((sumR * scale) & 0xFF000000) >>> 8) |
+                    (((sumG * scale) & 0xFF000000) >>> 16) |
+                    (((sumB * scale) & 0xFF000000) >>> 24));
+            dp += dstScanStride;
+            k = 0;
+            while (sp < colEnd) {
+                curr = buffer[k];
+                if (curr == srcPixels[sp]) {
+                    dstPixels[dp] = prev;
+                } else {
+                    sumA -= (curr >>> 24);
+                    sumR -= (curr >> 16) & 0xFF;
+                    sumG -= (curr >> 8) & 0xFF;
+                    sumB -= curr & 0xFF;
+
+                    curr = buffer[k] = srcPixels[sp];
+
+                    sumA += (curr >>> 24);
+                    sumR += (curr >> 16) & 0xFF;
+                    sumG += (curr >> 8) & 0xFF;
+                    sumB += curr & 0xFF;
+                    prev = dstPixels[dp] = (((sumA * scale) & 0xFF000000) |
+                            (((sumR * scale) & 0xFF000000) >>> 8) |
+                            (((sumG * scale) & 0xFF000000) >>> 16) |
+                            (((sumB * scale) & 0xFF000000) >>> 24));
+                }
+                k = (k + 1) % boxSize;
+                sp += srcScanStride;
+                dp += dstScanStride;
+            }
+        }
+    }
+
+    public boolean supportsBlend(@NotNull BlendMode mode) {
+        switch (mode) {
+            case Multiply:
+            case Screen:
+            case Darken:
+            case Lighten:
+            case Difference:
+            case Exclusion:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Blends premultiplied source pixels onto premultiplied destination pixels. The result is stored in the
+     * destination.
+     *
+     * @param mode the blend mode. Must be supported as reported by {@link #supportsBlend(BlendMode)}.
+     * @param src the source pixels.
+     * @param dst the destination pixels.
+     * @param offset the index of the first pixel.
+     * @param length the number of pixels.
+     */
+    public void blend(@NotNull BlendMode mode, int @NotNull [] src, int @NotNull [] dst, int offset, int length) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            dst[i] = blend(mode, src[i], dst[i]);
+        }
+    }
+
+    private static int blend(@NotNull BlendMode mode, int src, int dst) {
+        int srcA = src >>> 24;
+        int dstA = dst >>> 24;
+        int srcM = 255 - dstA;
+        int dstM = 255 - srcA;
+        int resultA = srcA + dstA - div255(srcA * dstA);
+        int result = (resultA & 0xFF) << 24;
+        for (int shift = 16; shift >= 0; shift -= 8) {
+            int s = (src >> shift) & 0xFF;
+            int d = (dst >> shift) & 0xFF;
+            int c;
+            switch (mode) {
+                case Multiply:
+                    c = div255(s * srcM + d * dstM + s * d);
+                    break;
+                case Screen:
+                    c = s + d - div255(s * d);
+                    break;
+                case Darken:
+                    c = Math.min(div255(srcM * s) + d, div255(dstM * d) + s);
+                    break;
+                case Lighten:
+                    c = Math.max(div255(srcM * s) + d, div255(dstM * d) + s);
+                    break;
+                case Difference:
+                    c = div255(srcM * s + dstM * d + Math.abs(dstA * s - srcA * d));
+                    break;
+                case Exclusion:
+                    c = div255(srcM * s + dstM * d + dstA * s + srcA * d - 2 * div255(s * d));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported blend mode " + mode);
+            }
+            result |= (c & 0xFF) << shift;
+        }
+        return result;
+    }
+}
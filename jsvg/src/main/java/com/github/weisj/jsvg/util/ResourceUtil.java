@@ -51,6 +51,7 @@ import com.github.weisj.jsvg.parser.resources.impl.SVGResource;
 public final class ResourceUtil {
 
     private static final Logger LOGGER = LogFactory.createLogger(ResourceUtil.class);
+    private static final SVGLoader SVG_LOADER = new SVGLoader();
 
     private ResourceUtil() {}
 
@@ -69,9 +70,8 @@ public final class ResourceUtil {
 
         String path = resourceUri.getPath();
         if (path != null && path.endsWith(".svg")) {
-            SVGLoader loader = new SVGLoader();
             try {
-                SVGDocument imageDocument = loader.load(uri.toURL(), document.loaderContext());
+                SVGDocument imageDocument = SVG_LOADER.load(uri.toURL(), document.loaderContext());
                 if (imageDocument != null) {
                     return new SVGResource(imageDocument);
                 }
@@ -27,7 +27,7 @@ import org.jetbrains.annotations.NotNull;
 
 public final class LazySupplier<T> implements Supplier<T> {
     private final @NotNull Supplier<@NotNull T> supplier;
-    private T t;
+    private volatile T t;
 
     public LazySupplier(@NotNull Supplier<@NotNull T> supplier) {
         this.supplier = supplier;
@@ -35,7 +35,11 @@ public final class LazySupplier<T> implements Supplier<T> {
 
     @Override
     public @NotNull T get() {
-        if (t == null) t = supplier.get();
-        return t;
+        T value = t;
+        if (value == null) {
+            value = supplier.get();
+            t = value;
+        }
+        return value;
     }
 }
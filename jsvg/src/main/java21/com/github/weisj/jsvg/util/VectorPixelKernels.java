@@ -0,0 +1,297 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.util;
+
+import static jdk.incubator.vector.VectorOperators.ABS;
+import static jdk.incubator.vector.VectorOperators.ASHR;
+import static jdk.incubator.vector.VectorOperators.B2I;
+import static jdk.incubator.vector.VectorOperators.D2I;
+import static jdk.incubator.vector.VectorOperators.I2D;
+import static jdk.incubator.vector.VectorOperators.LSHL;
+import static jdk.incubator.vector.VectorOperators.LSHR;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+import org.jetbrains.annotations.NotNull;
+
+import com.github.weisj.jsvg.attributes.filter.BlendMode;
+
+/**
+ * Implementation of the {@link PixelKernels} using the vector api. Each kernel processes as many pixels as fit into
+ * a vector at once and falls back to the scalar implementation for the remaining pixels of a row.
+ */
+final class VectorPixelKernels extends PixelKernels {
+    private static final VectorSpecies<Integer> INT = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLE = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INT_FOR_DOUBLE =
+            VectorSpecies.of(int.class, VectorShape.forBitSize(DOUBLE.vectorBitSize() / 2));
+    private static final VectorSpecies<Byte> BYTE =
+            VectorSpecies.of(byte.class, VectorShape.forBitSize(Math.max(64, INT.length() * 8)));
+
+    private final int @NotNull [] sRGBtoLinearRGBPre;
+    private final int @NotNull [] linearRGBtoSRGBPre;
+
+    VectorPixelKernels() {
+        if (INT.length() < 4) throw new UnsupportedOperationException("No vector hardware available");
+        sRGBtoLinearRGBPre = flatten(ColorUtil.sRGBtoLinearRGBPreTable());
+        linearRGBtoSRGBPre = flatten(ColorUtil.linearRGBtoSRGBPreTable());
+    }
+
+    private static int @NotNull [] flatten(int @NotNull [] @NotNull [] table) {
+        int[] flat = new int[256 * 256];
+        for (int i = 0; i < 256; i++) {
+            System.arraycopy(table[i], 0, flat, i * 256, 256);
+        }
+        return flat;
+    }
+
+    @Override
+    public boolean isVectorized() {
+        return true;
+    }
+
+    private static @NotNull IntVector div255(@NotNull IntVector x) {
+        x = x.add(128);
+        return x.add(x.lanewise(ASHR, 8)).lanewise(ASHR, 8);
+    }
+
+    private static @NotNull IntVector channel(@NotNull IntVector argb, int shift) {
+        return argb.lanewise(LSHR, shift).and(0xFF);
+    }
+
+    private static @NotNull IntVector pack(@NotNull IntVector a, @NotNull IntVector r, @NotNull IntVector g,
+            @NotNull IntVector b) {
+        return a.and(0xFF).lanewise(LSHL, 24)
+                .or(r.and(0xFF).lanewise(LSHL, 16))
+                .or(g.and(0xFF).lanewise(LSHL, 8))
+                .or(b.and(0xFF));
+    }
+
+    @Override
+    public void colorMatrix(int @NotNull [] pixels, int offset, int length, double @NotNull [] m) {
+        int lanes = INT_FOR_DOUBLE.length();
+        int end = offset + length;
+        int i = offset;
+        for (; i <= end - lanes; i += lanes) {
+            IntVector argb = IntVector.fromArray(INT_FOR_DOUBLE, pixels, i);
+            DoubleVector a = toDouble(argb.lanewise(LSHR, 24));
+            DoubleVector r = toDouble(channel(argb, 16));
+            DoubleVector g = toDouble(channel(argb, 8));
+            DoubleVector b = toDouble(channel(argb, 0));
+            pack(
+                    row(m, 15, r, g, b, a),
+                    row(m, 0, r, g, b, a),
+                    row(m, 5, r, g, b, a),
+                    row(m, 10, r, g, b, a)).intoArray(pixels, i);
+        }
+        super.colorMatrix(pixels, i, end - i, m);
+    }
+
+    private static @NotNull DoubleVector toDouble(@NotNull IntVector v) {
+        return (DoubleVector) v.convertShape(I2D, DOUBLE, 0);
+    }
+
+    private static @NotNull IntVector row(double @NotNull [] m, int index, @NotNull DoubleVector r,
+            @NotNull DoubleVector g, @NotNull DoubleVector b, @NotNull DoubleVector a) {
+        // Same order of operations as the scalar implementation, so the results agree exactly.
+        DoubleVector value = r.mul(m[index])
+                .add(g.mul(m[index + 1]))
+                .add(b.mul(m[index + 2]))
+                .add(a.mul(m[index + 3]))
+                .add(m[index + 4] * 255);
+        // For values clamped to [0, 255] adding one half and truncating rounds like Math.round.
+        return (IntVector) value.max(0).min(255).add(0.5).convertShape(D2I, INT_FOR_DOUBLE, 0);
+    }
+
+    @Override
+    public void sRGBtoLinearRGB(int @NotNull [] pixels, int offset, int length) {
+        int i = convert(pixels, offset, length, ColorUtil.sRGBtoLinearRGBTable(), false);
+        super.sRGBtoLinearRGB(pixels, i, offset + length - i);
+    }
+
+    @Override
+    public void linearRGBtoSRGB(int @NotNull [] pixels, int offset, int length) {
+        int i = convert(pixels, offset, length, ColorUtil.linearRGBtoSRGBTable(), false);
+        super.linearRGBtoSRGB(pixels, i, offset + length - i);
+    }
+
+    @Override
+    public void sRGBtoLinearRGBPre(int @NotNull [] pixels, int offset, int length) {
+        int i = convert(pixels, offset, length, sRGBtoLinearRGBPre, true);
+        super.sRGBtoLinearRGBPre(pixels, i, offset + length - i);
+    }
+
+    @Override
+    public void linearRGBtoSRGBPre(int @NotNull [] pixels, int offset, int length) {
+        int i = convert(pixels, offset, length, linearRGBtoSRGBPre, true);
+        super.linearRGBtoSRGBPre(pixels, i, offset + length - i);
+    }
+
+    /*
+     * Looks up the color components in the given table. Premultiplied tables are indexed by alpha * 256 + component.
+     * Returns the index of the first pixel which hasn't been converted.
+     */
+    private static int convert(int @NotNull [] pixels, int offset, int length, int @NotNull [] table,
+            boolean premultiplied) {
+        int lanes = INT.length();
+        int[] indices = new int[lanes];
+        int end = offset + length;
+        int i = offset;
+        for (; i <= end - lanes; i += lanes) {
+            IntVector argb = IntVector.fromArray(INT, pixels, i);
+            IntVector a = argb.lanewise(LSHR, 24);
+            IntVector base = premultiplied ? a.lanewise(LSHL, 8) : IntVector.zero(INT);
+            pack(a,
+                    lookup(table, base.add(channel(argb, 16)), indices),
+                    lookup(table, base.add(channel(argb, 8)), indices),
+                    lookup(table, base.add(channel(argb, 0)), indices)).intoArray(pixels, i);
+        }
+        return i;
+    }
+
+    private static @NotNull IntVector lookup(int @NotNull [] table, @NotNull IntVector index, int @NotNull [] indices) {
+        index.intoArray(indices, 0);
+        return IntVector.fromArray(INT, table, 0, indices, 0);
+    }
+
+    @Override
+    public void multiplyAlpha(int @NotNull [] pixels, int offset, byte @NotNull [] mask, int maskOffset,
+            int length) {
+        int lanes = INT.length();
+        // The byte vector may be longer than the int vector, in which case only its first part is used.
+        int loaded = Math.max(lanes, BYTE.length());
+        int i = 0;
+        for (; i <= length - loaded; i += lanes) {
+            IntVector argb = IntVector.fromArray(INT, pixels, offset + i);
+            IntVector luminance = ((IntVector) ByteVector.fromArray(BYTE, mask, maskOffset + i)
+                    .convertShape(B2I, INT, 0)).and(0xFF);
+            IntVector alpha = div255(luminance.mul(argb.lanewise(LSHR, 24)));
+            alpha.lanewise(LSHL, 24).or(argb.and(0x00FFFFFF)).intoArray(pixels, offset + i);
+        }
+        super.multiplyAlpha(pixels, offset + i, mask, maskOffset + i, length - i);
+    }
+
+    @Override
+    public void boxBlurColumns(int @NotNull [] srcPixels, int srcOff, int srcScanStride,
+            int @NotNull [] dstPixels, int dstOff, int dstScanStride,
+            int h, int skipY, int boxSize, int loc, int fromX, int toX) {
+        int lanes = INT.length();
+        int scale = (1 << 24) / boxSize;
+        int[] buffer = new int[boxSize * lanes];
+        int x = fromX;
+        for (; x <= toX - lanes; x += lanes) {
+            int sp = srcOff + x;
+            int dp = dstOff + x;
+            int colEnd = sp + (h - skipY) * srcScanStride;
+
+            IntVector sumA = IntVector.zero(INT);
+            IntVector sumR = sumA;
+            IntVector sumG = sumA;
+            IntVector sumB = sumA;
+
+            sp += skipY * srcScanStride;
+            for (int k = 0; k < boxSize; k++) {
+                IntVector curr = IntVector.fromArray(INT, srcPixels, sp);
+                curr.intoArray(buffer, k * lanes);
+                sumA = sumA.add(curr.lanewise(LSHR, 24));
+                sumR = sumR.add(channel(curr, 16));
+                sumG = sumG.add(channel(curr, 8));
+                sumB = sumB.add(channel(curr, 0));
+                sp += srcScanStride;
+            }
+
+            dp += (skipY + loc) * dstScanStride;
+            boxPixel(sumA, sumR, sumG, sumB, scale).intoArray(dstPixels, dp);
+            dp += dstScanStride;
+            int k = 0;
+            while (sp < colEnd) {
+                IntVector prev = IntVector.fromArray(INT, buffer, k * lanes);
+                IntVector curr = IntVector.fromArray(INT, srcPixels, sp);
+                curr.intoArray(buffer, k * lanes);
+                sumA = sumA.sub(prev.lanewise(LSHR, 24)).add(curr.lanewise(LSHR, 24));
+                sumR = sumR.sub(channel(prev, 16)).add(channel(curr, 16));
+                sumG = sumG.sub(channel(prev, 8)).add(channel(curr, 8));
+                sumB = sumB.sub(channel(prev, 0)).add(channel(curr, 0));
+                boxPixel(sumA, sumR, sumG, sumB, scale).intoArray(dstPixels, dp);
+                k = (k + 1) % boxSize;
+                sp += srcScanStride;
+                dp += dstScanStride;
+            }
+        }
+        super.boxBlurColumns(srcPixels, srcOff, srcScanStride, dstPixels, dstOff, dstScanStride,
+                h, skipY, boxSize, loc, x, toX);
+    }
+
+    private static @NotNull IntVector boxPixel(@NotNull IntVector sumA, @NotNull IntVector sumR,
+            @NotNull IntVector sumG, @NotNull IntVector sumB, int scale) {
+        return sumA.mul(scale).and(0xFF000000)
+                .or(sumR.mul(scale).and(0xFF000000).lanewise(LSHR, 8))
+                .or(sumG.mul(scale).and(0xFF000000).lanewise(LSHR, 16))
+                .or(sumB.mul(scale).and(0xFF000000).lanewise(LSHR, 24));
+    }
+
+    @Override
+    public void blend(@NotNull BlendMode mode, int @NotNull [] src, int @NotNull [] dst, int offset, int length) {
+        int lanes = INT.length();
+        int end = offset + length;
+        int i = offset;
+        for (; i <= end - lanes; i += lanes) {
+            IntVector s = IntVector.fromArray(INT, src, i);
+            IntVector d = IntVector.fromArray(INT, dst, i);
+            IntVector srcA = s.lanewise(LSHR, 24);
+            IntVector dstA = d.lanewise(LSHR, 24);
+            IntVector srcM = dstA.neg().add(255);
+            IntVector dstM = srcA.neg().add(255);
+            IntVector resultA = srcA.add(dstA).sub(div255(srcA.mul(dstA)));
+            pack(resultA,
+                    blend(mode, channel(s, 16), channel(d, 16), srcA, dstA, srcM, dstM),
+                    blend(mode, channel(s, 8), channel(d, 8), srcA, dstA, srcM, dstM),
+                    blend(mode, channel(s, 0), channel(d, 0), srcA, dstA, srcM, dstM)).intoArray(dst, i);
+        }
+        super.blend(mode, src, dst, i, end - i);
+    }
+
+    private static @NotNull IntVector blend(@NotNull BlendMode mode, @NotNull IntVector s, @NotNull IntVector d,
+            @NotNull IntVector srcA, @NotNull IntVector dstA, @NotNull IntVector srcM, @NotNull IntVector dstM) {
+        switch (mode) {
+            case Multiply:
+                return div255(s.mul(srcM).add(d.mul(dstM)).add(s.mul(d)));
+            case Screen:
+                return s.add(d).sub(div255(s.mul(d)));
+            case Darken:
+                return div255(srcM.mul(s)).add(d).min(div255(dstM.mul(d)).add(s));
+            case Lighten:
+                return div255(srcM.mul(s)).add(d).max(div255(dstM.mul(d)).add(s));
+            case Difference:
+                return div255(srcM.mul(s).add(dstM.mul(d)).add(dstA.mul(s).sub(srcA.mul(d)).lanewise(ABS)));
+            case Exclusion:
+                return div255(srcM.mul(s).add(dstM.mul(d)).add(dstA.mul(s)).add(srcA.mul(d))
+                        .sub(div255(s.mul(d)).mul(2)));
+            default:
+                throw new IllegalArgumentException("Unsupported blend mode " + mode);
+        }
+    }
+}
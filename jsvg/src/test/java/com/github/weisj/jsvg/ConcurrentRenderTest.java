@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.parser.LoaderContext;
+import com.github.weisj.jsvg.parser.SVGLoader;
+import com.github.weisj.jsvg.renderer.NullPlatformSupport;
+import com.github.weisj.jsvg.renderer.animation.AnimationState;
+import com.github.weisj.jsvg.renderer.output.Output;
+import com.github.weisj.jsvg.view.ViewBox;
+
+class ConcurrentRenderTest {
+
+    private static final String[] DOCUMENTS = {
+            "fillRule.svg", "stroke/stroke1.svg", "gradient/radialGradient.svg", "filter/blur.svg",
+            "filter/dropShadow.svg", "text/textAnchor.svg", "text/textPathHrefTransform.svg", "tmp4.svg"
+    };
+    private static final String ANIMATED_DOCUMENT = "<svg xmlns='http://www.w3.org/2000/svg' viewBox='0 0 100 100'>"
+            + "<polygon points='10 10 90 10 50 90' fill='red'>"
+            + "<animate attributeName='points' to='10 50 90 50 50 10' dur='2s' repeatCount='indefinite'/>"
+            + "<animate attributeName='fill' to='blue' dur='2s' repeatCount='indefinite'/>"
+            + "</polygon>"
+            + "<rect x='20' y='20' width='20' height='20' fill='green'>"
+            + "<animateTransform attributeName='transform' type='rotate' from='0 50 50' to='360 50 50' dur='3s'"
+            + " repeatCount='indefinite'/>"
+            + "</rect>"
+            + "</svg>";
+    private static final int[] SIZES = {16, 48, 100};
+    private static final long[] TIMESTAMPS = {0, 500, 1250};
+
+    @Test
+    void documentCanBeRenderedConcurrently() throws Exception {
+        SVGLoader loader = new SVGLoader();
+        List<SVGDocument> documents = new ArrayList<>();
+        for (String path : DOCUMENTS) {
+            documents.add(Objects.requireNonNull(loader.load(
+                    Objects.requireNonNull(ConcurrentRenderTest.class.getResource(path), path)), path));
+        }
+        documents.add(Objects.requireNonNull(loader.load(
+                new ByteArrayInputStream(ANIMATED_DOCUMENT.getBytes(StandardCharsets.UTF_8)),
+                null, LoaderContext.createDefault())));
+
+        List<RenderTask> tasks = new ArrayList<>();
+        for (SVGDocument document : documents) {
+            for (int size : SIZES) {
+                for (long timestamp : TIMESTAMPS) {
+                    tasks.add(new RenderTask(document, size, new AnimationState(0, timestamp)));
+                }
+            }
+        }
+
+        List<int[]> expected = new ArrayList<>();
+        for (RenderTask task : tasks) {
+            expected.add(task.render());
+        }
+
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            for (int j = 0; j < tasks.size(); j++) {
+                order.add(j);
+            }
+        }
+        Collections.shuffle(order, new Random(0));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<int[]>> results = new ArrayList<>();
+            for (int index : order) {
+                results.add(executor.submit(tasks.get(index)::render));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                RenderTask task = tasks.get(order.get(i));
+                assertArrayEquals(expected.get(order.get(i)), results.get(i).get(), task::toString);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static final class RenderTask {
+        private final @NotNull SVGDocument document;
+        private final int size;
+        private final @NotNull AnimationState animationState;
+
+        private RenderTask(@NotNull SVGDocument document, int size, @NotNull AnimationState animationState) {
+            this.document = document;
+            this.size = size;
+            this.animationState = animationState;
+        }
+
+        int @NotNull [] render() {
+            BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = image.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+            Output output = Output.createForGraphics(g);
+            document.renderWithPlatform(NullPlatformSupport.INSTANCE, output, new ViewBox(size, size),
+                    animationState);
+            output.dispose();
+            return image.getRGB(0, 0, size, size, null, 0, size);
+        }
+
+        @Override
+        public String toString() {
+            return "RenderTask{document=" + document + ", size=" + size + ", animationState=" + animationState + '}';
+        }
+    }
+}
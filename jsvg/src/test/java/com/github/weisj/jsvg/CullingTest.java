@@ -0,0 +1,144 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.parser.LoaderContext;
+import com.github.weisj.jsvg.parser.SVGLoader;
+import com.github.weisj.jsvg.renderer.NullPlatformSupport;
+import com.github.weisj.jsvg.renderer.output.Output;
+import com.github.weisj.jsvg.renderer.output.impl.Graphics2DOutput;
+import com.github.weisj.jsvg.view.ViewBox;
+
+class CullingTest {
+
+    private static @NotNull SVGDocument createGrid() {
+        StringBuilder sb = new StringBuilder("<svg xmlns='http://www.w3.org/2000/svg' viewBox='0 0 100 100'>");
+        for (int row = 0; row < 10; row++) {
+            sb.append("<g transform='translate(0 ").append(row * 10).append(")' stroke='black'>");
+            for (int column = 0; column < 10; column++) {
+                sb.append("<rect x='").append(column * 10 + 2).append("' y='2' width='6' height='6'/>");
+            }
+            sb.append("</g>");
+        }
+        sb.append("<circle cx='87' cy='87' r='5' filter='url(#f)'/>")
+                .append("<filter id='f'><feGaussianBlur stdDeviation='2'/></filter>")
+                .append("</svg>");
+        return Objects.requireNonNull(new SVGLoader().load(
+                new ByteArrayInputStream(sb.toString().getBytes(StandardCharsets.UTF_8)),
+                null, LoaderContext.createDefault()));
+    }
+
+    @Test
+    void nodesOutsideClipAreSkipped() {
+        SVGDocument document = createGrid();
+        AtomicInteger paintCount = new AtomicInteger();
+        BufferedImage image = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        // Only the cell in the top left corner is visible.
+        g.clipRect(0, 0, 9, 9);
+        Output output = new CountingOutput((Graphics2D) g.create(), paintCount);
+        document.renderWithPlatform(NullPlatformSupport.INSTANCE, output, new ViewBox(100, 100));
+        output.dispose();
+        g.dispose();
+
+        // Fill and stroke of the first rectangle.
+        assertEquals(2, paintCount.get());
+    }
+
+    @Test
+    void cullingDoesNotChangeResult() {
+        SVGDocument document = createGrid();
+        for (int x = 0; x < 100; x += 25) {
+            for (int y = 0; y < 100; y += 25) {
+                Rectangle clip = new Rectangle(x, y, 25, 25);
+                int[] expected = render(document, null, clip);
+                int[] actual = render(document, clip, clip);
+                assertArrayEquals(expected, actual, clip::toString);
+            }
+        }
+    }
+
+    @Test
+    void boundsDependOnInheritedVisibility() {
+        // The group is first rendered with a transparent parent, where none of its children are visible.
+        String svg = "<svg xmlns='http://www.w3.org/2000/svg' xmlns:xlink='http://www.w3.org/1999/xlink' "
+                + "viewBox='0 0 100 100'>"
+                + "<g opacity='0'><g id='outer'><g><g><rect x='10' y='10' width='20' height='20'/></g></g></g></g>"
+                + "<use xlink:href='#outer'/>"
+                + "</svg>";
+        SVGDocument document = Objects.requireNonNull(new SVGLoader().load(
+                new ByteArrayInputStream(svg.getBytes(StandardCharsets.UTF_8)),
+                null, LoaderContext.createDefault()));
+        int[] pixels = render(document, null, new Rectangle(20, 20, 1, 1));
+        assertEquals(0xFF000000, pixels[0]);
+    }
+
+    private static int @NotNull [] render(@NotNull SVGDocument document, Rectangle clip,
+            @NotNull Rectangle region) {
+        BufferedImage image = new BufferedImage(100, 100, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        if (clip != null) g.clip(clip);
+        document.renderWithPlatform(NullPlatformSupport.INSTANCE, g, new ViewBox(100, 100));
+        g.dispose();
+        return image.getRGB(region.x, region.y, region.width, region.height, null, 0, region.width);
+    }
+
+    private static final class CountingOutput extends Graphics2DOutput {
+        private final @NotNull AtomicInteger paintCount;
+
+        private CountingOutput(@NotNull Graphics2D g, @NotNull AtomicInteger paintCount) {
+            super(g);
+            this.paintCount = paintCount;
+        }
+
+        @Override
+        public void fillShape(@NotNull Shape shape) {
+            paintCount.incrementAndGet();
+            super.fillShape(shape);
+        }
+
+        @Override
+        public void drawShape(@NotNull Shape shape) {
+            paintCount.incrementAndGet();
+            super.drawShape(shape);
+        }
+
+        @Override
+        public @NotNull Output createChild() {
+            return new CountingOutput((Graphics2D) graphics().create(), paintCount);
+        }
+    }
+}
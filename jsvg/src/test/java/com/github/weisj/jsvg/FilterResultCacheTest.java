@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.parser.LoaderContext;
+import com.github.weisj.jsvg.parser.SVGLoader;
+import com.github.weisj.jsvg.renderer.CacheStatistics;
+import com.github.weisj.jsvg.renderer.FilterResultCache;
+import com.github.weisj.jsvg.renderer.NullPlatformSupport;
+import com.github.weisj.jsvg.renderer.SVGRenderingHints;
+import com.github.weisj.jsvg.renderer.output.Output;
+
+class FilterResultCacheTest {
+    private static final String FILTER = "<filter id='f'><feGaussianBlur stdDeviation='2'/></filter>";
+
+    private static @NotNull SVGDocument document(@NotNull String content) {
+        String svg = "<svg xmlns='http://www.w3.org/2000/svg' xmlns:xlink='http://www.w3.org/1999/xlink'"
+                + " width='100' height='40'>" + FILTER + content + "</svg>";
+        return Objects.requireNonNull(new SVGLoader().load(
+                new ByteArrayInputStream(svg.getBytes(StandardCharsets.UTF_8)), null, LoaderContext.createDefault()));
+    }
+
+    @Test
+    void usesOfTheSameElementShareTheResult() {
+        SVGDocument document = document("<defs><rect id='r' x='5' y='5' width='20' height='20' fill='red'"
+                + " filter='url(#f)'/></defs><use xlink:href='#r'/><use xlink:href='#r' x='40'/>");
+        FilterResultCache cache = new FilterResultCache();
+        assertArrayEquals(render(document, null, null), render(document, cache, null));
+        assertStatistics(cache, 1, 1);
+    }
+
+    @Test
+    void equalElementsDoNotShareTheResult() {
+        String rect = "<rect x='5' y='5' width='20' height='20' fill='red' filter='url(#f)'/>";
+        SVGDocument document = document(rect + rect);
+        FilterResultCache cache = new FilterResultCache();
+        assertArrayEquals(render(document, null, null), render(document, cache, null));
+        assertStatistics(cache, 0, 2);
+    }
+
+    @Test
+    void subpixelOffsetIsPartOfTheKey() {
+        SVGDocument document = document("<defs><rect id='r' x='5' y='5' width='20' height='20' fill='red'"
+                + " filter='url(#f)'/></defs><use xlink:href='#r'/><use xlink:href='#r' x='40.5'/>");
+        FilterResultCache cache = new FilterResultCache();
+        assertArrayEquals(render(document, null, null), render(document, cache, null));
+        assertStatistics(cache, 0, 2);
+    }
+
+    @Test
+    void visibleFilterRegionIsRelativeToThePixelOrigin() {
+        SVGDocument document = document("<defs><rect id='r' x='5' y='5' width='20' height='20' fill='red'"
+                + " filter='url(#f)'/></defs><use xlink:href='#r'/><use xlink:href='#r' x='40'/>");
+        FilterResultCache cache = new FilterResultCache();
+        // Both uses are cut at the same position relative to the element.
+        Rectangle clip = new Rectangle(0, 0, 100, 15);
+        assertArrayEquals(render(document, null, clip), render(document, cache, clip));
+        assertStatistics(cache, 1, 1);
+
+        // Only the second use is cut, hence its visible part of the filter region differs.
+        cache = new FilterResultCache();
+        clip = new Rectangle(0, 0, 60, 40);
+        assertArrayEquals(render(document, null, clip), render(document, cache, clip));
+        assertStatistics(cache, 0, 2);
+    }
+
+    private static void assertStatistics(@NotNull FilterResultCache cache, int hitCount, int missCount) {
+        CacheStatistics statistics = cache.statistics();
+        assertEquals(hitCount, (int) statistics.hitCount());
+        assertEquals(missCount, (int) statistics.missCount());
+    }
+
+    private static int @NotNull [] render(@NotNull SVGDocument document, @Nullable FilterResultCache cache,
+            @Nullable Rectangle clip) {
+        BufferedImage image = new BufferedImage(100, 40, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        if (cache != null) g.setRenderingHint(SVGRenderingHints.KEY_FILTER_RESULT_CACHE, cache);
+        if (clip != null) g.clip(clip);
+        Output output = Output.createForGraphics(g);
+        document.renderWithPlatform(NullPlatformSupport.INSTANCE, output, null, null);
+        output.dispose();
+        g.dispose();
+        return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.parser.SVGLoader;
+import com.github.weisj.jsvg.renderer.CacheStatistics;
+import com.github.weisj.jsvg.renderer.NullPlatformSupport;
+import com.github.weisj.jsvg.renderer.SVGRasterCache;
+import com.github.weisj.jsvg.renderer.animation.AnimationState;
+import com.github.weisj.jsvg.renderer.output.Output;
+import com.github.weisj.jsvg.view.ViewBox;
+
+class SVGRasterCacheTest {
+
+    private static @NotNull SVGDocument load(@NotNull String path) {
+        return Objects.requireNonNull(new SVGLoader().load(
+                Objects.requireNonNull(SVGRasterCacheTest.class.getResource(path), path)), path);
+    }
+
+    @Test
+    void cachedRenderMatchesRender() {
+        SVGDocument document = load("stroke/stroke1.svg");
+        SVGRasterCache cache = new SVGRasterCache(Long.MAX_VALUE);
+        ViewBox bounds = new ViewBox(5, 7, 40, 30);
+        assertEquals(0, cache.statistics().hitRate());
+
+        int[] expected = render(g -> renderDirectly(document, g, bounds, null));
+        for (int i = 0; i < 2; i++) {
+            int[] actual = render(g -> cache.renderWithPlatform(document, NullPlatformSupport.INSTANCE, g, bounds,
+                    null));
+            assertArrayEquals(expected, actual);
+        }
+
+        CacheStatistics statistics = cache.statistics();
+        assertEquals(1, statistics.missCount());
+        assertEquals(1, statistics.hitCount());
+        assertEquals(0.5, statistics.hitRate());
+    }
+
+    @Test
+    void keyContainsScaleAndAnimation() {
+        SVGDocument document = load("stroke/stroke1.svg");
+        SVGRasterCache cache = new SVGRasterCache(Long.MAX_VALUE);
+        render(g -> cache.render(document, null, g, null));
+        render(g -> {
+            g.scale(2, 2);
+            cache.render(document, null, g, null);
+        });
+        // The document isn't animated, hence the animation state doesn't matter.
+        render(g -> cache.renderWithPlatform(document, NullPlatformSupport.INSTANCE, g, null,
+                new AnimationState(0, 1000)));
+
+        CacheStatistics statistics = cache.statistics();
+        assertEquals(2, statistics.missCount());
+        assertEquals(1, statistics.hitCount());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        SVGDocument document = load("stroke/stroke1.svg");
+        int size = 10;
+        long entrySize = (long) size * size * 4;
+        SVGRasterCache cache = new SVGRasterCache(2 * entrySize);
+        for (int i = 0; i < 3; i++) {
+            ViewBox bounds = new ViewBox(size, size - i * 0.01f);
+            render(g -> cache.render(document, null, g, bounds));
+        }
+
+        CacheStatistics statistics = cache.statistics();
+        assertEquals(1, statistics.evictionCount());
+        assertTrue(cache.currentBytes() <= cache.maximumBytes());
+    }
+
+    private static void renderDirectly(@NotNull SVGDocument document, @NotNull Graphics2D g,
+            @NotNull ViewBox bounds, @Nullable AnimationState animationState) {
+        Output output = Output.createForGraphics(g);
+        document.renderWithPlatform(NullPlatformSupport.INSTANCE, output, bounds, animationState);
+        output.dispose();
+    }
+
+    private static int @NotNull [] render(@NotNull Consumer<Graphics2D> renderer) {
+        BufferedImage image = new BufferedImage(50, 50, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        renderer.accept(g);
+        g.dispose();
+        return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+    }
+}
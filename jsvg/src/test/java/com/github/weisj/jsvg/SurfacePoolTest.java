@@ -0,0 +1,132 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.parser.SVGLoader;
+import com.github.weisj.jsvg.renderer.SVGRenderingHints;
+import com.github.weisj.jsvg.renderer.SurfacePool;
+import com.github.weisj.jsvg.renderer.SurfaceStatistics;
+
+class SurfacePoolTest {
+
+    @Test
+    void releasedImagesAreReusedCleared() {
+        SurfacePool pool = new SurfacePool(Long.MAX_VALUE);
+        SurfacePool.Lease lease = pool.acquire(100, 100, BufferedImage.TYPE_INT_ARGB);
+        BufferedImage image = lease.image();
+        assertEquals(100, image.getWidth());
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.RED);
+        g.fillRect(0, 0, 100, 100);
+        g.dispose();
+        lease.release();
+        assertThrows(IllegalStateException.class, lease::release);
+
+        SurfacePool.Lease reused = pool.acquire(105, 110, BufferedImage.TYPE_INT_ARGB);
+        BufferedImage reusedImage = reused.image();
+        assertEquals(105, reusedImage.getWidth());
+        assertEquals(110, reusedImage.getHeight());
+        int[] pixels = reusedImage.getRGB(0, 0, 105, 110, null, 0, 105);
+        assertArrayEquals(new int[pixels.length], pixels);
+
+        // Different types never share images.
+        pool.acquire(105, 110, BufferedImage.TYPE_INT_ARGB_PRE).release();
+
+        SurfaceStatistics statistics = pool.statistics();
+        assertEquals(3, statistics.acquireCount());
+        assertEquals(1, statistics.reuseCount());
+        assertEquals(2, statistics.releaseCount());
+    }
+
+    @Test
+    void idleImagesRespectBudget() {
+        long imageBytes = 128 * 128 * 4;
+        SurfacePool pool = new SurfacePool(imageBytes);
+        SurfacePool.Lease first = pool.acquire(128, 128, BufferedImage.TYPE_INT_ARGB);
+        SurfacePool.Lease second = pool.acquire(128, 128, BufferedImage.TYPE_INT_ARGB);
+        first.release();
+        second.release();
+        assertEquals(imageBytes, pool.idleBytes());
+        assertEquals(1, pool.statistics().evictionCount());
+
+        pool.acquire(1024, 1024, BufferedImage.TYPE_INT_ARGB).release();
+        assertEquals(imageBytes, pool.idleBytes());
+        assertEquals(2, pool.statistics().evictionCount());
+
+        pool.clear();
+        assertEquals(0, pool.idleBytes());
+        assertThrows(IllegalArgumentException.class, () -> new SurfacePool(-1));
+    }
+
+    @Test
+    void renderRecordsStatistics() {
+        SVGDocument document = Objects.requireNonNull(new SVGLoader().load(
+                Objects.requireNonNull(SurfacePoolTest.class.getResource("filter/blur.svg"))));
+        int[] expected = render(document, null, null);
+
+        SurfacePool pool = new SurfacePool(Long.MAX_VALUE);
+        for (int i = 0; i < 2; i++) {
+            SurfaceStatistics statistics = new SurfaceStatistics();
+            assertArrayEquals(expected, render(document, pool, statistics));
+            assertTrue(statistics.acquireCount() > 0);
+            assertEquals(statistics.acquireCount(), statistics.releaseCount());
+            assertEquals(0, statistics.bytesInUse());
+            if (i == 0) {
+                assertTrue(statistics.allocatedBytes() > 0);
+            } else {
+                assertEquals(statistics.acquireCount(), statistics.reuseCount());
+            }
+        }
+        assertSame(SurfacePool.shared(), SurfacePool.shared());
+    }
+
+    private static int[] render(@NotNull SVGDocument document, @Nullable SurfacePool pool,
+            @Nullable SurfaceStatistics statistics) {
+        int width = (int) Math.ceil(document.size().width);
+        int height = (int) Math.ceil(document.size().height);
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        if (pool != null) {
+            g.setRenderingHint(SVGRenderingHints.KEY_SURFACE_POOL, pool);
+            g.setRenderingHint(SVGRenderingHints.KEY_SURFACE_STATISTICS, statistics);
+        } else {
+            g.setRenderingHint(SVGRenderingHints.KEY_CACHE_OFFSCREEN_IMAGE, SVGRenderingHints.VALUE_NO_CACHE);
+        }
+        document.render(null, g);
+        g.dispose();
+        return image.getRGB(0, 0, width, height, null, 0, width);
+    }
+}
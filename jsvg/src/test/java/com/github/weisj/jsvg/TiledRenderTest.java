@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.parser.LoaderContext;
+import com.github.weisj.jsvg.parser.SVGLoader;
+import com.github.weisj.jsvg.renderer.NullPlatformSupport;
+import com.github.weisj.jsvg.renderer.TileConfiguration;
+import com.github.weisj.jsvg.renderer.output.Output;
+import com.github.weisj.jsvg.view.FloatSize;
+
+class TiledRenderTest {
+
+    /*
+     * Curved outlines crossing a tile border may differ in their anti-aliasing, hence these documents only contain
+     * curves, which are either fully inside a tile or filtered.
+     */
+    private static final String[] DOCUMENTS = {
+            "fillRule.svg", "stroke/stroke1.svg", "filter/blur.svg", "filter/dropShadow.svg", "tmp4.svg"
+    };
+
+    /*
+     * Filters whose reach exceeds the overlap of the tiles: a blur, an offset, a displacement, which reads the
+     * whole filter region, and a drop shadow.
+     */
+    private static final String[] FILTERS = {
+            "<feGaussianBlur stdDeviation='20'/>",
+            "<feOffset dx='70' dy='50'/>",
+            "<feTurbulence baseFrequency='0.05'/><feDisplacementMap in='SourceGraphic' scale='80'/>",
+            "<feDropShadow dx='40' dy='40' stdDeviation='10'/>"
+    };
+
+    @Test
+    void tiledRenderMatchesRender() {
+        SVGLoader loader = new SVGLoader();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            // Intentionally choose a tile size, which doesn't evenly divide the image.
+            TileConfiguration configuration = new TileConfiguration(37, TileConfiguration.DEFAULT_OVERLAP, executor);
+            for (String path : DOCUMENTS) {
+                SVGDocument document = load(loader, path);
+                assertArrayEquals(render(document, false), renderTiled(document, configuration, false), () -> path);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void tiledRenderDrawsOnTopOfContent() {
+        SVGLoader loader = new SVGLoader();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            TileConfiguration configuration = new TileConfiguration(37, TileConfiguration.DEFAULT_OVERLAP, executor);
+            for (String path : DOCUMENTS) {
+                SVGDocument document = load(loader, path);
+                assertArrayEquals(render(document, true), renderTiled(document, configuration, true), () -> path);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void overlapIsExtendedToFilterReach() {
+        SVGLoader loader = new SVGLoader();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            TileConfiguration configuration = new TileConfiguration(37, 0, executor);
+            for (String filter : FILTERS) {
+                String svg = "<svg xmlns='http://www.w3.org/2000/svg' width='200' height='200'>"
+                        + "<filter id='f' x='-1' y='-1' width='3' height='3'>" + filter + "</filter>"
+                        + "<rect x='40' y='40' width='60' height='60' fill='red' filter='url(#f)'/></svg>";
+                SVGDocument document = Objects.requireNonNull(loader.load(
+                        new ByteArrayInputStream(svg.getBytes(StandardCharsets.UTF_8)), null,
+                        LoaderContext.createDefault()), filter);
+                assertArrayEquals(render(document, false), renderTiled(document, configuration, false),
+                        () -> filter);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static @NotNull SVGDocument load(@NotNull SVGLoader loader, @NotNull String path) {
+        return Objects.requireNonNull(loader.load(
+                Objects.requireNonNull(TiledRenderTest.class.getResource(path), path)), path);
+    }
+
+    private static int @NotNull [] render(@NotNull SVGDocument document, boolean withBackground) {
+        BufferedImage image = createImage(document, withBackground);
+        Graphics2D g = image.createGraphics();
+        g.setRenderingHints(hints());
+        Output output = Output.createForGraphics(g);
+        document.renderWithPlatform(NullPlatformSupport.INSTANCE, output, null);
+        output.dispose();
+        g.dispose();
+        return pixels(image);
+    }
+
+    private static int @NotNull [] renderTiled(@NotNull SVGDocument document,
+            @NotNull TileConfiguration configuration, boolean withBackground) {
+        BufferedImage image = createImage(document, withBackground);
+        document.renderTiled(NullPlatformSupport.INSTANCE, image, null, null, hints(), configuration);
+        return pixels(image);
+    }
+
+    private static @NotNull BufferedImage createImage(@NotNull SVGDocument document, boolean withBackground) {
+        FloatSize size = document.size();
+        BufferedImage image = new BufferedImage((int) size.width, (int) size.height, BufferedImage.TYPE_INT_ARGB);
+        if (withBackground) {
+            Graphics2D g = image.createGraphics();
+            g.setPaint(new GradientPaint(0, 0, new Color(0x800000FF, true),
+                    size.width, size.height, new Color(0xFF00FF00, true)));
+            g.fillRect(0, 0, image.getWidth(), image.getHeight());
+            g.dispose();
+        }
+        return image;
+    }
+
+    private static @NotNull RenderingHints hints() {
+        RenderingHints hints = new RenderingHints(RenderingHints.KEY_ANTIALIASING,
+                RenderingHints.VALUE_ANTIALIAS_ON);
+        hints.put(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+        return hints;
+    }
+
+    private static int @NotNull [] pixels(@NotNull BufferedImage image) {
+        return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+    }
+}
@@ -23,10 +23,14 @@ package com.github.weisj.jsvg;
 
 import static com.github.weisj.jsvg.ReferenceTest.ReferenceTestResult.SUCCESS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.awt.*;
+import java.awt.geom.Path2D;
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 import java.util.function.Supplier;
 
@@ -34,6 +38,7 @@ import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import com.github.weisj.jsvg.parser.LoaderContext;
 import com.github.weisj.jsvg.parser.SVGLoader;
 import com.github.weisj.jsvg.renderer.NullPlatformSupport;
 import com.github.weisj.jsvg.renderer.output.Output;
@@ -143,6 +148,36 @@ class ToShapeTest {
         assertEquals(SUCCESS, compareShape("paintOrder/paintOrder.svg"));
     }
 
+    @Test
+    void testOutline() {
+        assertEquals(SUCCESS, compareOutline("fillRule.svg"));
+        assertEquals(SUCCESS, compareOutline("clipPath/clipPathUnits.svg"));
+        assertEquals(SUCCESS, compareOutline("marker/marker1.svg"));
+        assertEquals(SUCCESS, compareOutline("paintOrder/paintOrder.svg"));
+        assertEquals(SUCCESS, compareOutline("stroke/stroke2.svg"));
+        assertEquals(SUCCESS, compareOutline("text/text0.svg"));
+        assertEquals(SUCCESS, compareOutline("transform/skewX.svg"));
+    }
+
+    @Test
+    void overlappingShapesDontCancelOutInOutline() {
+        String svg = "<svg xmlns='http://www.w3.org/2000/svg' width='30' height='30'>"
+                + "<path d='M0 0h20v20h-20z'/>"
+                + "<path d='M10 10v20h20v-20z'/>"
+                + "<path d='M5 5h20v20h-20zM8 8h14v14h-14z' fill-rule='evenodd'/>"
+                + "</svg>";
+        SVGDocument document = Objects.requireNonNull(new SVGLoader().load(
+                new ByteArrayInputStream(svg.getBytes(StandardCharsets.UTF_8)), null, LoaderContext.createDefault()));
+        Path2D outline = document.computeOutline();
+        assertEquals(Path2D.WIND_NON_ZERO, outline.getWindingRule());
+        Shape shape = document.computeShape();
+        for (double[] point : new double[][] {{15, 15}, {9, 9}, {2, 2}, {28, 28}, {25, 2}, {2, 25}}) {
+            assertEquals(shape.contains(point[0], point[1]), outline.contains(point[0], point[1]),
+                    "Point " + point[0] + "," + point[1]);
+        }
+        assertTrue(outline.contains(15, 15));
+    }
+
     private static @NotNull BufferedImage prepareImage(@NotNull SVGDocument document) {
         FloatSize size = document.size();
         int w = 2000;
@@ -169,7 +204,11 @@ class ToShapeTest {
 
     private static @NotNull BufferedImage renderShape(@NotNull SVGDocument document) {
         BufferedImage img = prepareImage(document);
-        Shape shape = document.computeShape(new ViewBox(0, 0, img.getWidth(), img.getHeight()));
+        return fill(document, document.computeShape(new ViewBox(0, 0, img.getWidth(), img.getHeight())));
+    }
+
+    private static @NotNull BufferedImage fill(@NotNull SVGDocument document, @NotNull Shape shape) {
+        BufferedImage img = prepareImage(document);
         Graphics2D g = img.createGraphics();
         g.setColor(Color.BLACK);
         g.fill(shape);
@@ -177,6 +216,21 @@ class ToShapeTest {
         return img;
     }
 
+    private static ReferenceTest.ReferenceTestResult compareOutline(@NotNull String path) {
+        try {
+            URL url = Objects.requireNonNull(ReferenceTest.class.getResource(path), path);
+            SVGDocument document = Objects.requireNonNull(new SVGLoader().load(url));
+            BufferedImage img = prepareImage(document);
+            ViewBox viewBox = new ViewBox(0, 0, img.getWidth(), img.getHeight());
+            BufferedImage expected = fill(document, document.computeShape(viewBox));
+            BufferedImage actual = fill(document, document.computeOutline(viewBox));
+            return ReferenceTest.compareImageRasterization(expected, actual, path, 0.5f, 0);
+        } catch (Exception e) {
+            Assertions.fail(e);
+            return ReferenceTest.ReferenceTestResult.FAILURE;
+        }
+    }
+
     private static ReferenceTest.ReferenceTestResult compareShape(@NotNull String path) {
         return compareShape(path, 0.5f);
     }
@@ -21,6 +21,14 @@
  */
 package com.github.weisj.jsvg.geometry.path;
 
+import java.awt.geom.Path2D;
+import java.awt.geom.PathIterator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -53,4 +61,88 @@ class PathParserTest {
         Assertions.assertEquals(5, cmds.length);
         Assertions.assertEquals(6, cmds[1].nodeCount());
     }
+
+    @Test
+    void testDirectPathMatchesCommands() {
+        String[] paths = {
+                "M0 0 a1 2 3 10 6 7 1 2 3 10 6 7",
+                "m10 10 h5 v5 H0 V-3 z l3 3 Z",
+                "M10 80 Q 52.5 10, 95 80 T 180 80 t 5 5 q 1 2 3 4",
+                "M10 80 C 40 10, 65 10, 95 80 S 150 150, 180 80 s 5 5 10 10 c 1 1 2 2 3 3",
+                "M0 0 L 1e5.5 -.5e-3+1E2 l.1.2.3",
+                "M 10 10 A 0 5 0 0 1 20 20 A 5 5 0 0 0 20 20 a 4 3 45 1 0 10 10",
+                "M 0 0 L 10 10 L 20 x",
+                "M 0 0 L 10 10 z 5 5",
+                "L 10 10",
+                "none"
+        };
+        for (String path : paths) {
+            assertSamePath(path);
+        }
+        Random r = new Random(0);
+        String commands = "MmLlHhVvQqTtCcSsZz";
+        for (int i = 0; i < 500; i++) {
+            StringBuilder sb = new StringBuilder("M").append(r.nextInt(100)).append(' ').append(r.nextInt(100));
+            for (int j = 0; j < 20; j++) {
+                sb.append(commands.charAt(r.nextInt(commands.length())));
+                for (int k = 0; k < 6; k++) {
+                    sb.append(String.format(Locale.ENGLISH, " %.3f", 100 * r.nextFloat() - 50));
+                }
+            }
+            assertSamePath(sb.toString());
+        }
+    }
+
+    @Test
+    void testFloatParsingMatchesJdk() {
+        Random r = new Random(0);
+        for (int i = 0; i < 10000; i++) {
+            String number;
+            switch (i % 4) {
+                case 0:
+                    number = Float.toString(r.nextFloat() * 1000);
+                    break;
+                case 1:
+                    number = String.format(Locale.ENGLISH, "%.6f", r.nextGaussian());
+                    break;
+                case 2:
+                    number = (r.nextInt(20000000) - 10000000) + "e" + (r.nextInt(40) - 20);
+                    break;
+                default:
+                    number = "." + r.nextInt(Integer.MAX_VALUE);
+                    break;
+            }
+            PathCommand[] cmds = new PathParser("M" + number + " 0").parsePathCommand();
+            Assertions.assertEquals(1, cmds.length, number);
+            Path2D path = new Path2D.Float();
+            cmds[0].appendPath(path, new BuildHistory());
+            Assertions.assertEquals(Float.parseFloat(number), (float) path.getCurrentPoint().getX(), number);
+        }
+    }
+
+    private static void assertSamePath(String pathData) {
+        Path2D expected = new Path2D.Float();
+        BuildHistory hist = new BuildHistory();
+        for (PathCommand cmd : new PathParser(pathData).parsePathCommand()) {
+            cmd.appendPath(expected, hist);
+        }
+        Path2D actual = new Path2D.Float();
+        new PathParser(pathData).parsePathInto(actual);
+        Assertions.assertEquals(segments(expected), segments(actual), pathData);
+    }
+
+    private static List<String> segments(Path2D path) {
+        List<String> segments = new ArrayList<>();
+        float[] coords = new float[6];
+        for (PathIterator it = path.getPathIterator(null); !it.isDone(); it.next()) {
+            int type = it.currentSegment(coords);
+            StringBuilder sb = new StringBuilder().append(type);
+            for (float coord : coords) {
+                sb.append(' ').append(coord);
+            }
+            segments.add(sb.toString());
+            Arrays.fill(coords, 0);
+        }
+        return segments;
+    }
 }
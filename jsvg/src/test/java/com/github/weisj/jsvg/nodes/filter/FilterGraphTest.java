@@ -0,0 +1,228 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntUnaryOperator;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.SVGDocument;
+import com.github.weisj.jsvg.attributes.ColorInterpolation;
+import com.github.weisj.jsvg.attributes.filter.DefaultFilterChannel;
+import com.github.weisj.jsvg.attributes.filter.FilterChannelKey;
+import com.github.weisj.jsvg.geometry.size.Length;
+import com.github.weisj.jsvg.parser.LoaderContext;
+import com.github.weisj.jsvg.parser.SVGLoader;
+import com.github.weisj.jsvg.renderer.RenderContext;
+
+class FilterGraphTest {
+
+    @Test
+    void unusedResultsAreDropped() {
+        FilterPrimitive unused = new TestPrimitive("a", DefaultFilterChannel.SourceGraphic);
+        FilterPrimitive used = new TestPrimitive("b", DefaultFilterChannel.SourceGraphic);
+        FilterPrimitive last = new TestPrimitive(null, key("b"));
+        FilterGraph graph = FilterGraph.compile(Arrays.asList(unused, used, last));
+        assertArrayEquals(new FilterPrimitive[] {used, last}, graph.primitives());
+    }
+
+    @Test
+    void unresolvedInputsDisableOptimization() {
+        FilterPrimitive unused = new TestPrimitive("a", DefaultFilterChannel.SourceGraphic);
+        FilterPrimitive broken = new TestPrimitive(null, key("missing"));
+        FilterPrimitive last = new TestPrimitive(null, DefaultFilterChannel.LastResult);
+        FilterGraph graph = FilterGraph.compile(Arrays.asList(unused, broken, last));
+        assertArrayEquals(new FilterPrimitive[] {unused, broken, last}, graph.primitives());
+    }
+
+    @Test
+    void perPixelChainsAreFused() {
+        FilterPrimitive first = new TestPixelPrimitive(null, DefaultFilterChannel.SourceGraphic);
+        FilterPrimitive second = new TestPixelPrimitive(null, DefaultFilterChannel.LastResult);
+        FilterPrimitive third = new TestPixelPrimitive("c", DefaultFilterChannel.LastResult);
+        FilterPrimitive[] primitives = FilterGraph.compile(Arrays.asList(first, second, third)).primitives();
+        assertEquals(1, primitives.length);
+        assertSame(third.resultKey(), primitives[0].resultKey());
+        assertArrayEquals(first.inputKeys(), primitives[0].inputKeys());
+    }
+
+    @Test
+    void sharedIntermediateResultsAreNotFused() {
+        FilterPrimitive first = new TestPixelPrimitive("a", DefaultFilterChannel.SourceGraphic);
+        FilterPrimitive second = new TestPixelPrimitive(null, DefaultFilterChannel.LastResult);
+        FilterPrimitive merge = new TestPrimitive(null, DefaultFilterChannel.LastResult, key("a"));
+        FilterGraph graph = FilterGraph.compile(Arrays.asList(first, second, merge));
+        assertArrayEquals(new FilterPrimitive[] {first, second, merge}, graph.primitives());
+    }
+
+    @Test
+    void compiledFilterRendersLikeSimplifiedFilter() {
+        String redundant = "<filter id='f'>"
+                + "<feGaussianBlur stdDeviation='4' result='unused'/>"
+                + "<feOffset in='SourceGraphic' dx='3' dy='2' result='moved'/>"
+                + "<feFlood flood-color='green' result='alsoUnused'/>"
+                + "<feColorMatrix in='moved' type='saturate' values='0.2'/>"
+                + "<feComponentTransfer><feFuncR type='linear' slope='0.5'/></feComponentTransfer>"
+                + "<feColorMatrix type='hueRotate' values='40'/>"
+                + "</filter>";
+        String simplified = "<filter id='f'>"
+                + "<feOffset dx='3' dy='2'/>"
+                + "<feColorMatrix type='saturate' values='0.2'/>"
+                + "<feComponentTransfer><feFuncR type='linear' slope='0.5'/></feComponentTransfer>"
+                + "<feColorMatrix type='hueRotate' values='40'/>"
+                + "</filter>";
+        int[] expected = render(simplified);
+        assertTrue(Arrays.stream(expected).anyMatch(argb -> argb != 0));
+        assertArrayEquals(expected, render(redundant));
+    }
+
+    @Test
+    void clippedRenderingOnlyComputesVisibleRegion() {
+        String filter = "<filter id='f' x='-50%' y='-50%' width='200%' height='200%'>"
+                + "<feOffset in='SourceAlpha' dx='6' dy='4' result='shadow'/>"
+                + "<feFlood flood-color='teal' flood-opacity='0.5'/>"
+                + "<feComposite in2='shadow' operator='in'/>"
+                + "<feColorMatrix type='hueRotate' values='70' result='tinted'/>"
+                + "<feTurbulence baseFrequency='0.1' numOctaves='2'/>"
+                + "<feComposite in='tinted' operator='over'/>"
+                + "<feMerge><feMergeNode/><feMergeNode in='SourceGraphic'/></feMerge>"
+                + "</filter>";
+        int[] expected = render(filter);
+        Rectangle[] clips = {
+                new Rectangle(0, 0, 60, 40), new Rectangle(5, 5, 10, 10), new Rectangle(35, 22, 20, 12),
+                new Rectangle(28, 0, 3, 40)
+        };
+        for (Rectangle clip : clips) {
+            int[] clipped = render(filter, clip);
+            for (int y = clip.y; y < clip.y + clip.height; y++) {
+                for (int x = clip.x; x < clip.x + clip.width; x++) {
+                    int index = y * 60 + x;
+                    assertEquals(expected[index], clipped[index], "Pixel (" + x + "," + y + ") with clip " + clip);
+                }
+            }
+        }
+    }
+
+    private static int[] render(@NotNull String filter) {
+        return render(filter, null);
+    }
+
+    private static int[] render(@NotNull String filter, @Nullable Rectangle clip) {
+        String svg = "<svg xmlns='http://www.w3.org/2000/svg' width='60' height='40'>" + filter
+                + "<rect x='10' y='10' width='30' height='20' fill='orange' filter='url(#f)'/>"
+                + "<circle cx='30' cy='20' r='8' fill='rgba(20,80,200,0.5)' filter='url(#f)'/>"
+                + "</svg>";
+        SVGDocument document = Objects.requireNonNull(new SVGLoader().load(
+                new ByteArrayInputStream(svg.getBytes(StandardCharsets.UTF_8)), null,
+                LoaderContext.createDefault()));
+        BufferedImage image = new BufferedImage(60, 40, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        if (clip != null) g.clip(clip);
+        document.render(null, g);
+        g.dispose();
+        return image.getRGB(0, 0, 60, 40, null, 0, 60);
+    }
+
+    private static @NotNull FilterChannelKey key(@NotNull String name) {
+        return new FilterChannelKey.StringKey(name);
+    }
+
+    private static class TestPrimitive implements FilterPrimitive {
+        private final @NotNull FilterChannelKey result;
+        private final @NotNull FilterChannelKey @NotNull [] inputs;
+
+        private TestPrimitive(@Nullable String result, @NotNull FilterChannelKey @NotNull... inputs) {
+            this.result = result != null ? key(result) : DefaultFilterChannel.LastResult;
+            this.inputs = inputs;
+        }
+
+        @Override
+        public @NotNull Length x() {
+            return Length.UNSPECIFIED;
+        }
+
+        @Override
+        public @NotNull Length y() {
+            return Length.UNSPECIFIED;
+        }
+
+        @Override
+        public @NotNull Length width() {
+            return Length.UNSPECIFIED;
+        }
+
+        @Override
+        public @NotNull Length height() {
+            return Length.UNSPECIFIED;
+        }
+
+        @Override
+        public @NotNull FilterChannelKey @NotNull [] inputKeys() {
+            return inputs;
+        }
+
+        @Override
+        public @NotNull FilterChannelKey resultKey() {
+            return result;
+        }
+
+        @Override
+        public void layoutFilter(@NotNull RenderContext context, @NotNull FilterLayoutContext filterLayoutContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void applyFilter(@NotNull RenderContext context, @NotNull FilterContext filterContext) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ColorInterpolation colorInterpolation(@NotNull FilterContext filterContext) {
+            return ColorInterpolation.LinearRGB;
+        }
+    }
+
+    private static final class TestPixelPrimitive extends TestPrimitive implements PerPixelFilterPrimitive {
+
+        private TestPixelPrimitive(@Nullable String result, @NotNull FilterChannelKey input) {
+            super(result, input);
+        }
+
+        @Override
+        public @Nullable IntUnaryOperator pixelOperation(@NotNull FilterContext filterContext) {
+            return null;
+        }
+    }
+}
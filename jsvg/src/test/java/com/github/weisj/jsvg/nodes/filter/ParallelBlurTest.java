@@ -0,0 +1,120 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.ConvolveOp;
+import java.awt.image.Kernel;
+import java.awt.image.WritableRaster;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.SVGDocument;
+import com.github.weisj.jsvg.parser.SVGLoader;
+import com.github.weisj.jsvg.renderer.FilterParallelism;
+import com.github.weisj.jsvg.renderer.SVGRenderingHints;
+import com.github.weisj.jsvg.util.ImageUtil;
+
+class ParallelBlurTest {
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+    private static final FilterParallelism PARALLELISM = new FilterParallelism(POOL, 0);
+
+    @AfterAll
+    static void shutdown() {
+        POOL.shutdown();
+    }
+
+    private static BufferedImage createImage(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
+        int[] data = ImageUtil.getINT_RGBA_DataBank(image.getRaster());
+        Random random = new Random(width * 31L + height);
+        for (int i = 0; i < data.length; i++) {
+            int a = random.nextInt(256);
+            data[i] = (a << 24) | (random.nextInt(a + 1) << 16) | (random.nextInt(a + 1) << 8) | random.nextInt(a + 1);
+        }
+        return image;
+    }
+
+    private static int[] pixels(@NotNull BufferedImage image) {
+        return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+    }
+
+    @Test
+    void boxBlurBandsMatchSequentialPasses() {
+        BufferedImage sequential = createImage(301, 173);
+        BufferedImage parallel = createImage(301, 173);
+        for (FilterParallelism parallelism : new FilterParallelism[] {null, PARALLELISM}) {
+            WritableRaster raster = (parallelism == null ? sequential : parallel).getRaster();
+            InplaceBoxBlurFilter.horizontalPass(raster, raster, 0, 0, 7, 3, parallelism);
+            InplaceBoxBlurFilter.horizontalPass(raster, raster, 2, 1, 8, 3, parallelism);
+            InplaceBoxBlurFilter.verticalPass(raster, raster, 0, 0, 7, 3, parallelism);
+            InplaceBoxBlurFilter.verticalPass(raster, raster, 1, 2, 8, 4, parallelism);
+        }
+        assertArrayEquals(pixels(sequential), pixels(parallel));
+    }
+
+    @Test
+    void convolutionBandsMatchSequentialConvolution() {
+        BufferedImage image = createImage(257, 199);
+        float[] data = {0.1f, 0.2f, 0.4f, 0.2f, 0.1f};
+        for (int edgeMode : new int[] {ConvolveOp.EDGE_NO_OP, ConvolveOp.EDGE_ZERO_FILL}) {
+            ConvolveOp[] ops = {
+                    new ConvolveOp(new Kernel(5, 1, data), edgeMode, null),
+                    new ConvolveOp(new Kernel(1, 5, data), edgeMode, null)
+            };
+            BufferedImage expected = new MultiConvolveOp(ops, null).filter(image, null);
+            assertArrayEquals(pixels(expected), pixels(new MultiConvolveOp(ops, PARALLELISM).filter(image, null)));
+        }
+    }
+
+    @Test
+    void parallelFiltersRenderIdentically() {
+        SVGLoader loader = new SVGLoader();
+        for (String path : new String[] {"blur.svg", "blur2.svg", "dropShadow.svg", "edgeModeNone.svg"}) {
+            SVGDocument document = Objects.requireNonNull(loader.load(
+                    Objects.requireNonNull(ParallelBlurTest.class.getResource("/com/github/weisj/jsvg/filter/" + path), path)));
+            assertArrayEquals(render(document, null), render(document, PARALLELISM), path);
+        }
+    }
+
+    private static int[] render(@NotNull SVGDocument document, @Nullable FilterParallelism parallelism) {
+        int scale = 3;
+        int width = (int) Math.ceil(document.size().width * scale);
+        int height = (int) Math.ceil(document.size().height * scale);
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.scale(scale, scale);
+        if (parallelism != null) g.setRenderingHint(SVGRenderingHints.KEY_FILTER_PARALLELISM, parallelism);
+        document.render(null, g);
+        g.dispose();
+        return pixels(image);
+    }
+}
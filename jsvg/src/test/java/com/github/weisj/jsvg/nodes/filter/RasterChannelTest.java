@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.attributes.ColorInterpolation;
+import com.github.weisj.jsvg.util.ColorUtil;
+import com.github.weisj.jsvg.util.ImageUtil;
+
+class RasterChannelTest {
+
+    private static BufferedImage createImage(int type) {
+        BufferedImage image = new BufferedImage(7, 5, type);
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                image.setRGB(x, y, ((x * 37 + y * 11) << 24) | (x * 31 << 16) | (y * 47 << 8) | (x * y * 5));
+            }
+        }
+        return image;
+    }
+
+    @Test
+    void pixelsMatchColorModel() {
+        for (int type : new int[] {BufferedImage.TYPE_INT_ARGB, BufferedImage.TYPE_INT_ARGB_PRE}) {
+            BufferedImage image = createImage(type);
+            RasterChannel channel = new RasterChannel(image);
+            for (int y = 0; y < image.getHeight(); y++) {
+                for (int x = 0; x < image.getWidth(); x++) {
+                    assertEquals(image.getRGB(x, y), channel.argbAt(x, y), "pixel " + x + "," + y);
+                }
+            }
+            assertEquals(0, channel.argbAt(-1, 0));
+            assertEquals(0, channel.argbAt(0, image.getHeight()));
+        }
+    }
+
+    @Test
+    void subImagesRespectOffset() {
+        BufferedImage image = createImage(BufferedImage.TYPE_INT_ARGB);
+        RasterChannel channel = new RasterChannel(image.getSubimage(2, 1, 4, 3));
+        assertEquals(4, channel.width());
+        assertEquals(3, channel.height());
+        assertEquals(image.getRGB(3, 2), channel.argbAt(1, 1));
+        assertEquals(image.getRGB(5, 3), channel.copy(ImageUtil.Premultiplied.No).argbAt(3, 2));
+    }
+
+    @Test
+    void coerceConvertsFormat() {
+        RasterChannel channel = new RasterChannel(createImage(BufferedImage.TYPE_INT_ARGB));
+        assertSame(channel, channel.coerce(ImageUtil.Premultiplied.No));
+        RasterChannel premultiplied = channel.coerce(ImageUtil.Premultiplied.Yes);
+        assertTrue(premultiplied.isPremultiplied());
+        BufferedImage reference = ImageUtil.toBufferedImage(channel.image(), ImageUtil.Premultiplied.Yes);
+        int[] expected = ImageUtil.getINT_RGBA_DataBank(reference.getRaster());
+        int[] actual = premultiplied.data();
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], actual[i], "pixel " + i);
+        }
+    }
+
+    @Test
+    void premultiplyRoundTripsOpaqueAndTransparentPixels() {
+        assertEquals(0, ColorUtil.premultiply(0x00FFFFFF));
+        assertEquals(0xFF123456, ColorUtil.premultiply(0xFF123456));
+        assertEquals(0xFF123456, ColorUtil.unpremultiply(0xFF123456));
+        for (int a = 1; a < 256; a++) {
+            for (int c = 0; c < 256; c++) {
+                int argb = (a << 24) | (c << 16) | (c << 8) | c;
+                int roundTrip = ColorUtil.premultiply(ColorUtil.unpremultiply(ColorUtil.premultiply(argb)));
+                assertEquals(ColorUtil.premultiply(argb), roundTrip, "a=" + a + " c=" + c);
+            }
+        }
+    }
+
+    @Test
+    void mapAndAlphaChannelProduceNonPremultipliedResults() {
+        RasterChannel channel = new RasterChannel(createImage(BufferedImage.TYPE_INT_ARGB_PRE));
+        RasterChannel inverted = channel.map(argb -> argb ^ 0x00FFFFFF);
+        RasterChannel alpha = (RasterChannel) channel.alphaChannel();
+        assertFalse(inverted.isPremultiplied());
+        assertFalse(alpha.isPremultiplied());
+        for (int y = 0; y < channel.height(); y++) {
+            for (int x = 0; x < channel.width(); x++) {
+                int argb = channel.argbAt(x, y);
+                assertEquals(argb ^ 0x00FFFFFF, inverted.argbAt(x, y));
+                assertEquals(argb & 0xFF000000, alpha.argbAt(x, y));
+            }
+        }
+    }
+
+    @Test
+    void mapOnlyProcessesRegion() {
+        RasterChannel channel = new RasterChannel(createImage(BufferedImage.TYPE_INT_ARGB_PRE));
+        Rectangle region = new Rectangle(2, 1, 3, 10);
+        RasterChannel inverted = channel.map(argb -> argb ^ 0x00FFFFFF, channel.colorSpace(), region);
+        for (int y = 0; y < channel.height(); y++) {
+            for (int x = 0; x < channel.width(); x++) {
+                int expected = region.contains(x, y) ? channel.argbAt(x, y) ^ 0x00FFFFFF : 0;
+                assertEquals(expected, inverted.argbAt(x, y), "pixel " + x + "," + y);
+            }
+        }
+    }
+
+    @Test
+    void linearChannelsAreConvertedOnlyWhenReadAsSRGB() {
+        RasterChannel channel = new RasterChannel(createImage(BufferedImage.TYPE_INT_ARGB));
+        assertSame(channel, channel.convert(ColorInterpolation.S_RGB));
+        RasterChannel linear = channel.convert(ColorInterpolation.LinearRGB);
+        assertSame(linear, channel.convert(ColorInterpolation.LinearRGB));
+        assertEquals(ColorInterpolation.LinearRGB, linear.colorSpace());
+
+        RasterChannel inverted = linear.map(argb -> argb ^ 0x00FFFFFF);
+        assertEquals(ColorInterpolation.LinearRGB, inverted.colorSpace());
+        assertEquals(ColorInterpolation.LinearRGB, inverted.copy(ImageUtil.Premultiplied.Yes).colorSpace());
+        assertSame(inverted, inverted.convert(ColorInterpolation.LinearRGB));
+
+        RasterChannel sRGB = inverted.convert(ColorInterpolation.S_RGB);
+        assertEquals(ColorInterpolation.S_RGB, sRGB.colorSpace());
+        assertSame(sRGB.image(), inverted.toImage(null));
+        for (int y = 0; y < channel.height(); y++) {
+            for (int x = 0; x < channel.width(); x++) {
+                int expected = ColorUtil.sRGBtoLinearRGB(channel.argbAt(x, y));
+                assertEquals(expected, linear.argbAt(x, y));
+                assertEquals(ColorUtil.linearRGBtoSRGB(expected ^ 0x00FFFFFF), sRGB.argbAt(x, y));
+            }
+        }
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.SVGDocument;
+import com.github.weisj.jsvg.attributes.filter.EdgeMode;
+import com.github.weisj.jsvg.parser.LoaderContext;
+import com.github.weisj.jsvg.parser.SVGLoader;
+import com.github.weisj.jsvg.renderer.impl.SurfaceScope;
+import com.github.weisj.jsvg.util.ColorUtil;
+import com.github.weisj.jsvg.util.ImageUtil;
+
+class ShadowRendererTest {
+    private static final String SHAPES = "<rect x='10' y='10' width='30' height='20' fill='orange' filter='url(#f)'/>"
+            + "<circle cx='30' cy='20' r='8' fill='rgba(20,80,200,0.5)' filter='url(#f)'/>";
+
+    @Test
+    void dropShadowRendersLikeEquivalentChain() {
+        String[][] shadows = {
+                {"4", "3", "3", "navy", "0.6"},
+                {"-2.5", "1.5", "1", "red", "1"},
+                {"0", "0", "6", "black", "0.8"},
+                {"3", "-4", "0", "teal", "0.5"}
+        };
+        // The filter region leaves room for the whole shadow. Otherwise, the blur of the chain only duplicates the
+        // edges of the region for half the kernel, whereas the shadow renderer extends them as far as the blur reaches.
+        String region = " x='-100%' y='-100%' width='300%' height='300%'";
+        for (String[] shadow : shadows) {
+            String dropShadow = "<filter id='f'" + region + "><feDropShadow dx='" + shadow[0] + "' dy='" + shadow[1]
+                    + "' stdDeviation='" + shadow[2] + "' flood-color='" + shadow[3]
+                    + "' flood-opacity='" + shadow[4] + "'/></filter>";
+            String chain = "<filter id='f'" + region + ">"
+                    + "<feGaussianBlur in='SourceAlpha' stdDeviation='" + shadow[2] + "'/>"
+                    + "<feOffset dx='" + shadow[0] + "' dy='" + shadow[1] + "' result='offset'/>"
+                    + "<feFlood flood-color='" + shadow[3] + "' flood-opacity='" + shadow[4] + "'/>"
+                    + "<feComposite in2='offset' operator='in'/>"
+                    + "<feMerge><feMergeNode/><feMergeNode in='SourceGraphic'/></feMerge>"
+                    + "</filter>";
+            int[] expected = render(chain);
+            assertTrue(Arrays.stream(expected).anyMatch(argb -> argb != 0));
+            assertClose(expected, render(dropShadow), 2, Arrays.toString(shadow));
+        }
+    }
+
+    @Test
+    void largeShadowIsOnlyDownsampledForSpeed() {
+        String region = " x='-100%' y='-100%' width='300%' height='300%'";
+        String dropShadow = "<filter id='f'" + region + "><feDropShadow dx='2' dy='3' stdDeviation='8'/></filter>";
+        String chain = "<filter id='f'" + region + ">"
+                + "<feGaussianBlur in='SourceAlpha' stdDeviation='8'/><feOffset dx='2' dy='3' result='offset'/>"
+                + "<feFlood/><feComposite in2='offset' operator='in'/>"
+                + "<feMerge><feMergeNode/><feMergeNode in='SourceGraphic'/></feMerge></filter>";
+        int[] expected = render(chain);
+        assertClose(expected, render(dropShadow), 2, "default");
+        assertClose(expected, render(dropShadow + SHAPES, Collections.singletonMap(
+                RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_SPEED)), 10, "speed");
+    }
+
+    @Test
+    void regionOnlyDependsOnSourceRegion() {
+        SurfaceScope surfaces = SurfaceScope.unpooled();
+        RasterChannel source = ellipse(surfaces, 80, 60);
+        Rectangle[] regions = {new Rectangle(0, 0, 30, 20), new Rectangle(50, 4, 12, 50), new Rectangle(5, 58, 70, 2)};
+        for (EdgeMode edgeMode : new EdgeMode[] {EdgeMode.None, EdgeMode.Duplicate}) {
+            ShadowRenderer renderer = new ShadowRenderer(2.5, 1.5, edgeMode, 5, -3, Color.BLUE, 1);
+            int[] expected = pixels(renderer.render(source, new Rectangle(0, 0, 80, 60), surfaces, null));
+            for (Rectangle region : regions) {
+                // Clear everything the region must not depend on.
+                Rectangle sourceRegion = renderer.sourceRegion(region, 80, 60);
+                RasterChannel partialSource = RasterChannel.create(surfaces, 80, 60, ImageUtil.Premultiplied.Yes);
+                Graphics2D g = partialSource.image().createGraphics();
+                g.clip(sourceRegion);
+                g.drawImage(source.image(), 0, 0, null);
+                g.dispose();
+
+                int[] actual = pixels(renderer.render(partialSource, region, surfaces, null));
+                for (int y = 0; y < 60; y++) {
+                    for (int x = 0; x < 80; x++) {
+                        int index = y * 80 + x;
+                        assertEquals(region.contains(x, y) ? expected[index] : 0, actual[index],
+                                "Pixel (" + x + "," + y + ") in region " + region + " with " + edgeMode);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void downsampledShadowIsCloseToFullResolution() {
+        SurfaceScope surfaces = SurfaceScope.unpooled();
+        RasterChannel source = ellipse(surfaces, 200, 160);
+
+        int downsampling = ShadowRenderer.downsampling(true, 16, 16);
+        assertEquals(4, downsampling);
+        assertEquals(1, ShadowRenderer.downsampling(false, 16, 16));
+        Rectangle region = new Rectangle(0, 0, 200, 160);
+        int[] expected = pixels(new ShadowRenderer(16, 16, EdgeMode.None, 6, 8, Color.BLACK, 1)
+                .render(source, region, surfaces, null));
+        int[] downsampled = pixels(new ShadowRenderer(16, 16, EdgeMode.None, 6, 8, Color.BLACK, downsampling)
+                .render(source, region, surfaces, null));
+        assertClose(expected, downsampled, 10, "downsampled");
+    }
+
+    @Test
+    void rectangleShadowMatchesNumericalConvolution() {
+        // Edges lie on the grid of sub-samples, such that the straight edges of the sampled shapes are exact.
+        SourceShape[] shapes = {
+                new SourceShape(6.25, 5.5, 30.75, 21, 0, 0, 1),
+                new SourceShape(6.25, 5.5, 30.75, 21, 6, 4, 1),
+                new SourceShape(10, 8, 26, 16, 8, 4, 0.5f),
+                new SourceShape(4, 6, 36, 20, 14, 3, 1)
+        };
+        double[][] blurs = {{2.5, 1.5, 1.5, -2}, {0.8, 4, -3, 0.5}};
+        int width = 40;
+        int height = 28;
+        for (SourceShape shape : shapes) {
+            for (double[] blur : blurs) {
+                float[][] expected = convolve(shape, blur[0], blur[1], blur[2], blur[3], width, height);
+                RectangleShadow shadow = new RectangleShadow(shape, blur[0], blur[1], blur[2], blur[3], 0, width);
+                float[] row = new float[width];
+                for (int y = 0; y < height; y++) {
+                    shadow.fill(y, row);
+                    for (int x = 0; x < width; x++) {
+                        assertEquals(expected[y][x], row[x], 1,
+                                "Pixel (" + x + "," + y + ") with " + Arrays.toString(blur));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void rectangleRendersLikeEquivalentPath() {
+        // Antialiasing is required for the analytic shadow. The standard deviation is large enough for the box blur
+        // approximation used for the path to be close to the exact gaussian.
+        String filter = "<filter id='f' x='-50%' y='-50%' width='200%' height='200%'><feDropShadow dx='1.5' dy='-1'"
+                + " stdDeviation='3' flood-color='navy' flood-opacity='0.8'/></filter>";
+        String transform = "<g transform='translate(3 1) scale(2)'>";
+        int[] expected = render(filter + transform
+                + "<path d='M5 6h16v10h-16z' fill='orange' fill-opacity='0.5' filter='url(#f)'/></g>", true);
+        assertTrue(Arrays.stream(expected).anyMatch(argb -> argb != 0));
+        assertClose(expected, render(filter + transform
+                + "<rect x='5' y='6' width='16' height='10' fill='orange' fill-opacity='0.5' filter='url(#f)'/></g>",
+                true), 6, "rect");
+    }
+
+    @Test
+    void crispEdgesRectangleIsNotEvaluatedAnalytically() {
+        String filter = "<filter id='f' x='-50%' y='-50%' width='200%' height='200%'>"
+                + "<feDropShadow dx='1.5' dy='-1' stdDeviation='3'/></filter>";
+        int[] expected = render(filter + "<path d='M5 6h16v10h-16z' fill='orange' filter='url(#f)'"
+                + " shape-rendering='crispEdges'/>", true);
+        assertArrayEquals(expected, render(filter + "<g shape-rendering='crispEdges'><rect x='5' y='6' width='16'"
+                + " height='10' fill='orange' filter='url(#f)'/></g>", true));
+    }
+
+    /*
+     * Samples the shape on a grid of sub-pixels, blurs it with a sampled gaussian and averages the sub-pixels of
+     * each pixel.
+     */
+    private static float[][] convolve(@NotNull SourceShape shape, double xStdDeviation, double yStdDeviation,
+            double offsetX, double offsetY, int width, int height) {
+        int n = 8;
+        int w = width * n;
+        int h = height * n;
+        double[] plane = new double[w * h];
+        for (int j = 0; j < h; j++) {
+            double y = (j + 0.5) / n - offsetY;
+            for (int i = 0; i < w; i++) {
+                double x = (i + 0.5) / n - offsetX;
+                plane[j * w + i] = contains(shape, x, y) ? 255 * shape.alpha : 0;
+            }
+        }
+        plane = blur(plane, w, h, 1, w, xStdDeviation * n);
+        plane = blur(plane, h, w, w, 1, yStdDeviation * n);
+        float[][] result = new float[height][width];
+        for (int j = 0; j < h; j++) {
+            for (int i = 0; i < w; i++) {
+                result[j / n][i / n] += (float) (plane[j * w + i] / (n * n));
+            }
+        }
+        return result;
+    }
+
+    private static boolean contains(@NotNull SourceShape shape, double x, double y) {
+        if (x < shape.x0 || x >= shape.x1 || y < shape.y0 || y >= shape.y1) return false;
+        double dx = Math.max(0, Math.max(shape.x0 + shape.rx - x, x - (shape.x1 - shape.rx)));
+        double dy = Math.max(0, Math.max(shape.y0 + shape.ry - y, y - (shape.y1 - shape.ry)));
+        if (dx == 0 || dy == 0) return true;
+        return (dx / shape.rx) * (dx / shape.rx) + (dy / shape.ry) * (dy / shape.ry) <= 1;
+    }
+
+    private static double[] blur(double[] plane, int length, int lineCount, int step, int lineStep,
+            double stdDeviation) {
+        int radius = (int) Math.ceil(5 * stdDeviation);
+        double[] kernel = new double[2 * radius + 1];
+        double sum = 0;
+        for (int k = -radius; k <= radius; k++) {
+            kernel[k + radius] = Math.exp(-k * k / (2 * stdDeviation * stdDeviation));
+            sum += kernel[k + radius];
+        }
+        double[] result = new double[plane.length];
+        for (int line = 0; line < lineCount; line++) {
+            for (int i = 0; i < length; i++) {
+                double value = 0;
+                for (int k = Math.max(-radius, -i); k <= Math.min(radius, length - 1 - i); k++) {
+                    value += kernel[k + radius] / sum * plane[line * lineStep + (i + k) * step];
+                }
+                result[line * lineStep + i * step] = value;
+            }
+        }
+        return result;
+    }
+
+    private static @NotNull RasterChannel ellipse(@NotNull SurfaceScope surfaces, int width, int height) {
+        RasterChannel source = RasterChannel.create(surfaces, width, height, ImageUtil.Premultiplied.Yes);
+        Graphics2D g = source.image().createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g.setColor(Color.ORANGE);
+        g.fillOval(width / 5, height / 5, 3 * width / 5, 3 * height / 5);
+        g.dispose();
+        return source;
+    }
+
+    private static int[] pixels(@NotNull RasterChannel channel) {
+        BufferedImage image = channel.image();
+        return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+    }
+
+    private static void assertClose(int[] expected, int[] actual, int tolerance, @NotNull String message) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            // Compare premultiplied values, as the color of almost transparent pixels is imprecise.
+            int e = ColorUtil.premultiply(expected[i]);
+            int a = ColorUtil.premultiply(actual[i]);
+            for (int shift = 0; shift < 32; shift += 8) {
+                int delta = Math.abs(((e >>> shift) & 0xFF) - ((a >>> shift) & 0xFF));
+                int index = i;
+                assertTrue(delta <= tolerance, () -> message + ": pixel " + index + " differs "
+                        + Integer.toHexString(expected[index]) + " vs " + Integer.toHexString(actual[index]));
+            }
+        }
+    }
+
+    private static int[] render(@NotNull String filter) {
+        return render(filter + SHAPES, false);
+    }
+
+    private static int[] render(@NotNull String content, boolean antialiasing) {
+        return render(content, antialiasing
+                ? Collections.singletonMap(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON)
+                : Collections.emptyMap());
+    }
+
+    private static int[] render(@NotNull String content, @NotNull Map<RenderingHints.Key, ?> hints) {
+        String svg = "<svg xmlns='http://www.w3.org/2000/svg' width='60' height='40'>" + content + "</svg>";
+        SVGDocument document = Objects.requireNonNull(new SVGLoader().load(
+                new ByteArrayInputStream(svg.getBytes(StandardCharsets.UTF_8)), null,
+                LoaderContext.createDefault()));
+        BufferedImage image = new BufferedImage(60, 40, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.addRenderingHints(hints);
+        document.render(null, g);
+        g.dispose();
+        return image.getRGB(0, 0, 60, 40, null, 0, 60);
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.filter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.*;
+import java.awt.color.ColorSpace;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.DataBuffer;
+import java.awt.image.DirectColorModel;
+import java.awt.image.WritableRaster;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.geometry.noise.PerlinTurbulence;
+import com.github.weisj.jsvg.renderer.FilterParallelism;
+
+class TurbulenceChannelTest {
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+    private static final FilterParallelism PARALLELISM = new FilterParallelism(POOL, 0);
+    private static final Rectangle2D BOUNDS = new Rectangle2D.Double(-3.25, 7.5, 120.5, 80.25);
+    private static final int WIDTH = 97;
+    private static final int HEIGHT = 61;
+
+    @AfterAll
+    static void shutdown() {
+        POOL.shutdown();
+    }
+
+    private static int[] pixels(@NotNull Image image) {
+        BufferedImage img = (BufferedImage) image;
+        return img.getRGB(0, 0, img.getWidth(), img.getHeight(), null, 0, img.getWidth());
+    }
+
+    private static FeTurbulence.TurbulenceChannel channel(@NotNull FeTurbulence.Type type,
+            Rectangle2D.@Nullable Double tile, boolean singlePrecision, @Nullable FilterParallelism parallelism) {
+        return new FeTurbulence.TurbulenceChannel(BOUNDS, WIDTH, HEIGHT, 3, 4, 0.05, 0.08, type, tile,
+                singlePrecision, parallelism);
+    }
+
+    /*
+     * The noise used to be written to an image tagged as linear RGB, which was converted when drawn.
+     */
+    private static int[] linearRGBPipeline(@NotNull FeTurbulence.TurbulenceChannel channel) {
+        ColorModel cm = new DirectColorModel(ColorSpace.getInstance(ColorSpace.CS_LINEAR_RGB), 32,
+                0x00FF0000, 0x0000FF00, 0x000000FF, 0xFF000000, false, DataBuffer.TYPE_INT);
+        WritableRaster raster = cm.createCompatibleWritableRaster(WIDTH, HEIGHT);
+        BufferedImage linear = new BufferedImage(cm, raster, false, null);
+        double pointY = BOUNDS.getY();
+        for (int y = 0; y < HEIGHT; y++) {
+            double pointX = BOUNDS.getX();
+            for (int x = 0; x < WIDTH; x++) {
+                raster.setDataElements(x, y, new int[] {cm.getRGB(channel.pixelAt(pointX, pointY))});
+                pointX += BOUNDS.getWidth() / WIDTH;
+            }
+            pointY += BOUNDS.getHeight() / HEIGHT;
+        }
+        BufferedImage converted = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        Graphics g = converted.getGraphics();
+        g.drawImage(linear, 0, 0, null);
+        g.dispose();
+        return pixels(converted);
+    }
+
+    @Test
+    void matchesLinearRGBPipeline() {
+        for (FeTurbulence.Type type : FeTurbulence.Type.values()) {
+            FeTurbulence.TurbulenceChannel channel = channel(type, null, false, null);
+            assertArrayEquals(linearRGBPipeline(channel), pixels(channel.toImage(null)), type.name());
+        }
+    }
+
+    @Test
+    void parallelRowsMatchSequentialRows() {
+        Rectangle2D.Double tile = new Rectangle2D.Double(0, 0, 40, 30);
+        for (Rectangle2D.Double t : new Rectangle2D.Double[] {null, tile}) {
+            for (boolean singlePrecision : new boolean[] {false, true}) {
+                assertArrayEquals(
+                        pixels(channel(FeTurbulence.Type.Turbulence, t, singlePrecision, null).toImage(null)),
+                        pixels(channel(FeTurbulence.Type.Turbulence, t, singlePrecision, PARALLELISM)
+                                .toImage(null)));
+            }
+        }
+    }
+
+    @Test
+    void singlePrecisionStaysWithinTolerance() {
+        for (FeTurbulence.Type type : FeTurbulence.Type.values()) {
+            int[] expected = pixels(channel(type, null, false, null).toImage(null));
+            int[] actual = pixels(channel(type, null, true, null).toImage(null));
+            for (int i = 0; i < expected.length; i++) {
+                for (int shift = 0; shift < 32; shift += 8) {
+                    int e = (expected[i] >>> shift) & 0xFF;
+                    int a = (actual[i] >>> shift) & 0xFF;
+                    int index = i;
+                    assertTrue(Math.abs(e - a) <= 2, () -> "Pixel " + index + " differs: " + e + " vs " + a);
+                }
+            }
+        }
+    }
+
+    @Test
+    void singlePrecisionChannelsStayWithinTolerance() {
+        Random random = new Random(17);
+        Rectangle2D.Double tile = new Rectangle2D.Double(5, 5, 200, 150);
+        double[] expected = new double[4];
+        float[] actual = new float[4];
+        for (int i = 0; i < 50; i++) {
+            PerlinTurbulence turbulence = new PerlinTurbulence(random.nextInt(1000), 1 + random.nextInt(8),
+                    Math.pow(10, -3 + 3 * random.nextDouble()), Math.pow(10, -3 + 3 * random.nextDouble()));
+            for (int j = 0; j < 1000; j++) {
+                double x = (random.nextDouble() - 0.3) * 5000;
+                double y = (random.nextDouble() - 0.3) * 5000;
+                boolean fractalSum = random.nextBoolean();
+                Rectangle2D.Double t = random.nextBoolean() ? tile : null;
+                turbulence.turbulence(expected, x, y, fractalSum, t != null ? new PerlinTurbulence.StitchInfo() : null,
+                        t);
+                turbulence.turbulence(actual, x, y, fractalSum, t != null ? new PerlinTurbulence.StitchInfo() : null,
+                        t);
+                for (int c = 0; c < 4; c++) {
+                    assertEquals(expected[c], actual[c], 0.002);
+                    assertTrue(Math.abs((int) expected[c] - (int) actual[c]) <= 1);
+                }
+            }
+        }
+    }
+
+    @Test
+    void concurrentSamplingMatchesSequentialSampling() {
+        FeTurbulence.TurbulenceChannel channel = channel(FeTurbulence.Type.Turbulence,
+                new Rectangle2D.Double(0, 0, 40, 30), false, null);
+        int[] expected = new int[WIDTH * HEIGHT];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = channel.pixelAt(i % WIDTH, (double) i / WIDTH);
+        }
+        List<ForkJoinTask<Integer>> tasks = new ArrayList<>();
+        for (int task = 0; task < 8; task++) {
+            tasks.add(POOL.submit(() -> {
+                int mismatches = 0;
+                for (int round = 0; round < 20; round++) {
+                    for (int i = 0; i < expected.length; i++) {
+                        if (channel.pixelAt(i % WIDTH, (double) i / WIDTH) != expected[i]) mismatches++;
+                    }
+                }
+                return mismatches;
+            }));
+        }
+        for (ForkJoinTask<Integer> task : tasks) {
+            assertEquals(0, (int) task.join());
+        }
+    }
+
+    @Test
+    void stitchedTilesHaveMatchingEdges() {
+        Rectangle2D.Double tile = new Rectangle2D.Double(0, 0, 64, 64);
+        PerlinTurbulence turbulence = PerlinTurbulence.cached(7, 3, 1 / 16.0, 1 / 16.0);
+        assertSame(turbulence, PerlinTurbulence.cached(7, 3, 1 / 16.0, 1 / 16.0));
+        assertNotSame(turbulence, PerlinTurbulence.cached(8, 3, 1 / 16.0, 1 / 16.0));
+        double[] a = new double[4];
+        double[] b = new double[4];
+        for (int i = 0; i < 64; i += 3) {
+            turbulence.turbulence(a, 0, i, true, new PerlinTurbulence.StitchInfo(), tile);
+            turbulence.turbulence(b, 64, i, true, new PerlinTurbulence.StitchInfo(), tile);
+            assertArrayEquals(a, b, 1e-9);
+            turbulence.turbulence(a, i, 0, false, new PerlinTurbulence.StitchInfo(), tile);
+            turbulence.turbulence(b, i, 64, false, new PerlinTurbulence.StitchInfo(), tile);
+            assertArrayEquals(a, b, 1e-9);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.nodes.mesh;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.SVGDocument;
+import com.github.weisj.jsvg.parser.LoaderContext;
+import com.github.weisj.jsvg.parser.SVGLoader;
+
+class MeshRasterizerTest {
+    private static final String MESH = "<svg xmlns='http://www.w3.org/2000/svg' width='100' height='100'>"
+            + "<meshgradient x='0' y='0' id='m' gradientUnits='userSpaceOnUse'>"
+            + "<meshrow>"
+            + "<meshpatch>"
+            + "<stop path='l 50,0' stop-color='red'/>"
+            + "<stop path='c 10,20 -10,30 0,50' stop-color='lime'/>"
+            + "<stop path='c -20,10 -30,-10 -50,0' stop-color='blue'/>"
+            + "<stop path='l 0,-50' stop-color='yellow'/>"
+            + "</meshpatch>"
+            + "<meshpatch>"
+            + "<stop path='l 50,0'/>"
+            + "<stop path='l 0,50' stop-color='red'/>"
+            + "<stop path='c -20,10 -30,-10' stop-color='yellow'/>"
+            + "</meshpatch>"
+            + "</meshrow>"
+            + "<meshrow>"
+            + "<meshpatch>"
+            + "<stop path='c 10,20 -10,30 0,50'/>"
+            + "<stop path='l -50,0' stop-color='red'/>"
+            + "<stop path='l 0,-50' stop-color='lime'/>"
+            + "</meshpatch>"
+            + "<meshpatch>"
+            + "<stop path='l 0,50'/>"
+            + "<stop path='l -50,0' stop-color='blue'/>"
+            + "</meshpatch>"
+            + "</meshrow>"
+            + "</meshgradient>"
+            + "<rect width='100' height='100' fill='url(#m)'/>"
+            + "</svg>";
+
+    @Test
+    void adjacentPatchesLeaveNoGaps() {
+        SVGDocument document = load();
+        for (boolean antialiased : new boolean[] {false, true}) {
+            for (double scale : new double[] {1, 1.37, 2.5}) {
+                int size = (int) (100 * scale);
+                BufferedImage image = render(document, scale, antialiased);
+                for (int y = 0; y < size; y++) {
+                    for (int x = 0; x < size; x++) {
+                        int alpha = image.getRGB(x, y) >>> 24;
+                        assertEquals(255, alpha, "Pixel (" + x + "," + y + ") at scale " + scale);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void outerEdgeIsAntialiasedIfRequested() {
+        // The east edge of the patch is diagonal and red.
+        SVGDocument document = load("<svg xmlns='http://www.w3.org/2000/svg' width='100' height='100'>"
+                + "<meshgradient x='10' y='10' id='m' gradientUnits='userSpaceOnUse'>"
+                + "<meshrow>"
+                + "<meshpatch>"
+                + "<stop path='l 60,0' stop-color='red'/>"
+                + "<stop path='l 20,70' stop-color='red'/>"
+                + "<stop path='l -80,0' stop-color='red'/>"
+                + "<stop path='l 0,-70' stop-color='blue'/>"
+                + "</meshpatch>"
+                + "</meshrow>"
+                + "</meshgradient>"
+                + "<rect width='100' height='100' fill='url(#m)'/>"
+                + "</svg>");
+        BufferedImage aliased = render(document, 1, false);
+        BufferedImage antialiased = render(document, 1, true);
+        int partiallyCovered = 0;
+        for (int y = 0; y < 100; y++) {
+            for (int x = 0; x < 100; x++) {
+                int alpha = aliased.getRGB(x, y) >>> 24;
+                assertTrue(alpha == 0 || alpha == 255, "Pixel (" + x + "," + y + ")");
+                int antialiasedAlpha = antialiased.getRGB(x, y) >>> 24;
+                if (antialiasedAlpha != 0 && antialiasedAlpha != 255) {
+                    partiallyCovered++;
+                    // Edge pixels take the color of the patch instead of fading to black.
+                    assertClose(Color.RED, antialiased.getRGB(x, y));
+                }
+            }
+        }
+        // Every row crosses the diagonal edge.
+        assertTrue(partiallyCovered >= 60, "Only " + partiallyCovered + " partially covered pixels");
+        assertEquals(255, antialiased.getRGB(40, 40) >>> 24);
+        assertEquals(0, antialiased.getRGB(95, 20) >>> 24);
+    }
+
+    @Test
+    void overlappingPatchesAreBlended() {
+        // The second patch folds back over the right part of the first one.
+        String svg = "<svg xmlns='http://www.w3.org/2000/svg' width='100' height='100'>"
+                + "<meshgradient x='0' y='0' id='m' gradientUnits='userSpaceOnUse'>"
+                + "<meshrow>"
+                + "<meshpatch>"
+                + "<stop path='l 50,0' stop-color='red' stop-opacity='0.5'/>"
+                + "<stop path='l 0,50' stop-color='red' stop-opacity='0.5'/>"
+                + "<stop path='l -50,0' stop-color='red' stop-opacity='0.5'/>"
+                + "<stop path='l 0,-50' stop-color='red' stop-opacity='0.5'/>"
+                + "</meshpatch>"
+                + "<meshpatch>"
+                + "<stop path='l -30,0'/>"
+                + "<stop path='l 0,50' stop-color='red' stop-opacity='0.5'/>"
+                + "<stop path='l 30,0' stop-color='red' stop-opacity='0.5'/>"
+                + "</meshpatch>"
+                + "</meshrow>"
+                + "</meshgradient>"
+                + "<rect width='100' height='100' fill='url(#m)'/>"
+                + "</svg>";
+        BufferedImage image = render(load(svg), 1);
+        assertEquals(128, image.getRGB(10, 25) >>> 24, 1);
+        assertEquals(191, image.getRGB(35, 25) >>> 24, 1);
+        assertClose(Color.RED, image.getRGB(35, 25));
+    }
+
+    @Test
+    void cornersHaveStopColors() {
+        BufferedImage image = render(load(), 1);
+        assertClose(Color.RED, image.getRGB(0, 0));
+        assertClose(Color.RED, image.getRGB(99, 0));
+        assertClose(Color.GREEN, image.getRGB(0, 99));
+        assertClose(Color.BLUE, image.getRGB(99, 99));
+        assertClose(Color.BLUE, image.getRGB(50, 50));
+    }
+
+    private static void assertClose(@NotNull Color expected, int argb) {
+        Color actual = new Color(argb, true);
+        int distance = Math.max(Math.abs(expected.getRed() - actual.getRed()),
+                Math.max(Math.abs(expected.getGreen() - actual.getGreen()),
+                        Math.abs(expected.getBlue() - actual.getBlue())));
+        assertTrue(distance < 16, "Expected " + expected + " but was " + actual);
+    }
+
+    private static @NotNull SVGDocument load() {
+        return load(MESH);
+    }
+
+    private static @NotNull SVGDocument load(@NotNull String svg) {
+        return Objects.requireNonNull(new SVGLoader().load(
+                new ByteArrayInputStream(svg.getBytes(StandardCharsets.UTF_8)), null,
+                LoaderContext.createDefault()));
+    }
+
+    private static @NotNull BufferedImage render(@NotNull SVGDocument document, double scale) {
+        return render(document, scale, false);
+    }
+
+    private static @NotNull BufferedImage render(@NotNull SVGDocument document, double scale,
+            boolean antialiased) {
+        int size = (int) (100 * scale);
+        BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING,
+                antialiased ? RenderingHints.VALUE_ANTIALIAS_ON : RenderingHints.VALUE_ANTIALIAS_OFF);
+        g.scale(scale, scale);
+        document.render(null, g);
+        g.dispose();
+        return image;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.paint.impl.jdk;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.paint.impl.jdk.SVGMultipleGradientPaintContext.GradientLookup;
+
+class GradientLookupTest {
+
+    @Test
+    void equalStopsShareLookup() {
+        float[] fractions = {0, 0.3f, 1};
+        Color[] colors = {Color.RED, Color.GREEN, Color.BLUE};
+        GradientLookup lookup = GradientLookup.of(fractions, colors, MultipleGradientPaint.ColorSpaceType.SRGB);
+        assertSame(lookup, GradientLookup.of(new float[] {0, 0.3f, 1},
+                new Color[] {new Color(255, 0, 0), new Color(0, 255, 0), new Color(0, 0, 255)},
+                MultipleGradientPaint.ColorSpaceType.SRGB));
+        assertNotSame(lookup, GradientLookup.of(fractions, colors, MultipleGradientPaint.ColorSpaceType.LINEAR_RGB));
+        assertNotSame(lookup, GradientLookup.of(fractions,
+                new Color[] {Color.RED, Color.GREEN, new Color(0, 0, 255, 254)},
+                MultipleGradientPaint.ColorSpaceType.SRGB));
+    }
+
+    @Test
+    void cacheIsBounded() {
+        for (int i = 0; i < 500; i++) {
+            GradientLookup.of(new float[] {0, 1}, new Color[] {new Color(i), Color.WHITE},
+                    MultipleGradientPaint.ColorSpaceType.SRGB);
+            assertTrue(GradientLookup.cacheSize() <= 64, () -> "Cache size " + GradientLookup.cacheSize());
+        }
+    }
+
+    @Test
+    void sharedLookupPaintsIdentically() {
+        float[] fractions = {0, 0.5f, 1};
+        Color[] colors = {Color.ORANGE, new Color(20, 80, 200, 128), Color.BLACK};
+        int[] first = render(fractions, colors);
+        int[] second = render(fractions.clone(), colors.clone());
+        for (int i = 0; i < first.length; i++) {
+            assertEquals(first[i], second[i], "Pixel " + i);
+        }
+    }
+
+    private static int[] render(float[] fractions, Color[] colors) {
+        SVGRadialGradientPaint paint = new SVGRadialGradientPaint(new Point2D.Float(20, 20), 15,
+                new Point2D.Float(15, 18), 2, fractions, colors,
+                MultipleGradientPaint.CycleMethod.REFLECT, MultipleGradientPaint.ColorSpaceType.LINEAR_RGB,
+                new AffineTransform());
+        BufferedImage image = new BufferedImage(40, 40, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setPaint(paint);
+        g.fillRect(0, 0, 40, 40);
+        g.dispose();
+        return image.getRGB(0, 0, 40, 40, null, 0, 40);
+    }
+}
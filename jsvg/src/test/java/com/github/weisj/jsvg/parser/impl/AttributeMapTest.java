@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.parser.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class AttributeMapTest {
+
+    @Test
+    void symbolsAreUnique() {
+        for (int id = 0; id < AttributeSymbols.count(); id++) {
+            String name = AttributeSymbols.name(id);
+            assertEquals(id, AttributeSymbols.id(name), name);
+            assertEquals(id, AttributeSymbols.id(new String(name)), name);
+        }
+        assertEquals(AttributeSymbols.UNKNOWN, AttributeSymbols.id("data-foo"));
+    }
+
+    @Test
+    void behavesLikeHashMap() {
+        Map<String, String> expected = new HashMap<>();
+        AttributeMap map = new AttributeMap(1);
+        String[] keys = {"fill", "stroke", "data-foo", "x", "y", "width", "height", "aria-label", "opacity"};
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(expected.put(keys[i], "v" + i), map.put(keys[i], "v" + i));
+        }
+        assertEquals(expected, map);
+        assertEquals(expected.put("fill", "red"), map.put("fill", "red"));
+        assertEquals(expected.put("data-foo", "bar"), map.put("data-foo", "bar"));
+        assertEquals(expected.remove("x"), map.remove("x"));
+        assertEquals(expected.remove("aria-label"), map.remove("aria-label"));
+        assertNull(map.remove("x"));
+        assertEquals(expected, map);
+        assertEquals(expected.size(), map.size());
+        assertTrue(map.containsKey("stroke"));
+        assertTrue(map.containsKey("data-foo"));
+        assertFalse(map.containsKey("x"));
+        assertNull(map.get("cx"));
+
+        AttributeMap copy = map.copy();
+        copy.put("cx", "1");
+        assertFalse(map.containsKey("cx"));
+        assertEquals(expected, AttributeMap.copyOf(expected));
+    }
+
+    @Test
+    void keysResolveTheSameAttributes() {
+        assertSame(AttributeKey.FILL, AttributeKey.of(new String("fill")));
+        assertEquals(AttributeKey.of("data-foo"), AttributeKey.of("data-foo"));
+
+        AttributeMap map = new AttributeMap();
+        map.put("fill", "red");
+        map.put("data-foo", "bar");
+        assertEquals("red", map.get(AttributeKey.FILL));
+        assertEquals("bar", map.get(AttributeKey.of("data-foo")));
+        assertNull(map.get(AttributeKey.STROKE));
+        assertNull(map.get(AttributeKey.of("data-bar")));
+        assertTrue(map.containsKey(AttributeKey.of("data-foo")));
+        assertFalse(map.containsKey(AttributeKey.STROKE));
+    }
+
+    @Test
+    void iteratorRemovesEntries() {
+        AttributeMap map = new AttributeMap();
+        map.put("fill", "red");
+        map.put("data-foo", "bar");
+        map.put("stroke", "blue");
+        map.put("x", "1");
+        for (Iterator<Map.Entry<String, String>> it = map.entrySet().iterator(); it.hasNext();) {
+            Map.Entry<String, String> entry = it.next();
+            if (!entry.getKey().equals("x")) it.remove();
+        }
+        Map<String, String> expected = new HashMap<>();
+        expected.put("x", "1");
+        assertEquals(expected, map);
+    }
+}
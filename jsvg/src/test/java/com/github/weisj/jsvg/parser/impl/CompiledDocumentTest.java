@@ -0,0 +1,189 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.parser.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.ReferenceTest;
+import com.github.weisj.jsvg.SVGDocument;
+import com.github.weisj.jsvg.parser.DomElement;
+import com.github.weisj.jsvg.parser.LoaderContext;
+import com.github.weisj.jsvg.parser.SVGLoader;
+
+class CompiledDocumentTest {
+
+    private static final String[] DOCUMENTS = {
+            "css/multipleStyleSheets.svg", "css/precedence.svg", "css/selectorTypes.svg",
+            "text/text0.svg", "text/textAnchor.svg", "filter/blur.svg", "use.svg", "tmp4.svg",
+            "icons/folder.svg", "icons/image.svg"
+    };
+
+    private static final String SHAPES = "<svg xmlns='http://www.w3.org/2000/svg' width='40' height='30'>"
+            + "<linearGradient id='gradient' gradientTransform='rotate(30 0.5 0.5)'>"
+            + "<stop offset='0' stop-color='red'/><stop offset='1' stop-color='blue'/></linearGradient>"
+            + "<g transform='translate(2 3) skewX(10)'>"
+            + "<path d='M2 2h20v8a4 4 0 0 1-4 4q-6 0-8-3z' fill='url(#gradient)'/>"
+            + "<polygon points='20,2 30,10 22,20' fill='green'/></g></svg>";
+
+    @Test
+    void compiledDocumentsRenderIdentically() throws Exception {
+        SVGLoader loader = new SVGLoader();
+        for (String path : DOCUMENTS) {
+            URL url = url(path);
+            SVGDocument expected = Objects.requireNonNull(loader.load(url), path);
+            SVGDocument compiled = loader.loadCompiled(
+                    ByteBuffer.wrap(compile(loader, url)), url.toURI(), LoaderContext.createDefault());
+            assertNotNull(compiled, path);
+            assertEquals(expected.size(), compiled.size(), path);
+            assertArrayEquals(render(expected), render(compiled), path);
+        }
+    }
+
+    @Test
+    void pathDataAndTransformsAreStoredParsed() throws Exception {
+        SVGLoader loader = new SVGLoader();
+        byte[] bytes = compile(loader, SHAPES);
+        String content = new String(bytes, StandardCharsets.ISO_8859_1);
+        for (String value : new String[] {"a4 4", "20,2", "translate", "rotate"}) {
+            assertFalse(content.contains(value), value);
+        }
+        SVGDocument expected = Objects.requireNonNull(loader.load(
+                new ByteArrayInputStream(SHAPES.getBytes(StandardCharsets.UTF_8)), null,
+                LoaderContext.createDefault()));
+        SVGDocument compiled = loader.loadCompiled(ByteBuffer.wrap(bytes), null, LoaderContext.createDefault());
+        assertNotNull(compiled);
+        assertArrayEquals(render(expected), render(compiled));
+    }
+
+    @Test
+    void parsedAttributesAreVisibleToPreProcessors() throws Exception {
+        SVGLoader loader = new SVGLoader();
+        byte[] bytes = compile(loader, SHAPES);
+        SVGDocument expected = loader.loadCompiled(ByteBuffer.wrap(bytes), null, LoaderContext.createDefault());
+        assertNotNull(expected);
+        // Writing back the formatted values replaces the parsed values, which needs to give the same result.
+        SVGDocument reparsed = loader.loadCompiled(ByteBuffer.wrap(bytes), null, LoaderContext.builder()
+                .preProcessor(root -> rewriteAttributes(root, "d", "points", "transform", "gradientTransform"))
+                .build());
+        assertNotNull(reparsed);
+        assertArrayEquals(render(expected), render(reparsed));
+    }
+
+    private static void rewriteAttributes(DomElement element, String... names) {
+        for (String name : names) {
+            String value = element.attribute(name);
+            if (value != null) element.setAttribute(name, value);
+        }
+        for (DomElement child : element.children()) {
+            rewriteAttributes(child, names);
+        }
+    }
+
+    @Test
+    void compiledDocumentCanBeMapped() throws Exception {
+        SVGLoader loader = new SVGLoader();
+        URL url = url("css/selectorTypes.svg");
+        Path file = Files.createTempFile("selectorTypes", ".bin");
+        try {
+            Files.write(file, compile(loader, url));
+            SVGDocument compiled = loader.loadCompiled(file, url.toURI(), LoaderContext.createDefault());
+            assertNotNull(compiled);
+            assertArrayEquals(render(Objects.requireNonNull(loader.load(url))), render(compiled));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void malformedInputIsRejected() throws Exception {
+        SVGLoader loader = new SVGLoader();
+        byte[] bytes = compile(loader, url("icons/folder.svg"));
+        assertNull(loader.loadCompiled(ByteBuffer.wrap(new byte[] {1, 2, 3, 4}), null,
+                LoaderContext.createDefault()));
+        byte[] truncated = new byte[bytes.length / 2];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        assertNull(loader.loadCompiled(ByteBuffer.wrap(truncated), null, LoaderContext.createDefault()));
+    }
+
+    @Test
+    void corruptCountsAreRejected() {
+        SVGLoader loader = new SVGLoader();
+        // A negative and a huge string count, and a huge length of the first string.
+        byte[][] counts = {{-1, -1, -1, -1, 0x0F}, {-1, -1, -1, 0x7F}, {1, -1, -1, -1, 0x07}};
+        for (byte[] count : counts) {
+            ByteBuffer buffer = ByteBuffer.allocate(8 + count.length + 1);
+            buffer.putInt(0x4A535647).putInt(2).put(count);
+            buffer.flip();
+            assertNull(loader.loadCompiled(buffer, null, LoaderContext.createDefault()));
+        }
+    }
+
+    private static byte[] compile(SVGLoader loader, String content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        loader.compile(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), null,
+                LoaderContext.createDefault(), out);
+        return out.toByteArray();
+    }
+
+    private static byte[] compile(SVGLoader loader, URL url) throws IOException, URISyntaxException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = url.openStream()) {
+            loader.compile(in, url.toURI(), LoaderContext.createDefault(), out);
+        }
+        return out.toByteArray();
+    }
+
+    private static int[] render(SVGDocument document) {
+        int width = (int) Math.ceil(document.size().width);
+        int height = (int) Math.ceil(document.size().height);
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        document.render(null, g);
+        g.dispose();
+        return image.getRGB(0, 0, width, height, null, 0, width);
+    }
+
+    private static URL url(String path) {
+        return Objects.requireNonNull(ReferenceTest.class.getResource(path), path);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.parser.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.ReferenceTest;
+import com.github.weisj.jsvg.SVGDocument;
+import com.github.weisj.jsvg.parser.SVGLoader;
+import com.github.weisj.jsvg.view.FloatSize;
+
+class ConcurrentLoadTest {
+
+    private static final String[] ICONS = {
+            "icons/desktop.svg", "icons/drive.svg", "icons/folder.svg", "icons/general.svg",
+            "icons/homeFolder.svg", "icons/image.svg", "icons/newFolder.svg", "icons/text.svg"
+    };
+
+    @Test
+    void sharedLoaderCanBeUsedConcurrently() throws Exception {
+        SVGLoader loader = new SVGLoader();
+        List<FloatSize> expectedSizes = new ArrayList<>();
+        for (String icon : ICONS) {
+            expectedSizes.add(Objects.requireNonNull(loader.load(url(icon))).size());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<SVGDocument>> results = new ArrayList<>();
+            for (int i = 0; i < 50 * ICONS.length; i++) {
+                URL url = url(ICONS[i % ICONS.length]);
+                results.add(executor.submit(() -> loader.load(url)));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                SVGDocument document = results.get(i).get();
+                assertNotNull(document, ICONS[i % ICONS.length]);
+                assertEquals(expectedSizes.get(i % ICONS.length), document.size());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static URL url(String path) {
+        return Objects.requireNonNull(ReferenceTest.class.getResource(path), path);
+    }
+}
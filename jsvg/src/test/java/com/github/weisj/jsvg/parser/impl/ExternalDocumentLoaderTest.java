@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.parser.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.parser.DomDocument;
+import com.github.weisj.jsvg.parser.DomProcessor;
+import com.github.weisj.jsvg.parser.LoaderContext;
+import com.github.weisj.jsvg.parser.resources.ResourcePolicy;
+
+class ExternalDocumentLoaderTest {
+
+    private static final String SVG = "<svg xmlns='http://www.w3.org/2000/svg' width='10' height='10'/>";
+
+    @Test
+    void failedLoadIsRetried() throws IOException {
+        Path directory = Files.createTempDirectory("external");
+        Path external = directory.resolve("external.svg");
+        try {
+            ExternalDocumentLoader loader = new ExternalDocumentLoader();
+            DomDocument document = document(directory, null);
+            assertNull(loader.resolveDocument(document, "external.svg"));
+
+            Files.write(external, SVG.getBytes(StandardCharsets.UTF_8));
+            DomDocument loaded = loader.resolveDocument(document, "external.svg");
+            assertNotNull(loaded);
+            assertSame(loaded, loader.resolveDocument(document, "external.svg"));
+        } finally {
+            Files.deleteIfExists(external);
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    void selfReferenceIsDetected() throws IOException {
+        Path directory = Files.createTempDirectory("external");
+        Path external = directory.resolve("self.svg");
+        try {
+            Files.write(external, SVG.getBytes(StandardCharsets.UTF_8));
+            ExternalDocumentLoader loader = new ExternalDocumentLoader();
+            List<DomDocument> nestedResults = new ArrayList<>();
+            DomProcessor resolveSelf = root -> nestedResults.add(loader.resolveDocument(root.document(), "self.svg"));
+            DomDocument loaded = loader.resolveDocument(document(directory, resolveSelf), "self.svg");
+            assertNotNull(loaded);
+            // The document is resolved from within its own load, which is reported as a cycle.
+            assertEquals(1, nestedResults.size());
+            assertNull(nestedResults.get(0));
+
+            // Once the load has finished, the document is no longer in progress.
+            assertSame(loaded, loader.resolveDocument(loaded, "self.svg"));
+        } finally {
+            Files.deleteIfExists(external);
+            Files.delete(directory);
+        }
+    }
+
+    private static @NotNull DomDocument document(@NotNull Path directory, @Nullable DomProcessor preProcessor) {
+        LoaderContext loaderContext = LoaderContext.builder()
+                .externalResourcePolicy(ResourcePolicy.ALLOW_RELATIVE)
+                .preProcessor(preProcessor)
+                .build();
+        return new ParsedDocument(directory.resolve("main.svg").toUri(), loaderContext,
+                new LoadHelper(new AttributeParser(loaderContext.paintParser()), loaderContext));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.parser.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.nodes.SVGNode;
+import com.github.weisj.jsvg.nodes.Style;
+import com.github.weisj.jsvg.nodes.filter.FeOffset;
+import com.github.weisj.jsvg.nodes.filter.TransferFunctionElement;
+import com.github.weisj.jsvg.nodes.prototype.spec.PermittedContent;
+import com.github.weisj.jsvg.nodes.text.Text;
+
+class NodeSupplierTest {
+
+    private static final String[] TAGS = {
+            "a", "clipPath", "defs", "g", "image", "marker", "mask", "svg", "style", "symbol", "use", "view",
+            "circle", "ellipse", "line", "path", "polygon", "polyline", "rect",
+            "linearGradient", "meshgradient", "meshpatch", "meshrow", "pattern", "radialGradient", "solidcolor",
+            "stop", "text", "textPath", "tspan",
+            "filter", "feBlend", "feColorMatrix", "feComposite", "feDisplacementMap", "feDropShadow", "feFlood",
+            "feGaussianBlur", "feMerge", "feMergeNode", "feTurbulence", "feOffset", "feComponentTransfer",
+            "feFuncR", "feFuncG", "feFuncB", "feFuncA",
+            "animate", "animateTransform", "set", "desc", "metadata", "title",
+            "feConvolveMatrix", "feDiffuseLightning", "feImage", "feMorphology", "feSpecularLighting", "feTile"
+    };
+
+    @Test
+    void createsNodesForAllTags() {
+        NodeSupplier supplier = new NodeSupplier();
+        for (String tag : TAGS) {
+            for (String name : new String[] {tag, tag.toLowerCase(Locale.ROOT), tag.toUpperCase(Locale.ROOT)}) {
+                SVGNode node = supplier.create(name);
+                assertNotNull(node, name);
+                assertTrue(tag.equalsIgnoreCase(node.tagName()), () -> name + " created <" + node.tagName() + ">");
+                assertTrue(NodeTable.hasPermittedContent(node.getClass()), name);
+            }
+        }
+        assertEquals(FeOffset.class, supplier.create("feoffset").getClass());
+        assertEquals(TransferFunctionElement.FeFuncG.class, supplier.create("fefuncg").getClass());
+    }
+
+    @Test
+    void unknownTagsCreateNoNode() {
+        NodeSupplier supplier = new NodeSupplier();
+        assertNull(supplier.create("unknown"));
+        assertNull(supplier.create("Unknown"));
+        assertNull(supplier.create(""));
+    }
+
+    @Test
+    void tableMatchesPermittedContent() {
+        NodeSupplier supplier = new NodeSupplier();
+        for (String tag : TAGS) {
+            SVGNode node = supplier.create(tag);
+            assertNotNull(node, tag);
+            PermittedContent permittedContent = node.getClass().getAnnotation(PermittedContent.class);
+            assertNotNull(permittedContent, tag);
+            assertEquals(permittedContent.charData(), NodeTable.permitsCharData(node.getClass()), tag);
+        }
+        assertTrue(NodeTable.permitsCharData(Text.class));
+        assertTrue(NodeTable.permitsCharData(Style.class));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.parser.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import javax.xml.stream.XMLInputFactory;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.ReferenceTest;
+import com.github.weisj.jsvg.SVGDocument;
+import com.github.weisj.jsvg.parser.LoaderContext;
+import com.github.weisj.jsvg.parser.SVGLoader;
+import com.github.weisj.jsvg.parser.XMLInput;
+
+class StreamReaderParseTest {
+
+    private static final String[] DOCUMENTS = {
+            "css/selectorTypes.svg", "text/text0.svg", "text/text3.svg", "text/textAnchor.svg",
+            "use.svg", "tmp4.svg", "icons/folder.svg", "icons/text.svg"
+    };
+
+    @Test
+    void streamReaderMatchesEventReader() throws Exception {
+        SVGLoader loader = new SVGLoader();
+        for (String path : DOCUMENTS) {
+            URL url = ReferenceTest.class.getResource(path);
+            assertNotNull(url, path);
+            SVGDocument streamed = loader.load(url);
+            SVGDocument evented;
+            try (InputStream in = url.openStream()) {
+                evented = loader.load(eventReaderInput(in), url.toURI(), LoaderContext.createDefault());
+            }
+            assertNotNull(streamed, path);
+            assertNotNull(evented, path);
+            assertEquals(evented.size(), streamed.size(), path);
+            assertArrayEquals(render(evented), render(streamed), path);
+        }
+    }
+
+    @Test
+    void foreignElementsAndCDataAreHandled() throws IOException {
+        String svg = "<svg xmlns='http://www.w3.org/2000/svg' xmlns:xlink='http://www.w3.org/1999/xlink'"
+                + " xmlns:foo='http://example.com/foo' width='50' height='20'>"
+                + "<foo:bar><rect width='50' height='20'/></foo:bar>"
+                + "<defs><RECT id='r' width='10' height='10' fill='red'/></defs>"
+                + "<use xlink:href='#r' x='5'/>"
+                + "<text x='1' y='15'><![CDATA[a < b]]> c</text>"
+                + "</svg>";
+        SVGLoader loader = new SVGLoader();
+        SVGDocument streamed = Objects.requireNonNull(loader.load(stream(svg), null, LoaderContext.createDefault()));
+        SVGDocument evented = Objects.requireNonNull(
+                loader.load(eventReaderInput(stream(svg)), null, LoaderContext.createDefault()));
+        assertArrayEquals(render(evented), render(streamed));
+    }
+
+    private static InputStream stream(String svg) {
+        return new ByteArrayInputStream(svg.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static XMLInput eventReaderInput(InputStream in) {
+        // Only implements the event based api, hence forces the loader to use it.
+        return () -> XMLInputFactory.newFactory().createXMLEventReader(in);
+    }
+
+    private static int[] render(SVGDocument document) {
+        int width = (int) Math.ceil(document.size().width);
+        int height = (int) Math.ceil(document.size().height);
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        document.render(null, g);
+        g.dispose();
+        return image.getRGB(0, 0, width, height, null, 0, width);
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.parser.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.*;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.parser.DomDocument;
+import com.github.weisj.jsvg.parser.DomElement;
+import com.github.weisj.jsvg.parser.css.StyleProperty;
+import com.github.weisj.jsvg.parser.css.StyleSheet;
+import com.github.weisj.jsvg.parser.css.impl.SimpleCssParser;
+
+class StyleCascadeTest {
+
+    @Test
+    void sharedResultsMatchDirectCascade() {
+        List<StyleSheet> sheets = Arrays.asList(
+                sheet("rect { fill: red; stroke: blue } .a { fill: green; opacity: 0.5 } #x { stroke: black }"),
+                sheet(".b { fill: yellow } .a { stroke-width: 3 } circle { fill: navy } #y { fill: white }"));
+        StyleCascade cascade = new StyleCascade(sheets);
+        String[] tags = {"rect", "circle", "path"};
+        String[] ids = {null, "x", "y", "z"};
+        String[][] classNames = {{}, {"a"}, {"b"}, {"a", "b"}, {"b", "a"}, {"c", "a"}, {"c"}};
+        Map<String, String> inlineStyle = Collections.singletonMap("fill", "orange");
+        for (int pass = 0; pass < 2; pass++) {
+            for (String tag : tags) {
+                for (String id : ids) {
+                    for (String[] classes : classNames) {
+                        for (Map<String, String> inline : Arrays.asList(Collections.<String, String>emptyMap(),
+                                inlineStyle)) {
+                            Element element = new Element(tag, id, classes, Collections.emptyMap());
+                            Map<String, String> expected = new HashMap<>(inline);
+                            for (int i = sheets.size() - 1; i >= 0; i--) {
+                                sheets.get(i).forEachMatchingRule(element,
+                                        p -> expected.putIfAbsent(p.name(), p.value()));
+                            }
+                            Map<String, String> actual = new HashMap<>(inline);
+                            cascade.applyTo(element, actual);
+                            assertEquals(expected, actual, element.toString());
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void customStyleSheetsAreNotShared() {
+        StyleSheet sheet = (element, ruleConsumer) -> {
+            String fill = element.attribute("data-fill");
+            if (fill != null) ruleConsumer.applyRule(new StyleProperty("fill", fill));
+        };
+        StyleCascade cascade = new StyleCascade(Arrays.asList(sheet("rect { stroke: red }"), sheet));
+        for (String fill : new String[] {"red", "green", "blue"}) {
+            Map<String, String> actual = new HashMap<>();
+            cascade.applyTo(new Element("rect", null, new String[0], Collections.singletonMap("data-fill", fill)),
+                    actual);
+            Map<String, String> expected = new HashMap<>();
+            expected.put("fill", fill);
+            expected.put("stroke", "red");
+            assertEquals(expected, actual);
+        }
+    }
+
+    private static @NotNull StyleSheet sheet(@NotNull String css) {
+        return new SimpleCssParser().parse(Collections.singletonList(css.toCharArray()));
+    }
+
+    private static final class Element implements DomElement {
+        private final @NotNull String tagName;
+        private final @Nullable String id;
+        private final @NotNull List<@NotNull String> classNames;
+        private final @NotNull Map<String, String> attributes;
+
+        private Element(@NotNull String tagName, @Nullable String id, @NotNull String @NotNull [] classNames,
+                @NotNull Map<String, String> attributes) {
+            this.tagName = tagName;
+            this.id = id;
+            this.classNames = Arrays.asList(classNames);
+            this.attributes = attributes;
+        }
+
+        @Override
+        public @Nullable String id() {
+            return id;
+        }
+
+        @Override
+        public @NotNull String tagName() {
+            return tagName;
+        }
+
+        @Override
+        public @NotNull List<@NotNull String> classNames() {
+            return classNames;
+        }
+
+        @Override
+        public @NotNull DomDocument document() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public @NotNull List<? extends @NotNull DomElement> children() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public @Nullable String attribute(@NotNull String name) {
+            return attributes.get(name);
+        }
+
+        @Override
+        public void setAttribute(@NotNull String name, @Nullable String value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public @Nullable DomElement parent() {
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return "<" + tagName + " id=" + id + " class=" + classNames + ">";
+        }
+    }
+}
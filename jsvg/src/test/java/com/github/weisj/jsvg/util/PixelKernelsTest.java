@@ -0,0 +1,148 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Jannis Weis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+package com.github.weisj.jsvg.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.Random;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import com.github.weisj.jsvg.attributes.filter.BlendMode;
+
+/**
+ * Checks that the kernels in use, which are vectorized if the platform supports it, agree with the scalar kernels.
+ */
+class PixelKernelsTest {
+    private static final int LENGTH = 203;
+    private static final int OFFSET = 3;
+
+    private final Random random = new Random(42);
+
+    private int[] premultipliedPixels() {
+        int[] pixels = new int[OFFSET + LENGTH];
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = ColorUtil.premultiply(random.nextInt());
+        }
+        pixels[OFFSET] = 0;
+        pixels[OFFSET + 1] = 0xFFFFFFFF;
+        return pixels;
+    }
+
+    private int[] pixels() {
+        int[] pixels = new int[OFFSET + LENGTH];
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = random.nextInt();
+        }
+        return pixels;
+    }
+
+    private interface RowKernel {
+        void apply(@NotNull PixelKernels kernels, int @NotNull [] pixels);
+    }
+
+    private void assertAgrees(int @NotNull [] input, @NotNull RowKernel kernel) {
+        int[] expected = input.clone();
+        int[] actual = input.clone();
+        kernel.apply(PixelKernels.scalar(), expected);
+        kernel.apply(PixelKernels.get(), actual);
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    void colorMatrix() {
+        double[] matrix = new double[20];
+        for (int i = 0; i < matrix.length; i++) {
+            matrix[i] = random.nextDouble() * 2 - 0.5;
+        }
+        assertAgrees(pixels(), (k, p) -> k.colorMatrix(p, OFFSET, LENGTH, matrix));
+        int[] pixels = pixels();
+        int[] expected = pixels.clone();
+        for (int i = OFFSET; i < pixels.length; i++) {
+            expected[i] = PixelKernels.colorMatrix(expected[i], matrix);
+        }
+        PixelKernels.get().colorMatrix(pixels, OFFSET, LENGTH, matrix);
+        assertArrayEquals(expected, pixels);
+    }
+
+    @Test
+    void colorConversions() {
+        assertAgrees(pixels(), (k, p) -> k.sRGBtoLinearRGB(p, OFFSET, LENGTH));
+        assertAgrees(pixels(), (k, p) -> k.linearRGBtoSRGB(p, OFFSET, LENGTH));
+        assertAgrees(premultipliedPixels(), (k, p) -> k.sRGBtoLinearRGBPre(p, OFFSET, LENGTH));
+        assertAgrees(premultipliedPixels(), (k, p) -> k.linearRGBtoSRGBPre(p, OFFSET, LENGTH));
+    }
+
+    @Test
+    void multiplyAlpha() {
+        byte[] mask = new byte[LENGTH + 5];
+        random.nextBytes(mask);
+        assertAgrees(pixels(), (k, p) -> k.multiplyAlpha(p, OFFSET, mask, 5, LENGTH));
+    }
+
+    @Test
+    void blend() {
+        for (BlendMode mode : BlendMode.values()) {
+            if (!PixelKernels.scalar().supportsBlend(mode)) continue;
+            int[] src = premultipliedPixels();
+            assertAgrees(premultipliedPixels(), (k, p) -> k.blend(mode, src, p, OFFSET, LENGTH));
+        }
+    }
+
+    @Test
+    void boxBlurColumns() {
+        int width = 37;
+        int height = 29;
+        int stride = width + 3;
+        int[] src = new int[stride * height];
+        for (int i = 0; i < src.length; i++) {
+            src[i] = ColorUtil.premultiply(random.nextInt());
+        }
+        int skipY = 2;
+        int boxSize = 5;
+        int loc = 2;
+        int[] expected = new int[src.length];
+        int scale = (1 << 24) / boxSize;
+        for (int x = 1; x < width; x++) {
+            for (int y = skipY; y + boxSize <= height - skipY; y++) {
+                int sumA = 0, sumR = 0, sumG = 0, sumB = 0;
+                for (int k = 0; k < boxSize; k++) {
+                    int argb = src[(y + k) * stride + x];
+                    sumA += argb >>> 24;
+                    sumR += (argb >> 16) & 0xFF;
+                    sumG += (argb >> 8) & 0xFF;
+                    sumB += argb & 0xFF;
+                }
+                expected[(y + loc) * stride + x] = ((sumA * scale) & 0xFF000000)
+                        | (((sumR * scale) & 0xFF000000) >>> 8)
+                        | (((sumG * scale) & 0xFF000000) >>> 16)
+                        | (((sumB * scale) & 0xFF000000) >>> 24);
+            }
+        }
+        for (PixelKernels kernels : new PixelKernels[] {PixelKernels.scalar(), PixelKernels.get()}) {
+            int[] actual = new int[src.length];
+            kernels.boxBlurColumns(src, 0, stride, actual, 0, stride, height, skipY, boxSize, loc, 1, width);
+            assertArrayEquals(expected, actual);
+        }
+    }
+}